@@ -0,0 +1,71 @@
+package io.github.jdcmp.agent;
+
+import io.github.jdcmp.codegen.Weaving;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.instrument.Instrumentation;
+import java.lang.instrument.UnmodifiableClassException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <p>Java agent that inlines comparators into the methods <code>hashCode</code>, <code>equals</code> and
+ * <code>compareTo</code> of the compared classes, see {@link Weaving} for the requirements.</p>
+ *
+ * <p>The agent is started either with the JVM, using <code>-javaagent:comparison-agent.jar</code>, or attached
+ * to a running JVM. In the latter case, only classes initialized after attaching are woven. <i>comparison-impl-codegen</i>
+ * must be on the class path of the application.</p>
+ */
+public final class ComparisonAgent {
+
+	private static final Logger LOGGER = Logger.getLogger(ComparisonAgent.class.getName());
+
+	private static boolean installed;
+
+	private ComparisonAgent() {
+		throw new AssertionError("No instances");
+	}
+
+	/**
+	 * Entry point if the agent is started with the JVM.
+	 *
+	 * @param arguments       Ignored
+	 * @param instrumentation The instrumentation
+	 */
+	public static void premain(@Nullable String arguments, Instrumentation instrumentation) {
+		install(instrumentation);
+	}
+
+	/**
+	 * Entry point if the agent is attached to a running JVM.
+	 *
+	 * @param arguments       Ignored
+	 * @param instrumentation The instrumentation
+	 */
+	public static void agentmain(@Nullable String arguments, Instrumentation instrumentation) {
+		install(instrumentation);
+	}
+
+	private static synchronized void install(Instrumentation instrumentation) {
+		if (installed) {
+			return;
+		} else if (!instrumentation.isRetransformClassesSupported()) {
+			LOGGER.warning("Comparators are not woven, because the JVM does not support retransforming classes");
+			return;
+		}
+
+		// Loads Weaving before the transformer is added, since the transformer would be called while Weaving is loaded
+		Weaving.enable(clazz -> retransform(instrumentation, clazz));
+		instrumentation.addTransformer(new WeavingTransformer(), true);
+		installed = true;
+	}
+
+	private static void retransform(Instrumentation instrumentation, Class<?> clazz) {
+		try {
+			instrumentation.retransformClasses(clazz);
+		} catch (UnmodifiableClassException | RuntimeException | LinkageError e) {
+			LOGGER.log(Level.WARNING, "Failed to weave comparators into " + clazz.getName(), e);
+		}
+	}
+
+}
@@ -0,0 +1,56 @@
+package io.github.jdcmp.agent;
+
+import io.github.jdcmp.api.documentation.ThreadSafe;
+import io.github.jdcmp.codegen.Weaving;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.instrument.ClassFileTransformer;
+import java.security.ProtectionDomain;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Instruments static initializers when classes are loaded and weaves comparators when classes are retransformed. Static
+ * initializers are instrumented again on retransformation, because the transformer receives the original class file.
+ * Classes loaded during a transformation, e.g. classes of ASM, are not transformed.
+ */
+@ThreadSafe
+final class WeavingTransformer implements ClassFileTransformer {
+
+	private static final Logger LOGGER = Logger.getLogger(WeavingTransformer.class.getName());
+
+	private final ThreadLocal<Boolean> transforming = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+	@Override
+	public byte @Nullable [] transform(
+			@Nullable ClassLoader loader,
+			@Nullable String className,
+			@Nullable Class<?> classBeingRedefined,
+			@Nullable ProtectionDomain protectionDomain,
+			byte[] classfileBuffer) {
+		if (loader == null || className == null || transforming.get()) {
+			return null;
+		}
+
+		transforming.set(Boolean.TRUE);
+
+		try {
+			byte[] instrumented = Weaving.instrumentInitializer(loader, classfileBuffer);
+			byte[] bytes = instrumented == null ? classfileBuffer : instrumented;
+
+			if (classBeingRedefined != null) {
+				byte[] woven = Weaving.weave(classBeingRedefined, bytes);
+				bytes = woven == null ? bytes : woven;
+			}
+
+			return bytes == classfileBuffer ? null : bytes;
+		} catch (RuntimeException | LinkageError e) {
+			LOGGER.log(Level.WARNING, "Failed to transform " + className, e);
+
+			return null;
+		} finally {
+			transforming.set(Boolean.FALSE);
+		}
+	}
+
+}
@@ -0,0 +1,157 @@
+package io.github.jdcmp.agent;
+
+import io.github.jdcmp.api.Comparators;
+import io.github.jdcmp.api.comparator.ordering.NullHandling;
+import io.github.jdcmp.api.comparator.ordering.OrderingComparator;
+import io.github.jdcmp.api.getter.member.FieldGetter;
+import io.github.jdcmp.api.getter.member.MethodGetter;
+import io.github.jdcmp.codegen.CodegenProvider;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Started by {@link ComparisonAgentTest} in a JVM with the agent. Prints the results of the delegating methods and the
+ * callers of the accessors, one per line.
+ */
+public final class AgentFixture {
+
+	private static final List<String> CALLERS = new ArrayList<>();
+
+	private static final List<String> PET_CALLERS = new ArrayList<>();
+
+	private AgentFixture() {
+		throw new AssertionError("No instances");
+	}
+
+	public static void main(String[] args) {
+		Person a = new Person("a", 1);
+		Person b = new Person("a", 2);
+		Person c = new Person("a", 1);
+
+		System.out.println("hashCode=" + a.hashCode() + "," + Person.COMPARATOR.hash(a));
+		System.out.println("equals=" + a.equals(b) + "," + a.equals(c) + "," + a.equals(null) + "," + a.equals("a"));
+		System.out.println("compareTo=" + a.compareTo(b) + "," + b.compareTo(a) + "," + a.compareTo(c) + "," + a.compareTo(null));
+
+		Pet d = new Pet("d");
+		Pet e = new Pet("e");
+		System.out.println("pet=" + d.hashCode() + "," + PetComparators.COMPARATOR.hash(d) + "," + d.equals(e) + "," + d.compareTo(e));
+
+		synchronized (CALLERS) {
+			for (String caller : CALLERS) {
+				System.out.println("caller=" + caller);
+			}
+		}
+
+		synchronized (PET_CALLERS) {
+			for (String caller : PET_CALLERS) {
+				System.out.println("petCaller=" + caller);
+			}
+		}
+	}
+
+	static void recordCaller(List<String> callers) {
+		StackTraceElement caller = new Throwable().getStackTrace()[2];
+
+		synchronized (callers) {
+			callers.add(caller.getClassName() + "." + caller.getMethodName());
+		}
+	}
+
+	static final class Person implements Comparable<Person> {
+
+		private static final Lookup LOOKUP = MethodHandles.lookup();
+
+		static final OrderingComparator<Person> COMPARATOR = Comparators.ordering()
+				.nonSerializable()
+				.requireAtLeastOneGetter(Person.class)
+				.use(MethodGetter.ofComparable(LOOKUP, Person.class, "getName", String.class))
+				.use(FieldGetter.ofInt(LOOKUP, Person.class, "age"))
+				.nullHandling(NullHandling.NULLS_FIRST)
+				.build(CodegenProvider.of(LOOKUP));
+
+		final String name;
+
+		final int age;
+
+		Person(String name, int age) {
+			this.name = name;
+			this.age = age;
+		}
+
+		String getName() {
+			recordCaller(CALLERS);
+
+			return name;
+		}
+
+		@Override
+		public int hashCode() {
+			return COMPARATOR.hash(this);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return COMPARATOR.areEqual(this, obj);
+		}
+
+		@Override
+		public int compareTo(Person o) {
+			return COMPARATOR.compare(this, o);
+		}
+
+	}
+
+	/**
+	 * Declares the constant of {@link Pet} with the lookup of {@link Pet}, hence the constant is not matched.
+	 */
+	static final class PetComparators {
+
+		static final OrderingComparator<Pet> COMPARATOR = Comparators.ordering()
+				.nonSerializable()
+				.requireAtLeastOneGetter(Pet.class)
+				.use(MethodGetter.ofComparable(Pet.LOOKUP, Pet.class, "getName", String.class))
+				.build(CodegenProvider.of(Pet.LOOKUP));
+
+		private PetComparators() {
+			throw new AssertionError("No instances");
+		}
+
+	}
+
+	static final class Pet implements Comparable<Pet> {
+
+		static final Lookup LOOKUP = MethodHandles.lookup();
+
+		final String name;
+
+		Pet(String name) {
+			this.name = name;
+		}
+
+		String getName() {
+			recordCaller(PET_CALLERS);
+
+			return name;
+		}
+
+		@Override
+		public int hashCode() {
+			return PetComparators.COMPARATOR.hash(this);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return PetComparators.COMPARATOR.areEqual(this, obj);
+		}
+
+		@Override
+		public int compareTo(Pet o) {
+			return PetComparators.COMPARATOR.compare(this, o);
+		}
+
+	}
+
+}
@@ -0,0 +1,99 @@
+package io.github.jdcmp.agent;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.Attributes;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.stream.Collectors;
+
+public class ComparisonAgentTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	public void agent_weavesDelegatingMethods() throws Exception {
+		List<String> lines = runWithAgent(AgentFixture.class);
+
+		Assertions.assertTrue(lines.contains("equals=false,true,false,false"), lines::toString);
+		Assertions.assertTrue(lines.contains("compareTo=-1,1,0,1"), lines::toString);
+		Assertions.assertEquals(1, lines.stream().filter(line -> line.startsWith("hashCode=")).count(), lines::toString);
+		String[] hashes = lines.stream().filter(line -> line.startsWith("hashCode=")).findFirst().get().substring(9).split(",");
+		Assertions.assertEquals(hashes[1], hashes[0]);
+
+		String person = AgentFixture.Person.class.getName();
+		List<String> callers = lines.stream()
+				.filter(line -> line.startsWith("caller="))
+				.map(line -> line.substring(7))
+				.collect(Collectors.toList());
+		Assertions.assertTrue(callers.contains(person + ".hashCode"), callers::toString);
+		Assertions.assertTrue(callers.contains(person + ".equals"), callers::toString);
+		Assertions.assertTrue(callers.contains(person + ".compareTo"), callers::toString);
+	}
+
+	@Test
+	public void agent_constantNotDeclaredByLookupClass_notWoven() throws Exception {
+		List<String> lines = runWithAgent(AgentFixture.class);
+
+		String[] results = lines.stream().filter(line -> line.startsWith("pet=")).findFirst().get().substring(4).split(",");
+		Assertions.assertEquals(results[1], results[0]);
+		Assertions.assertEquals("false", results[2]);
+		Assertions.assertEquals("-1", results[3]);
+
+		String pet = AgentFixture.Pet.class.getName();
+		List<String> callers = lines.stream()
+				.filter(line -> line.startsWith("petCaller="))
+				.map(line -> line.substring(10))
+				.collect(Collectors.toList());
+		Assertions.assertEquals(6, callers.size(), callers::toString);
+		Assertions.assertFalse(callers.contains(pet + ".hashCode"), callers::toString);
+		Assertions.assertFalse(callers.contains(pet + ".equals"), callers::toString);
+		Assertions.assertFalse(callers.contains(pet + ".compareTo"), callers::toString);
+	}
+
+	private List<String> runWithAgent(Class<?> mainClass) throws IOException, InterruptedException {
+		String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+		String classPath = System.getProperty("java.class.path");
+		Path output = directory.resolve("output.txt");
+		// hidden classes, e.g. generated comparators, are omitted from stack traces by default
+		Process process = new ProcessBuilder(java, "-XX:+UnlockDiagnosticVMOptions", "-XX:+ShowHiddenFrames",
+				"-javaagent:" + agentJar(), "-cp", classPath, mainClass.getName())
+				.redirectErrorStream(true)
+				.redirectOutput(output.toFile())
+				.start();
+
+		Assertions.assertTrue(process.waitFor(1, TimeUnit.MINUTES), "Timeout");
+		List<String> lines = Files.readAllLines(output, StandardCharsets.UTF_8);
+		Assertions.assertEquals(0, process.exitValue(), lines::toString);
+
+		return lines;
+	}
+
+	/**
+	 * Creates a jar containing only the manifest, the classes are on the class path.
+	 */
+	private Path agentJar() throws IOException {
+		Manifest manifest = new Manifest();
+		Attributes attributes = manifest.getMainAttributes();
+		attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		attributes.putValue("Premain-Class", ComparisonAgent.class.getName());
+		attributes.putValue("Can-Retransform-Classes", "true");
+		Path jar = directory.resolve("agent.jar");
+
+		try (OutputStream out = Files.newOutputStream(jar); JarOutputStream ignored = new JarOutputStream(out, manifest)) {
+			return jar;
+		}
+	}
+
+}
@@ -1,12 +1,16 @@
 package io.github.jdcmp.api;
 
 
+import io.github.jdcmp.api.builder.StepRecord;
 import io.github.jdcmp.api.builder.equality.StepSerializationEquality;
 import io.github.jdcmp.api.builder.ordering.StepSerializationOrdering;
 import io.github.jdcmp.api.comparator.equality.EqualityComparator;
 import io.github.jdcmp.api.comparator.ordering.OrderingComparator;
 import io.github.jdcmp.api.documentation.ThreadSafe;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+
 /**
  * <p>This static factory returns fluent builders to construct comparators.</p>
  *
@@ -56,6 +60,34 @@ public final class Comparators {
 		return OrderingComparators.builder();
 	}
 
+	/**
+	 * <p>Returns a fluent builder to construct comparators for a record, using every record component as criterion. The
+	 * accessors are looked up using {@link MethodHandles#publicLookup()}, i.e. the record must be public.</p>
+	 *
+	 * <p>Example: <code>Comparators.forRecord(Point.class).ordering().build()</code></p>
+	 *
+	 * @param recordClass The record
+	 * @param <T>         Type of the record
+	 * @return A new builder instance
+	 * @throws IllegalArgumentException If the class is not a record
+	 */
+	public static <T> StepRecord<T> forRecord(Class<T> recordClass) {
+		return forRecord(MethodHandles.publicLookup(), recordClass);
+	}
+
+	/**
+	 * Returns a fluent builder to construct comparators for a record, using every record component as criterion.
+	 *
+	 * @param lookup      Lookup with access to the record's accessor methods, e.g. <code>MethodHandles.lookup()</code>
+	 * @param recordClass The record
+	 * @param <T>         Type of the record
+	 * @return A new builder instance
+	 * @throws IllegalArgumentException If the class is not a record
+	 */
+	public static <T> StepRecord<T> forRecord(Lookup lookup, Class<T> recordClass) {
+		return RecordComparators.builder(lookup, recordClass);
+	}
+
 	private Comparators() {
 		throw new AssertionError("No instances");
 	}
@@ -21,9 +21,11 @@ import io.github.jdcmp.api.spec.equality.SerializableEqualityComparatorSpec;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Predicate;
 
 @ThreadSafe
 final class EqualityComparators {
@@ -106,6 +108,16 @@ final class EqualityComparators {
 			return new Builder<>(classToCompare, null).use(copy);
 		}
 
+		@Override
+		public EqualityComparatorBuilder<T> useAllFields(Lookup lookup) {
+			return use(MemberCriteria.equality(lookup, classToCompare, MemberCriteria.fields(classToCompare)));
+		}
+
+		@Override
+		public EqualityComparatorBuilder<T> useBeanProperties(Lookup lookup, Predicate<? super Method> filter) {
+			return use(MemberCriteria.equality(lookup, classToCompare, MemberCriteria.beanProperties(classToCompare, filter)));
+		}
+
 	}
 
 	private static final class RequireAtLeastOneSerializableGetter<T> implements StepMandatorySerializableGetter<T> {
@@ -154,6 +166,16 @@ final class EqualityComparators {
 			return this;
 		}
 
+		@Override
+		public EqualityComparatorBuilder<T> useAllFields(Lookup lookup) {
+			return use(MemberCriteria.equality(lookup, classToCompare, MemberCriteria.fields(classToCompare)));
+		}
+
+		@Override
+		public EqualityComparatorBuilder<T> useBeanProperties(Lookup lookup, Predicate<? super Method> filter) {
+			return use(MemberCriteria.equality(lookup, classToCompare, MemberCriteria.beanProperties(classToCompare, filter)));
+		}
+
 		protected EqualityComparator<T> create(ComparatorProvider comparatorProvider, Lookup lookup) {
 			EqualityComparatorSpec<T> spec = Specs.equality(
 					classToCompare,
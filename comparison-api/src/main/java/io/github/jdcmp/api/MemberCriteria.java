@@ -0,0 +1,246 @@
+package io.github.jdcmp.api;
+
+import io.github.jdcmp.api.documentation.ThreadSafe;
+import io.github.jdcmp.api.getter.EqualityCriterion;
+import io.github.jdcmp.api.getter.OrderingCriterion;
+import io.github.jdcmp.api.getter.array.BooleanArrayGetter;
+import io.github.jdcmp.api.getter.array.ByteArrayGetter;
+import io.github.jdcmp.api.getter.array.CharArrayGetter;
+import io.github.jdcmp.api.getter.array.ComparableArrayGetter;
+import io.github.jdcmp.api.getter.array.DoubleArrayGetter;
+import io.github.jdcmp.api.getter.array.FloatArrayGetter;
+import io.github.jdcmp.api.getter.array.IntArrayGetter;
+import io.github.jdcmp.api.getter.array.LongArrayGetter;
+import io.github.jdcmp.api.getter.array.MultidimensionalArrayGetter;
+import io.github.jdcmp.api.getter.array.ObjectArrayGetter;
+import io.github.jdcmp.api.getter.array.ShortArrayGetter;
+import io.github.jdcmp.api.getter.member.FieldGetter;
+import io.github.jdcmp.api.getter.member.MethodGetter;
+import io.github.jdcmp.api.getter.object.ComparableGetter;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * <p>Derives criteria from fields and accessor methods, see {@link Comparators#forRecord(Lookup, Class)} and
+ * <code>useAllFields</code>/<code>useBeanProperties</code> of the builders. The criterion of a member depends on its type:</p>
+ *
+ * <ul>
+ *     <li>Primitive and {@link Comparable} members use {@link FieldGetter} or {@link MethodGetter}, i.e. generated comparators
+ *     may read the member directly. Ordering criteria of {@link Comparable} members order nulls first, see
+ *     {@link ComparableGetter#nullsFirst(ComparableGetter)}.</li>
+ *     <li>Arrays use the array getters, e.g. {@link IntArrayGetter}, i.e. they are compared by content.</li>
+ *     <li>Other members use {@link MethodGetter#ofObject(Lookup, Class, MethodHandle, Class)}, i.e. {@link Object#equals(Object)}
+ *     and {@link Object#hashCode()}. They cannot be ordered.</li>
+ * </ul>
+ */
+@ThreadSafe
+final class MemberCriteria {
+
+	/**
+	 * Returns the non-static, non-transient fields of the class and its superclasses, starting with the topmost superclass.
+	 * Fields of each class are ordered by name, since the order of {@link Class#getDeclaredFields()} is unspecified.
+	 */
+	static List<Field> fields(Class<?> clazz) {
+		Deque<Class<?>> hierarchy = new ArrayDeque<>();
+
+		for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+			hierarchy.push(c);
+		}
+
+		List<Field> fields = new ArrayList<>();
+
+		for (Class<?> c : hierarchy) {
+			List<Field> declaredFields = new ArrayList<>();
+
+			for (Field field : c.getDeclaredFields()) {
+				int modifiers = field.getModifiers();
+
+				if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field.isSynthetic()) {
+					declaredFields.add(field);
+				}
+			}
+
+			declaredFields.sort(Comparator.comparing(Field::getName));
+			fields.addAll(declaredFields);
+		}
+
+		return fields;
+	}
+
+	/**
+	 * Returns the public getters of the class, i.e. methods without parameters named <code>getX</code>, or <code>isX</code> if
+	 * they return a boolean, ordered by name. {@link Object#getClass()} is excluded.
+	 */
+	static List<Method> beanProperties(Class<?> clazz, Predicate<? super Method> filter) {
+		Objects.requireNonNull(filter);
+		List<Method> properties = new ArrayList<>();
+
+		for (Method method : clazz.getMethods()) {
+			if (isBeanProperty(method) && filter.test(method)) {
+				properties.add(method);
+			}
+		}
+
+		properties.sort(Comparator.comparing(Method::getName));
+
+		return properties;
+	}
+
+	private static boolean isBeanProperty(Method method) {
+		if (Modifier.isStatic(method.getModifiers()) || method.isBridge() || method.getParameterCount() != 0
+				|| method.getDeclaringClass() == Object.class) {
+			return false;
+		}
+
+		String name = method.getName();
+		Class<?> returnType = method.getReturnType();
+
+		if (name.startsWith("get")) {
+			return name.length() > 3 && returnType != void.class;
+		}
+
+		return name.startsWith("is") && name.length() > 2 && returnType == boolean.class;
+	}
+
+	static <T> List<EqualityCriterion<? super T>> equality(Lookup lookup, Class<T> type, List<? extends Member> members) {
+		Objects.requireNonNull(lookup);
+		List<EqualityCriterion<? super T>> criteria = new ArrayList<>(members.size());
+
+		for (Member member : members) {
+			MethodHandle handle = handle(lookup, member);
+			OrderingCriterion<T> criterion = ordering(lookup, type, handle);
+			criteria.add(criterion != null ? criterion : equality(lookup, type, handle));
+		}
+
+		return criteria;
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	static <T> List<OrderingCriterion<? super T>> ordering(Lookup lookup, Class<T> type, List<? extends Member> members) {
+		Objects.requireNonNull(lookup);
+		List<OrderingCriterion<? super T>> criteria = new ArrayList<>(members.size());
+
+		for (Member member : members) {
+			OrderingCriterion<T> criterion = ordering(lookup, type, handle(lookup, member));
+
+			if (criterion == null) {
+				throw new IllegalArgumentException("Member cannot be ordered: " + member);
+			}
+
+			criteria.add(criterion instanceof ComparableGetter ? ComparableGetter.nullsFirst((ComparableGetter) criterion) : criterion);
+		}
+
+		return criteria;
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static <T> @Nullable OrderingCriterion<T> ordering(Lookup lookup, Class<T> type, MethodHandle handle) {
+		Class<?> valueType = handle.type().returnType();
+
+		if (valueType == int.class) {
+			return MethodGetter.ofInt(lookup, type, handle);
+		} else if (valueType == long.class) {
+			return MethodGetter.ofLong(lookup, type, handle);
+		} else if (valueType == double.class) {
+			return MethodGetter.ofDouble(lookup, type, handle);
+		} else if (valueType == float.class) {
+			return MethodGetter.ofFloat(lookup, type, handle);
+		} else if (valueType == boolean.class) {
+			return MethodGetter.ofBoolean(lookup, type, handle);
+		} else if (valueType == byte.class) {
+			return MethodGetter.ofByte(lookup, type, handle);
+		} else if (valueType == short.class) {
+			return MethodGetter.ofShort(lookup, type, handle);
+		} else if (valueType == char.class) {
+			return MethodGetter.ofChar(lookup, type, handle);
+		} else if (Comparable.class.isAssignableFrom(valueType)) {
+			return MethodGetter.ofComparable(lookup, type, handle, (Class) valueType);
+		} else if (!valueType.isArray()) {
+			return null;
+		}
+
+		MethodHandle erased = erase(handle);
+		Class<?> componentType = valueType.getComponentType();
+
+		if (componentType == int.class) {
+			return (IntArrayGetter<T>) object -> (int[]) read(erased, object);
+		} else if (componentType == long.class) {
+			return (LongArrayGetter<T>) object -> (long[]) read(erased, object);
+		} else if (componentType == double.class) {
+			return (DoubleArrayGetter<T>) object -> (double[]) read(erased, object);
+		} else if (componentType == float.class) {
+			return (FloatArrayGetter<T>) object -> (float[]) read(erased, object);
+		} else if (componentType == boolean.class) {
+			return (BooleanArrayGetter<T>) object -> (boolean[]) read(erased, object);
+		} else if (componentType == byte.class) {
+			return (ByteArrayGetter<T>) object -> (byte[]) read(erased, object);
+		} else if (componentType == short.class) {
+			return (ShortArrayGetter<T>) object -> (short[]) read(erased, object);
+		} else if (componentType == char.class) {
+			return (CharArrayGetter<T>) object -> (char[]) read(erased, object);
+		} else if (Comparable.class.isAssignableFrom(componentType)) {
+			return (ComparableArrayGetter) object -> (Comparable[]) read(erased, object);
+		}
+
+		return null;
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static <T> EqualityCriterion<T> equality(Lookup lookup, Class<T> type, MethodHandle handle) {
+		Class<?> valueType = handle.type().returnType();
+
+		if (!valueType.isArray()) {
+			return MethodGetter.ofObject(lookup, type, handle, valueType);
+		}
+
+		MethodHandle erased = erase(handle);
+
+		if (valueType.getComponentType().isArray()) {
+			return (MultidimensionalArrayGetter) object -> (Object[]) read(erased, object);
+		}
+
+		return (ObjectArrayGetter<T>) object -> (Object[]) read(erased, object);
+	}
+
+	private static MethodHandle handle(Lookup lookup, Member member) {
+		try {
+			return member instanceof Field ? lookup.unreflectGetter((Field) member) : lookup.unreflect((Method) member);
+		} catch (IllegalAccessException e) {
+			throw new IllegalArgumentException("Member is inaccessible: " + member, e);
+		}
+	}
+
+	private static MethodHandle erase(MethodHandle handle) {
+		return handle.asType(MethodType.methodType(Object.class, Object.class));
+	}
+
+	private static Object read(MethodHandle handle, Object object) {
+		try {
+			return handle.invokeExact(object);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable t) {
+			throw new UndeclaredThrowableException(t);
+		}
+	}
+
+	private MemberCriteria() {
+		throw new AssertionError("No instances");
+	}
+
+}
@@ -9,6 +9,7 @@ import io.github.jdcmp.api.builder.ordering.StepMissingCriteriaHandling;
 import io.github.jdcmp.api.builder.ordering.StepMissingCriteriaHandlingSerializable;
 import io.github.jdcmp.api.builder.ordering.StepSerializationOrdering;
 import io.github.jdcmp.api.comparator.ordering.NullHandling;
+import io.github.jdcmp.api.comparator.ordering.Order;
 import io.github.jdcmp.api.comparator.ordering.OrderingComparator;
 import io.github.jdcmp.api.comparator.ordering.SerializableOrderingComparator;
 import io.github.jdcmp.api.documentation.NotThreadSafe;
@@ -23,9 +24,11 @@ import io.github.jdcmp.api.spec.ordering.SerializableOrderingComparatorSpec;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Predicate;
 
 @ThreadSafe
 final class OrderingComparators {
@@ -107,6 +110,11 @@ final class OrderingComparators {
 			return new Builder<>(classToCompare, null).use(getter);
 		}
 
+		@Override
+		public OrderingComparatorBuilder<T> use(OrderingCriterion<? super T> getter, Order order) {
+			return new Builder<>(classToCompare, null).use(getter, order);
+		}
+
 		@Override
 		public OrderingComparatorBuilder<T> use(Iterable<? extends OrderingCriterion<? super T>> getters) {
 			List<OrderingCriterion<? super T>> copy = Utils.arrayList(getters);
@@ -118,6 +126,16 @@ final class OrderingComparators {
 			return new Builder<>(classToCompare, null).use(copy);
 		}
 
+		@Override
+		public OrderingComparatorBuilder<T> useAllFields(Lookup lookup) {
+			return use(MemberCriteria.ordering(lookup, classToCompare, MemberCriteria.fields(classToCompare)));
+		}
+
+		@Override
+		public OrderingComparatorBuilder<T> useBeanProperties(Lookup lookup, Predicate<? super Method> filter) {
+			return use(MemberCriteria.ordering(lookup, classToCompare, MemberCriteria.beanProperties(classToCompare, filter)));
+		}
+
 	}
 
 	private static final class RequireAtLeastOneSerializableGetter<T> implements StepMandatorySerializableGetter<T> {
@@ -135,6 +153,11 @@ final class OrderingComparators {
 			return new SerializableBuilder<>(classToCompare, null).use(getter);
 		}
 
+		@Override
+		public SerializableOrderingComparatorBuilder<T> use(SerializableOrderingCriterion<? super T> getter, Order order) {
+			return new SerializableBuilder<>(classToCompare, null).use(getter, order);
+		}
+
 		@Override
 		public SerializableOrderingComparatorBuilder<T> use(Iterable<? extends SerializableOrderingCriterion<? super T>> getters) {
 			List<SerializableOrderingCriterion<? super T>> copy = Utils.arrayList(getters);
@@ -167,6 +190,21 @@ final class OrderingComparators {
 			return this;
 		}
 
+		@Override
+		protected OrderingCriterion<? super T> descending(OrderingCriterion<? super T> getter) {
+			return getter.descending();
+		}
+
+		@Override
+		public OrderingComparatorBuilder<T> useAllFields(Lookup lookup) {
+			return use(MemberCriteria.ordering(lookup, classToCompare, MemberCriteria.fields(classToCompare)));
+		}
+
+		@Override
+		public OrderingComparatorBuilder<T> useBeanProperties(Lookup lookup, Predicate<? super Method> filter) {
+			return use(MemberCriteria.ordering(lookup, classToCompare, MemberCriteria.beanProperties(classToCompare, filter)));
+		}
+
 		protected OrderingComparator<T> create(ComparatorProvider comparatorProvider, @Nullable Lookup lookup) {
 			OrderingComparatorSpec<T> spec = Specs.ordering(
 					classToCompare,
@@ -200,6 +238,11 @@ final class OrderingComparators {
 			return this;
 		}
 
+		@Override
+		protected SerializableOrderingCriterion<? super T> descending(SerializableOrderingCriterion<? super T> getter) {
+			return getter.descending();
+		}
+
 		protected SerializableOrderingComparator<T> create(ComparatorProvider comparatorProvider, Lookup lookup) {
 			SerializableOrderingComparatorSpec<T> spec = Specs.orderingSerializable(
 					classToCompare,
@@ -242,6 +285,8 @@ final class OrderingComparators {
 
 		abstract protected B getThis();
 
+		abstract protected G descending(G getter);
+
 		public B hashParameters(HashParameters hashParameters) {
 			this.hashParameters = Objects.requireNonNull(hashParameters);
 			return getThis();
@@ -263,6 +308,13 @@ final class OrderingComparators {
 			return getThis();
 		}
 
+		public B use(G getter, Order order) {
+			Objects.requireNonNull(getter);
+			Objects.requireNonNull(order);
+
+			return use(order == Order.DESC ? descending(getter) : getter);
+		}
+
 		public B use(Iterable<? extends G> getters) {
 			getters.forEach(this::use);
 			return getThis();
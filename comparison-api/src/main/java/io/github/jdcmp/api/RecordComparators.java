@@ -0,0 +1,128 @@
+package io.github.jdcmp.api;
+
+import io.github.jdcmp.api.builder.StepRecord;
+import io.github.jdcmp.api.builder.equality.EqualityComparatorBuilder;
+import io.github.jdcmp.api.builder.ordering.OrderingComparatorBuilder;
+import io.github.jdcmp.api.documentation.Immutable;
+import io.github.jdcmp.api.documentation.ThreadSafe;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>Derives the criteria of records from the accessor methods of their components, see {@link MemberCriteria}.</p>
+ *
+ * <p>Records exist since Java 16, hence their components are read reflectively.</p>
+ */
+@ThreadSafe
+final class RecordComparators {
+
+	private static final @Nullable Method GET_RECORD_COMPONENTS = findMethod(Class.class, "getRecordComponents");
+
+	private static final @Nullable Method GET_ACCESSOR = findMethod(findClass("java.lang.reflect.RecordComponent"), "getAccessor");
+
+	static <T> StepRecord<T> builder(Lookup lookup, Class<T> recordClass) {
+		Objects.requireNonNull(lookup);
+		Utils.verifyClassNotForbidden(recordClass);
+
+		return new RecordStep<>(lookup, recordClass, accessors(recordClass));
+	}
+
+	private static List<Method> accessors(Class<?> recordClass) {
+		Object[] components = GET_RECORD_COMPONENTS == null || GET_ACCESSOR == null
+				? null
+				: (Object[]) invoke(GET_RECORD_COMPONENTS, recordClass);
+
+		if (components == null) {
+			throw new IllegalArgumentException("Class is not a record: " + recordClass);
+		}
+
+		List<Method> accessors = new ArrayList<>(components.length);
+
+		for (Object component : components) {
+			accessors.add((Method) invoke(GET_ACCESSOR, component));
+		}
+
+		return Collections.unmodifiableList(accessors);
+	}
+
+	@Immutable
+	private static final class RecordStep<T> implements StepRecord<T> {
+
+		private final Lookup lookup;
+
+		private final Class<T> recordClass;
+
+		private final List<Method> accessors;
+
+		RecordStep(Lookup lookup, Class<T> recordClass, List<Method> accessors) {
+			this.lookup = lookup;
+			this.recordClass = recordClass;
+			this.accessors = accessors;
+		}
+
+		@Override
+		public EqualityComparatorBuilder<T> equality() {
+			return Comparators.equality()
+					.nonSerializable()
+					.requireAtLeastOneGetter(recordClass)
+					.use(MemberCriteria.equality(lookup, recordClass, accessors));
+		}
+
+		@Override
+		public OrderingComparatorBuilder<T> ordering() {
+			return Comparators.ordering()
+					.nonSerializable()
+					.requireAtLeastOneGetter(recordClass)
+					.use(MemberCriteria.ordering(lookup, recordClass, accessors));
+		}
+
+		@Override
+		public String toString() {
+			return "RecordStep[" +
+					"recordClass=" + recordClass +
+					", accessors=" + accessors +
+					"]";
+		}
+
+	}
+
+	private static Object invoke(Method method, Object object) {
+		try {
+			return method.invoke(object);
+		} catch (IllegalAccessException | InvocationTargetException e) {
+			throw new IllegalStateException("Failed to read record components", e);
+		}
+	}
+
+	private static @Nullable Class<?> findClass(String name) {
+		try {
+			return Class.forName(name);
+		} catch (ClassNotFoundException e) {
+			return null;
+		}
+	}
+
+	private static @Nullable Method findMethod(@Nullable Class<?> clazz, String name) {
+		if (clazz == null) {
+			return null;
+		}
+
+		try {
+			return clazz.getMethod(name);
+		} catch (NoSuchMethodException e) {
+			return null;
+		}
+	}
+
+	private RecordComparators() {
+		throw new AssertionError("No instances");
+	}
+
+}
@@ -0,0 +1,25 @@
+package io.github.jdcmp.api.builder;
+
+import io.github.jdcmp.api.builder.ordering.OrderingComparatorBuilder;
+import io.github.jdcmp.api.builder.ordering.SerializableOrderingComparatorBuilder;
+import io.github.jdcmp.api.comparator.ordering.Order;
+
+/**
+ * Build step for getter configuration, shared by {@link OrderingComparatorBuilder} and {@link SerializableOrderingComparatorBuilder}.
+ *
+ * @param <T> Type whose instances can be compared
+ * @param <B> Type of the builder
+ * @param <G> Type of the getter
+ */
+public interface SharedGetterOrder<T, B, G> {
+
+	/**
+	 * Adds a criterion that orders objects in the given direction. Hash codes and equality are not affected by the direction.
+	 *
+	 * @param getter A criterion to be used in the comparison
+	 * @param order  The direction of the criterion
+	 * @return The fluent builder instance
+	 */
+	B use(G getter, Order order);
+
+}
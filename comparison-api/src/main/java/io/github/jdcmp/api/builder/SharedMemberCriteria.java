@@ -0,0 +1,47 @@
+package io.github.jdcmp.api.builder;
+
+import io.github.jdcmp.api.builder.equality.EqualityComparatorBuilder;
+import io.github.jdcmp.api.builder.ordering.OrderingComparatorBuilder;
+import io.github.jdcmp.api.getter.member.FieldGetter;
+import io.github.jdcmp.api.getter.member.MethodGetter;
+
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.Method;
+import java.util.function.Predicate;
+
+/**
+ * <p>Build step deriving criteria from the members of the compared class, shared by {@link EqualityComparatorBuilder} and
+ * {@link OrderingComparatorBuilder}. The class is inspected once, when the method is called.</p>
+ *
+ * <p>Primitive and {@link Comparable} members use {@link FieldGetter} or {@link MethodGetter}, i.e. implementations may read
+ * them directly. Arrays are compared by content. Other members are compared by {@link Object#equals(Object)} and cannot be
+ * ordered. Ordering comparators order null {@link Comparable} members before other values.</p>
+ *
+ * @param <B> Type of the builder
+ */
+public interface SharedMemberCriteria<B> {
+
+	/**
+	 * Adds a criterion for each non-static, non-transient field of the compared class and its superclasses. Fields of
+	 * superclasses come first, fields of each class are ordered by name. The declaration order is not used, since it is
+	 * not available reliably via reflection.
+	 *
+	 * @param lookup Lookup with access to the fields, e.g. <code>MethodHandles.lookup()</code>
+	 * @return The fluent builder instance
+	 * @throws IllegalArgumentException If a field is inaccessible or cannot be ordered by an ordering comparator
+	 */
+	B useAllFields(Lookup lookup);
+
+	/**
+	 * Adds a criterion for each public getter of the compared class accepted by the filter, ordered by name. Getters are
+	 * methods without parameters named <code>getX</code>, or <code>isX</code> if they return a boolean.
+	 * {@link Object#getClass()} is excluded.
+	 *
+	 * @param lookup Lookup with access to the getters, e.g. <code>MethodHandles.lookup()</code>
+	 * @param filter Selects the getters to use
+	 * @return The fluent builder instance
+	 * @throws IllegalArgumentException If a getter is inaccessible or cannot be ordered by an ordering comparator
+	 */
+	B useBeanProperties(Lookup lookup, Predicate<? super Method> filter);
+
+}
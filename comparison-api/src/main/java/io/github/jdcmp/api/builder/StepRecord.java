@@ -0,0 +1,34 @@
+package io.github.jdcmp.api.builder;
+
+import io.github.jdcmp.api.builder.equality.EqualityComparatorBuilder;
+import io.github.jdcmp.api.builder.ordering.OrderingComparatorBuilder;
+import io.github.jdcmp.api.comparator.equality.EqualityComparator;
+import io.github.jdcmp.api.comparator.ordering.OrderingComparator;
+
+/**
+ * Step in the build process of comparators for records, whose criteria are derived from the record components. The returned
+ * builders already use every component, in declaration order. Ordering comparators order null {@link Comparable} components
+ * before other values.
+ *
+ * @param <T> Type of the record
+ */
+public interface StepRecord<T> {
+
+	/**
+	 * Continue building an {@link EqualityComparator}.
+	 *
+	 * @return A builder using every record component
+	 * @throws IllegalArgumentException If a record component is inaccessible
+	 */
+	EqualityComparatorBuilder<T> equality();
+
+	/**
+	 * Continue building an {@link OrderingComparator}.
+	 *
+	 * @return A builder using every record component
+	 * @throws IllegalArgumentException If a record component is inaccessible or cannot be ordered, i.e. is neither primitive
+	 *                                  nor {@link Comparable} nor an array thereof
+	 */
+	OrderingComparatorBuilder<T> ordering();
+
+}
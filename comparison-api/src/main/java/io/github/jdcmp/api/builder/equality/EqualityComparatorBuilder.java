@@ -4,6 +4,7 @@ import io.github.jdcmp.api.builder.SharedBuildMethods;
 import io.github.jdcmp.api.builder.SharedCustomization;
 import io.github.jdcmp.api.builder.SharedGetter;
 import io.github.jdcmp.api.builder.SharedGetters;
+import io.github.jdcmp.api.builder.SharedMemberCriteria;
 import io.github.jdcmp.api.comparator.equality.EqualityComparator;
 import io.github.jdcmp.api.getter.EqualityCriterion;
 
@@ -16,6 +17,7 @@ public interface EqualityComparatorBuilder<T>
 		extends
 		SharedGetters<T, EqualityComparatorBuilder<T>, EqualityCriterion<? super T>>,
 		SharedGetter<T, EqualityComparatorBuilder<T>, EqualityCriterion<? super T>>,
+		SharedMemberCriteria<EqualityComparatorBuilder<T>>,
 		SharedCustomization<EqualityComparatorBuilder<T>>,
 		SharedBuildMethods<EqualityComparator<T>> {
 
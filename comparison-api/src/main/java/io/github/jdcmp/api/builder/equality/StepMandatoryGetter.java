@@ -2,6 +2,7 @@ package io.github.jdcmp.api.builder.equality;
 
 import io.github.jdcmp.api.builder.SharedGetter;
 import io.github.jdcmp.api.builder.SharedGetters;
+import io.github.jdcmp.api.builder.SharedMemberCriteria;
 import io.github.jdcmp.api.getter.EqualityCriterion;
 
 /**
@@ -11,6 +12,7 @@ import io.github.jdcmp.api.getter.EqualityCriterion;
  */
 public interface StepMandatoryGetter<T> extends
 		SharedGetter<T, EqualityComparatorBuilder<T>, EqualityCriterion<? super T>>,
-		SharedGetters<T, EqualityComparatorBuilder<T>, EqualityCriterion<? super T>> {
+		SharedGetters<T, EqualityComparatorBuilder<T>, EqualityCriterion<? super T>>,
+		SharedMemberCriteria<EqualityComparatorBuilder<T>> {
 
 }
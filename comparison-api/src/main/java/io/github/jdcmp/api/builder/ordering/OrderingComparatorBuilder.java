@@ -3,7 +3,9 @@ package io.github.jdcmp.api.builder.ordering;
 import io.github.jdcmp.api.builder.SharedBuildMethods;
 import io.github.jdcmp.api.builder.SharedCustomization;
 import io.github.jdcmp.api.builder.SharedGetter;
+import io.github.jdcmp.api.builder.SharedGetterOrder;
 import io.github.jdcmp.api.builder.SharedGetters;
+import io.github.jdcmp.api.builder.SharedMemberCriteria;
 import io.github.jdcmp.api.builder.SharedNullHandling;
 import io.github.jdcmp.api.comparator.ordering.OrderingComparator;
 import io.github.jdcmp.api.getter.OrderingCriterion;
@@ -17,6 +19,8 @@ public interface OrderingComparatorBuilder<T>
 		extends
 		SharedGetters<T, OrderingComparatorBuilder<T>, OrderingCriterion<? super T>>,
 		SharedGetter<T, OrderingComparatorBuilder<T>, OrderingCriterion<? super T>>,
+		SharedGetterOrder<T, OrderingComparatorBuilder<T>, OrderingCriterion<? super T>>,
+		SharedMemberCriteria<OrderingComparatorBuilder<T>>,
 		SharedCustomization<OrderingComparatorBuilder<T>>,
 		SharedNullHandling<OrderingComparatorBuilder<T>>,
 		SharedBuildMethods<OrderingComparator<T>> {
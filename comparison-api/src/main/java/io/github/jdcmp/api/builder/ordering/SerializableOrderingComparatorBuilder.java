@@ -3,6 +3,7 @@ package io.github.jdcmp.api.builder.ordering;
 import io.github.jdcmp.api.builder.SharedBuildMethods;
 import io.github.jdcmp.api.builder.SharedCustomization;
 import io.github.jdcmp.api.builder.SharedGetter;
+import io.github.jdcmp.api.builder.SharedGetterOrder;
 import io.github.jdcmp.api.builder.SharedGetters;
 import io.github.jdcmp.api.builder.SharedNullHandling;
 import io.github.jdcmp.api.comparator.ordering.SerializableOrderingComparator;
@@ -17,6 +18,7 @@ public interface SerializableOrderingComparatorBuilder<T>
 		extends
 		SharedGetters<T, SerializableOrderingComparatorBuilder<T>, SerializableOrderingCriterion<? super T>>,
 		SharedGetter<T, SerializableOrderingComparatorBuilder<T>, SerializableOrderingCriterion<? super T>>,
+		SharedGetterOrder<T, SerializableOrderingComparatorBuilder<T>, SerializableOrderingCriterion<? super T>>,
 		SharedCustomization<SerializableOrderingComparatorBuilder<T>>,
 		SharedNullHandling<SerializableOrderingComparatorBuilder<T>>,
 		SharedBuildMethods<SerializableOrderingComparator<T>> {
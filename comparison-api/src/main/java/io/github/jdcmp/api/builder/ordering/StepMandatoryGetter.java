@@ -1,7 +1,9 @@
 package io.github.jdcmp.api.builder.ordering;
 
 import io.github.jdcmp.api.builder.SharedGetter;
+import io.github.jdcmp.api.builder.SharedGetterOrder;
 import io.github.jdcmp.api.builder.SharedGetters;
+import io.github.jdcmp.api.builder.SharedMemberCriteria;
 import io.github.jdcmp.api.getter.OrderingCriterion;
 
 /**
@@ -11,6 +13,8 @@ import io.github.jdcmp.api.getter.OrderingCriterion;
  */
 public interface StepMandatoryGetter<T> extends
 		SharedGetter<T, OrderingComparatorBuilder<T>, OrderingCriterion<? super T>>,
-		SharedGetters<T, OrderingComparatorBuilder<T>, OrderingCriterion<? super T>> {
+		SharedGetterOrder<T, OrderingComparatorBuilder<T>, OrderingCriterion<? super T>>,
+		SharedGetters<T, OrderingComparatorBuilder<T>, OrderingCriterion<? super T>>,
+		SharedMemberCriteria<OrderingComparatorBuilder<T>> {
 
 }
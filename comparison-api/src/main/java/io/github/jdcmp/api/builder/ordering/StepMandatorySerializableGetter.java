@@ -1,6 +1,7 @@
 package io.github.jdcmp.api.builder.ordering;
 
 import io.github.jdcmp.api.builder.SharedGetter;
+import io.github.jdcmp.api.builder.SharedGetterOrder;
 import io.github.jdcmp.api.builder.SharedGetters;
 import io.github.jdcmp.api.getter.SerializableOrderingCriterion;
 
@@ -11,6 +12,7 @@ import io.github.jdcmp.api.getter.SerializableOrderingCriterion;
  */
 public interface StepMandatorySerializableGetter<T> extends
 		SharedGetter<T, SerializableOrderingComparatorBuilder<T>, SerializableOrderingCriterion<? super T>>,
+		SharedGetterOrder<T, SerializableOrderingComparatorBuilder<T>, SerializableOrderingCriterion<? super T>>,
 		SharedGetters<T, SerializableOrderingComparatorBuilder<T>, SerializableOrderingCriterion<? super T>> {
 
 }
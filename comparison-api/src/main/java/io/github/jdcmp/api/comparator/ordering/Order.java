@@ -0,0 +1,19 @@
+package io.github.jdcmp.api.comparator.ordering;
+
+import io.github.jdcmp.api.getter.OrderingCriterion;
+
+/**
+ * Contains the directions in which an {@link OrderingCriterion} can order objects.
+ */
+public enum Order {
+
+	/**
+	 * The order of the criterion itself.
+	 */
+	ASC,
+	/**
+	 * The reverse order of the criterion, see {@link OrderingCriterion#descending()}.
+	 */
+	DESC
+
+}
@@ -14,4 +14,15 @@ import java.util.Comparator;
 @ThreadSafe
 public interface OrderingCriterion<T> extends EqualityCriterion<T>, Comparator<T> {
 
+	/**
+	 * Returns a criterion that orders objects in descending order, i.e. in the reverse order of this criterion, see
+	 * {@link ReversedCriterion#of(OrderingCriterion)}. The direction is absolute: a {@link ReversedCriterion} is already
+	 * descending and returns itself.
+	 *
+	 * @return The descending criterion
+	 */
+	default OrderingCriterion<T> descending() {
+		return ReversedCriterion.of(this);
+	}
+
 }
@@ -0,0 +1,62 @@
+package io.github.jdcmp.api.getter;
+
+/**
+ * <p>Criterion that orders objects in the reverse order of another criterion. Hash codes and equality are those of the other
+ * criterion. Instances are usually obtained via {@link #of(OrderingCriterion)}.</p>
+ *
+ * <p>Implementations may recognize this criterion and generate equivalent code instead of calling the default methods.</p>
+ *
+ * @param <T> Type whose instances can be compared
+ */
+public interface ReversedCriterion<T> extends OrderingCriterion<T> {
+
+	/**
+	 * Returns the criterion whose order is reversed.
+	 *
+	 * @return The criterion
+	 */
+	OrderingCriterion<? super T> getCriterion();
+
+	@Override
+	default int hash(T object) {
+		return getCriterion().hash(object);
+	}
+
+	@Override
+	default boolean areEqual(T self, T other) {
+		return getCriterion().areEqual(self, other);
+	}
+
+	@Override
+	default int compare(T self, T other) {
+		return getCriterion().compare(other, self);
+	}
+
+	/**
+	 * Returns this criterion, which is already descending.
+	 *
+	 * @return This criterion
+	 */
+	@Override
+	default OrderingCriterion<T> descending() {
+		return this;
+	}
+
+	/**
+	 * Returns a criterion that reverses the order of the given criterion. Reversing a criterion returned by this method
+	 * returns the original criterion.
+	 *
+	 * @param criterion The criterion
+	 * @param <T>       Type whose instances can be compared
+	 * @return The reversed criterion
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> OrderingCriterion<T> of(OrderingCriterion<T> criterion) {
+		if (criterion instanceof ReversedOrderingCriterion) {
+			return (OrderingCriterion<T>) ((ReversedOrderingCriterion<T>) criterion).getCriterion();
+		}
+
+		return new ReversedOrderingCriterion<>(criterion);
+	}
+
+}
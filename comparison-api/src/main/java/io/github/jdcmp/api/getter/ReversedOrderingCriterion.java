@@ -0,0 +1,23 @@
+package io.github.jdcmp.api.getter;
+
+import java.util.Objects;
+
+final class ReversedOrderingCriterion<T> implements ReversedCriterion<T> {
+
+	private final OrderingCriterion<? super T> criterion;
+
+	ReversedOrderingCriterion(OrderingCriterion<? super T> criterion) {
+		this.criterion = Objects.requireNonNull(criterion);
+	}
+
+	@Override
+	public OrderingCriterion<? super T> getCriterion() {
+		return criterion;
+	}
+
+	@Override
+	public String toString() {
+		return "ReversedCriterion[" + criterion + "]";
+	}
+
+}
@@ -13,4 +13,16 @@ import java.util.Comparator;
 @ThreadSafe
 public interface SerializableOrderingCriterion<T> extends OrderingCriterion<T>, SerializableEqualityCriterion<T>, Comparator<T> {
 
+	/**
+	 * Returns a serializable criterion that orders objects in descending order, i.e. in the reverse order of this criterion,
+	 * see {@link SerializableReversedCriterion#of(SerializableOrderingCriterion)}. The direction is absolute: a
+	 * {@link SerializableReversedCriterion} is already descending and returns itself.
+	 *
+	 * @return The descending criterion
+	 */
+	@Override
+	default SerializableOrderingCriterion<T> descending() {
+		return SerializableReversedCriterion.of(this);
+	}
+
 }
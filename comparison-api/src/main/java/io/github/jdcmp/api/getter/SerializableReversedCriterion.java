@@ -0,0 +1,40 @@
+package io.github.jdcmp.api.getter;
+
+/**
+ * Serializable {@link ReversedCriterion}.
+ *
+ * @param <T> Type whose instances can be compared
+ */
+public interface SerializableReversedCriterion<T> extends ReversedCriterion<T>, SerializableOrderingCriterion<T> {
+
+	@Override
+	SerializableOrderingCriterion<? super T> getCriterion();
+
+	/**
+	 * Returns this criterion, which is already descending.
+	 *
+	 * @return This criterion
+	 */
+	@Override
+	default SerializableOrderingCriterion<T> descending() {
+		return this;
+	}
+
+	/**
+	 * Returns a criterion that reverses the order of the given criterion. Reversing a criterion returned by this method
+	 * returns the original criterion.
+	 *
+	 * @param criterion The criterion
+	 * @param <T>       Type whose instances can be compared
+	 * @return The reversed criterion
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> SerializableOrderingCriterion<T> of(SerializableOrderingCriterion<T> criterion) {
+		if (criterion instanceof SerializableReversedOrderingCriterion) {
+			return (SerializableOrderingCriterion<T>) ((SerializableReversedOrderingCriterion<T>) criterion).getCriterion();
+		}
+
+		return new SerializableReversedOrderingCriterion<>(criterion);
+	}
+
+}
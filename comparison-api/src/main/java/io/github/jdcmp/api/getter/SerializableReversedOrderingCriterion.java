@@ -0,0 +1,55 @@
+package io.github.jdcmp.api.getter;
+
+import io.github.jdcmp.api.serialization.SerializationProxyRequiredException;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.util.Objects;
+
+final class SerializableReversedOrderingCriterion<T> implements SerializableReversedCriterion<T> {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient SerializableOrderingCriterion<? super T> criterion;
+
+	SerializableReversedOrderingCriterion(SerializableOrderingCriterion<? super T> criterion) {
+		this.criterion = Objects.requireNonNull(criterion);
+	}
+
+	@Override
+	public SerializableOrderingCriterion<? super T> getCriterion() {
+		return criterion;
+	}
+
+	@Override
+	public String toString() {
+		return "SerializableReversedCriterion[" + criterion + "]";
+	}
+
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		throw new SerializationProxyRequiredException();
+	}
+
+	private Object writeReplace() throws ObjectStreamException {
+		return new SerializedForm<>(this);
+	}
+
+	private static final class SerializedForm<T> implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private final SerializableOrderingCriterion<? super T> criterion;
+
+		private SerializedForm(SerializableReversedOrderingCriterion<T> criterion) {
+			this.criterion = criterion.criterion;
+		}
+
+		private Object readResolve() throws ObjectStreamException {
+			return new SerializableReversedOrderingCriterion<>(criterion);
+		}
+
+	}
+
+}
@@ -0,0 +1,327 @@
+package io.github.jdcmp.api.getter.member;
+
+import io.github.jdcmp.api.documentation.ThreadSafe;
+import io.github.jdcmp.api.getter.object.ComparableGetter;
+import io.github.jdcmp.api.getter.object.GenericGetter;
+import io.github.jdcmp.api.getter.primitive.BooleanGetter;
+import io.github.jdcmp.api.getter.primitive.ByteGetter;
+import io.github.jdcmp.api.getter.primitive.CharGetter;
+import io.github.jdcmp.api.getter.primitive.DoubleGetter;
+import io.github.jdcmp.api.getter.primitive.FloatGetter;
+import io.github.jdcmp.api.getter.primitive.IntGetter;
+import io.github.jdcmp.api.getter.primitive.LongGetter;
+import io.github.jdcmp.api.getter.primitive.ShortGetter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.util.Objects;
+
+/**
+ * <p>Creates getters reading a non-static field. The getters implement {@link MemberCriterion}.</p>
+ *
+ * <p>Example: <code>FieldGetter.ofInt(Person.class, "age")</code></p>
+ *
+ * <p>The methods without a {@link Lookup} parameter use {@link MethodHandles#publicLookup()}, i.e. they can only access public
+ * fields of public classes. Pass a {@link Lookup} with access to the field otherwise, e.g. <code>MethodHandles.lookup()</code>.</p>
+ */
+@ThreadSafe
+public final class FieldGetter {
+
+	/**
+	 * Creates a getter reading the given int field.
+	 *
+	 * @param type The class declaring or inheriting the field
+	 * @param name The name of the field
+	 * @param <T>  Type whose instances can be compared using the getter
+	 * @return The getter
+	 * @throws IllegalArgumentException If the field does not exist or is inaccessible
+	 */
+	public static <T> IntGetter<T> ofInt(Class<T> type, String name) {
+		return ofInt(MethodHandles.publicLookup(), type, name);
+	}
+
+	/**
+	 * Creates a getter reading the given int field.
+	 *
+	 * @param lookup Lookup with access to the field
+	 * @param type   The class declaring or inheriting the field
+	 * @param name   The name of the field
+	 * @param <T>    Type whose instances can be compared using the getter
+	 * @return The getter
+	 * @throws IllegalArgumentException If the field does not exist or is inaccessible
+	 */
+	public static <T> IntGetter<T> ofInt(Lookup lookup, Class<T> type, String name) {
+		return MemberGetters.ofInt(lookup, type, findGetter(lookup, type, name, int.class));
+	}
+
+	/**
+	 * Creates a getter reading the given long field.
+	 *
+	 * @param type The class declaring or inheriting the field
+	 * @param name The name of the field
+	 * @param <T>  Type whose instances can be compared using the getter
+	 * @return The getter
+	 * @throws IllegalArgumentException If the field does not exist or is inaccessible
+	 */
+	public static <T> LongGetter<T> ofLong(Class<T> type, String name) {
+		return ofLong(MethodHandles.publicLookup(), type, name);
+	}
+
+	/**
+	 * Creates a getter reading the given long field.
+	 *
+	 * @param lookup Lookup with access to the field
+	 * @param type   The class declaring or inheriting the field
+	 * @param name   The name of the field
+	 * @param <T>    Type whose instances can be compared using the getter
+	 * @return The getter
+	 * @throws IllegalArgumentException If the field does not exist or is inaccessible
+	 */
+	public static <T> LongGetter<T> ofLong(Lookup lookup, Class<T> type, String name) {
+		return MemberGetters.ofLong(lookup, type, findGetter(lookup, type, name, long.class));
+	}
+
+	/**
+	 * Creates a getter reading the given double field.
+	 *
+	 * @param type The class declaring or inheriting the field
+	 * @param name The name of the field
+	 * @param <T>  Type whose instances can be compared using the getter
+	 * @return The getter
+	 * @throws IllegalArgumentException If the field does not exist or is inaccessible
+	 */
+	public static <T> DoubleGetter<T> ofDouble(Class<T> type, String name) {
+		return ofDouble(MethodHandles.publicLookup(), type, name);
+	}
+
+	/**
+	 * Creates a getter reading the given double field.
+	 *
+	 * @param lookup Lookup with access to the field
+	 * @param type   The class declaring or inheriting the field
+	 * @param name   The name of the field
+	 * @param <T>    Type whose instances can be compared using the getter
+	 * @return The getter
+	 * @throws IllegalArgumentException If the field does not exist or is inaccessible
+	 */
+	public static <T> DoubleGetter<T> ofDouble(Lookup lookup, Class<T> type, String name) {
+		return MemberGetters.ofDouble(lookup, type, findGetter(lookup, type, name, double.class));
+	}
+
+	/**
+	 * Creates a getter reading the given float field.
+	 *
+	 * @param type The class declaring or inheriting the field
+	 * @param name The name of the field
+	 * @param <T>  Type whose instances can be compared using the getter
+	 * @return The getter
+	 * @throws IllegalArgumentException If the field does not exist or is inaccessible
+	 */
+	public static <T> FloatGetter<T> ofFloat(Class<T> type, String name) {
+		return ofFloat(MethodHandles.publicLookup(), type, name);
+	}
+
+	/**
+	 * Creates a getter reading the given float field.
+	 *
+	 * @param lookup Lookup with access to the field
+	 * @param type   The class declaring or inheriting the field
+	 * @param name   The name of the field
+	 * @param <T>    Type whose instances can be compared using the getter
+	 * @return The getter
+	 * @throws IllegalArgumentException If the field does not exist or is inaccessible
+	 */
+	public static <T> FloatGetter<T> ofFloat(Lookup lookup, Class<T> type, String name) {
+		return MemberGetters.ofFloat(lookup, type, findGetter(lookup, type, name, float.class));
+	}
+
+	/**
+	 * Creates a getter reading the given boolean field.
+	 *
+	 * @param type The class declaring or inheriting the field
+	 * @param name The name of the field
+	 * @param <T>  Type whose instances can be compared using the getter
+	 * @return The getter
+	 * @throws IllegalArgumentException If the field does not exist or is inaccessible
+	 */
+	public static <T> BooleanGetter<T> ofBoolean(Class<T> type, String name) {
+		return ofBoolean(MethodHandles.publicLookup(), type, name);
+	}
+
+	/**
+	 * Creates a getter reading the given boolean field.
+	 *
+	 * @param lookup Lookup with access to the field
+	 * @param type   The class declaring or inheriting the field
+	 * @param name   The name of the field
+	 * @param <T>    Type whose instances can be compared using the getter
+	 * @return The getter
+	 * @throws IllegalArgumentException If the field does not exist or is inaccessible
+	 */
+	public static <T> BooleanGetter<T> ofBoolean(Lookup lookup, Class<T> type, String name) {
+		return MemberGetters.ofBoolean(lookup, type, findGetter(lookup, type, name, boolean.class));
+	}
+
+	/**
+	 * Creates a getter reading the given byte field.
+	 *
+	 * @param type The class declaring or inheriting the field
+	 * @param name The name of the field
+	 * @param <T>  Type whose instances can be compared using the getter
+	 * @return The getter
+	 * @throws IllegalArgumentException If the field does not exist or is inaccessible
+	 */
+	public static <T> ByteGetter<T> ofByte(Class<T> type, String name) {
+		return ofByte(MethodHandles.publicLookup(), type, name);
+	}
+
+	/**
+	 * Creates a getter reading the given byte field.
+	 *
+	 * @param lookup Lookup with access to the field
+	 * @param type   The class declaring or inheriting the field
+	 * @param name   The name of the field
+	 * @param <T>    Type whose instances can be compared using the getter
+	 * @return The getter
+	 * @throws IllegalArgumentException If the field does not exist or is inaccessible
+	 */
+	public static <T> ByteGetter<T> ofByte(Lookup lookup, Class<T> type, String name) {
+		return MemberGetters.ofByte(lookup, type, findGetter(lookup, type, name, byte.class));
+	}
+
+	/**
+	 * Creates a getter reading the given short field.
+	 *
+	 * @param type The class declaring or inheriting the field
+	 * @param name The name of the field
+	 * @param <T>  Type whose instances can be compared using the getter
+	 * @return The getter
+	 * @throws IllegalArgumentException If the field does not exist or is inaccessible
+	 */
+	public static <T> ShortGetter<T> ofShort(Class<T> type, String name) {
+		return ofShort(MethodHandles.publicLookup(), type, name);
+	}
+
+	/**
+	 * Creates a getter reading the given short field.
+	 *
+	 * @param lookup Lookup with access to the field
+	 * @param type   The class declaring or inheriting the field
+	 * @param name   The name of the field
+	 * @param <T>    Type whose instances can be compared using the getter
+	 * @return The getter
+	 * @throws IllegalArgumentException If the field does not exist or is inaccessible
+	 */
+	public static <T> ShortGetter<T> ofShort(Lookup lookup, Class<T> type, String name) {
+		return MemberGetters.ofShort(lookup, type, findGetter(lookup, type, name, short.class));
+	}
+
+	/**
+	 * Creates a getter reading the given char field.
+	 *
+	 * @param type The class declaring or inheriting the field
+	 * @param name The name of the field
+	 * @param <T>  Type whose instances can be compared using the getter
+	 * @return The getter
+	 * @throws IllegalArgumentException If the field does not exist or is inaccessible
+	 */
+	public static <T> CharGetter<T> ofChar(Class<T> type, String name) {
+		return ofChar(MethodHandles.publicLookup(), type, name);
+	}
+
+	/**
+	 * Creates a getter reading the given char field.
+	 *
+	 * @param lookup Lookup with access to the field
+	 * @param type   The class declaring or inheriting the field
+	 * @param name   The name of the field
+	 * @param <T>    Type whose instances can be compared using the getter
+	 * @return The getter
+	 * @throws IllegalArgumentException If the field does not exist or is inaccessible
+	 */
+	public static <T> CharGetter<T> ofChar(Lookup lookup, Class<T> type, String name) {
+		return MemberGetters.ofChar(lookup, type, findGetter(lookup, type, name, char.class));
+	}
+
+	/**
+	 * Creates a getter reading the given {@link Comparable} field.
+	 *
+	 * @param type      The class declaring or inheriting the field
+	 * @param name      The name of the field
+	 * @param valueType The declared type of the field
+	 * @param <T>       Type whose instances can be compared using the getter
+	 * @param <R>       Type of the criterion
+	 * @return The getter
+	 * @throws IllegalArgumentException If the field does not exist or is inaccessible
+	 */
+	public static <T, R extends Comparable<? super R>> ComparableGetter<T, R> ofComparable(Class<T> type, String name, Class<R> valueType) {
+		return ofComparable(MethodHandles.publicLookup(), type, name, valueType);
+	}
+
+	/**
+	 * Creates a getter reading the given {@link Comparable} field.
+	 *
+	 * @param lookup    Lookup with access to the field
+	 * @param type      The class declaring or inheriting the field
+	 * @param name      The name of the field
+	 * @param valueType The declared type of the field
+	 * @param <T>       Type whose instances can be compared using the getter
+	 * @param <R>       Type of the criterion
+	 * @return The getter
+	 * @throws IllegalArgumentException If the field does not exist or is inaccessible
+	 */
+	public static <T, R extends Comparable<? super R>> ComparableGetter<T, R> ofComparable(
+			Lookup lookup, Class<T> type, String name, Class<R> valueType) {
+		return MemberGetters.ofComparable(lookup, type, findGetter(lookup, type, name, valueType), valueType);
+	}
+
+	/**
+	 * Creates a getter reading the given field, using {@link Object#equals(Object)} and {@link Object#hashCode()}.
+	 *
+	 * @param type      The class declaring or inheriting the field
+	 * @param name      The name of the field
+	 * @param valueType The declared type of the field
+	 * @param <T>       Type whose instances can be compared using the getter
+	 * @param <R>       Type of the criterion
+	 * @return The getter
+	 * @throws IllegalArgumentException If the field does not exist or is inaccessible
+	 */
+	public static <T, R> GenericGetter<T, R> ofObject(Class<T> type, String name, Class<R> valueType) {
+		return ofObject(MethodHandles.publicLookup(), type, name, valueType);
+	}
+
+	/**
+	 * Creates a getter reading the given field, using {@link Object#equals(Object)} and {@link Object#hashCode()}.
+	 *
+	 * @param lookup    Lookup with access to the field
+	 * @param type      The class declaring or inheriting the field
+	 * @param name      The name of the field
+	 * @param valueType The declared type of the field
+	 * @param <T>       Type whose instances can be compared using the getter
+	 * @param <R>       Type of the criterion
+	 * @return The getter
+	 * @throws IllegalArgumentException If the field does not exist or is inaccessible
+	 */
+	public static <T, R> GenericGetter<T, R> ofObject(Lookup lookup, Class<T> type, String name, Class<R> valueType) {
+		return MemberGetters.ofObject(lookup, type, findGetter(lookup, type, name, valueType), valueType);
+	}
+
+	private static MethodHandle findGetter(Lookup lookup, Class<?> type, String name, Class<?> fieldType) {
+		Objects.requireNonNull(lookup);
+		Objects.requireNonNull(type);
+		Objects.requireNonNull(name);
+		Objects.requireNonNull(fieldType);
+
+		try {
+			return lookup.findGetter(type, name, fieldType);
+		} catch (NoSuchFieldException | IllegalAccessException e) {
+			throw new IllegalArgumentException("Cannot access field " + name + " of " + type, e);
+		}
+	}
+
+	private FieldGetter() {
+		throw new AssertionError("No instances");
+	}
+
+}
@@ -0,0 +1,34 @@
+package io.github.jdcmp.api.getter.member;
+
+import io.github.jdcmp.api.documentation.ThreadSafe;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+
+/**
+ * <p>Getter reading a field or calling an accessor method. Instances are created via {@link FieldGetter} or
+ * {@link MethodGetter}.</p>
+ *
+ * <p>Implementations may read the member directly instead of calling the getter, e.g. by generating a field access.</p>
+ */
+@ThreadSafe
+public interface MemberCriterion {
+
+	/**
+	 * Returns the non-static member read by the getter.
+	 *
+	 * @return Either a {@link Field} or a {@link Method} without parameters
+	 */
+	Member getMember();
+
+	/**
+	 * Returns a handle reading the member. Its type is <code>(Object)R</code>, with <code>R</code> being the primitive type for
+	 * primitive getters and {@link Object} otherwise.
+	 *
+	 * @return The handle
+	 */
+	MethodHandle getHandle();
+
+}
@@ -0,0 +1,325 @@
+package io.github.jdcmp.api.getter.member;
+
+import io.github.jdcmp.api.documentation.ThreadSafe;
+import io.github.jdcmp.api.getter.object.ComparableGetter;
+import io.github.jdcmp.api.getter.object.GenericGetter;
+import io.github.jdcmp.api.getter.primitive.BooleanGetter;
+import io.github.jdcmp.api.getter.primitive.ByteGetter;
+import io.github.jdcmp.api.getter.primitive.CharGetter;
+import io.github.jdcmp.api.getter.primitive.DoubleGetter;
+import io.github.jdcmp.api.getter.primitive.FloatGetter;
+import io.github.jdcmp.api.getter.primitive.IntGetter;
+import io.github.jdcmp.api.getter.primitive.LongGetter;
+import io.github.jdcmp.api.getter.primitive.ShortGetter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandleInfo;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Member;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Objects;
+
+@ThreadSafe
+final class MemberGetters {
+
+	static <T> IntGetter<T> ofInt(Lookup lookup, Class<T> type, MethodHandle handle) {
+		return new IntMemberGetter<>(lookup, type, handle);
+	}
+
+	static <T> LongGetter<T> ofLong(Lookup lookup, Class<T> type, MethodHandle handle) {
+		return new LongMemberGetter<>(lookup, type, handle);
+	}
+
+	static <T> DoubleGetter<T> ofDouble(Lookup lookup, Class<T> type, MethodHandle handle) {
+		return new DoubleMemberGetter<>(lookup, type, handle);
+	}
+
+	static <T> FloatGetter<T> ofFloat(Lookup lookup, Class<T> type, MethodHandle handle) {
+		return new FloatMemberGetter<>(lookup, type, handle);
+	}
+
+	static <T> BooleanGetter<T> ofBoolean(Lookup lookup, Class<T> type, MethodHandle handle) {
+		return new BooleanMemberGetter<>(lookup, type, handle);
+	}
+
+	static <T> ByteGetter<T> ofByte(Lookup lookup, Class<T> type, MethodHandle handle) {
+		return new ByteMemberGetter<>(lookup, type, handle);
+	}
+
+	static <T> ShortGetter<T> ofShort(Lookup lookup, Class<T> type, MethodHandle handle) {
+		return new ShortMemberGetter<>(lookup, type, handle);
+	}
+
+	static <T> CharGetter<T> ofChar(Lookup lookup, Class<T> type, MethodHandle handle) {
+		return new CharMemberGetter<>(lookup, type, handle);
+	}
+
+	static <T, R extends Comparable<? super R>> ComparableGetter<T, R> ofComparable(
+			Lookup lookup, Class<T> type, MethodHandle handle, Class<R> valueType) {
+		return new ComparableMemberGetter<>(lookup, type, handle, valueType);
+	}
+
+	static <T, R> GenericGetter<T, R> ofObject(Lookup lookup, Class<T> type, MethodHandle handle, Class<R> valueType) {
+		return new GenericMemberGetter<>(lookup, type, handle, valueType);
+	}
+
+	static RuntimeException rethrow(Throwable t) {
+		if (t instanceof RuntimeException) {
+			throw (RuntimeException) t;
+		} else if (t instanceof Error) {
+			throw (Error) t;
+		}
+
+		throw new UndeclaredThrowableException(t);
+	}
+
+	@ThreadSafe
+	private static abstract class AbstractMemberGetter implements MemberCriterion {
+
+		private final Member member;
+
+		protected final MethodHandle handle;
+
+		protected AbstractMemberGetter(Lookup lookup, Class<?> type, MethodHandle handle, Class<?> valueType, Class<?> erasedType) {
+			Objects.requireNonNull(lookup);
+			Objects.requireNonNull(type);
+			Objects.requireNonNull(handle);
+			this.member = verify(lookup, type, handle, valueType);
+			this.handle = handle.asType(MethodType.methodType(erasedType, Object.class));
+		}
+
+		private static Member verify(Lookup lookup, Class<?> type, MethodHandle handle, Class<?> valueType) {
+			MethodType methodType = handle.type();
+
+			if (methodType.parameterCount() != 1 || !methodType.parameterType(0).isAssignableFrom(type)) {
+				throw new IllegalArgumentException("Handle does not accept a single " + type + ": " + handle);
+			} else if (valueType.isPrimitive() ? methodType.returnType() != valueType : !valueType.isAssignableFrom(methodType.returnType())) {
+				throw new IllegalArgumentException("Handle does not return " + valueType + ": " + handle);
+			}
+
+			MethodHandleInfo info = lookup.revealDirect(handle);
+			int kind = info.getReferenceKind();
+			if (kind != MethodHandleInfo.REF_getField && kind != MethodHandleInfo.REF_invokeVirtual
+					&& kind != MethodHandleInfo.REF_invokeInterface) {
+				throw new IllegalArgumentException("Handle must read a non-static field or call a non-static method: " + info);
+			}
+
+			Member member = info.reflectAs(Member.class, lookup);
+			if (Modifier.isStatic(member.getModifiers())) {
+				throw new IllegalArgumentException("Member must not be static: " + member);
+			}
+
+			return member;
+		}
+
+		@Override
+		public final Member getMember() {
+			return member;
+		}
+
+		@Override
+		public final MethodHandle getHandle() {
+			return handle;
+		}
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + "[" + member + "]";
+		}
+
+	}
+
+	@ThreadSafe
+	private static final class IntMemberGetter<T> extends AbstractMemberGetter implements IntGetter<T> {
+
+		IntMemberGetter(Lookup lookup, Class<T> type, MethodHandle handle) {
+			super(lookup, type, handle, int.class, int.class);
+		}
+
+		@Override
+		public int applyAsInt(T object) {
+			try {
+				return (int) handle.invokeExact((Object) object);
+			} catch (Throwable t) {
+				throw rethrow(t);
+			}
+		}
+
+	}
+
+	@ThreadSafe
+	private static final class LongMemberGetter<T> extends AbstractMemberGetter implements LongGetter<T> {
+
+		LongMemberGetter(Lookup lookup, Class<T> type, MethodHandle handle) {
+			super(lookup, type, handle, long.class, long.class);
+		}
+
+		@Override
+		public long applyAsLong(T object) {
+			try {
+				return (long) handle.invokeExact((Object) object);
+			} catch (Throwable t) {
+				throw rethrow(t);
+			}
+		}
+
+	}
+
+	@ThreadSafe
+	private static final class DoubleMemberGetter<T> extends AbstractMemberGetter implements DoubleGetter<T> {
+
+		DoubleMemberGetter(Lookup lookup, Class<T> type, MethodHandle handle) {
+			super(lookup, type, handle, double.class, double.class);
+		}
+
+		@Override
+		public double applyAsDouble(T object) {
+			try {
+				return (double) handle.invokeExact((Object) object);
+			} catch (Throwable t) {
+				throw rethrow(t);
+			}
+		}
+
+	}
+
+	@ThreadSafe
+	private static final class FloatMemberGetter<T> extends AbstractMemberGetter implements FloatGetter<T> {
+
+		FloatMemberGetter(Lookup lookup, Class<T> type, MethodHandle handle) {
+			super(lookup, type, handle, float.class, float.class);
+		}
+
+		@Override
+		public float get(T object) {
+			try {
+				return (float) handle.invokeExact((Object) object);
+			} catch (Throwable t) {
+				throw rethrow(t);
+			}
+		}
+
+	}
+
+	@ThreadSafe
+	private static final class BooleanMemberGetter<T> extends AbstractMemberGetter implements BooleanGetter<T> {
+
+		BooleanMemberGetter(Lookup lookup, Class<T> type, MethodHandle handle) {
+			super(lookup, type, handle, boolean.class, boolean.class);
+		}
+
+		@Override
+		public boolean test(T object) {
+			try {
+				return (boolean) handle.invokeExact((Object) object);
+			} catch (Throwable t) {
+				throw rethrow(t);
+			}
+		}
+
+	}
+
+	@ThreadSafe
+	private static final class ByteMemberGetter<T> extends AbstractMemberGetter implements ByteGetter<T> {
+
+		ByteMemberGetter(Lookup lookup, Class<T> type, MethodHandle handle) {
+			super(lookup, type, handle, byte.class, byte.class);
+		}
+
+		@Override
+		public byte get(T object) {
+			try {
+				return (byte) handle.invokeExact((Object) object);
+			} catch (Throwable t) {
+				throw rethrow(t);
+			}
+		}
+
+	}
+
+	@ThreadSafe
+	private static final class ShortMemberGetter<T> extends AbstractMemberGetter implements ShortGetter<T> {
+
+		ShortMemberGetter(Lookup lookup, Class<T> type, MethodHandle handle) {
+			super(lookup, type, handle, short.class, short.class);
+		}
+
+		@Override
+		public short get(T object) {
+			try {
+				return (short) handle.invokeExact((Object) object);
+			} catch (Throwable t) {
+				throw rethrow(t);
+			}
+		}
+
+	}
+
+	@ThreadSafe
+	private static final class CharMemberGetter<T> extends AbstractMemberGetter implements CharGetter<T> {
+
+		CharMemberGetter(Lookup lookup, Class<T> type, MethodHandle handle) {
+			super(lookup, type, handle, char.class, char.class);
+		}
+
+		@Override
+		public char get(T object) {
+			try {
+				return (char) handle.invokeExact((Object) object);
+			} catch (Throwable t) {
+				throw rethrow(t);
+			}
+		}
+
+	}
+
+	@ThreadSafe
+	private static final class ComparableMemberGetter<T, R extends Comparable<? super R>> extends AbstractMemberGetter
+			implements ComparableGetter<T, R> {
+
+		private final Class<R> valueType;
+
+		ComparableMemberGetter(Lookup lookup, Class<T> type, MethodHandle handle, Class<R> valueType) {
+			super(lookup, type, handle, valueType, Object.class);
+			this.valueType = valueType;
+		}
+
+		@Override
+		public R apply(T object) {
+			try {
+				return valueType.cast((Object) handle.invokeExact((Object) object));
+			} catch (Throwable t) {
+				throw rethrow(t);
+			}
+		}
+
+	}
+
+	@ThreadSafe
+	private static final class GenericMemberGetter<T, R> extends AbstractMemberGetter implements GenericGetter<T, R> {
+
+		private final Class<R> valueType;
+
+		GenericMemberGetter(Lookup lookup, Class<T> type, MethodHandle handle, Class<R> valueType) {
+			super(lookup, type, handle, valueType, Object.class);
+			this.valueType = valueType;
+		}
+
+		@Override
+		public R apply(T object) {
+			try {
+				return valueType.cast((Object) handle.invokeExact((Object) object));
+			} catch (Throwable t) {
+				throw rethrow(t);
+			}
+		}
+
+	}
+
+	private MemberGetters() {
+		throw new AssertionError("No instances");
+	}
+
+}
@@ -0,0 +1,339 @@
+package io.github.jdcmp.api.getter.member;
+
+import io.github.jdcmp.api.documentation.ThreadSafe;
+import io.github.jdcmp.api.getter.object.ComparableGetter;
+import io.github.jdcmp.api.getter.object.GenericGetter;
+import io.github.jdcmp.api.getter.primitive.BooleanGetter;
+import io.github.jdcmp.api.getter.primitive.ByteGetter;
+import io.github.jdcmp.api.getter.primitive.CharGetter;
+import io.github.jdcmp.api.getter.primitive.DoubleGetter;
+import io.github.jdcmp.api.getter.primitive.FloatGetter;
+import io.github.jdcmp.api.getter.primitive.IntGetter;
+import io.github.jdcmp.api.getter.primitive.LongGetter;
+import io.github.jdcmp.api.getter.primitive.ShortGetter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.util.Objects;
+
+/**
+ * <p>Creates getters calling a non-static accessor method without parameters. The getters implement
+ * {@link MemberCriterion}.</p>
+ *
+ * <p>Example: <code>MethodGetter.ofInt(MethodHandles.lookup(), Person.class, "getAge")</code></p>
+ *
+ * <p>Instead of a method name, a direct {@link MethodHandle} may be given. The handle must read a non-static field or call a
+ * non-static method, and the lookup must be able to reveal it (see {@link Lookup#revealDirect(MethodHandle)}).</p>
+ */
+@ThreadSafe
+public final class MethodGetter {
+
+	/**
+	 * Creates a getter calling the given method returning a int.
+	 *
+	 * @param lookup Lookup with access to the method
+	 * @param type   The class declaring or inheriting the method
+	 * @param name   The name of the method
+	 * @param <T>    Type whose instances can be compared using the getter
+	 * @return The getter
+	 * @throws IllegalArgumentException If the method does not exist or is inaccessible
+	 */
+	public static <T> IntGetter<T> ofInt(Lookup lookup, Class<T> type, String name) {
+		return ofInt(lookup, type, findVirtual(lookup, type, name, int.class));
+	}
+
+	/**
+	 * Creates a getter from the given handle returning a int.
+	 *
+	 * @param lookup Lookup able to reveal the handle
+	 * @param type   The class accepted by the handle
+	 * @param handle Direct handle reading a field or calling a method
+	 * @param <T>    Type whose instances can be compared using the getter
+	 * @return The getter
+	 * @throws IllegalArgumentException If the handle is not a direct handle of a suitable type
+	 */
+	public static <T> IntGetter<T> ofInt(Lookup lookup, Class<T> type, MethodHandle handle) {
+		return MemberGetters.ofInt(lookup, type, handle);
+	}
+
+	/**
+	 * Creates a getter calling the given method returning a long.
+	 *
+	 * @param lookup Lookup with access to the method
+	 * @param type   The class declaring or inheriting the method
+	 * @param name   The name of the method
+	 * @param <T>    Type whose instances can be compared using the getter
+	 * @return The getter
+	 * @throws IllegalArgumentException If the method does not exist or is inaccessible
+	 */
+	public static <T> LongGetter<T> ofLong(Lookup lookup, Class<T> type, String name) {
+		return ofLong(lookup, type, findVirtual(lookup, type, name, long.class));
+	}
+
+	/**
+	 * Creates a getter from the given handle returning a long.
+	 *
+	 * @param lookup Lookup able to reveal the handle
+	 * @param type   The class accepted by the handle
+	 * @param handle Direct handle reading a field or calling a method
+	 * @param <T>    Type whose instances can be compared using the getter
+	 * @return The getter
+	 * @throws IllegalArgumentException If the handle is not a direct handle of a suitable type
+	 */
+	public static <T> LongGetter<T> ofLong(Lookup lookup, Class<T> type, MethodHandle handle) {
+		return MemberGetters.ofLong(lookup, type, handle);
+	}
+
+	/**
+	 * Creates a getter calling the given method returning a double.
+	 *
+	 * @param lookup Lookup with access to the method
+	 * @param type   The class declaring or inheriting the method
+	 * @param name   The name of the method
+	 * @param <T>    Type whose instances can be compared using the getter
+	 * @return The getter
+	 * @throws IllegalArgumentException If the method does not exist or is inaccessible
+	 */
+	public static <T> DoubleGetter<T> ofDouble(Lookup lookup, Class<T> type, String name) {
+		return ofDouble(lookup, type, findVirtual(lookup, type, name, double.class));
+	}
+
+	/**
+	 * Creates a getter from the given handle returning a double.
+	 *
+	 * @param lookup Lookup able to reveal the handle
+	 * @param type   The class accepted by the handle
+	 * @param handle Direct handle reading a field or calling a method
+	 * @param <T>    Type whose instances can be compared using the getter
+	 * @return The getter
+	 * @throws IllegalArgumentException If the handle is not a direct handle of a suitable type
+	 */
+	public static <T> DoubleGetter<T> ofDouble(Lookup lookup, Class<T> type, MethodHandle handle) {
+		return MemberGetters.ofDouble(lookup, type, handle);
+	}
+
+	/**
+	 * Creates a getter calling the given method returning a float.
+	 *
+	 * @param lookup Lookup with access to the method
+	 * @param type   The class declaring or inheriting the method
+	 * @param name   The name of the method
+	 * @param <T>    Type whose instances can be compared using the getter
+	 * @return The getter
+	 * @throws IllegalArgumentException If the method does not exist or is inaccessible
+	 */
+	public static <T> FloatGetter<T> ofFloat(Lookup lookup, Class<T> type, String name) {
+		return ofFloat(lookup, type, findVirtual(lookup, type, name, float.class));
+	}
+
+	/**
+	 * Creates a getter from the given handle returning a float.
+	 *
+	 * @param lookup Lookup able to reveal the handle
+	 * @param type   The class accepted by the handle
+	 * @param handle Direct handle reading a field or calling a method
+	 * @param <T>    Type whose instances can be compared using the getter
+	 * @return The getter
+	 * @throws IllegalArgumentException If the handle is not a direct handle of a suitable type
+	 */
+	public static <T> FloatGetter<T> ofFloat(Lookup lookup, Class<T> type, MethodHandle handle) {
+		return MemberGetters.ofFloat(lookup, type, handle);
+	}
+
+	/**
+	 * Creates a getter calling the given method returning a boolean.
+	 *
+	 * @param lookup Lookup with access to the method
+	 * @param type   The class declaring or inheriting the method
+	 * @param name   The name of the method
+	 * @param <T>    Type whose instances can be compared using the getter
+	 * @return The getter
+	 * @throws IllegalArgumentException If the method does not exist or is inaccessible
+	 */
+	public static <T> BooleanGetter<T> ofBoolean(Lookup lookup, Class<T> type, String name) {
+		return ofBoolean(lookup, type, findVirtual(lookup, type, name, boolean.class));
+	}
+
+	/**
+	 * Creates a getter from the given handle returning a boolean.
+	 *
+	 * @param lookup Lookup able to reveal the handle
+	 * @param type   The class accepted by the handle
+	 * @param handle Direct handle reading a field or calling a method
+	 * @param <T>    Type whose instances can be compared using the getter
+	 * @return The getter
+	 * @throws IllegalArgumentException If the handle is not a direct handle of a suitable type
+	 */
+	public static <T> BooleanGetter<T> ofBoolean(Lookup lookup, Class<T> type, MethodHandle handle) {
+		return MemberGetters.ofBoolean(lookup, type, handle);
+	}
+
+	/**
+	 * Creates a getter calling the given method returning a byte.
+	 *
+	 * @param lookup Lookup with access to the method
+	 * @param type   The class declaring or inheriting the method
+	 * @param name   The name of the method
+	 * @param <T>    Type whose instances can be compared using the getter
+	 * @return The getter
+	 * @throws IllegalArgumentException If the method does not exist or is inaccessible
+	 */
+	public static <T> ByteGetter<T> ofByte(Lookup lookup, Class<T> type, String name) {
+		return ofByte(lookup, type, findVirtual(lookup, type, name, byte.class));
+	}
+
+	/**
+	 * Creates a getter from the given handle returning a byte.
+	 *
+	 * @param lookup Lookup able to reveal the handle
+	 * @param type   The class accepted by the handle
+	 * @param handle Direct handle reading a field or calling a method
+	 * @param <T>    Type whose instances can be compared using the getter
+	 * @return The getter
+	 * @throws IllegalArgumentException If the handle is not a direct handle of a suitable type
+	 */
+	public static <T> ByteGetter<T> ofByte(Lookup lookup, Class<T> type, MethodHandle handle) {
+		return MemberGetters.ofByte(lookup, type, handle);
+	}
+
+	/**
+	 * Creates a getter calling the given method returning a short.
+	 *
+	 * @param lookup Lookup with access to the method
+	 * @param type   The class declaring or inheriting the method
+	 * @param name   The name of the method
+	 * @param <T>    Type whose instances can be compared using the getter
+	 * @return The getter
+	 * @throws IllegalArgumentException If the method does not exist or is inaccessible
+	 */
+	public static <T> ShortGetter<T> ofShort(Lookup lookup, Class<T> type, String name) {
+		return ofShort(lookup, type, findVirtual(lookup, type, name, short.class));
+	}
+
+	/**
+	 * Creates a getter from the given handle returning a short.
+	 *
+	 * @param lookup Lookup able to reveal the handle
+	 * @param type   The class accepted by the handle
+	 * @param handle Direct handle reading a field or calling a method
+	 * @param <T>    Type whose instances can be compared using the getter
+	 * @return The getter
+	 * @throws IllegalArgumentException If the handle is not a direct handle of a suitable type
+	 */
+	public static <T> ShortGetter<T> ofShort(Lookup lookup, Class<T> type, MethodHandle handle) {
+		return MemberGetters.ofShort(lookup, type, handle);
+	}
+
+	/**
+	 * Creates a getter calling the given method returning a char.
+	 *
+	 * @param lookup Lookup with access to the method
+	 * @param type   The class declaring or inheriting the method
+	 * @param name   The name of the method
+	 * @param <T>    Type whose instances can be compared using the getter
+	 * @return The getter
+	 * @throws IllegalArgumentException If the method does not exist or is inaccessible
+	 */
+	public static <T> CharGetter<T> ofChar(Lookup lookup, Class<T> type, String name) {
+		return ofChar(lookup, type, findVirtual(lookup, type, name, char.class));
+	}
+
+	/**
+	 * Creates a getter from the given handle returning a char.
+	 *
+	 * @param lookup Lookup able to reveal the handle
+	 * @param type   The class accepted by the handle
+	 * @param handle Direct handle reading a field or calling a method
+	 * @param <T>    Type whose instances can be compared using the getter
+	 * @return The getter
+	 * @throws IllegalArgumentException If the handle is not a direct handle of a suitable type
+	 */
+	public static <T> CharGetter<T> ofChar(Lookup lookup, Class<T> type, MethodHandle handle) {
+		return MemberGetters.ofChar(lookup, type, handle);
+	}
+
+	/**
+	 * Creates a getter calling the given method returning a {@link Comparable}.
+	 *
+	 * @param lookup    Lookup with access to the method
+	 * @param type      The class declaring or inheriting the method
+	 * @param name      The name of the method
+	 * @param valueType The declared return type of the method
+	 * @param <T>       Type whose instances can be compared using the getter
+	 * @param <R>       Type of the criterion
+	 * @return The getter
+	 * @throws IllegalArgumentException If the method does not exist or is inaccessible
+	 */
+	public static <T, R extends Comparable<? super R>> ComparableGetter<T, R> ofComparable(
+			Lookup lookup, Class<T> type, String name, Class<R> valueType) {
+		return ofComparable(lookup, type, findVirtual(lookup, type, name, valueType), valueType);
+	}
+
+	/**
+	 * Creates a getter from the given handle returning a {@link Comparable}.
+	 *
+	 * @param lookup    Lookup able to reveal the handle
+	 * @param type      The class accepted by the handle
+	 * @param handle    Direct handle reading a field or calling a method
+	 * @param valueType Type returned by the handle
+	 * @param <T>       Type whose instances can be compared using the getter
+	 * @param <R>       Type of the criterion
+	 * @return The getter
+	 * @throws IllegalArgumentException If the handle is not a direct handle of a suitable type
+	 */
+	public static <T, R extends Comparable<? super R>> ComparableGetter<T, R> ofComparable(
+			Lookup lookup, Class<T> type, MethodHandle handle, Class<R> valueType) {
+		return MemberGetters.ofComparable(lookup, type, handle, valueType);
+	}
+
+	/**
+	 * Creates a getter calling the given method, using {@link Object#equals(Object)} and {@link Object#hashCode()}.
+	 *
+	 * @param lookup    Lookup with access to the method
+	 * @param type      The class declaring or inheriting the method
+	 * @param name      The name of the method
+	 * @param valueType The declared return type of the method
+	 * @param <T>       Type whose instances can be compared using the getter
+	 * @param <R>       Type of the criterion
+	 * @return The getter
+	 * @throws IllegalArgumentException If the method does not exist or is inaccessible
+	 */
+	public static <T, R> GenericGetter<T, R> ofObject(Lookup lookup, Class<T> type, String name, Class<R> valueType) {
+		return ofObject(lookup, type, findVirtual(lookup, type, name, valueType), valueType);
+	}
+
+	/**
+	 * Creates a getter from the given handle, using {@link Object#equals(Object)} and {@link Object#hashCode()}.
+	 *
+	 * @param lookup    Lookup able to reveal the handle
+	 * @param type      The class accepted by the handle
+	 * @param handle    Direct handle reading a field or calling a method
+	 * @param valueType Type returned by the handle
+	 * @param <T>       Type whose instances can be compared using the getter
+	 * @param <R>       Type of the criterion
+	 * @return The getter
+	 * @throws IllegalArgumentException If the handle is not a direct handle of a suitable type
+	 */
+	public static <T, R> GenericGetter<T, R> ofObject(Lookup lookup, Class<T> type, MethodHandle handle, Class<R> valueType) {
+		return MemberGetters.ofObject(lookup, type, handle, valueType);
+	}
+
+	private static MethodHandle findVirtual(Lookup lookup, Class<?> type, String name, Class<?> returnType) {
+		Objects.requireNonNull(lookup);
+		Objects.requireNonNull(type);
+		Objects.requireNonNull(name);
+		Objects.requireNonNull(returnType);
+
+		try {
+			return lookup.findVirtual(type, name, MethodType.methodType(returnType));
+		} catch (NoSuchMethodException | IllegalAccessException e) {
+			throw new IllegalArgumentException("Cannot access method " + name + " of " + type, e);
+		}
+	}
+
+	private MethodGetter() {
+		throw new AssertionError("No instances");
+	}
+
+}
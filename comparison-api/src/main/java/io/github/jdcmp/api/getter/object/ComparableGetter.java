@@ -1,8 +1,8 @@
 package io.github.jdcmp.api.getter.object;
 
+import io.github.jdcmp.api.comparator.ordering.NullHandling;
 import io.github.jdcmp.api.getter.OrderingCriterion;
 
-import java.util.Comparator;
 import java.util.Objects;
 
 /**
@@ -53,7 +53,7 @@ public interface ComparableGetter<T, R extends Comparable<? super R>> extends Or
 	 * @return The getter
 	 */
 	static <T, R extends Comparable<? super R>> OrderingCriterion<T> nullsFirst(ComparableGetter<T, R> getter) {
-		return new ComparatorGetter<>(getter, Comparator.nullsFirst(Comparator.naturalOrder()));
+		return new NullSafeComparableGetter<>(getter, NullHandling.NULLS_FIRST);
 	}
 
 	/**
@@ -67,7 +67,7 @@ public interface ComparableGetter<T, R extends Comparable<? super R>> extends Or
 	 * @return The getter
 	 */
 	static <T, R extends Comparable<? super R>> OrderingCriterion<T> nullsLast(ComparableGetter<T, R> getter) {
-		return new ComparatorGetter<>(getter, Comparator.nullsLast(Comparator.naturalOrder()));
+		return new NullSafeComparableGetter<>(getter, NullHandling.NULLS_LAST);
 	}
 
 }
@@ -0,0 +1,33 @@
+package io.github.jdcmp.api.getter.object;
+
+import io.github.jdcmp.api.comparator.ordering.OrderingComparator;
+
+import java.util.Objects;
+
+final class NestedComparatorGetter<T, R> implements NestedGetter<T, R> {
+
+	private final GenericGetter<? super T, ? extends R> getter;
+
+	private final OrderingComparator<? super R> comparator;
+
+	NestedComparatorGetter(GenericGetter<? super T, ? extends R> getter, OrderingComparator<? super R> comparator) {
+		this.getter = Objects.requireNonNull(getter);
+		this.comparator = Objects.requireNonNull(comparator);
+	}
+
+	@Override
+	public GenericGetter<? super T, ? extends R> getGetter() {
+		return getter;
+	}
+
+	@Override
+	public OrderingComparator<? super R> getComparator() {
+		return comparator;
+	}
+
+	@Override
+	public String toString() {
+		return "NestedGetter[" + getter + ", " + comparator + "]";
+	}
+
+}
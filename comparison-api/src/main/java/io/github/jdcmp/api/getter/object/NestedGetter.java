@@ -0,0 +1,67 @@
+package io.github.jdcmp.api.getter.object;
+
+import io.github.jdcmp.api.comparator.ordering.OrderingComparator;
+import io.github.jdcmp.api.getter.OrderingCriterion;
+
+/**
+ * <p>Criterion that compares a nested object, e.g. the address of an order, using another comparator. Hash codes, equality,
+ * ordering and the handling of nulls are those of the other comparator. Instances are usually obtained via
+ * {@link #of(GenericGetter, OrderingComparator)}.</p>
+ *
+ * <p>Implementations may recognize this criterion and generate equivalent code instead of calling the default methods, e.g.
+ * by inlining the criteria of a comparator created by the same implementation.</p>
+ *
+ * @param <T> Type of the object containing the nested object
+ * @param <R> Type of the nested object
+ */
+public interface NestedGetter<T, R> extends OrderingCriterion<T> {
+
+	/**
+	 * Returns the getter for the nested object.
+	 *
+	 * @return The getter
+	 */
+	GenericGetter<? super T, ? extends R> getGetter();
+
+	/**
+	 * Returns the comparator for the nested object.
+	 *
+	 * @return The comparator
+	 */
+	OrderingComparator<? super R> getComparator();
+
+	@Override
+	default int hash(T object) {
+		return getComparator().hash(getGetter().apply(object));
+	}
+
+	@Override
+	default boolean areEqual(T self, T other) {
+		GenericGetter<? super T, ? extends R> getter = getGetter();
+
+		return getComparator().areEqual(getter.apply(self), getter.apply(other));
+	}
+
+	@Override
+	default int compare(T self, T other) {
+		GenericGetter<? super T, ? extends R> getter = getGetter();
+
+		return getComparator().compare(getter.apply(self), getter.apply(other));
+	}
+
+	/**
+	 * <p>Returns a criterion that compares the nested objects returned by the getter using the given comparator.</p>
+	 *
+	 * <p>Example: <code>NestedGetter.of(Order::getAddress, addressComparator)</code></p>
+	 *
+	 * @param getter     The getter for the nested object
+	 * @param comparator The comparator for the nested object
+	 * @param <T>        Type of the object containing the nested object
+	 * @param <R>        Type of the nested object
+	 * @return The criterion
+	 */
+	static <T, R> NestedGetter<T, R> of(GenericGetter<? super T, ? extends R> getter, OrderingComparator<? super R> comparator) {
+		return new NestedComparatorGetter<>(getter, comparator);
+	}
+
+}
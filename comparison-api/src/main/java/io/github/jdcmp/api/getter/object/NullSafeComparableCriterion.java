@@ -0,0 +1,56 @@
+package io.github.jdcmp.api.getter.object;
+
+import io.github.jdcmp.api.comparator.ordering.NullHandling;
+import io.github.jdcmp.api.getter.OrderingCriterion;
+
+/**
+ * <p>Criterion for {@link Comparable} values that may be null. Instances are usually obtained via
+ * {@link ComparableGetter#nullsFirst(ComparableGetter)} or {@link ComparableGetter#nullsLast(ComparableGetter)}.</p>
+ *
+ * <p>Implementations may recognize this criterion and generate equivalent code instead of calling the default methods.</p>
+ *
+ * @param <T> Type of the object containing the {@link Comparable}
+ * @param <R> Type of the criterion
+ */
+public interface NullSafeComparableCriterion<T, R extends Comparable<? super R>> extends OrderingCriterion<T> {
+
+	/**
+	 * Returns the getter for the nullable value.
+	 *
+	 * @return The getter
+	 */
+	ComparableGetter<? super T, R> getGetter();
+
+	/**
+	 * Returns the position of nulls, either {@link NullHandling#NULLS_FIRST} or {@link NullHandling#NULLS_LAST}.
+	 *
+	 * @return The null handling
+	 */
+	NullHandling getNullHandling();
+
+	@Override
+	default int hash(T object) {
+		return getGetter().hash(object);
+	}
+
+	@Override
+	default boolean areEqual(T self, T other) {
+		return getGetter().areEqual(self, other);
+	}
+
+	@Override
+	default int compare(T self, T other) {
+		ComparableGetter<? super T, R> getter = getGetter();
+		R valueSelf = getter.apply(self);
+		R valueOther = getter.apply(other);
+
+		if (valueSelf == null) {
+			return valueOther == null ? 0 : getNullHandling().getComparisonResultIfLeftSideIsNull();
+		} else if (valueOther == null) {
+			return -getNullHandling().getComparisonResultIfLeftSideIsNull();
+		}
+
+		return valueSelf.compareTo(valueOther);
+	}
+
+}
@@ -0,0 +1,36 @@
+package io.github.jdcmp.api.getter.object;
+
+import io.github.jdcmp.api.comparator.ordering.NullHandling;
+
+import java.util.Objects;
+
+final class NullSafeComparableGetter<T, R extends Comparable<? super R>> implements NullSafeComparableCriterion<T, R> {
+
+	private final ComparableGetter<? super T, R> getter;
+
+	private final NullHandling nullHandling;
+
+	NullSafeComparableGetter(ComparableGetter<? super T, R> getter, NullHandling nullHandling) {
+		this.getter = Objects.requireNonNull(getter);
+		this.nullHandling = requireNullsFirstOrLast(nullHandling);
+	}
+
+	static NullHandling requireNullsFirstOrLast(NullHandling nullHandling) {
+		if (NullHandling.THROW.equals(Objects.requireNonNull(nullHandling))) {
+			throw new IllegalArgumentException("NullHandling must be NULLS_FIRST or NULLS_LAST");
+		}
+
+		return nullHandling;
+	}
+
+	@Override
+	public ComparableGetter<? super T, R> getGetter() {
+		return getter;
+	}
+
+	@Override
+	public NullHandling getNullHandling() {
+		return nullHandling;
+	}
+
+}
@@ -1,8 +1,8 @@
 package io.github.jdcmp.api.getter.object;
 
+import io.github.jdcmp.api.comparator.ordering.NullHandling;
 import io.github.jdcmp.api.getter.SerializableOrderingCriterion;
 
-import java.util.Comparator;
 
 /**
  * Serializable getter for {@link Comparable}.
@@ -39,7 +39,7 @@ public interface SerializableComparableGetter<T, R extends Comparable<? super R>
 	 * @return The getter
 	 */
 	static <T, R extends Comparable<? super R>> SerializableOrderingCriterion<T> nullsFirst(SerializableComparableGetter<T, R> getter) {
-		return new SerializableComparatorGetter<>(getter, Comparator.nullsFirst(Comparator.naturalOrder()));
+		return new SerializableNullSafeComparableGetter<>(getter, NullHandling.NULLS_FIRST);
 	}
 
 	/**
@@ -53,7 +53,7 @@ public interface SerializableComparableGetter<T, R extends Comparable<? super R>
 	 * @return The getter
 	 */
 	static <T, R extends Comparable<? super R>> SerializableOrderingCriterion<T> nullsLast(SerializableComparableGetter<T, R> getter) {
-		return new SerializableComparatorGetter<>(getter, Comparator.nullsLast(Comparator.naturalOrder()));
+		return new SerializableNullSafeComparableGetter<>(getter, NullHandling.NULLS_LAST);
 	}
 
 }
@@ -1,59 +1,27 @@
 package io.github.jdcmp.api.getter.object;
 
-import io.github.jdcmp.api.getter.SerializableOrderingCriterion;
-import io.github.jdcmp.api.serialization.SerializationProxyRequiredException;
+import io.github.jdcmp.api.comparator.ordering.NullHandling;
 
-import java.io.IOException;
-import java.io.ObjectInputStream;
+import java.io.InvalidObjectException;
 import java.io.ObjectStreamException;
 import java.io.Serializable;
 import java.util.Comparator;
-import java.util.Objects;
-import java.util.function.Function;
 
-final class SerializableComparatorGetter<T, R> implements SerializableOrderingCriterion<T> {
-
-	private static final long serialVersionUID = 1L;
-
-	private final transient SerializableGenericGetter<? super T, ? extends R> getter;
-
-	private final transient Comparator<? super R> comparator;
-
-	SerializableComparatorGetter(SerializableGenericGetter<? super T, ? extends R> getter, Comparator<? super R> comparator) {
-		if (!(comparator instanceof Serializable)) {
-			throw new IllegalArgumentException("Comparator must implement Serializable");
-		}
-
-		this.getter = Objects.requireNonNull(getter);
-		this.comparator = Objects.requireNonNull(comparator);
-	}
-
-	@Override
-	public int hash(T object) {
-		return getter.hash(object);
-	}
-
-	@Override
-	public boolean areEqual(T self, T other) {
-		return getter.areEqual(self, other);
+/**
+ * Reads the serialized form of the criteria that {@link SerializableComparableGetter#nullsFirst(SerializableComparableGetter)}
+ * and {@link SerializableComparableGetter#nullsLast(SerializableComparableGetter)} returned up to version 0.3. These criteria
+ * are now resolved to {@link SerializableNullSafeComparableGetter}.
+ *
+ * @deprecated Only kept to deserialize streams written by older versions.
+ */
+@Deprecated
+final class SerializableComparatorGetter {
+
+	private SerializableComparatorGetter() {
+		throw new AssertionError("No instances");
 	}
 
-	@Override
-	public int compare(T self, T other) {
-		Function<? super T, ? extends R> getter = this.getter;
-
-		return comparator.compare(getter.apply(self), getter.apply(other));
-	}
-
-	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
-		throw new SerializationProxyRequiredException();
-	}
-
-	private Object writeReplace() throws ObjectStreamException {
-		return new SerializedForm<>(this);
-	}
-
-	private static final class SerializedForm<T, R> implements Serializable {
+	static final class SerializedForm<T, R> implements Serializable {
 
 		private static final long serialVersionUID = 1L;
 
@@ -61,13 +29,25 @@ final class SerializableComparatorGetter<T, R> implements SerializableOrderingCr
 
 		private final Comparator<? super R> comparator;
 
-		private SerializedForm(SerializableComparatorGetter<T, R> getter) {
-			this.getter = getter.getter;
-			this.comparator = getter.comparator;
+		SerializedForm(SerializableGenericGetter<? super T, ? extends R> getter, Comparator<? super R> comparator) {
+			this.getter = getter;
+			this.comparator = comparator;
 		}
 
+		/**
+		 * The comparator is either {@link Comparator#nullsFirst(Comparator)} or {@link Comparator#nullsLast(Comparator)} of
+		 * the natural ordering. Both order null against any other object without consulting the natural ordering.
+		 */
+		@SuppressWarnings({"unchecked", "rawtypes"})
 		private Object readResolve() throws ObjectStreamException {
-			return new SerializableComparatorGetter<>(getter, comparator);
+			if (!(getter instanceof SerializableComparableGetter) || comparator == null) {
+				throw new InvalidObjectException("Unsupported serialized criterion: " + getter + ", " + comparator);
+			}
+
+			int nullComparedToOther = ((Comparator) comparator).compare(null, new Object());
+			NullHandling nullHandling = nullComparedToOther < 0 ? NullHandling.NULLS_FIRST : NullHandling.NULLS_LAST;
+
+			return new SerializableNullSafeComparableGetter<>((SerializableComparableGetter) getter, nullHandling);
 		}
 
 	}
@@ -0,0 +1,69 @@
+package io.github.jdcmp.api.getter.object;
+
+import io.github.jdcmp.api.comparator.ordering.SerializableOrderingComparator;
+import io.github.jdcmp.api.serialization.SerializationProxyRequiredException;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.util.Objects;
+
+final class SerializableNestedComparatorGetter<T, R> implements SerializableNestedGetter<T, R> {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient SerializableGenericGetter<? super T, ? extends R> getter;
+
+	private final transient SerializableOrderingComparator<? super R> comparator;
+
+	SerializableNestedComparatorGetter(
+			SerializableGenericGetter<? super T, ? extends R> getter,
+			SerializableOrderingComparator<? super R> comparator) {
+		this.getter = Objects.requireNonNull(getter);
+		this.comparator = Objects.requireNonNull(comparator);
+	}
+
+	@Override
+	public SerializableGenericGetter<? super T, ? extends R> getGetter() {
+		return getter;
+	}
+
+	@Override
+	public SerializableOrderingComparator<? super R> getComparator() {
+		return comparator;
+	}
+
+	@Override
+	public String toString() {
+		return "SerializableNestedGetter[" + getter + ", " + comparator + "]";
+	}
+
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		throw new SerializationProxyRequiredException();
+	}
+
+	private Object writeReplace() throws ObjectStreamException {
+		return new SerializedForm<>(this);
+	}
+
+	private static final class SerializedForm<T, R> implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private final SerializableGenericGetter<? super T, ? extends R> getter;
+
+		private final SerializableOrderingComparator<? super R> comparator;
+
+		private SerializedForm(SerializableNestedComparatorGetter<T, R> getter) {
+			this.getter = getter.getter;
+			this.comparator = getter.comparator;
+		}
+
+		private Object readResolve() throws ObjectStreamException {
+			return new SerializableNestedComparatorGetter<>(getter, comparator);
+		}
+
+	}
+
+}
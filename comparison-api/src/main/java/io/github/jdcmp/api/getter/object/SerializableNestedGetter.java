@@ -0,0 +1,37 @@
+package io.github.jdcmp.api.getter.object;
+
+import io.github.jdcmp.api.comparator.ordering.SerializableOrderingComparator;
+import io.github.jdcmp.api.getter.SerializableOrderingCriterion;
+
+/**
+ * Serializable {@link NestedGetter}.
+ *
+ * @param <T> Type of the object containing the nested object
+ * @param <R> Type of the nested object
+ */
+public interface SerializableNestedGetter<T, R> extends NestedGetter<T, R>, SerializableOrderingCriterion<T> {
+
+	@Override
+	SerializableGenericGetter<? super T, ? extends R> getGetter();
+
+	@Override
+	SerializableOrderingComparator<? super R> getComparator();
+
+	/**
+	 * <p>Returns a criterion that compares the nested objects returned by the getter using the given comparator.</p>
+	 *
+	 * <p>Example: <code>SerializableNestedGetter.of(Order::getAddress, addressComparator)</code></p>
+	 *
+	 * @param getter     The getter for the nested object
+	 * @param comparator The comparator for the nested object
+	 * @param <T>        Type of the object containing the nested object
+	 * @param <R>        Type of the nested object
+	 * @return The criterion
+	 */
+	static <T, R> SerializableNestedGetter<T, R> of(
+			SerializableGenericGetter<? super T, ? extends R> getter,
+			SerializableOrderingComparator<? super R> comparator) {
+		return new SerializableNestedComparatorGetter<>(getter, comparator);
+	}
+
+}
@@ -0,0 +1,17 @@
+package io.github.jdcmp.api.getter.object;
+
+import io.github.jdcmp.api.getter.SerializableOrderingCriterion;
+
+/**
+ * Serializable {@link NullSafeComparableCriterion}.
+ *
+ * @param <T> Type of the object containing the {@link Comparable}
+ * @param <R> Type of the criterion
+ */
+public interface SerializableNullSafeComparableCriterion<T, R extends Comparable<? super R>>
+		extends NullSafeComparableCriterion<T, R>, SerializableOrderingCriterion<T> {
+
+	@Override
+	SerializableComparableGetter<? super T, R> getGetter();
+
+}
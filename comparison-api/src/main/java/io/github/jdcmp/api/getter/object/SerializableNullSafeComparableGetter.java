@@ -0,0 +1,63 @@
+package io.github.jdcmp.api.getter.object;
+
+import io.github.jdcmp.api.comparator.ordering.NullHandling;
+import io.github.jdcmp.api.serialization.SerializationProxyRequiredException;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.util.Objects;
+
+final class SerializableNullSafeComparableGetter<T, R extends Comparable<? super R>>
+		implements SerializableNullSafeComparableCriterion<T, R> {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient SerializableComparableGetter<? super T, R> getter;
+
+	private final transient NullHandling nullHandling;
+
+	SerializableNullSafeComparableGetter(SerializableComparableGetter<? super T, R> getter, NullHandling nullHandling) {
+		this.getter = Objects.requireNonNull(getter);
+		this.nullHandling = NullSafeComparableGetter.requireNullsFirstOrLast(nullHandling);
+	}
+
+	@Override
+	public SerializableComparableGetter<? super T, R> getGetter() {
+		return getter;
+	}
+
+	@Override
+	public NullHandling getNullHandling() {
+		return nullHandling;
+	}
+
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		throw new SerializationProxyRequiredException();
+	}
+
+	private Object writeReplace() throws ObjectStreamException {
+		return new SerializedForm<>(this);
+	}
+
+	private static final class SerializedForm<T, R extends Comparable<? super R>> implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private final SerializableComparableGetter<? super T, R> getter;
+
+		private final NullHandling nullHandling;
+
+		private SerializedForm(SerializableNullSafeComparableGetter<T, R> getter) {
+			this.getter = getter.getter;
+			this.nullHandling = getter.nullHandling;
+		}
+
+		private Object readResolve() throws ObjectStreamException {
+			return new SerializableNullSafeComparableGetter<>(getter, nullHandling);
+		}
+
+	}
+
+}
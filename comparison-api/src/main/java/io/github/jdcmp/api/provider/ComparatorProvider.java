@@ -5,11 +5,15 @@ import io.github.jdcmp.api.comparator.equality.SerializableEqualityComparator;
 import io.github.jdcmp.api.comparator.ordering.OrderingComparator;
 import io.github.jdcmp.api.comparator.ordering.SerializableOrderingComparator;
 import io.github.jdcmp.api.documentation.ThreadSafe;
+import io.github.jdcmp.api.spec.Spec;
 import io.github.jdcmp.api.spec.equality.EqualityComparatorSpec;
 import io.github.jdcmp.api.spec.equality.SerializableEqualityComparatorSpec;
 import io.github.jdcmp.api.spec.ordering.OrderingComparatorSpec;
 import io.github.jdcmp.api.spec.ordering.SerializableOrderingComparatorSpec;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Implementations must provide a public no-args constructor.
@@ -53,4 +57,46 @@ public interface ComparatorProvider {
 	 */
 	<T> SerializableOrderingComparator<T> createSerializableOrderingComparator(SerializableOrderingComparatorSpec<T> spec);
 
+	/**
+	 * Creates a new comparator of the kind that corresponds to the spec's type, e.g. an {@link OrderingComparator} for an
+	 * {@link OrderingComparatorSpec}.
+	 *
+	 * @param spec Spec
+	 * @return Comparator instance
+	 * @throws IllegalArgumentException If the spec is none of the known spec types
+	 */
+	default EqualityComparator<?> create(Spec<?, ?> spec) {
+		if (spec instanceof SerializableOrderingComparatorSpec) {
+			return createSerializableOrderingComparator((SerializableOrderingComparatorSpec<?>) spec);
+		} else if (spec instanceof OrderingComparatorSpec) {
+			return createOrderingComparator((OrderingComparatorSpec<?>) spec);
+		} else if (spec instanceof SerializableEqualityComparatorSpec) {
+			return createSerializableEqualityComparator((SerializableEqualityComparatorSpec<?>) spec);
+		} else if (spec instanceof EqualityComparatorSpec) {
+			return createEqualityComparator((EqualityComparatorSpec<?>) spec);
+		}
+
+		throw new IllegalArgumentException("Unsupported spec: " + spec);
+	}
+
+	/**
+	 * <p>Creates new comparators for the given specs, see {@link #create(Spec)}. This is intended for applications that
+	 * create many comparators at once, e.g. at startup. Implementations may create the comparators concurrently.</p>
+	 *
+	 * <p>The default implementation creates the comparators one after another.</p>
+	 *
+	 * @param specs Specs
+	 * @return An immutable list containing the comparators in the order of the specs
+	 * @throws IllegalArgumentException If a spec is none of the known spec types
+	 */
+	default List<EqualityComparator<?>> createAll(List<? extends Spec<?, ?>> specs) {
+		List<EqualityComparator<?>> comparators = new ArrayList<>(specs.size());
+
+		for (Spec<?, ?> spec : specs) {
+			comparators.add(create(spec));
+		}
+
+		return Collections.unmodifiableList(comparators);
+	}
+
 }
@@ -0,0 +1,64 @@
+package io.github.jdcmp.api.getter;
+
+import io.github.jdcmp.api.SerializationUtils;
+import io.github.jdcmp.api.getter.primitive.IntGetter;
+import io.github.jdcmp.api.getter.primitive.SerializableIntGetter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ReversedCriterionTest {
+
+	@Test
+	public void compare() {
+		IntGetter<Integer> getter = IntGetter.of(Integer::intValue);
+		OrderingCriterion<Integer> reversed = ReversedCriterion.of(getter);
+
+		Assertions.assertEquals(1, reversed.compare(1, 2));
+		Assertions.assertEquals(-1, reversed.compare(2, 1));
+		Assertions.assertEquals(0, reversed.compare(1, 1));
+		Assertions.assertEquals(getter.hash(42), reversed.hash(42));
+		Assertions.assertTrue(reversed.areEqual(42, 42));
+		Assertions.assertFalse(reversed.areEqual(42, 43));
+	}
+
+	@Test
+	public void of_reversed_returnsOriginal() {
+		IntGetter<Integer> getter = IntGetter.of(Integer::intValue);
+		SerializableIntGetter<Integer> serializable = SerializableIntGetter.of(Integer::intValue);
+
+		Assertions.assertSame(getter, ReversedCriterion.of(ReversedCriterion.of(getter)));
+		Assertions.assertSame(serializable, SerializableReversedCriterion.of(SerializableReversedCriterion.of(serializable)));
+	}
+
+	@Test
+	public void descending() {
+		IntGetter<Integer> getter = IntGetter.of(Integer::intValue);
+		SerializableOrderingCriterion<Integer> serializable = SerializableIntGetter.<Integer>of(Integer::intValue).descending();
+
+		Assertions.assertEquals(1, getter.descending().compare(1, 2));
+		Assertions.assertInstanceOf(SerializableReversedCriterion.class, serializable);
+		Assertions.assertEquals(1, serializable.compare(1, 2));
+	}
+
+	@Test
+	public void descending_descending_staysDescending() {
+		OrderingCriterion<Integer> descending = IntGetter.<Integer>of(Integer::intValue).descending();
+		SerializableOrderingCriterion<Integer> serializable = SerializableIntGetter.<Integer>of(Integer::intValue).descending();
+
+		Assertions.assertSame(descending, descending.descending());
+		Assertions.assertSame(serializable, serializable.descending());
+		Assertions.assertEquals(1, descending.descending().compare(1, 2));
+		Assertions.assertEquals(1, serializable.descending().compare(1, 2));
+	}
+
+	@Test
+	public void serialization() throws Exception {
+		SerializableOrderingCriterion<Integer> reversed = SerializableReversedCriterion.of(SerializableIntGetter.of(Integer::intValue));
+
+		SerializableReversedCriterion<Integer> copy = SerializationUtils.copy(reversed);
+
+		Assertions.assertEquals(1, copy.compare(1, 2));
+		Assertions.assertEquals(-1, copy.getCriterion().compare(1, 2));
+	}
+
+}
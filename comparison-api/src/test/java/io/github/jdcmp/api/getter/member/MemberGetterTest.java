@@ -0,0 +1,82 @@
+package io.github.jdcmp.api.getter.member;
+
+import io.github.jdcmp.api.getter.object.ComparableGetter;
+import io.github.jdcmp.api.getter.primitive.IntGetter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+
+public class MemberGetterTest {
+
+	private static final Lookup LOOKUP = MethodHandles.lookup();
+
+	@Test
+	public void fieldGetter() throws Exception {
+		IntGetter<A> getter = FieldGetter.ofInt(LOOKUP, A.class, "i");
+
+		Assertions.assertEquals(3, getter.applyAsInt(new A(3, "x")));
+		Assertions.assertEquals(A.class.getDeclaredField("i"), ((MemberCriterion) getter).getMember());
+	}
+
+	@Test
+	public void methodGetter() throws Exception {
+		ComparableGetter<A, String> getter = MethodGetter.ofComparable(LOOKUP, A.class, "getS", String.class);
+
+		Assertions.assertEquals("x", getter.apply(new A(3, "x")));
+		Assertions.assertEquals(A.class.getDeclaredMethod("getS"), ((MemberCriterion) getter).getMember());
+		Assertions.assertEquals(MethodType.methodType(Object.class, Object.class), ((MemberCriterion) getter).getHandle().type());
+	}
+
+	@Test
+	public void publicLookup_inaccessible() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> FieldGetter.ofInt(A.class, "i"));
+	}
+
+	@Test
+	public void wrongType() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> FieldGetter.ofLong(LOOKUP, A.class, "i"));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> MethodGetter.ofInt(LOOKUP, A.class, "getS"));
+	}
+
+	@Test
+	public void staticMember() throws Exception {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> FieldGetter.ofInt(LOOKUP, A.class, "STATIC"));
+
+		MethodType type = MethodType.methodType(int.class, A.class);
+		Assertions.assertThrows(IllegalArgumentException.class,
+				() -> MethodGetter.ofInt(LOOKUP, A.class, LOOKUP.findStatic(A.class, "staticMethod", type)));
+	}
+
+	@Test
+	public void nonDirectHandle() {
+		Assertions.assertThrows(IllegalArgumentException.class,
+				() -> MethodGetter.ofInt(LOOKUP, A.class, MethodHandles.dropArguments(MethodHandles.constant(int.class, 1), 0, A.class)));
+	}
+
+	static final class A {
+
+		static int STATIC;
+
+		final int i;
+
+		final String s;
+
+		A(int i, String s) {
+			this.i = i;
+			this.s = s;
+		}
+
+		String getS() {
+			return s;
+		}
+
+		static int staticMethod(A a) {
+			return a.i;
+		}
+
+	}
+
+}
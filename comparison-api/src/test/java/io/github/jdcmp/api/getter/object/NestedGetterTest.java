@@ -0,0 +1,86 @@
+package io.github.jdcmp.api.getter.object;
+
+import io.github.jdcmp.api.SerializationUtils;
+import io.github.jdcmp.api.comparator.ordering.SerializableOrderingComparator;
+import io.github.jdcmp.api.getter.OrderingCriterion;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Objects;
+
+public class NestedGetterTest {
+
+	@Test
+	public void delegatesToComparator() {
+		OrderingCriterion<Outer> nested = NestedGetter.of(Outer::getInner, new LengthComparator());
+
+		Assertions.assertEquals(-1, nested.compare(new Outer("a"), new Outer("bb")));
+		Assertions.assertEquals(1, nested.compare(new Outer("bb"), new Outer(null)));
+		Assertions.assertEquals(0, nested.compare(new Outer(null), new Outer(null)));
+		Assertions.assertEquals(2, nested.hash(new Outer("ab")));
+		Assertions.assertEquals(0, nested.hash(new Outer(null)));
+		Assertions.assertTrue(nested.areEqual(new Outer("ab"), new Outer("cd")));
+		Assertions.assertFalse(nested.areEqual(new Outer("ab"), new Outer(null)));
+	}
+
+	@Test
+	public void serialization() throws Exception {
+		SerializableNestedGetter<Outer, String> nested = SerializableNestedGetter.of(Outer::getInner, new LengthComparator());
+
+		SerializableNestedGetter<Outer, String> copy = SerializationUtils.copy(nested);
+
+		Assertions.assertEquals(-1, copy.compare(new Outer("a"), new Outer("bb")));
+		Assertions.assertEquals("bb", copy.getGetter().apply(new Outer("bb")));
+		Assertions.assertTrue(copy.getComparator() instanceof LengthComparator);
+	}
+
+	private static final class Outer implements java.io.Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private final @Nullable String inner;
+
+		Outer(@Nullable String inner) {
+			this.inner = inner;
+		}
+
+		public @Nullable String getInner() {
+			return inner;
+		}
+
+	}
+
+	/**
+	 * Compares strings by length, nulls first.
+	 */
+	private static final class LengthComparator implements SerializableOrderingComparator<String> {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public int hash(@Nullable String object) {
+			return object == null ? 0 : object.length();
+		}
+
+		@Override
+		public boolean areEqual(@Nullable String self, @Nullable Object other) {
+			if (self == null || !(other instanceof String)) {
+				return Objects.equals(self, other);
+			}
+
+			return self.length() == ((String) other).length();
+		}
+
+		@Override
+		public int compare(@Nullable String o1, @Nullable String o2) {
+			if (o1 == null || o2 == null) {
+				return o1 != null ? 1 : o2 != null ? -1 : 0;
+			}
+
+			return Integer.compare(o1.length(), o2.length());
+		}
+
+	}
+
+}
@@ -0,0 +1,101 @@
+package io.github.jdcmp.api.getter.object;
+
+import io.github.jdcmp.api.SerializationUtils;
+import io.github.jdcmp.api.comparator.ordering.NullHandling;
+import io.github.jdcmp.api.getter.OrderingCriterion;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Comparator;
+
+public class NullSafeComparableGetterTest {
+
+	private static final class S implements java.io.Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private final String string;
+
+		S(String string) {
+			this.string = string;
+		}
+
+		public String getString() {
+			return string;
+		}
+
+	}
+
+	@Test
+	public void compare_nullsFirst() {
+		S sNull = new S(null);
+		S sA = new S("a");
+		S sB = new S("b");
+		OrderingCriterion<S> getter = ComparableGetter.nullsFirst(S::getString);
+
+		Assertions.assertEquals(0, getter.compare(sNull, sNull));
+		Assertions.assertEquals(-1, getter.compare(sNull, sA));
+		Assertions.assertEquals(1, getter.compare(sA, sNull));
+		Assertions.assertTrue(getter.compare(sA, sB) < 0);
+		Assertions.assertTrue(getter.areEqual(sNull, new S(null)));
+		Assertions.assertEquals(0, getter.hash(sNull));
+	}
+
+	@Test
+	public void compare_nullsLast() {
+		S sNull = new S(null);
+		S sA = new S("a");
+		OrderingCriterion<S> getter = ComparableGetter.nullsLast(S::getString);
+
+		Assertions.assertEquals(0, getter.compare(sNull, sNull));
+		Assertions.assertEquals(1, getter.compare(sNull, sA));
+		Assertions.assertEquals(-1, getter.compare(sA, sNull));
+	}
+
+	@Test
+	public void constructor_throw_isRejected() {
+		Assertions.assertThrows(IllegalArgumentException.class,
+				() -> new NullSafeComparableGetter<S, String>(S::getString, NullHandling.THROW));
+	}
+
+	@Test
+	public void serialization() throws Exception {
+		OrderingCriterion<S> getter = SerializableComparableGetter.nullsLast(S::getString);
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(getter);
+		}
+
+		@SuppressWarnings("unchecked")
+		SerializableNullSafeComparableCriterion<S, String> deserialized;
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			deserialized = (SerializableNullSafeComparableCriterion<S, String>) in.readObject();
+		}
+
+		Assertions.assertEquals(NullHandling.NULLS_LAST, deserialized.getNullHandling());
+		Assertions.assertEquals(1, deserialized.compare(new S(null), new S("a")));
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	public void serialization_formerComparatorGetter_resolvesToNullSafeGetter() throws Exception {
+		SerializableComparableGetter<S, String> getter = S::getString;
+		Object formerNullsFirst = new SerializableComparatorGetter.SerializedForm<>(getter, Comparator.nullsFirst(Comparator.<String>naturalOrder()));
+		Object formerNullsLast = new SerializableComparatorGetter.SerializedForm<>(getter, Comparator.nullsLast(Comparator.<String>naturalOrder()));
+
+		SerializableNullSafeComparableCriterion<S, String> nullsFirst = SerializationUtils.copy((Serializable) formerNullsFirst);
+		SerializableNullSafeComparableCriterion<S, String> nullsLast = SerializationUtils.copy((Serializable) formerNullsLast);
+
+		Assertions.assertEquals(NullHandling.NULLS_FIRST, nullsFirst.getNullHandling());
+		Assertions.assertEquals(-1, nullsFirst.compare(new S(null), new S("a")));
+		Assertions.assertEquals(NullHandling.NULLS_LAST, nullsLast.getNullHandling());
+		Assertions.assertEquals(1, nullsLast.compare(new S(null), new S("a")));
+	}
+
+}
@@ -0,0 +1,104 @@
+package io.github.jdcmp.benchmark;
+
+import io.github.jdcmp.api.Comparators;
+import io.github.jdcmp.api.comparator.ordering.OrderingComparator;
+import io.github.jdcmp.api.getter.OrderingCriterion;
+import io.github.jdcmp.api.getter.object.ComparableGetter;
+import io.github.jdcmp.api.getter.primitive.IntGetter;
+import io.github.jdcmp.codegen.CodegenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Sorts persons by (lastName, age descending, nullsFirst(firstName)), combining one comparator per column like a sort pipeline with
+ * user-chosen columns. <i>fused</i> combines them via {@link Comparator#reversed()} and
+ * {@link Comparator#thenComparing(Comparator)}, which return generated comparators. <i>wrapped</i> combines the same
+ * comparators with lambdas, like the default methods of {@link Comparator}. <i>jdk</i> is the equivalent {@link Comparator}
+ * chain.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CombinatorBenchmark {
+
+	private Person[] persons;
+
+	private Comparator<Person> fused;
+
+	private Comparator<Person> wrapped;
+
+	private Comparator<Person> jdk;
+
+	@Setup
+	public void setup() {
+		List<Person> persons = Persons.random(1024, 42);
+		this.persons = persons.toArray(new Person[0]);
+		CodegenProvider provider = CodegenProvider.of(MethodHandles.lookup());
+
+		OrderingComparator<Person> lastName = column(provider, ComparableGetter.of(Person::getLastName));
+		OrderingComparator<Person> age = column(provider, IntGetter.of(Person::getAge));
+		OrderingComparator<Person> firstName = column(provider, ComparableGetter.nullsFirst(Person::getFirstName));
+
+		fused = lastName.thenComparing(age.reversed()).thenComparing(firstName);
+		wrapped = then(then(lastName, (o1, o2) -> age.compare(o2, o1)), firstName);
+		jdk = Comparator.comparing(Person::getLastName)
+				.thenComparing(Comparator.comparingInt(Person::getAge).reversed())
+				.thenComparing(Person::getFirstName, Comparator.nullsFirst(Comparator.naturalOrder()));
+	}
+
+	private static OrderingComparator<Person> column(CodegenProvider provider, OrderingCriterion<Person> getter) {
+		return Comparators.ordering()
+				.nonSerializable()
+				.requireAtLeastOneGetter(Person.class)
+				.use(getter)
+				.build(provider);
+	}
+
+	private static <T> Comparator<T> then(Comparator<T> first, Comparator<T> second) {
+		return (o1, o2) -> {
+			int result = first.compare(o1, o2);
+
+			return result != 0 ? result : second.compare(o1, o2);
+		};
+	}
+
+	@Benchmark
+	public Person[] fused() {
+		return sort(fused);
+	}
+
+	@Benchmark
+	public Person[] wrapped() {
+		return sort(wrapped);
+	}
+
+	@Benchmark
+	public Person[] jdk() {
+		return sort(jdk);
+	}
+
+	private Person[] sort(Comparator<Person> comparator) {
+		Person[] copy = persons.clone();
+		Arrays.sort(copy, comparator);
+
+		return copy;
+	}
+
+}
@@ -0,0 +1,185 @@
+package io.github.jdcmp.benchmark;
+
+import io.github.jdcmp.api.Comparators;
+import io.github.jdcmp.api.comparator.ordering.OrderingComparator;
+import io.github.jdcmp.api.getter.OrderingCriterion;
+import io.github.jdcmp.api.getter.object.ComparableGetter;
+import io.github.jdcmp.api.getter.primitive.IntGetter;
+import io.github.jdcmp.codegen.CodegenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.invoke.MethodHandles;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Looks up persons in a {@link TreeMap} ordered by (lastName, nullsFirst(firstName), age).</p>
+ *
+ * <p>Before measuring, the default methods of {@link ComparableGetter} and {@link OrderingCriterion} are invoked with many
+ * different getters and value types, which makes their call sites megamorphic. This resembles an application using many
+ * comparators. <i>generated</i> uses the specialized code of the generated comparator, <i>generatedOpaque</i> hides the
+ * getters behind a criterion with unknown methods, forcing the generated comparator to call the (polluted) default methods.
+ * <i>jdk</i> is the equivalent {@link Comparator} chain.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComparableCriterionBenchmark {
+
+	@Param({"true", "false"})
+	public boolean polluted;
+
+	private List<Person> persons;
+
+	private TreeMap<Person, Person> generated;
+
+	private TreeMap<Person, Person> generatedOpaque;
+
+	private TreeMap<Person, Person> jdk;
+
+	@Setup
+	public void setup() {
+		if (polluted) {
+			Pollution.pollute();
+		}
+
+		persons = Persons.random(1024, 42);
+		CodegenProvider provider = CodegenProvider.of(MethodHandles.lookup());
+
+		List<OrderingCriterion<Person>> getters = Arrays.asList(
+				ComparableGetter.of(Person::getLastName),
+				ComparableGetter.nullsFirst(Person::getFirstName),
+				IntGetter.of(Person::getAge));
+
+		OrderingComparator<Person> specialized = Comparators.ordering()
+				.nonSerializable()
+				.requireAtLeastOneGetter(Person.class)
+				.use(getters)
+				.build(provider);
+		OrderingComparator<Person> opaque = Comparators.ordering()
+				.nonSerializable()
+				.requireAtLeastOneGetter(Person.class)
+				.use(Opaque.wrap(getters.get(0)))
+				.use(Opaque.wrap(getters.get(1)))
+				.use(Opaque.wrap(getters.get(2)))
+				.build(provider);
+		Comparator<Person> chain = Comparator.comparing(Person::getLastName)
+				.thenComparing(Person::getFirstName, Comparator.nullsFirst(Comparator.naturalOrder()))
+				.thenComparingInt(Person::getAge);
+
+		generated = fill(new TreeMap<>(specialized));
+		generatedOpaque = fill(new TreeMap<>(opaque));
+		jdk = fill(new TreeMap<>(chain));
+	}
+
+	private TreeMap<Person, Person> fill(TreeMap<Person, Person> map) {
+		for (Person person : persons) {
+			map.put(person, person);
+		}
+
+		return map;
+	}
+
+	@Benchmark
+	public void generated(Blackhole blackhole) {
+		lookup(generated, blackhole);
+	}
+
+	@Benchmark
+	public void generatedOpaque(Blackhole blackhole) {
+		lookup(generatedOpaque, blackhole);
+	}
+
+	@Benchmark
+	public void jdk(Blackhole blackhole) {
+		lookup(jdk, blackhole);
+	}
+
+	private void lookup(TreeMap<Person, Person> map, Blackhole blackhole) {
+		for (Person person : persons) {
+			blackhole.consume(map.get(person));
+		}
+	}
+
+	/**
+	 * Criterion whose methods are unknown to the generator. Calls the default methods of the wrapped getter.
+	 */
+	private static final class Opaque<T> implements OrderingCriterion<T> {
+
+		private final OrderingCriterion<T> delegate;
+
+		private Opaque(OrderingCriterion<T> delegate) {
+			this.delegate = delegate;
+		}
+
+		static <T> OrderingCriterion<T> wrap(OrderingCriterion<T> delegate) {
+			return new Opaque<>(delegate);
+		}
+
+		@Override
+		public int hash(T object) {
+			return delegate.hash(object);
+		}
+
+		@Override
+		public boolean areEqual(T self, T other) {
+			return delegate.areEqual(self, other);
+		}
+
+		@Override
+		public int compare(T self, T other) {
+			return delegate.compare(self, other);
+		}
+
+	}
+
+	private static final class Pollution {
+
+		static void pollute() {
+			List<OrderingCriterion<Object[]>> getters = Arrays.asList(
+					ComparableGetter.of(a -> (String) a[0]),
+					ComparableGetter.of(a -> (BigDecimal) a[1]),
+					ComparableGetter.of(a -> (BigInteger) a[2]),
+					ComparableGetter.of(a -> (LocalDate) a[3]),
+					ComparableGetter.of(a -> (Integer) a[4]),
+					ComparableGetter.nullsFirst(a -> (String) a[0]),
+					ComparableGetter.nullsLast(a -> (BigDecimal) a[1]),
+					ComparableGetter.nullsFirst(a -> (LocalDate) a[3]));
+			Object[] left = {"a", BigDecimal.ONE, BigInteger.ONE, LocalDate.of(2000, 1, 1), 1};
+			Object[] right = {"b", BigDecimal.TEN, BigInteger.TEN, LocalDate.of(2001, 1, 1), 2};
+
+			int sink = 0;
+			for (int i = 0; i < 100_000; ++i) {
+				for (OrderingCriterion<Object[]> getter : getters) {
+					sink += getter.compare(left, right) + getter.hash(left) + (getter.areEqual(left, right) ? 1 : 0);
+				}
+			}
+
+			if (sink == 42) {
+				System.out.println(sink);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,71 @@
+package io.github.jdcmp.benchmark;
+
+import io.github.jdcmp.api.Comparators;
+import io.github.jdcmp.api.comparator.ordering.OrderingComparator;
+import io.github.jdcmp.api.getter.OrderingCriterion;
+import io.github.jdcmp.api.getter.primitive.IntGetter;
+import io.github.jdcmp.codegen.CodegenProvider;
+import io.github.jdcmp.codegen.customization.AvailableInitializationMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Throughput of building comparators, e.g. by applications that create comparators at runtime. Each invocation generates,
+ * defines and instantiates a new class, unless the initialization mode shares classes of the same shape.</p>
+ *
+ * <p>The generated classes are unreachable after each invocation and may be unloaded by the garbage collector.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CreationBenchmark {
+
+	@Param({"1", "8", "32"})
+	public int getterCount;
+
+	@Param({"STATIC_INITIALIZER", "SHARED"})
+	public AvailableInitializationMode initializationMode;
+
+	private CodegenProvider provider;
+
+	private List<OrderingCriterion<int[]>> getters;
+
+	@Setup
+	public void setup() {
+		provider = CodegenProvider.of(MethodHandles.lookup());
+		provider.setInitializationMode(initializationMode);
+		getters = new ArrayList<>(getterCount);
+
+		for (int i = 0; i < getterCount; ++i) {
+			final int index = i;
+			getters.add(IntGetter.of(array -> array[index]));
+		}
+	}
+
+	@Benchmark
+	public OrderingComparator<int[]> build() {
+		return Comparators.ordering()
+				.nonSerializable()
+				.requireAtLeastOneGetter(int[].class)
+				.use(getters)
+				.build(provider);
+	}
+
+}
@@ -0,0 +1,142 @@
+package io.github.jdcmp.benchmark;
+
+import io.github.jdcmp.api.Comparators;
+import io.github.jdcmp.api.comparator.ordering.OrderingComparator;
+import io.github.jdcmp.api.getter.OrderingCriterion;
+import io.github.jdcmp.api.getter.object.ComparableGetter;
+import io.github.jdcmp.api.getter.object.NestedGetter;
+import io.github.jdcmp.api.getter.primitive.IntGetter;
+import io.github.jdcmp.codegen.CodegenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Sorts orders by (customer, number), where customers are compared by (lastName, age, nullsFirst(firstName)) using a
+ * comparator of their own. <i>inlined</i> uses a {@link NestedGetter}, whose generated code inlines the criteria of the
+ * customer comparator. <i>called</i> uses a criterion calling the customer comparator. <i>jdk</i> is the equivalent
+ * {@link Comparator} chain.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NestedBenchmark {
+
+	private Order[] orders;
+
+	private Comparator<Order> inlined;
+
+	private Comparator<Order> called;
+
+	private Comparator<Order> jdk;
+
+	@Setup
+	public void setup() {
+		List<Person> persons = Persons.random(1024, 42);
+		orders = new Order[persons.size()];
+
+		for (int i = 0; i < orders.length; ++i) {
+			orders[i] = new Order(persons.get(i / 2), i % 2);
+		}
+
+		CodegenProvider provider = CodegenProvider.of(MethodHandles.lookup());
+		OrderingComparator<Person> byCustomer = Comparators.ordering()
+				.nonSerializable()
+				.requireAtLeastOneGetter(Person.class)
+				.use(ComparableGetter.of(Person::getLastName))
+				.use(IntGetter.of(Person::getAge))
+				.use(ComparableGetter.nullsFirst(Person::getFirstName))
+				.build(provider);
+
+		inlined = byOrder(provider, NestedGetter.of(Order::getCustomer, byCustomer));
+		called = byOrder(provider, new OrderingCriterion<Order>() {
+			@Override
+			public int hash(Order object) {
+				return byCustomer.hash(object.getCustomer());
+			}
+
+			@Override
+			public boolean areEqual(Order self, Order other) {
+				return byCustomer.areEqual(self.getCustomer(), other.getCustomer());
+			}
+
+			@Override
+			public int compare(Order self, Order other) {
+				return byCustomer.compare(self.getCustomer(), other.getCustomer());
+			}
+		});
+		jdk = Comparator.comparing(Order::getCustomer, Comparator.comparing(Person::getLastName)
+						.thenComparingInt(Person::getAge)
+						.thenComparing(Person::getFirstName, Comparator.nullsFirst(Comparator.naturalOrder())))
+				.thenComparingInt(Order::getNumber);
+	}
+
+	private static OrderingComparator<Order> byOrder(CodegenProvider provider, OrderingCriterion<Order> customer) {
+		return Comparators.ordering()
+				.nonSerializable()
+				.requireAtLeastOneGetter(Order.class)
+				.use(customer)
+				.use(IntGetter.of(Order::getNumber))
+				.build(provider);
+	}
+
+	@Benchmark
+	public Order[] inlined() {
+		return sort(inlined);
+	}
+
+	@Benchmark
+	public Order[] called() {
+		return sort(called);
+	}
+
+	@Benchmark
+	public Order[] jdk() {
+		return sort(jdk);
+	}
+
+	private Order[] sort(Comparator<Order> comparator) {
+		Order[] copy = orders.clone();
+		Arrays.sort(copy, comparator);
+
+		return copy;
+	}
+
+	static final class Order {
+
+		private final Person customer;
+
+		private final int number;
+
+		Order(Person customer, int number) {
+			this.customer = customer;
+			this.number = number;
+		}
+
+		Person getCustomer() {
+			return customer;
+		}
+
+		int getNumber() {
+			return number;
+		}
+
+	}
+
+}
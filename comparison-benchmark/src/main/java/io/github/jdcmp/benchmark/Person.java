@@ -0,0 +1,29 @@
+package io.github.jdcmp.benchmark;
+
+final class Person {
+
+	private final String lastName;
+
+	private final String firstName;
+
+	private final int age;
+
+	Person(String lastName, String firstName, int age) {
+		this.lastName = lastName;
+		this.firstName = firstName;
+		this.age = age;
+	}
+
+	String getLastName() {
+		return lastName;
+	}
+
+	String getFirstName() {
+		return firstName;
+	}
+
+	int getAge() {
+		return age;
+	}
+
+}
@@ -0,0 +1,26 @@
+package io.github.jdcmp.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+final class Persons {
+
+	static List<Person> random(int count, long seed) {
+		Random random = new Random(seed);
+		List<Person> persons = new ArrayList<>(count);
+
+		for (int i = 0; i < count; ++i) {
+			String lastName = "Last" + random.nextInt(count / 4 + 1);
+			String firstName = random.nextInt(8) == 0 ? null : "First" + random.nextInt(16);
+			persons.add(new Person(lastName, firstName, random.nextInt(100)));
+		}
+
+		return persons;
+	}
+
+	private Persons() {
+		throw new AssertionError("No instances");
+	}
+
+}
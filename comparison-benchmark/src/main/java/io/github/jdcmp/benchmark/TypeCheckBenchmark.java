@@ -0,0 +1,86 @@
+package io.github.jdcmp.benchmark;
+
+import io.github.jdcmp.api.Comparators;
+import io.github.jdcmp.api.comparator.ordering.OrderingComparator;
+import io.github.jdcmp.api.getter.primitive.IntGetter;
+import io.github.jdcmp.benchmark.other.OtherPackage;
+import io.github.jdcmp.codegen.CodegenProvider;
+import io.github.jdcmp.codegen.customization.AvailableInitializationMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Strict type checks of a comparator with a single getter. Classes generated for a lookup of the same package refer to
+ * {@link Person} by name, i.e. they use CHECKCAST and INSTANCEOF. Classes generated for a lookup of another package use
+ * {@link Class#cast(Object)} instead, or compare the exact class in <i>areEqual</i>, since {@link Person} is final.</p>
+ *
+ * <p>Lenient types are the baseline without any type checks. The shared initialization mode stores the class to compare in
+ * an instance field, which the JIT compiler cannot constant-fold.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypeCheckBenchmark {
+
+	@Param({"true", "false"})
+	public boolean samePackage;
+
+	@Param({"true", "false"})
+	public boolean strictTypes;
+
+	@Param({"STATIC_INITIALIZER", "SHARED"})
+	public AvailableInitializationMode initializationMode;
+
+	private OrderingComparator<Person> comparator;
+
+	private Person left;
+
+	private Person right;
+
+	@Setup
+	public void setup() {
+		CodegenProvider provider = CodegenProvider.of(samePackage ? MethodHandles.lookup() : OtherPackage.lookup());
+		provider.setInitializationMode(initializationMode);
+
+		comparator = Comparators.ordering()
+				.nonSerializable()
+				.requireAtLeastOneGetter(Person.class)
+				.use(IntGetter.of(Person::getAge))
+				.strictTypes(strictTypes)
+				.build(provider);
+
+		left = new Person("Last", "First", 42);
+		right = new Person("Last", "First", 43);
+	}
+
+	@Benchmark
+	public int compare() {
+		return comparator.compare(left, right);
+	}
+
+	@Benchmark
+	public boolean areEqual() {
+		return comparator.areEqual(left, right);
+	}
+
+	@Benchmark
+	public int hash() {
+		return comparator.hash(left);
+	}
+
+}
@@ -0,0 +1,86 @@
+package io.github.jdcmp.benchmark;
+
+import io.github.jdcmp.api.Comparators;
+import io.github.jdcmp.api.comparator.ordering.OrderingComparator;
+import io.github.jdcmp.api.getter.OrderingCriterion;
+import io.github.jdcmp.api.getter.primitive.IntGetter;
+import io.github.jdcmp.codegen.CodegenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Comparators with many getters. The compared objects differ in the last criterion only, so every criterion is
+ * evaluated.</p>
+ *
+ * <p>Specs with more than 32 getters used to be handled by an interpreter instead of generated code. The time per getter
+ * should be roughly the same for all getter counts.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WideSpecBenchmark {
+
+	@Param({"8", "32", "33", "64", "128"})
+	public int getterCount;
+
+	private OrderingComparator<int[]> comparator;
+
+	private int[] left;
+
+	private int[] right;
+
+	@Setup
+	public void setup() {
+		List<OrderingCriterion<int[]>> getters = new ArrayList<>(getterCount);
+		for (int i = 0; i < getterCount; ++i) {
+			final int index = i;
+			getters.add(IntGetter.of(array -> array[index]));
+		}
+
+		comparator = Comparators.ordering()
+				.nonSerializable()
+				.requireAtLeastOneGetter(int[].class)
+				.use(getters)
+				.build(CodegenProvider.of(MethodHandles.lookup()));
+
+		left = new int[getterCount];
+		right = new int[getterCount];
+		Arrays.fill(left, 42);
+		Arrays.fill(right, 42);
+		right[getterCount - 1] = 43;
+	}
+
+	@Benchmark
+	public int compare() {
+		return comparator.compare(left, right);
+	}
+
+	@Benchmark
+	public boolean areEqual() {
+		return comparator.areEqual(left, right);
+	}
+
+	@Benchmark
+	public int hash() {
+		return comparator.hash(left);
+	}
+
+}
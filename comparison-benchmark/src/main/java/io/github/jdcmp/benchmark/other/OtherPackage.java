@@ -0,0 +1,19 @@
+package io.github.jdcmp.benchmark.other;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+
+/**
+ * Provides a lookup whose generated classes cannot refer to the classes of the benchmark package by name.
+ */
+public final class OtherPackage {
+
+	public static Lookup lookup() {
+		return MethodHandles.lookup();
+	}
+
+	private OtherPackage() {
+		throw new AssertionError("No instances");
+	}
+
+}
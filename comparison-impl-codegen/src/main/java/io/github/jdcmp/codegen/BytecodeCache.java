@@ -0,0 +1,298 @@
+package io.github.jdcmp.codegen;
+
+import io.github.jdcmp.api.documentation.ThreadSafe;
+import io.github.jdcmp.api.getter.EqualityCriterion;
+import io.github.jdcmp.api.getter.OrderingCriterion;
+import io.github.jdcmp.api.getter.ReversedCriterion;
+import io.github.jdcmp.api.getter.object.ComparableGetter;
+import io.github.jdcmp.api.getter.object.GenericGetter;
+import io.github.jdcmp.api.getter.object.NestedGetter;
+import io.github.jdcmp.api.getter.object.NullSafeComparableCriterion;
+import io.github.jdcmp.api.getter.primitive.IntGetter;
+import io.github.jdcmp.codegen.Utils.ThrowableRunnable;
+import io.github.jdcmp.codegen.contract.EventHandler;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * <p>Persistent cache of generated bytecode, stored in a directory. Each entry is a file named after the fingerprint of the
+ * generated class, i.e. a hash of its description. See {@link BytecodeGenerator} for the contents of descriptions.</p>
+ *
+ * <p>Entries contain the provider version, the Java version, the full description and a checksum of the bytecode. Entries
+ * whose header or checksum does not match are ignored and eventually overwritten. I/O errors never fail the generation of a
+ * comparator; they are logged and treated as cache misses.</p>
+ */
+@ThreadSafe
+final class BytecodeCache {
+
+	private static final Logger LOGGER = Logger.getLogger(BytecodeCache.class.getName());
+
+	private static final int MAGIC = 0x6A64636D;
+
+	private static final String FILE_EXTENSION = ".jdcmp";
+
+	private final Path directory;
+
+	BytecodeCache(Path directory) {
+		this.directory = Objects.requireNonNull(directory);
+	}
+
+	/**
+	 * Computes the fingerprint of a class description, including the provider and Java versions.
+	 *
+	 * @param description The description of the generated class
+	 * @return A hexadecimal string
+	 */
+	static String fingerprint(String description) {
+		return hash(Versions.PROVIDER, Versions.JAVA, description);
+	}
+
+	/**
+	 * Computes the fingerprint of a class description, including the provider version only. Used for classes generated at
+	 * build time, which are independent of the Java version at runtime.
+	 *
+	 * @param description The description of the generated class
+	 * @return A hexadecimal string
+	 */
+	static String portableFingerprint(String description) {
+		return hash(Versions.PROVIDER, description);
+	}
+
+	private static String hash(String... parts) {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is unavailable", e);
+		}
+
+		for (int i = 0; i < parts.length - 1; ++i) {
+			digest.update(parts[i].getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+		}
+
+		byte[] hash = digest.digest(parts[parts.length - 1].getBytes(StandardCharsets.UTF_8));
+
+		StringBuilder sb = new StringBuilder(32);
+		for (int i = 0; i < 16; ++i) {
+			sb.append(Character.forDigit((hash[i] >> 4) & 0xF, 16));
+			sb.append(Character.forDigit(hash[i] & 0xF, 16));
+		}
+
+		return sb.toString();
+	}
+
+	/**
+	 * Loads the bytecode of the given fingerprint. Reports the result via {@link EventHandler#onBytecodeCacheHit(Path)} or
+	 * {@link EventHandler#onBytecodeCacheMiss(Path)}.
+	 *
+	 * @param fingerprint  The fingerprint
+	 * @param description  The description, which must match the stored description
+	 * @param eventHandler The event handler
+	 * @return The bytecode; null if there is no valid entry
+	 */
+	@Nullable byte[] load(String fingerprint, String description, EventHandler eventHandler) {
+		Path path = path(fingerprint);
+		byte[] bytes = read(path, description);
+
+		if (bytes == null) {
+			ThrowableRunnable.run(() -> eventHandler.onBytecodeCacheMiss(path));
+		} else {
+			ThrowableRunnable.run(() -> eventHandler.onBytecodeCacheHit(path));
+		}
+
+		return bytes;
+	}
+
+	void store(String fingerprint, String description, byte[] bytes) {
+		Path path = path(fingerprint);
+
+		try {
+			Files.createDirectories(directory);
+			Path temporary = Files.createTempFile(directory, fingerprint, ".tmp");
+
+			try {
+				try (OutputStream out = Files.newOutputStream(temporary)) {
+					out.write(serialize(description, bytes));
+				}
+
+				move(temporary, path);
+			} finally {
+				Files.deleteIfExists(temporary);
+			}
+		} catch (IOException | RuntimeException e) {
+			LOGGER.log(Level.FINE, "Failed to store bytecode: " + path, e);
+		}
+	}
+
+	private static void move(Path source, Path target) throws IOException {
+		try {
+			Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	private static @Nullable byte[] read(Path path, String description) {
+		try (DataInputStream in = new DataInputStream(Files.newInputStream(path))) {
+			if (in.readInt() != MAGIC
+					|| !Versions.PROVIDER.equals(in.readUTF())
+					|| !Versions.JAVA.equals(in.readUTF())
+					|| !description.equals(readString(in))) {
+				return null;
+			}
+
+			byte[] bytes = new byte[in.readInt()];
+			in.readFully(bytes);
+
+			if (in.readLong() != crc(bytes)) {
+				LOGGER.log(Level.FINE, "Corrupted bytecode: " + path);
+
+				return null;
+			}
+
+			return bytes;
+		} catch (NoSuchFileException e) {
+			return null;
+		} catch (IOException | RuntimeException e) {
+			LOGGER.log(Level.FINE, "Failed to load bytecode: " + path, e);
+
+			return null;
+		}
+	}
+
+	private static byte[] serialize(String description, byte[] bytes) throws IOException {
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream(bytes.length + description.length() + 64);
+
+		try (DataOutputStream out = new DataOutputStream(buffer)) {
+			out.writeInt(MAGIC);
+			out.writeUTF(Versions.PROVIDER);
+			out.writeUTF(Versions.JAVA);
+			writeString(out, description);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+			out.writeLong(crc(bytes));
+		}
+
+		return buffer.toByteArray();
+	}
+
+	private static long crc(byte[] bytes) {
+		CRC32 crc = new CRC32();
+		crc.update(bytes, 0, bytes.length);
+
+		return crc.getValue();
+	}
+
+	/**
+	 * Descriptions of wide specs may exceed the length limit of {@link DataOutputStream#writeUTF(String)}.
+	 */
+	private static void writeString(DataOutputStream out, String string) throws IOException {
+		byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private Path path(String fingerprint) {
+		return directory.resolve(fingerprint + FILE_EXTENSION);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return this == obj || obj instanceof BytecodeCache && directory.equals(((BytecodeCache) obj).directory);
+	}
+
+	@Override
+	public int hashCode() {
+		return directory.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return "BytecodeCache[directory=" + directory + "]";
+	}
+
+	private static final class Versions {
+
+		/**
+		 * The implementation version of the jar, if any, and a checksum of the class files that shape the generated bytecode,
+		 * i.e. this implementation and the API whose getter and criterion types are specialized. The checksum invalidates
+		 * entries of snapshot builds and of builds without a manifest. It only depends on these class files, so it is the same
+		 * whether they are loaded from a jar, a shaded jar or a class directory.
+		 */
+		static final String PROVIDER = providerVersion();
+
+		static final String JAVA = System.getProperty("java.vm.vendor") + " " + System.getProperty("java.runtime.version",
+				System.getProperty("java.version"));
+
+		private static String providerVersion() {
+			Package p = BytecodeGenerator.class.getPackage();
+			String version = p == null ? null : p.getImplementationVersion();
+			CRC32 crc = new CRC32();
+
+			checksum(crc, BytecodeGenerator.class, CriterionEmitters.class, CriterionEmitter.class, CriterionChunk.class,
+					StackMapFrame.class, OrderingComparators.class, EqualityComparators.class, OrderingCombinators.class,
+					SharedClasses.class, Weaving.class, NestedCriteria.class, SerializedLambdas.class);
+			checksum(crc, OrderingCriterion.class, EqualityCriterion.class, ReversedCriterion.class, GenericGetter.class,
+					ComparableGetter.class, NullSafeComparableCriterion.class, NestedGetter.class, IntGetter.class);
+
+			return (version == null ? "unknown" : version) + "-" + Long.toHexString(crc.getValue());
+		}
+
+		/**
+		 * Checksums the class files of the given classes and their member classes.
+		 */
+		private static void checksum(CRC32 crc, Class<?>... classes) {
+			for (Class<?> clazz : classes) {
+				String name = clazz.getName();
+				String classFile = name.substring(name.lastIndexOf('.') + 1) + ".class";
+				crc.update(classFile.getBytes(StandardCharsets.UTF_8));
+
+				try (InputStream in = clazz.getResourceAsStream(classFile)) {
+					if (in != null) {
+						update(crc, in);
+					}
+				} catch (IOException e) {
+					LOGGER.log(Level.FINE, "Failed to read class file: " + clazz, e);
+				}
+
+				checksum(crc, clazz.getDeclaredClasses());
+			}
+		}
+
+		private static void update(CRC32 crc, InputStream in) throws IOException {
+			byte[] buffer = new byte[8192];
+
+			for (int n; (n = in.read(buffer)) > 0; ) {
+				crc.update(buffer, 0, n);
+			}
+		}
+
+	}
+
+}
@@ -2,20 +2,27 @@ package io.github.jdcmp.codegen;
 
 import io.github.jdcmp.api.HashParameters;
 import io.github.jdcmp.api.comparator.equality.EqualityComparator;
+import io.github.jdcmp.api.documentation.Immutable;
 import io.github.jdcmp.api.documentation.NotThreadSafe;
 import io.github.jdcmp.api.documentation.ThreadSafe;
+import io.github.jdcmp.api.getter.member.MemberCriterion;
 import io.github.jdcmp.api.serialization.SerializationDisabledException;
 import io.github.jdcmp.api.serialization.SerializationProxyRequiredException;
 import io.github.jdcmp.api.spec.Spec;
 import io.github.jdcmp.codegen.ClassDefiner.ClassDefinition;
 import io.github.jdcmp.codegen.ClassDefiners.LookupHiddenClassWithClassDataDefiner;
 import io.github.jdcmp.codegen.ClassDefiners.VMAnonymousClassDefiner;
+import io.github.jdcmp.codegen.FallbackStrategy.FailureMemory;
 import io.github.jdcmp.codegen.ImplSpec.OptionalClassDefiners;
+import io.github.jdcmp.codegen.Instantiators.ConstructorInstantiator;
+import io.github.jdcmp.codegen.SharedClasses.Shape;
+import io.github.jdcmp.codegen.Utils.ThrowableRunnable;
 import io.github.jdcmp.codegen.bridge.StaticInitializerBridge;
 import io.github.jdcmp.codegen.contract.EventHandler;
 import io.github.jdcmp.codegen.customization.AvailableInitializationMode;
 import io.github.jdcmp.codegen.customization.AvailableInitializationMode.InitializationModeMapper;
 import io.github.jdcmp.codegen.customization.AvailableSerializationMode.SerializationModeMapper;
+import org.jetbrains.annotations.Nullable;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.ConstantDynamic;
 import org.objectweb.asm.Handle;
@@ -24,10 +31,15 @@ import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Type;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -48,8 +60,7 @@ import static org.objectweb.asm.Opcodes.ATHROW;
 import static org.objectweb.asm.Opcodes.BIPUSH;
 import static org.objectweb.asm.Opcodes.CHECKCAST;
 import static org.objectweb.asm.Opcodes.DUP;
-import static org.objectweb.asm.Opcodes.F_APPEND;
-import static org.objectweb.asm.Opcodes.F_SAME;
+import static org.objectweb.asm.Opcodes.GETFIELD;
 import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.H_INVOKESTATIC;
 import static org.objectweb.asm.Opcodes.IADD;
@@ -59,14 +70,19 @@ import static org.objectweb.asm.Opcodes.IFEQ;
 import static org.objectweb.asm.Opcodes.IFNE;
 import static org.objectweb.asm.Opcodes.IFNONNULL;
 import static org.objectweb.asm.Opcodes.IFNULL;
+import static org.objectweb.asm.Opcodes.IF_ACMPEQ;
 import static org.objectweb.asm.Opcodes.IF_ACMPNE;
 import static org.objectweb.asm.Opcodes.IMUL;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
+import static org.objectweb.asm.Opcodes.INTEGER;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
 import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
 import static org.objectweb.asm.Opcodes.IRETURN;
 import static org.objectweb.asm.Opcodes.NEW;
+import static org.objectweb.asm.Opcodes.POP;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
 import static org.objectweb.asm.Opcodes.PUTSTATIC;
 import static org.objectweb.asm.Opcodes.RETURN;
 import static org.objectweb.asm.Opcodes.SIPUSH;
@@ -80,20 +96,29 @@ abstract class BytecodeGenerator<C extends EqualityComparator<?>, U extends Spec
 
 	private final AtomicInteger instanceCounter = new AtomicInteger();
 
+	private final SharedClasses<C> sharedClasses = new SharedClasses<>();
+
+	private final InFlightBuilds<C> inFlightBuilds = new InFlightBuilds<>();
+
 	protected BytecodeGenerator(GeneratorConfig config) {
 		this.config = Objects.requireNonNull(config);
 	}
 
 	public <T extends C> T generate(U userSpec, ImplSpec implSpec) {
 		validate(implSpec);
-		Consts consts = new Consts(userSpec, implSpec, config);
 
-		return generate(consts);
+		return cast(inFlightBuilds.build(userSpec, implSpec, shapeOf(userSpec), () -> {
+			Consts consts = new Consts(userSpec, implSpec, config);
+			C comparator = generate(consts);
+			Weaving.created(comparator, userSpec, implSpec, consts.criteria);
+
+			return comparator;
+		}));
 	}
 
 	private <T extends C> T generate(Consts consts) {
 		AvailableInitializationMode initializationMode = consts.implSpec.getInitializationMode();
-		List<Callable<Genesis>> strategies = initializationMode.map(new InitializationModeMapperImpl(consts));
+		List<Candidate> strategies = initializationMode.map(new InitializationModeMapperImpl(consts));
 
 		if (strategies.isEmpty()) {
 			throw NoStrategiesAvailableException.of(consts.implSpec);
@@ -102,28 +127,181 @@ abstract class BytecodeGenerator<C extends EqualityComparator<?>, U extends Spec
 		return generate(consts, strategies);
 	}
 
-	private <T extends C> T generate(Consts consts, List<Callable<Genesis>> strategies) {
+	private <T extends C> T generate(Consts consts, List<Candidate> strategies) {
 		EventHandler eventHandler = consts.implSpec.getEventHandler();
+		C prebuilt = prebuilt(consts);
+
+		if (prebuilt != null) {
+			return cast(prebuilt);
+		}
 
-		return cast(FallbackStrategy.of(strategies).apply(callable -> {
-			Genesis genesis = callable.call();
-			ClassDescription cd = createClassDescription(consts);
+		@Nullable Shape shape = shapeIfShared(consts);
+
+		if (shape != null) {
+			C instance = sharedClasses.newInstance(shape, consts.userSpec, eventHandler);
+
+			if (instance != null) {
+				return cast(instance);
+			}
+		}
+
+		FailureMemory<Candidate> memory = consts.implSpec.getFailedStrategies()
+				.memory(consts.implSpec.getLookup(), eventHandler, candidate -> candidate.description);
+
+		return cast(FallbackStrategy.of(strategies).apply(candidate -> {
+			Genesis genesis = candidate.factory.call();
+			BytecodeCache cache = genesis.isCacheable() ? consts.implSpec.getBytecodeCache().orElse(null) : null;
+			ClassDescription cd;
+			byte[] classBytes;
+
+			if (cache == null) {
+				cd = createClassDescription(consts, genesis.constantStorage(), Integer.toString(instanceCounter.getAndIncrement()));
+				classBytes = genesis.generate(cd);
+				eventHandler.onClassGenerated(classBytes);
+			} else {
+				String description = describe(consts, genesis);
+				String fingerprint = BytecodeCache.fingerprint(description);
+				cd = createClassDescription(consts, genesis.constantStorage(), fingerprint);
+				classBytes = cache.load(fingerprint, description, eventHandler);
+
+				if (classBytes == null) {
+					classBytes = genesis.generate(cd);
+					eventHandler.onClassGenerated(classBytes);
+					cache.store(fingerprint, description, classBytes);
+				} else {
+					genesis.setClassDescription(cd);
+				}
+			}
 
-			byte[] classBytes = genesis.generate(cd);
-			eventHandler.onClassGenerated(classBytes);
 			Class<C> generatedClass = genesis.define(classBytes);
 			eventHandler.onClassDefined(generatedClass, classBytes);
 			C instance = genesis.createInstance(generatedClass);
 			eventHandler.onClassInstantiated(generatedClass, classBytes);
 
+			if (shape != null && cd.constantStorage == ConstantStorage.INSTANCE_FIELDS) {
+				sharedClasses.add(shape, generatedClass, config.specType.clazz);
+			}
+
 			return instance;
-		}));
+		}, memory));
+	}
+
+	/**
+	 * Instantiates the class generated at build time for the given spec, if there is one. While {@link PrebuiltClasses} are
+	 * recorded, generates and records the class instead.
+	 */
+	private @Nullable C prebuilt(Consts consts) {
+		ImplSpec implSpec = consts.implSpec;
+		Class<?> lookupClass = implSpec.getLookup().lookupClass();
+		PrebuiltClasses.Recording recording = PrebuiltClasses.recording();
+
+		if (recording == null && (!implSpec.usePrebuiltClasses() || PrebuiltClasses.isEmpty(lookupClass))) {
+			return null;
+		}
+
+		String fingerprint = BytecodeCache.portableFingerprint(describePrebuilt(consts));
+
+		if (recording != null) {
+			ClassDescription cd = createClassDescription(consts, ConstantStorage.INSTANCE_FIELDS, fingerprint);
+			byte[] bytes = new PrebuiltStrategy(consts).generate(cd);
+			recording.add(lookupClass.getName(), cd.generatedInternalName, fingerprint, bytes);
+
+			return null;
+		}
+
+		@SuppressWarnings("unchecked")
+		Constructor<? extends C> constructor
+				= (Constructor<? extends C>) PrebuiltClasses.constructor(lookupClass, fingerprint, config.specType.clazz);
+
+		if (constructor == null) {
+			return null;
+		}
+
+		C instance = SharedClasses.newInstance(constructor, consts.userSpec);
+		EventHandler eventHandler = implSpec.getEventHandler();
+		ThrowableRunnable.run(() -> eventHandler.onPrebuiltClassInstantiated(constructor.getDeclaringClass()));
+
+		return instance;
+	}
+
+	private @Nullable Shape shapeIfShared(Consts consts) {
+		ImplSpec implSpec = consts.implSpec;
+
+		if (!AvailableInitializationMode.SHARED.equals(implSpec.getInitializationMode())
+				|| implSpec.getInstantiators().stream().noneMatch(Instantiator::requiresConstructor)) {
+			return null;
+		}
+
+		U userSpec = consts.userSpec;
+		Lookup lookup = implSpec.getLookup();
+
+		return new Shape(
+				lookup.lookupClass(),
+				lookup.lookupModes(),
+				userSpec.getClassToCompare(),
+				userSpec.isSerializable(),
+				userSpec.useStrictTypes(),
+				userSpec.getHashParameters(),
+				implSpec.getSerializationMode(),
+				implSpec.generateBridgeMethods(),
+				consts.criteria,
+				shapeOf(userSpec));
+	}
+
+	private ClassDescription createClassDescription(Consts consts, ConstantStorage constantStorage, String classNameSuffix) {
+		return new ClassDescription(config, consts.userSpec, consts.implSpec, classNameSuffix, constantStorage);
 	}
 
-	private ClassDescription createClassDescription(Consts consts) {
-		int classNameSuffix = instanceCounter.getAndIncrement();
+	/**
+	 * Describes everything that affects the bytecode generated by the given strategy. Descriptions must be stable across JVM
+	 * runs, since they are the keys of the {@link BytecodeCache}.
+	 */
+	private String describe(Consts consts, Genesis genesis) {
+		return "generator=" + config.generatedClassNamePrefix +
+				"\nstrategy=" + genesis.getClass().getSimpleName() +
+				", version=" + genesis.classVersion() +
+				", constantStorage=" + genesis.constantStorage() +
+				", constructor=" + genesis.instantiator.requiresConstructor() +
+				"\nconfig=" + consts.implSpec.getClassGeneratorConfig() +
+				describeSpec(consts);
+	}
+
+	/**
+	 * Describes everything that affects the bytecode of {@link PrebuiltClasses}. Independent of the initialization mode, class
+	 * definers and instantiators, which do not apply to classes generated at build time.
+	 */
+	private String describePrebuilt(Consts consts) {
+		ImplSpec implSpec = consts.implSpec;
+
+		return "generator=" + config.generatedClassNamePrefix +
+				"\nstrategy=" + PrebuiltStrategy.class.getSimpleName() +
+				"\nserializationMode=" + implSpec.getSerializationMode().name() +
+				", generateBridgeMethods=" + implSpec.generateBridgeMethods() +
+				describeSpec(consts);
+	}
 
-		return new ClassDescription(config, consts.userSpec, consts.implSpec, classNameSuffix);
+	private String describeSpec(Consts consts) {
+		U userSpec = consts.userSpec;
+		HashParameters hashParameters = userSpec.getHashParameters();
+
+		return "\nlookupClass=" + consts.implSpec.getLookup().lookupClass().getName() +
+				"\nclassToCompare=" + userSpec.getClassToCompare().getName() +
+				"\nserializable=" + userSpec.isSerializable() +
+				", strictTypes=" + userSpec.useStrictTypes() +
+				", hashParameters=" + hashParameters.initialValue() + "/" + hashParameters.multiplier() +
+				", specific=" + shapeOf(userSpec) +
+				"\ncriteria=" + consts.criteria;
+	}
+
+	/**
+	 * Returns the properties of the user spec that affect the generated code, in addition to those of {@link Spec}. Used
+	 * by {@link AvailableInitializationMode#SHARED} to decide whether generated classes can be shared.
+	 *
+	 * @param userSpec The user spec
+	 * @return An object implementing equals and hashCode; null if there are no such properties
+	 */
+	protected @Nullable Object shapeOf(U userSpec) {
+		return null;
 	}
 
 	private void validate(ImplSpec implSpec) {
@@ -150,6 +328,97 @@ abstract class BytecodeGenerator<C extends EqualityComparator<?>, U extends Spec
 
 	abstract protected void addCompatibleSerializationMethod(ClassWriter cw, ClassDescription cd);
 
+	/**
+	 * Pushes the result of <i>areEqual</i> once all criteria consider the objects equal, i.e. true unless the spec has no
+	 * criteria and falls back to another notion of equality. The local variable <i>other</i> holds an instance of the class
+	 * to compare that is not identical to <i>self</i>. May jump to <i>notEqual</i> instead.
+	 *
+	 * @param mv       The method visitor
+	 * @param consts   The constants of the generated class
+	 * @param self     Index of the local variable holding the first object
+	 * @param other    Index of the local variable holding the second object
+	 * @param notEqual Label that returns false
+	 */
+	protected void visitAllCriteriaEqual(MethodVisitor mv, Consts consts, int self, int other, Label notEqual) {
+		mv.visitInsn(ICONST_1);
+	}
+
+	protected CriterionEmitter.GetterLoader getterLoader(ClassDescription cd, int index) {
+		String descriptor = config.getterType.descriptor;
+
+		return new CriterionEmitter.GetterLoader() {
+			@Override
+			public void load(MethodVisitor mv) {
+				visitGetConstant(mv, cd, "getter" + index, descriptor, ClassData.getter(index));
+			}
+
+			@Override
+			public void loadHandle(MethodVisitor mv) {
+				visitGetConstant(mv, cd, "handle" + index, ClassConsts.METHOD_HANDLE_DESCRIPTOR, ClassData.handle(cd, index));
+			}
+		};
+	}
+
+	protected void visitGetSpec(MethodVisitor mv, ClassDescription cd) {
+		visitGetConstant(mv, cd, "spec", config.specType.descriptor, ClassData.SPEC);
+	}
+
+	protected static void visitGetClassToCompare(MethodVisitor mv, ClassDescription cd) {
+		visitGetConstant(mv, cd, "classToCompare", ClassConsts.CLASS_DESCRIPTOR, ClassData.CLASS_TO_COMPARE);
+	}
+
+	/**
+	 * Casts the object in the given local variable to the class to compare, discarding the result. Classes that the generated
+	 * class can name are checked by CHECKCAST against a class constant, all others by {@link Class#cast(Object)}.
+	 */
+	protected void visitCheckType(MethodVisitor mv, ClassDescription cd, Consts consts, int local) {
+		if (consts.namesClassToCompare) {
+			mv.visitVarInsn(ALOAD, local);
+			mv.visitTypeInsn(CHECKCAST, consts.classToCompare.internalName);
+		} else {
+			visitGetClassToCompare(mv, cd);
+			mv.visitVarInsn(ALOAD, local);
+			mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/Class", "cast", "(Ljava/lang/Object;)Ljava/lang/Object;", false);
+		}
+		mv.visitInsn(POP);
+	}
+
+	/**
+	 * Pushes a constant onto the stack, either from a field or from the class data. The name of class data constants must be
+	 * "_", see <code>MethodHandles.classData</code>.
+	 */
+	private static void visitGetConstant(MethodVisitor mv, ClassDescription cd, String name, String descriptor, int classDataIndex) {
+		switch (cd.constantStorage) {
+			case STATIC_FIELDS:
+				mv.visitFieldInsn(GETSTATIC, cd.generatedInternalName, name, descriptor);
+				break;
+			case INSTANCE_FIELDS:
+				mv.visitVarInsn(ALOAD, 0);
+				mv.visitFieldInsn(GETFIELD, cd.generatedInternalName, name, descriptor);
+				break;
+			case CLASS_DATA:
+				mv.visitLdcInsn(new ConstantDynamic("_", descriptor, LookupHiddenHolder.CLASS_DATA_AT_HANDLE, classDataIndex));
+				break;
+			default:
+				throw new AssertionError("Unknown constant storage: " + cd.constantStorage);
+		}
+	}
+
+	/**
+	 * Pushes the receiver of a helper method onto the stack, if the helper method is not static. Must precede the arguments.
+	 */
+	protected static void visitHelperReceiver(MethodVisitor mv, ClassDescription cd) {
+		if (!cd.hasStaticHelpers()) {
+			mv.visitVarInsn(ALOAD, 0);
+		}
+	}
+
+	protected static void visitInvokeHelper(MethodVisitor mv, ClassDescription cd, String name, String descriptor) {
+		int opcode = cd.hasStaticHelpers() ? INVOKESTATIC : INVOKESPECIAL;
+
+		mv.visitMethodInsn(opcode, cd.generatedInternalName, name, descriptor, false);
+	}
+
 	protected static void endReturn(MethodVisitor mv, int returnOpcode) {
 		mv.visitInsn(returnOpcode);
 		mv.visitMaxs(0, 0);
@@ -184,16 +453,35 @@ abstract class BytecodeGenerator<C extends EqualityComparator<?>, U extends Spec
 
 		abstract protected int classVersion();
 
+		/**
+		 * Where the generated class stores its constants.
+		 */
+		protected ConstantStorage constantStorage() {
+			return ConstantStorage.STATIC_FIELDS;
+		}
+
+		/**
+		 * Whether the bytecode only depends on the description of the class and may therefore be stored
+		 * in the {@link BytecodeCache}. The name of cached classes is not unique, which requires hidden or VM-anonymous classes.
+		 */
+		protected boolean isCacheable() {
+			return false;
+		}
+
 		abstract public Class<C> define(byte[] bytes);
 
 		abstract public C createInstance(Class<C> generatedClass);
 
-		public final byte[] generate(ClassDescription cd) {
+		public final void setClassDescription(ClassDescription cd) {
 			this.cd = Objects.requireNonNull(cd);
+		}
+
+		public final byte[] generate(ClassDescription cd) {
+			setClassDescription(cd);
 
 			ClassWriter cw = createClassWriter();
 			addFields(cw);
-			addConstructorIfNecessary(cw);
+			addConstructor(cw);
 			addInterfaceImpl(cw);
 			BytecodeGenerator.this.customize(cw, cd, consts);
 			customize(cw);
@@ -214,18 +502,26 @@ abstract class BytecodeGenerator<C extends EqualityComparator<?>, U extends Spec
 			return cw.toByteArray();
 		}
 
+		/**
+		 * Creates a writer that computes the maximum stack size and number of locals, but not the frames. Methods with
+		 * branches visit their frames explicitly, see {@link StackMapFrame}.
+		 */
 		protected ClassWriter createClassWriter() {
 			String[] interfaces = consts.interfaces;
 			String name = cd.generatedInternalName;
 			String signature = consts.generatedClassSignature;
-			ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
+			ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
 			cw.visit(classVersion(), ClassConsts.ACCESS_CLASS, name, signature, "java/lang/Object", interfaces);
 
 			return cw;
 		}
 
 		private void addFields(ClassWriter cw) {
-			int access = ClassConsts.ACCESS_FIELD;
+			if (cd.constantStorage == ConstantStorage.CLASS_DATA) {
+				return;
+			}
+
+			int access = cd.constantStorage == ConstantStorage.STATIC_FIELDS ? ClassConsts.ACCESS_FIELD : ClassConsts.ACCESS_INSTANCE_FIELD;
 
 			if (isSerializable()) {
 				cw.visitField(access, "spec", config.specType.descriptor, consts.specSignature, null).visitEnd();
@@ -238,10 +534,14 @@ abstract class BytecodeGenerator<C extends EqualityComparator<?>, U extends Spec
 			String getterSignature = consts.getterSignature;
 			for (int i = 0; i < consts.userSpec.getGetterCount(); ++i) {
 				cw.visitField(access, "getter" + i, getterDescriptor, getterSignature, null).visitEnd();
+
+				if (consts.criteria.get(i).requiresHandle()) {
+					cw.visitField(access, "handle" + i, ClassConsts.METHOD_HANDLE_DESCRIPTOR, null, null).visitEnd();
+				}
 			}
 		}
 
-		private void addConstructorIfNecessary(ClassWriter cw) {
+		protected void addConstructor(ClassWriter cw) {
 			if (!instantiator.requiresConstructor()) {
 				return;
 			}
@@ -331,24 +631,21 @@ abstract class BytecodeGenerator<C extends EqualityComparator<?>, U extends Spec
 
 		final class Hash {
 
-			final ClassDescription cd;
+			static final String HELPER_DESCRIPTOR = "(Ljava/lang/Object;)I";
 
-			final String descriptorBridge;
+			final ClassDescription cd;
 
 			Hash(ClassDescription cd) {
 				this.cd = cd;
-				this.descriptorBridge = "(" + consts.classToCompare.descriptor + ")I";
 			}
 
 			void addTo(ClassWriter cw) {
 				final String descriptor = generateDescriptor();
-				final String signature = "(" + consts.classToCompare.descriptor + ")I";
-				final String getterInternalName = config.getterType.internalName;
-				final String getterDescriptor = config.getterType.descriptor;
-				final String hashDescriptor = "(Ljava/lang/Object;)I";
+				final String signature = consts.classToCompare.hashDescriptor;
 
 				MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "hash", descriptor, signature, null);
 				mv.visitCode();
+				StackMapFrame frame = cd.frame(parameterType());
 
 				mv.visitVarInsn(ALOAD, 1);
 				Label label0 = new Label();
@@ -356,40 +653,70 @@ abstract class BytecodeGenerator<C extends EqualityComparator<?>, U extends Spec
 				mv.visitInsn(ICONST_0);
 				mv.visitInsn(IRETURN);
 				mv.visitLabel(label0);
+				frame.visit(mv);
 
-				int getterCount = consts.userSpec.getGetterCount();
+				if (consts.userSpec.useStrictTypes()) {
+					visitCheckType(mv, cd, consts, 1);
+				}
+
+				List<CriterionEmitter> criteria = consts.criteria;
+				int getterCount = criteria.size();
 				HashParameters hashParameters = consts.userSpec.getHashParameters();
 				int[] multipliers = calculateMultipliers(hashParameters.multiplier(), getterCount);
 				insertNumber(mv, hashParameters.initialValue() * multipliers[0]);
 
-				for (int i = 0; i < getterCount; ++i) {
-					mv.visitFieldInsn(GETSTATIC, cd.generatedInternalName, "getter" + i, getterDescriptor);
-
-					if (consts.userSpec.useStrictTypes() && i == 0) {
-						mv.visitFieldInsn(GETSTATIC, cd.generatedInternalName, "classToCompare", ClassConsts.CLASS_DESCRIPTOR);
-						mv.visitVarInsn(ALOAD, 1);
-						mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/Class", "cast", "(Ljava/lang/Object;)Ljava/lang/Object;", false);
-					} else {
+				if (CriterionChunk.isNecessary(getterCount)) {
+					for (CriterionChunk chunk : CriterionChunk.of(getterCount)) {
+						visitHelperReceiver(mv, cd);
 						mv.visitVarInsn(ALOAD, 1);
+						visitInvokeHelper(mv, cd, chunk.methodName("hash"), HELPER_DESCRIPTOR);
+						mv.visitInsn(IADD);
+						addHelperMethod(cw, chunk, multipliers);
 					}
+				} else {
+					visitHashes(mv, 0, getterCount, multipliers, 1, frame.push(INTEGER));
+				}
+
+				endReturn(mv, IRETURN);
+
+				if (consts.generateBridgeMethods) {
+					addBridgeMethod(cw);
+				}
+			}
+
+			private void addHelperMethod(ClassWriter cw, CriterionChunk chunk, int[] multipliers) {
+				MethodVisitor mv = cw.visitMethod(cd.helperAccess(), chunk.methodName("hash"), HELPER_DESCRIPTOR, null, null);
+				mv.visitCode();
+
+				mv.visitInsn(ICONST_0);
+				StackMapFrame frame = cd.helperFrame(ClassConsts.OBJECT_INTERNAL_NAME).push(INTEGER);
+				visitHashes(mv, chunk.start, chunk.end, multipliers, cd.helperLocal(0), frame);
+
+				endReturn(mv, IRETURN);
+			}
+
+			/**
+			 * Adds the weighted hashes of the criteria to the int on top of the stack, which the frame must include.
+			 */
+			private void visitHashes(MethodVisitor mv, int start, int end, int[] multipliers, int object, StackMapFrame frame) {
+				int getterCount = consts.criteria.size();
 
-					mv.visitMethodInsn(INVOKEINTERFACE, getterInternalName, "hash", hashDescriptor, true);
+				for (int i = start; i < end; ++i) {
+					consts.criteria.get(i).hash(mv, getterLoader(cd, i), object, object + 1, frame);
 					if (i < getterCount - 1) {
 						insertNumber(mv, multipliers[i + 1]);
 						mv.visitInsn(IMUL);
 					}
 					mv.visitInsn(IADD);
 				}
-
-				endReturn(mv, IRETURN);
-
-				if (consts.implSpec.generateBridgeMethods()) {
-					addBridgeMethod(cw);
-				}
 			}
 
 			private String generateDescriptor() {
-				return consts.implSpec.generateBridgeMethods() ? "(" + consts.classToCompare.descriptor + ")I" : "(Ljava/lang/Object;)I";
+				return consts.generateBridgeMethods ? consts.classToCompare.hashDescriptor : "(Ljava/lang/Object;)I";
+			}
+
+			private String parameterType() {
+				return consts.generateBridgeMethods ? consts.classToCompare.internalName : ClassConsts.OBJECT_INTERNAL_NAME;
 			}
 
 			private void addBridgeMethod(ClassWriter cw) {
@@ -399,7 +726,7 @@ abstract class BytecodeGenerator<C extends EqualityComparator<?>, U extends Spec
 				mv.visitVarInsn(ALOAD, 0);
 				mv.visitVarInsn(ALOAD, 1);
 				mv.visitTypeInsn(CHECKCAST, consts.classToCompare.internalName);
-				String targetDescriptor = "(" + consts.classToCompare.descriptor + ")I";
+				String targetDescriptor = consts.classToCompare.hashDescriptor;
 				mv.visitMethodInsn(INVOKEVIRTUAL, cd.generatedInternalName, "hash", targetDescriptor, false);
 
 				endReturn(mv, IRETURN);
@@ -432,6 +759,8 @@ abstract class BytecodeGenerator<C extends EqualityComparator<?>, U extends Spec
 
 		final class AreEqual {
 
+			static final String HELPER_DESCRIPTOR = "(Ljava/lang/Object;Ljava/lang/Object;)Z";
+
 			final ClassDescription cd;
 
 			AreEqual(ClassDescription cd) {
@@ -439,16 +768,18 @@ abstract class BytecodeGenerator<C extends EqualityComparator<?>, U extends Spec
 			}
 
 			void addTo(ClassWriter cw) {
-				final String descriptorTypeSafe = "(" + consts.classToCompare.descriptor + "Ljava/lang/Object;)Z";
+				final String descriptorTypeSafe = consts.classToCompare.areEqualDescriptor;
 				final String descriptorNoBridge = "(Ljava/lang/Object;Ljava/lang/Object;)Z";
-				final String descriptor = consts.implSpec.generateBridgeMethods() ? descriptorTypeSafe : descriptorNoBridge;
+				final String descriptor = consts.generateBridgeMethods ? descriptorTypeSafe : descriptorNoBridge;
 				final String signature = descriptorTypeSafe;
-				final String getterInternalName = config.getterType.internalName;
-				final String getterDescriptor = config.getterType.descriptor;
-				final String areEqualDescriptor = descriptorNoBridge;
 
 				MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "areEqual", descriptor, signature, null);
 				mv.visitCode();
+				String selfType = consts.generateBridgeMethods ? consts.classToCompare.internalName : ClassConsts.OBJECT_INTERNAL_NAME;
+				StackMapFrame frame = cd.frame(selfType, ClassConsts.OBJECT_INTERNAL_NAME);
+				boolean storesClass = consts.userSpec.useStrictTypes() && !consts.namesClassToCompare;
+				StackMapFrame checking = storesClass ? frame.withLocal(3, ClassConsts.CLASS_INTERNAL_NAME) : frame;
+				StackMapFrame comparing = frame.withLocal(3, ClassConsts.OBJECT_INTERNAL_NAME);
 
 				Label label0 = new Label();
 				mv.visitLabel(label0);
@@ -464,53 +795,48 @@ abstract class BytecodeGenerator<C extends EqualityComparator<?>, U extends Spec
 				mv.visitInsn(IRETURN);
 
 				mv.visitLabel(label1);
-				mv.visitFrame(F_SAME, 0, null, 0, null);
+				checking.visit(mv);
 				mv.visitVarInsn(ALOAD, 1);
 				Label label3 = new Label();
 				mv.visitJumpInsn(IFNULL, label3);
-				if (consts.userSpec.useStrictTypes()) {
-					mv.visitVarInsn(ALOAD, 3);
-				} else {
-					mv.visitFieldInsn(GETSTATIC, cd.generatedInternalName, "classToCompare", "Ljava/lang/Class;");
-				}
-				mv.visitVarInsn(ALOAD, 2);
-				mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/Class", "isInstance", "(Ljava/lang/Object;)Z", false);
 				Label label4 = new Label();
-				mv.visitJumpInsn(IFNE, label4);
+				visitJumpIfInstance(mv, storesClass, label3, label4);
 				mv.visitLabel(label3);
-				mv.visitFrame(F_SAME, 0, null, 0, null);
+				checking.visit(mv);
 				mv.visitInsn(ICONST_0);
 				mv.visitInsn(IRETURN);
 				mv.visitLabel(label4);
-				mv.visitFrame(F_SAME, 0, null, 0, null);
+				checking.visit(mv);
 				mv.visitVarInsn(ALOAD, 2);
 				mv.visitVarInsn(ASTORE, 3);
 
 				Label label5 = new Label();
 				mv.visitLabel(label5);
-				mv.visitFieldInsn(GETSTATIC, cd.generatedInternalName, "getter0", getterDescriptor);
-				mv.visitVarInsn(ALOAD, 1);
-				mv.visitVarInsn(ALOAD, 3);
-				mv.visitMethodInsn(INVOKEINTERFACE, getterInternalName, "areEqual", areEqualDescriptor, true);
 
 				Label label6 = new Label();
+				List<CriterionEmitter> criteria = consts.criteria;
 
-				for (int i = 1; i < consts.userSpec.getGetterCount(); ++i) {
-					mv.visitJumpInsn(IFEQ, label6);
-					mv.visitFieldInsn(GETSTATIC, cd.generatedInternalName, "getter" + i, getterDescriptor);
-					mv.visitVarInsn(ALOAD, 1);
-					mv.visitVarInsn(ALOAD, 3);
-					mv.visitMethodInsn(INVOKEINTERFACE, getterInternalName, "areEqual", areEqualDescriptor, true);
+				if (CriterionChunk.isNecessary(criteria.size())) {
+					for (CriterionChunk chunk : CriterionChunk.of(criteria.size())) {
+						visitHelperReceiver(mv, cd);
+						mv.visitVarInsn(ALOAD, 1);
+						mv.visitVarInsn(ALOAD, 3);
+						visitInvokeHelper(mv, cd, chunk.methodName("areEqual"), HELPER_DESCRIPTOR);
+						mv.visitJumpInsn(IFEQ, label6);
+						addHelperMethod(cw, chunk);
+					}
+				} else {
+					for (int i = 0; i < criteria.size(); ++i) {
+						criteria.get(i).areEqual(mv, getterLoader(cd, i), 1, 3, 4, label6, comparing);
+					}
 				}
 
-				mv.visitJumpInsn(IFEQ, label6);
-
 				Label label9 = new Label();
 				mv.visitLabel(label9);
-				mv.visitInsn(ICONST_1);
+				visitAllCriteriaEqual(mv, consts, 1, 3, label6);
 				mv.visitInsn(IRETURN);
 				mv.visitLabel(label6);
-				mv.visitFrame(F_APPEND, 1, new Object[] {"java/lang/Object"}, 0, null);
+				comparing.visit(mv);
 				mv.visitInsn(ICONST_0);
 				mv.visitInsn(IRETURN);
 
@@ -522,14 +848,68 @@ abstract class BytecodeGenerator<C extends EqualityComparator<?>, U extends Spec
 				mv.visitMaxs(0, 0);
 				mv.visitEnd();
 
-				if (consts.implSpec.generateBridgeMethods()) {
+				if (consts.generateBridgeMethods) {
 					addBridgeMethod(cw);
 				}
 			}
 
+			private void addHelperMethod(ClassWriter cw, CriterionChunk chunk) {
+				MethodVisitor mv = cw.visitMethod(cd.helperAccess(), chunk.methodName("areEqual"), HELPER_DESCRIPTOR, null, null);
+				mv.visitCode();
+				StackMapFrame frame = cd.helperFrame(ClassConsts.OBJECT_INTERNAL_NAME, ClassConsts.OBJECT_INTERNAL_NAME);
+
+				Label notEqual = new Label();
+				for (int i = chunk.start; i < chunk.end; ++i) {
+					consts.criteria.get(i).areEqual(mv, getterLoader(cd, i), cd.helperLocal(0), cd.helperLocal(1), cd.helperLocal(2), notEqual, frame);
+				}
+
+				mv.visitInsn(ICONST_1);
+				mv.visitInsn(IRETURN);
+				mv.visitLabel(notEqual);
+				frame.visit(mv);
+				mv.visitInsn(ICONST_0);
+				endReturn(mv, IRETURN);
+			}
+
+			/**
+			 * Jumps to <i>instance</i> if <i>other</i> is an instance of the class to compare, and falls through or jumps to
+			 * <i>notInstance</i> otherwise. Final classes that cannot be named are compared exactly, which is cheaper than
+			 * {@link Class#isInstance(Object)} if the class is not a constant, e.g. in shared classes.
+			 */
+			private void visitJumpIfInstance(MethodVisitor mv, boolean storesClass, Label notInstance, Label instance) {
+				if (consts.namesClassToCompare) {
+					mv.visitVarInsn(ALOAD, 2);
+					mv.visitTypeInsn(INSTANCEOF, consts.classToCompare.internalName);
+					mv.visitJumpInsn(IFNE, instance);
+				} else if (Modifier.isFinal(consts.classToCompare.clazz.getModifiers())) {
+					mv.visitVarInsn(ALOAD, 2);
+					mv.visitJumpInsn(IFNULL, notInstance);
+					mv.visitVarInsn(ALOAD, 2);
+					mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/Object", "getClass", "()Ljava/lang/Class;", false);
+					visitLoadClass(mv, storesClass);
+					mv.visitJumpInsn(IF_ACMPEQ, instance);
+				} else {
+					visitLoadClass(mv, storesClass);
+					mv.visitVarInsn(ALOAD, 2);
+					mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/Class", "isInstance", "(Ljava/lang/Object;)Z", false);
+					mv.visitJumpInsn(IFNE, instance);
+				}
+			}
+
+			private void visitLoadClass(MethodVisitor mv, boolean storesClass) {
+				if (storesClass) {
+					mv.visitVarInsn(ALOAD, 3);
+				} else {
+					visitGetClassToCompare(mv, cd);
+				}
+			}
+
 			private void putObjectsToCompareOntoStack(MethodVisitor mv) {
-				if (consts.userSpec.useStrictTypes()) {
-					mv.visitFieldInsn(GETSTATIC, cd.generatedInternalName, "classToCompare", "Ljava/lang/Class;");
+				if (consts.userSpec.useStrictTypes() && consts.namesClassToCompare) {
+					mv.visitVarInsn(ALOAD, 1);
+					mv.visitTypeInsn(CHECKCAST, consts.classToCompare.internalName);
+				} else if (consts.userSpec.useStrictTypes()) {
+					visitGetClassToCompare(mv, cd);
 					mv.visitInsn(DUP);
 					mv.visitVarInsn(ASTORE, 3);
 					mv.visitVarInsn(ALOAD, 1);
@@ -549,7 +929,7 @@ abstract class BytecodeGenerator<C extends EqualityComparator<?>, U extends Spec
 				mv.visitVarInsn(ALOAD, 1);
 				mv.visitTypeInsn(CHECKCAST, consts.classToCompare.internalName);
 				mv.visitVarInsn(ALOAD, 2);
-				String targetDescriptor = "(" + consts.classToCompare.descriptor + "Ljava/lang/Object;)Z";
+				String targetDescriptor = consts.classToCompare.areEqualDescriptor;
 				mv.visitMethodInsn(INVOKEVIRTUAL, cd.generatedInternalName, "areEqual", targetDescriptor, false);
 
 				endReturn(mv, IRETURN);
@@ -593,7 +973,7 @@ abstract class BytecodeGenerator<C extends EqualityComparator<?>, U extends Spec
 
 			mv.visitInsn(DUP);
 			init.addClassToCompare(userSpec);
-			init.addGetters(userSpec);
+			init.addGetters(userSpec, consts.criteria);
 		}
 
 	}
@@ -666,6 +1046,11 @@ abstract class BytecodeGenerator<C extends EqualityComparator<?>, U extends Spec
 			return V16;
 		}
 
+		@Override
+		protected boolean isCacheable() {
+			return true;
+		}
+
 		@Override
 		protected void visitPutSpecOnStack(MethodVisitor mv) {
 			Handle handle = LookupHiddenHolder.CLASS_DATA_HANDLE;
@@ -687,21 +1072,256 @@ abstract class BytecodeGenerator<C extends EqualityComparator<?>, U extends Spec
 
 	}
 
+	/**
+	 * Defines a hidden class whose constants are loaded from its class data, see {@link ClassData}. The class has neither
+	 * fields nor a static initializer.
+	 */
+	private final class ClassDataStrategy extends Genesis {
+
+		final LookupHiddenClassWithClassDataDefiner classDefiner;
+
+		ClassDataStrategy(Consts consts, Instantiator instantiator, LookupHiddenClassWithClassDataDefiner classDefiner) {
+			super(consts, instantiator);
+			this.classDefiner = Objects.requireNonNull(classDefiner);
+		}
+
+		@Override
+		protected int classVersion() {
+			return V16;
+		}
+
+		@Override
+		protected ConstantStorage constantStorage() {
+			return ConstantStorage.CLASS_DATA;
+		}
+
+		@Override
+		protected boolean isCacheable() {
+			return true;
+		}
+
+		@Override
+		public Class<C> define(byte[] bytes) {
+			ClassDefinition classDefinition = new ClassDefinition(bytes, cd.generatedInternalName, consts.implSpec.getLookup());
+
+			return classDefiner.defineClass(classDefinition, ClassData.of(consts.userSpec, consts.criteria));
+		}
+
+		@Override
+		public C createInstance(Class<C> generatedClass) {
+			return instantiator.newInstance(generatedClass);
+		}
+
+	}
+
 	private static final class LookupHiddenHolder {
 
 		static final Handle CLASS_DATA_HANDLE;
 
+		static final Handle CLASS_DATA_AT_HANDLE;
+
 		static {
 			try {
-				Method classData = MethodHandles.class.getDeclaredMethod("classData", Lookup.class, String.class, Class.class);
 				String owner = Type.getInternalName(MethodHandles.class);
-				String descriptor = Type.getMethodDescriptor(classData);
-				CLASS_DATA_HANDLE = new Handle(H_INVOKESTATIC, owner, "classData", descriptor, false);
+				CLASS_DATA_HANDLE = handle(owner, "classData", Lookup.class, String.class, Class.class);
+				CLASS_DATA_AT_HANDLE = handle(owner, "classDataAt", Lookup.class, String.class, Class.class, int.class);
 			} catch (Exception e) {
 				throw new ExceptionInInitializerError(e);
 			}
 		}
 
+		/**
+		 * Creates the handle without loading the method, which may be absent on older Java versions.
+		 */
+		private static Handle handle(String owner, String name, Class<?>... parameterTypes) {
+			Type[] argumentTypes = new Type[parameterTypes.length];
+
+			for (int i = 0; i < parameterTypes.length; ++i) {
+				argumentTypes[i] = Type.getType(parameterTypes[i]);
+			}
+
+			String descriptor = Type.getMethodDescriptor(Type.getType(Object.class), argumentTypes);
+
+			return new Handle(H_INVOKESTATIC, owner, name, descriptor, false);
+		}
+
+	}
+
+	/**
+	 * <p>Layout of the class data used by {@link AvailableInitializationMode#CLASS_DATA}: an immutable list containing the spec,
+	 * the class to compare, the getters and the handles of getters with {@link CriterionEmitter#requiresHandle()}.</p>
+	 *
+	 * <p>Each element is loaded by a <i>ConstantDynamic</i> calling <code>MethodHandles.classDataAt</code>. Once resolved, the
+	 * constant is as trusted as a static final field.</p>
+	 */
+	static final class ClassData {
+
+		static final int SPEC = 0;
+
+		static final int CLASS_TO_COMPARE = 1;
+
+		private static final int GETTERS = 2;
+
+		static int getter(int index) {
+			return GETTERS + index;
+		}
+
+		static int handle(ClassDescription cd, int index) {
+			return GETTERS + cd.getterCount + index;
+		}
+
+		static List<Object> of(Spec<?, ?> userSpec, List<CriterionEmitter> criteria) {
+			int getterCount = criteria.size();
+			Object[] classData = new Object[GETTERS + 2 * getterCount];
+			classData[SPEC] = userSpec;
+			classData[CLASS_TO_COMPARE] = userSpec.getClassToCompare();
+
+			int i = 0;
+			for (Object getter : userSpec.getGetters()) {
+				classData[GETTERS + i] = criteria.get(i).getterConstant(getter);
+
+				if (criteria.get(i).requiresHandle()) {
+					classData[GETTERS + getterCount + i] = ((MemberCriterion) criteria.get(i).memberCriterion(getter)).getHandle();
+				}
+
+				++i;
+			}
+
+			return Collections.unmodifiableList(Arrays.asList(classData));
+		}
+
+		private ClassData() {
+			throw new AssertionError("No instances");
+		}
+
+	}
+
+	/**
+	 * Generates a class whose constants are stored in final instance fields, initialized by a constructor taking the spec.
+	 */
+	private abstract class GenesisInstanceFields extends Genesis {
+
+		protected GenesisInstanceFields(Consts consts, Instantiator instantiator) {
+			super(consts, instantiator);
+		}
+
+		@Override
+		protected int classVersion() {
+			return V1_8;
+		}
+
+		@Override
+		protected ConstantStorage constantStorage() {
+			return ConstantStorage.INSTANCE_FIELDS;
+		}
+
+		@Override
+		protected void addConstructor(ClassWriter cw) {
+			String owner = cd.generatedInternalName;
+			String specDescriptor = config.specType.descriptor;
+			MethodVisitor mv = cw.visitMethod(ACC_PRIVATE, "<init>", "(" + specDescriptor + ")V", null, null);
+			mv.visitCode();
+			mv.visitVarInsn(ALOAD, 0);
+			mv.visitMethodInsn(INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+
+			if (isSerializable()) {
+				mv.visitVarInsn(ALOAD, 0);
+				mv.visitVarInsn(ALOAD, 1);
+				mv.visitFieldInsn(PUTFIELD, owner, "spec", specDescriptor);
+			}
+
+			mv.visitVarInsn(ALOAD, 0);
+			mv.visitVarInsn(ALOAD, 1);
+			mv.visitMethodInsn(INVOKEINTERFACE, config.specType.internalName, "getClassToCompare", "()Ljava/lang/Class;", true);
+			mv.visitFieldInsn(PUTFIELD, owner, "classToCompare", ClassConsts.CLASS_DESCRIPTOR);
+
+			mv.visitVarInsn(ALOAD, 1);
+			mv.visitMethodInsn(INVOKEINTERFACE, config.specType.internalName, "getGettersAsList", "()Ljava/util/List;", true);
+			mv.visitVarInsn(ASTORE, 2);
+			String getterDescriptor = config.getterType.descriptor;
+
+			for (int i = 0; i < cd.getterCount; ++i) {
+				mv.visitVarInsn(ALOAD, 0);
+				mv.visitVarInsn(ALOAD, 2);
+				insertNumber(mv, i);
+				mv.visitMethodInsn(INVOKEINTERFACE, "java/util/List", "get", "(I)Ljava/lang/Object;", true);
+				consts.criteria.get(i).visitGetterConstant(mv);
+				mv.visitTypeInsn(CHECKCAST, config.getterType.internalName);
+				mv.visitFieldInsn(PUTFIELD, owner, "getter" + i, getterDescriptor);
+
+				if (consts.criteria.get(i).requiresHandle()) {
+					mv.visitVarInsn(ALOAD, 0);
+					mv.visitVarInsn(ALOAD, 0);
+					mv.visitFieldInsn(GETFIELD, owner, "getter" + i, getterDescriptor);
+					consts.criteria.get(i).visitMemberCriterion(mv);
+					mv.visitTypeInsn(CHECKCAST, ClassConsts.MEMBER_CRITERION_INTERNAL_NAME);
+					mv.visitMethodInsn(
+							INVOKEINTERFACE,
+							ClassConsts.MEMBER_CRITERION_INTERNAL_NAME,
+							"getHandle",
+							"()" + ClassConsts.METHOD_HANDLE_DESCRIPTOR,
+							true);
+					mv.visitFieldInsn(PUTFIELD, owner, "handle" + i, ClassConsts.METHOD_HANDLE_DESCRIPTOR);
+				}
+			}
+
+			endReturn(mv, RETURN);
+		}
+
+	}
+
+	/**
+	 * Defines a class that is shared by all comparators of the same {@link Shape}, see {@link SharedClasses}.
+	 */
+	private final class SharedStrategy extends GenesisInstanceFields {
+
+		private final ClassDefiner classDefiner;
+
+		SharedStrategy(Consts consts, Instantiator instantiator, ClassDefiner classDefiner) {
+			super(consts, instantiator);
+			this.classDefiner = Objects.requireNonNull(classDefiner);
+		}
+
+		@Override
+		protected boolean isCacheable() {
+			return classDefiner.producesVmAnonymousOrHiddenClasses();
+		}
+
+		@Override
+		public Class<C> define(byte[] bytes) {
+			ClassDefinition classDefinition = new ClassDefinition(bytes, cd.generatedInternalName, consts.implSpec.getLookup());
+
+			return classDefiner.defineClass(classDefinition);
+		}
+
+		@Override
+		public C createInstance(Class<C> generatedClass) {
+			return SharedClasses.newInstance(SharedClasses.constructor(generatedClass, config.specType.clazz), consts.userSpec);
+		}
+
+	}
+
+	/**
+	 * Generates a class at build time, which is written to disk instead of being defined, see {@link PrebuiltClasses}. Only
+	 * {@link #generate(ClassDescription)} is called. It is never a {@link Candidate}, since prebuilt classes are loaded by
+	 * name and instantiated via {@link PrebuiltClasses#constructor(Class, String, Class)}.
+	 */
+	private final class PrebuiltStrategy extends GenesisInstanceFields {
+
+		PrebuiltStrategy(Consts consts) {
+			super(consts, new ConstructorInstantiator());
+		}
+
+		@Override
+		public Class<C> define(byte[] bytes) {
+			throw new AssertionError("Prebuilt classes are loaded by name");
+		}
+
+		@Override
+		public C createInstance(Class<C> generatedClass) {
+			throw new AssertionError("Prebuilt classes are instantiated via their constructor");
+		}
+
 	}
 
 	private final class StaticInitializerBridgeStrategy extends GenesisStaticInitializer {
@@ -718,6 +1338,11 @@ abstract class BytecodeGenerator<C extends EqualityComparator<?>, U extends Spec
 			return V1_8;
 		}
 
+		@Override
+		protected boolean isCacheable() {
+			return classDefiner.producesVmAnonymousOrHiddenClasses();
+		}
+
 		@Override
 		protected void visitPutSpecOnStack(MethodVisitor mv) {
 			mv.visitMethodInsn(
@@ -786,7 +1411,7 @@ abstract class BytecodeGenerator<C extends EqualityComparator<?>, U extends Spec
 			}
 
 			fieldInitializer.addClassToCompare(userSpec);
-			fieldInitializer.addGetters(userSpec);
+			fieldInitializer.addGetters(userSpec, consts.criteria);
 		}
 
 	}
@@ -803,10 +1428,17 @@ abstract class BytecodeGenerator<C extends EqualityComparator<?>, U extends Spec
 			Internals.setStaticFieldVolatile(generatedClass, "classToCompare", spec.getClassToCompare());
 		}
 
-		public void addGetters(Spec<?, ?> spec) {
+		public void addGetters(Spec<?, ?> spec, List<CriterionEmitter> criteria) {
 			int i = 0;
 			for (Object getter : spec.getGetters()) {
-				Internals.setStaticFieldVolatile(generatedClass, "getter" + i++, getter);
+				Internals.setStaticFieldVolatile(generatedClass, "getter" + i, criteria.get(i).getterConstant(getter));
+
+				if (criteria.get(i).requiresHandle()) {
+					MemberCriterion memberCriterion = (MemberCriterion) criteria.get(i).memberCriterion(getter);
+					Internals.setStaticFieldVolatile(generatedClass, "handle" + i, memberCriterion.getHandle());
+				}
+
+				++i;
 			}
 		}
 
@@ -832,10 +1464,16 @@ abstract class BytecodeGenerator<C extends EqualityComparator<?>, U extends Spec
 			mv.visitFieldInsn(PUTSTATIC, owner, "classToCompare", ClassConsts.CLASS_DESCRIPTOR);
 		}
 
-		public void addGetters(Spec<?, ?> spec) {
+		public void addGetters(Spec<?, ?> spec, List<CriterionEmitter> criteria) {
+			int getterCount = spec.getGetterCount();
+
+			if (getterCount == 0) {
+				mv.visitInsn(POP);
+				return;
+			}
+
 			mv.visitMethodInsn(INVOKEINTERFACE, config.specType.internalName, "getGettersAsList", "()Ljava/util/List;", true);
 			String getterDescriptor = config.getterType.descriptor;
-			int getterCount = spec.getGetterCount();
 
 			for (int i = 0; i < getterCount; ++i) {
 				if (i < getterCount - 1) {
@@ -843,7 +1481,21 @@ abstract class BytecodeGenerator<C extends EqualityComparator<?>, U extends Spec
 				}
 				insertNumber(mv, i);
 				mv.visitMethodInsn(INVOKEINTERFACE, "java/util/List", "get", "(I)Ljava/lang/Object;", true);
+				criteria.get(i).visitGetterConstant(mv);
 				mv.visitFieldInsn(PUTSTATIC, owner, "getter" + i, getterDescriptor);
+
+				if (criteria.get(i).requiresHandle()) {
+					mv.visitFieldInsn(GETSTATIC, owner, "getter" + i, getterDescriptor);
+					criteria.get(i).visitMemberCriterion(mv);
+					mv.visitTypeInsn(CHECKCAST, ClassConsts.MEMBER_CRITERION_INTERNAL_NAME);
+					mv.visitMethodInsn(
+							INVOKEINTERFACE,
+							ClassConsts.MEMBER_CRITERION_INTERNAL_NAME,
+							"getHandle",
+							"()" + ClassConsts.METHOD_HANDLE_DESCRIPTOR,
+							true);
+					mv.visitFieldInsn(PUTSTATIC, owner, "handle" + i, ClassConsts.METHOD_HANDLE_DESCRIPTOR);
+				}
 			}
 		}
 
@@ -853,15 +1505,73 @@ abstract class BytecodeGenerator<C extends EqualityComparator<?>, U extends Spec
 
 	}
 
+	/**
+	 * Where a generated class stores its constants, i.e. the spec, the class to compare, the getters and their handles.
+	 */
+	enum ConstantStorage {
+
+		STATIC_FIELDS,
+		INSTANCE_FIELDS,
+		CLASS_DATA
+
+	}
+
 	static final class ClassDescription {
 
 		public final String generatedInternalName;
 
-		ClassDescription(GeneratorConfig config, Spec<?, ?> userSpec, ImplSpec implSpec, int classNameSuffix) {
+		public final int getterCount;
+
+		public final ConstantStorage constantStorage;
+
+		ClassDescription(
+				GeneratorConfig config,
+				Spec<?, ?> userSpec,
+				ImplSpec implSpec,
+				String classNameSuffix,
+				ConstantStorage constantStorage) {
 			this.generatedInternalName = internalName(config, userSpec, implSpec, classNameSuffix);
+			this.getterCount = userSpec.getGetterCount();
+			this.constantStorage = Objects.requireNonNull(constantStorage);
+		}
+
+		/**
+		 * Helper methods are static, unless they must read constants from instance fields.
+		 */
+		boolean hasStaticHelpers() {
+			return constantStorage != ConstantStorage.INSTANCE_FIELDS;
+		}
+
+		int helperAccess() {
+			return hasStaticHelpers() ? ClassConsts.ACCESS_HELPER : ClassConsts.ACCESS_HELPER & ~ACC_STATIC;
 		}
 
-		private static String internalName(GeneratorConfig config, Spec<?, ?> userSpec, ImplSpec implSpec, int classNameSuffix) {
+		/**
+		 * Returns the index of a helper method's local variable, skipping <i>this</i> if necessary.
+		 */
+		int helperLocal(int index) {
+			return hasStaticHelpers() ? index : index + 1;
+		}
+
+		/**
+		 * Returns the frame at the start of an instance method with the given parameter types.
+		 */
+		StackMapFrame frame(Object... parameterTypes) {
+			Object[] locals = new Object[parameterTypes.length + 1];
+			locals[0] = generatedInternalName;
+			System.arraycopy(parameterTypes, 0, locals, 1, parameterTypes.length);
+
+			return StackMapFrame.of(locals);
+		}
+
+		/**
+		 * Returns the frame at the start of a helper method with the given parameter types.
+		 */
+		StackMapFrame helperFrame(Object... parameterTypes) {
+			return hasStaticHelpers() ? StackMapFrame.of(parameterTypes) : frame(parameterTypes);
+		}
+
+		private static String internalName(GeneratorConfig config, Spec<?, ?> userSpec, ImplSpec implSpec, String classNameSuffix) {
 			String lookupClassName = Type.getInternalName(implSpec.getLookup().lookupClass());
 			String prefix = config.generatedClassNamePrefix;
 			String classToCompare = className(userSpec.getClassToCompare());
@@ -896,18 +1606,41 @@ abstract class BytecodeGenerator<C extends EqualityComparator<?>, U extends Spec
 
 		public final String staticBridgeMethodDescriptor;
 
+		public final String[] interfaces;
+
+		private final ClassValue<ComparedType> comparedTypes = new ClassValue<ComparedType>() {
+			@Override
+			protected ComparedType computeValue(Class<?> type) {
+				return new ComparedType(type, GeneratorConfig.this);
+			}
+		};
+
 		public GeneratorConfig(
 				Class<?> comparatorType,
 				Class<?> specType,
 				Class<?> getterType,
 				String generatedClassNamePrefix,
-				Method staticBridgeMethod) {
+				Method staticBridgeMethod,
+				Class<?>... additionalInterfaces) {
 			this.comparatorType = new ConstType(comparatorType);
 			this.specType = new ConstType(specType);
 			this.getterType = new ConstType(getterType);
 			this.generatedClassNamePrefix = Objects.requireNonNull(generatedClassNamePrefix);
 			this.staticBridgeMethod = staticBridgeMethod;
 			this.staticBridgeMethodDescriptor = Type.getMethodDescriptor(staticBridgeMethod);
+			this.interfaces = new String[1 + additionalInterfaces.length];
+			this.interfaces[0] = this.comparatorType.internalName;
+
+			for (int i = 0; i < additionalInterfaces.length; ++i) {
+				this.interfaces[i + 1] = Type.getInternalName(additionalInterfaces[i]);
+			}
+		}
+
+		/**
+		 * Returns the descriptors and signatures of the given class to compare, which are computed once per class.
+		 */
+		public ComparedType comparedType(Class<?> classToCompare) {
+			return comparedTypes.get(classToCompare);
 		}
 
 	}
@@ -928,18 +1661,63 @@ abstract class BytecodeGenerator<C extends EqualityComparator<?>, U extends Spec
 
 	}
 
+	/**
+	 * The descriptors and signatures that depend on the class to compare, shared by all classes generated for it.
+	 */
+	@Immutable
+	static final class ComparedType extends ConstType {
+
+		public final String classSignature;
+
+		public final String getterSignature;
+
+		public final String specSignature;
+
+		public final String generatedClassSignature;
+
+		public final String hashDescriptor;
+
+		public final String areEqualDescriptor;
+
+		public final String compareDescriptor;
+
+		ComparedType(Class<?> clazz, GeneratorConfig config) {
+			super(clazz);
+			this.classSignature = "Ljava/lang/Class<" + descriptor + ">;";
+			this.getterSignature = "L" + config.getterType.internalName + "<-" + descriptor + ">;";
+			this.specSignature = "L" + config.specType.internalName + "<" + descriptor + ">;";
+			this.generatedClassSignature = "Ljava/lang/Object;L" + config.comparatorType.internalName + "<L" + internalName + ";>;";
+			this.hashDescriptor = "(" + descriptor + ")I";
+			this.areEqualDescriptor = "(" + descriptor + "Ljava/lang/Object;)Z";
+			this.compareDescriptor = "(" + descriptor + descriptor + ")I";
+		}
+
+	}
+
 	static final class ClassConsts {
 
 		static final Type CLASS_TYPE = Type.getType(Class.class);
 
 		static final String CLASS_DESCRIPTOR = CLASS_TYPE.getDescriptor();
 
+		static final String CLASS_INTERNAL_NAME = CLASS_TYPE.getInternalName();
+
+		static final String OBJECT_INTERNAL_NAME = Type.getInternalName(Object.class);
+
+		static final String METHOD_HANDLE_DESCRIPTOR = Type.getDescriptor(MethodHandle.class);
+
+		static final String MEMBER_CRITERION_INTERNAL_NAME = Type.getInternalName(MemberCriterion.class);
+
 		static final int ACCESS_CLASS = ACC_FINAL + ACC_SUPER + ACC_SYNTHETIC;
 
 		static final int ACCESS_FIELD = ACC_PRIVATE + ACC_FINAL + ACC_STATIC + ACC_TRANSIENT;
 
+		static final int ACCESS_INSTANCE_FIELD = ACC_PRIVATE + ACC_FINAL + ACC_TRANSIENT;
+
 		static final int ACCESS_BRIDGE = ACC_PUBLIC | ACC_BRIDGE | ACC_SYNTHETIC;
 
+		static final int ACCESS_HELPER = ACC_PRIVATE | ACC_STATIC | ACC_SYNTHETIC;
+
 		static final String STATIC_INITIALIZER_BRIDGE_INTERNAL_NAME = Type.getInternalName(StaticInitializerBridge.class);
 
 		static final String[] READ_OBJECT_EXCEPTIONS = new String[] {
@@ -965,7 +1743,7 @@ abstract class BytecodeGenerator<C extends EqualityComparator<?>, U extends Spec
 
 		public final String[] interfaces;
 
-		public final ConstType classToCompare;
+		public final ComparedType classToCompare;
 
 		public final String classToCompareSignature;
 
@@ -975,29 +1753,56 @@ abstract class BytecodeGenerator<C extends EqualityComparator<?>, U extends Spec
 
 		public final String generatedClassSignature;
 
+		public final List<CriterionEmitter> criteria;
+
+		/**
+		 * Bridge methods cast their arguments to the class to compare. Specs without criteria omit them, since their
+		 * fallbacks accept any type unless strict types are used.
+		 */
+		public final boolean generateBridgeMethods;
+
+		/**
+		 * Whether the generated class refers to the class to compare by name, see {@link CriterionEmitters#isAccessible}.
+		 */
+		public final boolean namesClassToCompare;
+
 		Consts(U userSpec, ImplSpec implSpec, GeneratorConfig config) {
 			this.userSpec = Objects.requireNonNull(userSpec);
 			this.implSpec = Objects.requireNonNull(implSpec);
-			this.interfaces = new String[] {config.comparatorType.internalName};
-			this.classToCompare = new ConstType(userSpec.getClassToCompare());
-			this.classToCompareSignature = "Ljava/lang/Class<" + classToCompare.descriptor + ">;";
-			this.getterSignature = "L" + config.getterType.internalName + "<-" + classToCompare.descriptor + ">;";
-			this.specSignature = "L" + config.specType.internalName + "<" + classToCompare.descriptor + ">;";
-			this.generatedClassSignature = generateSignatureForGeneratedClass(config);
+			this.interfaces = config.interfaces;
+			this.classToCompare = config.comparedType(userSpec.getClassToCompare());
+			this.classToCompareSignature = classToCompare.classSignature;
+			this.getterSignature = classToCompare.getterSignature;
+			this.specSignature = classToCompare.specSignature;
+			this.generatedClassSignature = classToCompare.generatedClassSignature;
+			this.criteria = CriterionEmitters.of(userSpec.getGetters(), config.getterType.internalName, implSpec);
+			this.generateBridgeMethods = implSpec.generateBridgeMethods() && !criteria.isEmpty();
+			this.namesClassToCompare = CriterionEmitters.isAccessible(userSpec.getClassToCompare(), implSpec.getLookup().lookupClass());
 		}
 
-		private String generateSignatureForGeneratedClass(GeneratorConfig config) {
-			String signature = "Ljava/lang/Object;L";
-			signature += config.comparatorType.internalName;
-			signature += "<L";
-			signature += classToCompare.internalName;
+	}
+
+	/**
+	 * A strategy that has yet to be created, described by its type, class definer and instantiator. See
+	 * {@link FailedStrategies}.
+	 */
+	@Immutable
+	private final class Candidate {
 
-			return signature + ";>;";
+		final String description;
+
+		final Callable<Genesis> factory;
+
+		Candidate(Class<?> strategy, ClassDefiner classDefiner, Instantiator instantiator, Callable<Genesis> factory) {
+			this.description = config.generatedClassNamePrefix + "/" + strategy.getSimpleName() +
+					"[classDefiner=" + classDefiner.getClass().getSimpleName() +
+					", instantiator=" + instantiator.getClass().getSimpleName() + "]";
+			this.factory = Objects.requireNonNull(factory);
 		}
 
 	}
 
-	private final class InitializationModeMapperImpl implements InitializationModeMapper<List<Callable<Genesis>>> {
+	private final class InitializationModeMapperImpl implements InitializationModeMapper<List<Candidate>> {
 
 		private final Consts consts;
 
@@ -1006,16 +1811,17 @@ abstract class BytecodeGenerator<C extends EqualityComparator<?>, U extends Spec
 		}
 
 		@Override
-		public List<Callable<Genesis>> onStaticInitializer() {
+		public List<Candidate> onStaticInitializer() {
 			ImplSpec implSpec = consts.implSpec;
 			OptionalClassDefiners classDefiners = implSpec.getClassDefiners();
 			List<Instantiator> instantiators = implSpec.getInstantiators();
-			List<Callable<Genesis>> list = new ArrayList<>();
+			List<Candidate> list = new ArrayList<>();
 
 			classDefiners.getVmAnonymousClassDefiner().ifPresent(classDefiner -> {
 				for (Instantiator instantiator : instantiators) {
 					if (instantiator.supports(classDefiner)) {
-						list.add(() -> new VmAnonymousStrategy(consts, instantiator, classDefiner));
+						list.add(new Candidate(VmAnonymousStrategy.class, classDefiner, instantiator,
+								() -> new VmAnonymousStrategy(consts, instantiator, classDefiner)));
 					}
 				}
 			});
@@ -1023,7 +1829,8 @@ abstract class BytecodeGenerator<C extends EqualityComparator<?>, U extends Spec
 			classDefiners.getLookupHiddenClassWithClassDataDefiner().ifPresent(classDefiner -> {
 				for (Instantiator instantiator : instantiators) {
 					if (instantiator.supports(classDefiner)) {
-						list.add(() -> new LookupHiddenWithClassDataStrategy(consts, instantiator, classDefiner));
+						list.add(new Candidate(LookupHiddenWithClassDataStrategy.class, classDefiner, instantiator,
+								() -> new LookupHiddenWithClassDataStrategy(consts, instantiator, classDefiner)));
 					}
 				}
 			});
@@ -1031,7 +1838,8 @@ abstract class BytecodeGenerator<C extends EqualityComparator<?>, U extends Spec
 			for (ClassDefiner classDefiner : classDefiners.all()) {
 				for (Instantiator instantiator : instantiators) {
 					if (instantiator.supports(classDefiner)) {
-						list.add(() -> new StaticInitializerBridgeStrategy(consts, instantiator, classDefiner));
+						list.add(new Candidate(StaticInitializerBridgeStrategy.class, classDefiner, instantiator,
+								() -> new StaticInitializerBridgeStrategy(consts, instantiator, classDefiner)));
 					}
 				}
 			}
@@ -1040,16 +1848,57 @@ abstract class BytecodeGenerator<C extends EqualityComparator<?>, U extends Spec
 		}
 
 		@Override
-		public List<Callable<Genesis>> onExternal() {
+		public List<Candidate> onClassData() {
+			ImplSpec implSpec = consts.implSpec;
+			List<Instantiator> instantiators = implSpec.getInstantiators();
+			List<Candidate> list = new ArrayList<>();
+
+			implSpec.getClassDefiners().getLookupHiddenClassWithClassDataDefiner().ifPresent(classDefiner -> {
+				for (Instantiator instantiator : instantiators) {
+					if (instantiator.supports(classDefiner)) {
+						list.add(new Candidate(ClassDataStrategy.class, classDefiner, instantiator,
+								() -> new ClassDataStrategy(consts, instantiator, classDefiner)));
+					}
+				}
+			});
+
+			list.addAll(onStaticInitializer());
+
+			return list;
+		}
+
+		@Override
+		public List<Candidate> onShared() {
+			ImplSpec implSpec = consts.implSpec;
+			List<Instantiator> instantiators = implSpec.getInstantiators();
+			List<Candidate> list = new ArrayList<>();
+
+			for (ClassDefiner classDefiner : implSpec.getClassDefiners().all()) {
+				for (Instantiator instantiator : instantiators) {
+					if (instantiator.requiresConstructor() && instantiator.supports(classDefiner)) {
+						list.add(new Candidate(SharedStrategy.class, classDefiner, instantiator,
+								() -> new SharedStrategy(consts, instantiator, classDefiner)));
+					}
+				}
+			}
+
+			list.addAll(onStaticInitializer());
+
+			return list;
+		}
+
+		@Override
+		public List<Candidate> onExternal() {
 			ImplSpec implSpec = consts.implSpec;
 			OptionalClassDefiners classDefiners = implSpec.getClassDefiners();
 			List<Instantiator> instantiators = implSpec.getInstantiators();
-			List<Callable<Genesis>> list = new ArrayList<>();
+			List<Candidate> list = new ArrayList<>();
 
 			for (ClassDefiner classDefiner : classDefiners.all()) {
 				if (classDefiner.supportsExternalInitialization()) {
 					for (Instantiator instantiator : instantiators) {
-						list.add(() -> new ExternalInitializationStrategy(consts, instantiator, classDefiner));
+						list.add(new Candidate(ExternalInitializationStrategy.class, classDefiner, instantiator,
+								() -> new ExternalInitializationStrategy(consts, instantiator, classDefiner)));
 					}
 				}
 			}
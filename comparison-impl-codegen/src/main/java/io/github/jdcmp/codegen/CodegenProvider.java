@@ -1,10 +1,13 @@
 package io.github.jdcmp.codegen;
 
+import io.github.jdcmp.api.Comparators;
 import io.github.jdcmp.api.comparator.equality.EqualityComparator;
 import io.github.jdcmp.api.comparator.equality.SerializableEqualityComparator;
 import io.github.jdcmp.api.comparator.ordering.OrderingComparator;
 import io.github.jdcmp.api.comparator.ordering.SerializableOrderingComparator;
 import io.github.jdcmp.api.documentation.ThreadSafe;
+import io.github.jdcmp.api.getter.primitive.IntGetter;
+import io.github.jdcmp.api.getter.primitive.SerializableIntGetter;
 import io.github.jdcmp.api.provider.ComparatorProvider;
 import io.github.jdcmp.api.provider.ComparatorProviders;
 import io.github.jdcmp.api.spec.Spec;
@@ -24,6 +27,7 @@ import io.github.jdcmp.codegen.Instantiators.ConstructorInstantiator;
 import io.github.jdcmp.codegen.Instantiators.ReflectionFactoryConstructorInstantiator;
 import io.github.jdcmp.codegen.Instantiators.ReflectionFactoryInstantiator;
 import io.github.jdcmp.codegen.Instantiators.UnsafeInstantiator;
+import io.github.jdcmp.codegen.TieredComparators.TieredCompilation;
 import io.github.jdcmp.codegen.bridge.GeneratedClassHolder;
 import io.github.jdcmp.codegen.contract.EventHandler;
 import io.github.jdcmp.codegen.contract.LookupFactory;
@@ -36,11 +40,20 @@ import org.jetbrains.annotations.Nullable;
 
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodHandles.Lookup;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -62,6 +75,13 @@ public final class CodegenProvider implements ComparatorProvider {
 
 	private final Customization customization;
 
+	private final FailedStrategies failedStrategies;
+
+	/**
+	 * The future of the last asynchronous warm-up, if any.
+	 */
+	private final AtomicReference<CompletableFuture<Void>> lastWarmUp = new AtomicReference<>();
+
 	// ********************************************************************************************
 	// Instantiation
 	// ********************************************************************************************
@@ -105,7 +125,20 @@ public final class CodegenProvider implements ComparatorProvider {
 	}
 
 	private CodegenProvider(LookupFactory lookupFactory) {
-		this.customization = new Customization(lookupFactory);
+		this(new Customization(lookupFactory));
+	}
+
+	private CodegenProvider(Customization customization) {
+		this(customization, new FailedStrategies());
+	}
+
+	/**
+	 * Constructs a provider that remembers failed strategies in the given memory, e.g. in the memory of the provider that is
+	 * warmed up.
+	 */
+	private CodegenProvider(Customization customization, FailedStrategies failedStrategies) {
+		this.customization = customization;
+		this.failedStrategies = Objects.requireNonNull(failedStrategies);
 	}
 
 	// ********************************************************************************************
@@ -115,33 +148,153 @@ public final class CodegenProvider implements ComparatorProvider {
 	@Override
 	public <T> EqualityComparator<T> createEqualityComparator(EqualityComparatorSpec<T> spec) {
 		spec = Specs.equality(spec);
-		ImplSpec implSpec = createImplSpec(spec);
+		Customization customization = new Customization(this.customization);
+		ImplSpec implSpec = createImplSpec(spec, customization);
 
-		return EqualityComparators.create(spec, implSpec);
+		return TieredComparators.equality(spec, implSpec, customization.getTieredCompilation());
 	}
 
 	@Override
 	public <T> SerializableEqualityComparator<T> createSerializableEqualityComparator(SerializableEqualityComparatorSpec<T> spec) {
 		spec = Specs.equalitySerializable(spec);
-		ImplSpec implSpec = createImplSpec(spec);
+		Customization customization = new Customization(this.customization);
+		ImplSpec implSpec = createImplSpec(spec, customization);
 
-		return EqualityComparators.createSerializable(spec, implSpec);
+		return TieredComparators.equalitySerializable(spec, implSpec, customization.getTieredCompilation());
 	}
 
 	@Override
 	public <T> OrderingComparator<T> createOrderingComparator(OrderingComparatorSpec<T> spec) {
 		spec = Specs.ordering(spec);
-		ImplSpec implSpec = createImplSpec(spec);
+		Customization customization = new Customization(this.customization);
+		ImplSpec implSpec = createImplSpec(spec, customization);
 
-		return OrderingComparators.create(spec, implSpec);
+		return TieredComparators.ordering(spec, implSpec, customization.getTieredCompilation());
 	}
 
 	@Override
 	public <T> SerializableOrderingComparator<T> createSerializableOrderingComparator(SerializableOrderingComparatorSpec<T> spec) {
 		spec = Specs.orderingSerializable(spec);
-		ImplSpec implSpec = createImplSpec(spec);
+		Customization customization = new Customization(this.customization);
+		ImplSpec implSpec = createImplSpec(spec, customization);
+
+		return TieredComparators.orderingSerializable(spec, implSpec, customization.getTieredCompilation());
+	}
+
+	/**
+	 * Creates the comparators in parallel on the {@link ForkJoinPool#commonPool() common pool}, see
+	 * {@link #createAll(List, Executor)}.
+	 */
+	@Override
+	public List<EqualityComparator<?>> createAll(List<? extends Spec<?, ?>> specs) {
+		return createAll(specs, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Creates the comparators in parallel on the given {@link Executor}, while the invoking thread waits. Classes are
+	 * generated and defined independently of each other, except that builds of equal specs are coalesced. If a comparator
+	 * cannot be created, its exception is rethrown.
+	 *
+	 * @param specs    Specs
+	 * @param executor The executor that creates the comparators
+	 * @return An immutable list containing the comparators in the order of the specs
+	 * @throws IllegalArgumentException If a spec is none of the known spec types
+	 */
+	public List<EqualityComparator<?>> createAll(List<? extends Spec<?, ?>> specs, Executor executor) {
+		Objects.requireNonNull(executor);
+		List<CompletableFuture<EqualityComparator<?>>> futures = new ArrayList<>(specs.size());
+
+		for (Spec<?, ?> spec : specs) {
+			futures.add(CompletableFuture.supplyAsync(() -> create(spec), executor));
+		}
 
-		return OrderingComparators.createSerializable(spec, implSpec);
+		List<EqualityComparator<?>> comparators = new ArrayList<>(futures.size());
+
+		for (CompletableFuture<EqualityComparator<?>> future : futures) {
+			comparators.add(await(future));
+		}
+
+		return Collections.unmodifiableList(comparators);
+	}
+
+	/**
+	 * <p>Performs the one-off work of the first comparator off the request path: loading the bytecode library, resolving the
+	 * configured {@link AvailableClassDefiner ClassDefiners} and {@link AvailableInstantiator Instantiators}, and generating
+	 * a comparator for every {@link AvailableInitializationMode}.</p>
+	 *
+	 * <p>Warm-up is best effort. Failures are logged. Strategies that fail while a later strategy succeeds are remembered by
+	 * this provider and tried last afterwards, like failures of regular builds, and are reported via
+	 * {@link EventHandler#onStrategyFailed(String, Throwable)}. Otherwise, the {@link EventHandler} is not called for the
+	 * comparators generated during warm-up, nor are they cached.</p>
+	 */
+	public void warmUp() {
+		Customization customization = new Customization(this.customization);
+		createOptionalClassDefiners(customization.getClassDefiners());
+		createInstantiators(customization.getInstantiators());
+
+		for (AvailableInitializationMode initializationMode : AvailableInitializationMode.values()) {
+			Customization warmUpCustomization = new Customization(customization);
+			warmUpCustomization.eventHandler = new WarmUpEventHandler(customization.getEventHandler());
+			warmUpCustomization.initializationMode = initializationMode;
+			warmUpCustomization.bytecodeCacheDirectory = null;
+			warmUpCustomization.usePrebuiltClasses = Boolean.FALSE;
+			warmUpCustomization.tieredCompilationThreshold = null;
+
+			try {
+				WarmUp.generate(new CodegenProvider(warmUpCustomization, failedStrategies));
+			} catch (RuntimeException | LinkageError e) {
+				LOGGER.log(Level.FINE, "Warm-up failed for " + initializationMode, e);
+			}
+		}
+	}
+
+	/**
+	 * Performs {@link #warmUp()} on the {@link #setTieredCompilationExecutor(Executor) tiered compilation executor}, e.g. at
+	 * application startup. If none is configured, a new daemon thread is started. See {@link #warmUpAsync(Executor)}.
+	 *
+	 * @return A future that is completed once warm-up has finished
+	 */
+	public CompletableFuture<Void> warmUpAsync() {
+		Executor executor = customization.tieredCompilationExecutor;
+
+		return warmUpAsync(executor == null ? WarmUp::startDaemon : executor);
+	}
+
+	/**
+	 * Performs {@link #warmUp()} on the given {@link Executor}, e.g. at application startup. While a warm-up of this provider
+	 * is in progress, its future is returned instead of starting another one.
+	 *
+	 * @param executor The executor that performs warm-up
+	 * @return A future that is completed once warm-up has finished; completed exceptionally if the executor rejects the task
+	 */
+	public CompletableFuture<Void> warmUpAsync(Executor executor) {
+		Objects.requireNonNull(executor);
+		CompletableFuture<Void> future = new CompletableFuture<>();
+
+		while (true) {
+			CompletableFuture<Void> last = lastWarmUp.get();
+
+			if (last != null && !last.isDone()) {
+				return last;
+			} else if (lastWarmUp.compareAndSet(last, future)) {
+				break;
+			}
+		}
+
+		try {
+			executor.execute(() -> {
+				try {
+					warmUp();
+					future.complete(null);
+				} catch (Throwable e) {
+					future.completeExceptionally(e);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			future.completeExceptionally(e);
+		}
+
+		return future;
 	}
 
 	// ********************************************************************************************
@@ -203,6 +356,64 @@ public final class CodegenProvider implements ComparatorProvider {
 		this.customization.generateBridgeMethods = generateBridgeMethods;
 	}
 
+	/**
+	 * Configures whether capture-free serializable getter lambdas are resolved to their implementation method, which the
+	 * generated class then calls directly. Lambdas whose implementation method is inaccessible are called as usual.
+	 *
+	 * @param crackSerializableLambdas True to resolve lambdas; false to call lambdas; null to restore default settings
+	 */
+	public void setCrackSerializableLambdas(@Nullable Boolean crackSerializableLambdas) {
+		this.customization.crackSerializableLambdas = crackSerializableLambdas;
+	}
+
+	/**
+	 * Configures a directory in which the bytecode of generated classes is cached across JVM runs. Subsequent runs load the
+	 * bytecode instead of generating it. Entries are fingerprinted by everything that affects the bytecode and are only valid
+	 * for the same provider and Java version. Only hidden and VM-anonymous classes are cached, since cached classes of the
+	 * same fingerprint share their name.
+	 *
+	 * @param bytecodeCacheDirectory The directory, which is created if necessary; null to disable caching (default)
+	 */
+	public void setBytecodeCacheDirectory(@Nullable Path bytecodeCacheDirectory) {
+		this.customization.bytecodeCacheDirectory = bytecodeCacheDirectory;
+	}
+
+	/**
+	 * Configures whether classes generated at build time are used, e.g. by <i>comparison-maven-plugin</i>. Such classes are
+	 * found via an index in the class loader of the lookup class. Specs without a prebuilt class are generated as usual.
+	 *
+	 * @param usePrebuiltClasses True to use prebuilt classes; false to generate all classes; null to restore default settings
+	 */
+	public void setUsePrebuiltClasses(@Nullable Boolean usePrebuiltClasses) {
+		this.customization.usePrebuiltClasses = usePrebuiltClasses;
+	}
+
+	/**
+	 * Configures tiered compilation: comparators iterate their criteria until they have been invoked the given number of
+	 * times, then switch to a generated class. This saves the generation of classes for comparators that are rarely used.
+	 *
+	 * @param threshold The number of invocations before a class is generated; 0 to generate classes when comparators are
+	 *                  built; null to restore default settings (0)
+	 * @throws IllegalArgumentException If the threshold is negative
+	 */
+	public void setTieredCompilationThreshold(@Nullable Integer threshold) {
+		if (threshold != null && threshold < 0) {
+			throw new IllegalArgumentException("Threshold must not be negative: " + threshold);
+		}
+
+		this.customization.tieredCompilationThreshold = threshold;
+	}
+
+	/**
+	 * Configures the {@link Executor} that generates the classes of tiered comparators, see
+	 * {@link #setTieredCompilationThreshold(Integer)}. Comparators remain interpreted until their class has been generated.
+	 *
+	 * @param executor An executor; null to generate classes on the invoking thread (default)
+	 */
+	public void setTieredCompilationExecutor(@Nullable Executor executor) {
+		this.customization.tieredCompilationExecutor = executor;
+	}
+
 	// ********************************************************************************************
 	// Other public methods
 	// ********************************************************************************************
@@ -216,16 +427,20 @@ public final class CodegenProvider implements ComparatorProvider {
 	// Internal implementation details
 	// ********************************************************************************************
 
-	private ImplSpec createImplSpec(Spec<?, ?> spec) {
-		Customization customization = new Customization(this.customization);
+	private ImplSpec createImplSpec(Spec<?, ?> spec, Customization customization) {
 		Lookup lookup = getLookup(spec, customization);
 		EventHandler eventHandler = customization.getEventHandler();
 		Collection<AvailableClassDefiner> availableClassDefiners = customization.getClassDefiners();
 		OptionalClassDefiners classDefiners = createOptionalClassDefiners(availableClassDefiners);
 		List<Instantiator> instantiators = createInstantiators(customization.getInstantiators());
 		ClassGeneratorConfig classGeneratorConfig = customization.getClassGeneratorConfig();
+		Path bytecodeCacheDirectory = customization.bytecodeCacheDirectory;
+		BytecodeCache bytecodeCache = bytecodeCacheDirectory == null ? null : new BytecodeCache(bytecodeCacheDirectory);
+
+		boolean usePrebuiltClasses = customization.usePrebuiltClasses();
 
-		return new ImplSpec(lookup, eventHandler, classDefiners, instantiators, classGeneratorConfig);
+		return new ImplSpec(lookup, eventHandler, classDefiners, instantiators, classGeneratorConfig, bytecodeCache,
+				usePrebuiltClasses, failedStrategies);
 	}
 
 	private static Lookup getLookup(Spec<?, ?> spec, Customization customization) {
@@ -270,6 +485,25 @@ public final class CodegenProvider implements ComparatorProvider {
 		}
 	}
 
+	/**
+	 * Waits for the future and rethrows the exception it was completed with.
+	 */
+	private static <T> T await(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+
+			throw e;
+		}
+	}
+
 	@ThreadSafe
 	private static final class Customization {
 
@@ -285,6 +519,12 @@ public final class CodegenProvider implements ComparatorProvider {
 
 		static final Boolean DEFAULT_GENERATE_BRIDGE_METHODS = Boolean.FALSE;
 
+		static final Boolean DEFAULT_CRACK_SERIALIZABLE_LAMBDAS = Boolean.FALSE;
+
+		static final Boolean DEFAULT_USE_PREBUILT_CLASSES = Boolean.TRUE;
+
+		static final Integer DEFAULT_TIERED_COMPILATION_THRESHOLD = 0;
+
 		final LookupFactory lookupFactory;
 
 		volatile @Nullable EventHandler eventHandler;
@@ -299,6 +539,16 @@ public final class CodegenProvider implements ComparatorProvider {
 
 		volatile @Nullable Boolean generateBridgeMethods;
 
+		volatile @Nullable Boolean crackSerializableLambdas;
+
+		volatile @Nullable Path bytecodeCacheDirectory;
+
+		volatile @Nullable Boolean usePrebuiltClasses;
+
+		volatile @Nullable Integer tieredCompilationThreshold;
+
+		volatile @Nullable Executor tieredCompilationExecutor;
+
 		Customization(LookupFactory lookupFactory) {
 			this.lookupFactory = Objects.requireNonNull(lookupFactory);
 		}
@@ -311,6 +561,11 @@ public final class CodegenProvider implements ComparatorProvider {
 			this.instantiators = customization.getInstantiators();
 			this.initializationMode = customization.getInitializationMode();
 			this.generateBridgeMethods = customization.generateBridgeMethods();
+			this.crackSerializableLambdas = customization.crackSerializableLambdas();
+			this.bytecodeCacheDirectory = customization.bytecodeCacheDirectory;
+			this.usePrebuiltClasses = customization.usePrebuiltClasses();
+			this.tieredCompilationThreshold = customization.getTieredCompilationThreshold();
+			this.tieredCompilationExecutor = customization.tieredCompilationExecutor;
 		}
 
 		Set<AvailableClassDefiner> getClassDefiners() {
@@ -337,11 +592,28 @@ public final class CodegenProvider implements ComparatorProvider {
 			return Utils.or(this.generateBridgeMethods, DEFAULT_GENERATE_BRIDGE_METHODS);
 		}
 
+		Boolean crackSerializableLambdas() {
+			return Utils.or(this.crackSerializableLambdas, DEFAULT_CRACK_SERIALIZABLE_LAMBDAS);
+		}
+
+		Boolean usePrebuiltClasses() {
+			return Utils.or(this.usePrebuiltClasses, DEFAULT_USE_PREBUILT_CLASSES);
+		}
+
+		Integer getTieredCompilationThreshold() {
+			return Utils.or(this.tieredCompilationThreshold, DEFAULT_TIERED_COMPILATION_THRESHOLD);
+		}
+
+		TieredCompilation getTieredCompilation() {
+			return new TieredCompilation(getTieredCompilationThreshold(), tieredCompilationExecutor);
+		}
+
 		ClassGeneratorConfig getClassGeneratorConfig() {
 			return new ClassGeneratorConfig(
 					getSerializationMode(),
 					getInitializationMode(),
-					generateBridgeMethods());
+					generateBridgeMethods(),
+					crackSerializableLambdas());
 		}
 
 		Lookup getLookup(Class<?> classToCompare) {
@@ -358,11 +630,78 @@ public final class CodegenProvider implements ComparatorProvider {
 					", instantiators=" + instantiators +
 					", initializationMode=" + initializationMode +
 					", generateBridgeMethods=" + generateBridgeMethods +
+					", crackSerializableLambdas=" + crackSerializableLambdas +
+					", bytecodeCacheDirectory=" + bytecodeCacheDirectory +
+					", usePrebuiltClasses=" + usePrebuiltClasses +
+					", tieredCompilationThreshold=" + tieredCompilationThreshold +
+					", tieredCompilationExecutor=" + tieredCompilationExecutor +
 					"]";
 		}
 
 	}
 
+	@ThreadSafe
+	private static final class WarmUp {
+
+		static final Lookup LOOKUP = DEFAULT_LOOKUP_FACTORY.lookupFor(Subject.class);
+
+		static void generate(CodegenProvider provider) {
+			Subject subject = new Subject();
+
+			Comparators.ordering()
+					.nonSerializable()
+					.requireAtLeastOneGetter(Subject.class)
+					.use(IntGetter.of(Subject::getValue))
+					.build(provider, LOOKUP)
+					.compare(subject, subject);
+			Comparators.equality()
+					.serializable()
+					.requireAtLeastOneGetter(Subject.class)
+					.use(SerializableIntGetter.of(Subject::getValue))
+					.build(provider, LOOKUP)
+					.areEqual(subject, subject);
+		}
+
+		static void startDaemon(Runnable task) {
+			Thread thread = new Thread(task, "jdcmp-warm-up");
+			thread.setDaemon(true);
+			thread.start();
+		}
+
+		public static final class Subject {
+
+			public int getValue() {
+				return 0;
+			}
+
+		}
+
+	}
+
+	/**
+	 * Forwards failed strategies only, which are remembered by the provider that is warmed up.
+	 */
+	@ThreadSafe
+	private static final class WarmUpEventHandler implements EventHandler {
+
+		private final EventHandler eventHandler;
+
+		WarmUpEventHandler(EventHandler eventHandler) {
+			this.eventHandler = Objects.requireNonNull(eventHandler);
+		}
+
+		@Override
+		public void onStrategyFailed(String strategy, Throwable cause) throws Exception {
+			eventHandler.onStrategyFailed(strategy, cause);
+		}
+
+		@Override
+		public String toString() {
+			return "WarmUpEventHandler[eventHandler=" + eventHandler + "]";
+		}
+
+	}
+
 	@ThreadSafe
 	private enum NoopEventHandler implements EventHandler {
 
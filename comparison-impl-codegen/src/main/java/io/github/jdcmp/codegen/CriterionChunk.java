@@ -0,0 +1,55 @@
+package io.github.jdcmp.codegen;
+
+import io.github.jdcmp.api.documentation.Immutable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>Consecutive range of criteria whose code is placed into a private static helper method.</p>
+ *
+ * <p>The JIT compiler refuses to inline methods exceeding a certain bytecode size (see -XX:FreqInlineSize). Specs with many
+ * getters are therefore split into several helper methods, each of which stays small enough to be inlined into the
+ * comparator's public method. Specs with up to {@link #SIZE} getters do not use helper methods.</p>
+ */
+@Immutable
+final class CriterionChunk {
+
+	static final int SIZE = 8;
+
+	public final int index;
+
+	public final int start;
+
+	public final int end;
+
+	private CriterionChunk(int index, int start, int end) {
+		this.index = index;
+		this.start = start;
+		this.end = end;
+	}
+
+	static boolean isNecessary(int criterionCount) {
+		return criterionCount > SIZE;
+	}
+
+	static List<CriterionChunk> of(int criterionCount) {
+		ArrayList<CriterionChunk> chunks = new ArrayList<>((criterionCount + SIZE - 1) / SIZE);
+
+		for (int start = 0; start < criterionCount; start += SIZE) {
+			chunks.add(new CriterionChunk(chunks.size(), start, Math.min(start + SIZE, criterionCount)));
+		}
+
+		return Collections.unmodifiableList(chunks);
+	}
+
+	public String methodName(String method) {
+		return method + "$" + index;
+	}
+
+	public boolean isLast(int criterionCount) {
+		return end == criterionCount;
+	}
+
+}
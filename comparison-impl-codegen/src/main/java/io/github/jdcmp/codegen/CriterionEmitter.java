@@ -0,0 +1,84 @@
+package io.github.jdcmp.codegen;
+
+import io.github.jdcmp.api.documentation.ThreadSafe;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+
+/**
+ * Emits the bytecode of a single criterion. The parameters <i>self</i>, <i>other</i>, <i>left</i>, <i>right</i> and
+ * <i>object</i> denote local variable indices. Emitters may use the two local variables starting at <i>scratch</i>.
+ * The <i>frame</i> holds the types when the criterion starts, which emitters extend and visit at their branch targets, see
+ * {@link StackMapFrame}.
+ * Emitters are equal if they emit the same bytecode, see {@link io.github.jdcmp.codegen.customization.AvailableInitializationMode#SHARED}.
+ * Their string representation is stable across JVM runs, see {@link BytecodeCache}.
+ */
+@ThreadSafe
+interface CriterionEmitter {
+
+	/**
+	 * Pushes the criterion's hash (int) onto the stack.
+	 */
+	void hash(MethodVisitor mv, GetterLoader getter, int object, int scratch, StackMapFrame frame);
+
+	/**
+	 * Jumps to <i>notEqual</i> if the criterion differs, otherwise falls through.
+	 */
+	void areEqual(MethodVisitor mv, GetterLoader getter, int self, int other, int scratch, Label notEqual, StackMapFrame frame);
+
+	/**
+	 * Pushes the criterion's comparison result (int) onto the stack.
+	 */
+	void compare(MethodVisitor mv, GetterLoader getter, int left, int right, int scratch, StackMapFrame frame);
+
+	/**
+	 * Whether the generated class must provide the getter's {@link io.github.jdcmp.api.getter.member.MemberCriterion#getHandle()
+	 * handle}, see {@link GetterLoader#loadHandle(MethodVisitor)}.
+	 */
+	default boolean requiresHandle() {
+		return false;
+	}
+
+	/**
+	 * Replaces the getter on top of the stack with the {@link io.github.jdcmp.api.getter.member.MemberCriterion} whose handle
+	 * is required, see {@link #requiresHandle()}. The getter itself is the member criterion, unless it wraps another criterion.
+	 */
+	default void visitMemberCriterion(MethodVisitor mv) {
+	}
+
+	/**
+	 * Returns the {@link io.github.jdcmp.api.getter.member.MemberCriterion} of the given getter whose handle is required, see
+	 * {@link #visitMemberCriterion(MethodVisitor)}.
+	 */
+	default Object memberCriterion(Object getter) {
+		return getter;
+	}
+
+	/**
+	 * Returns the constant that the generated class stores for the given getter, see {@link GetterLoader#load(MethodVisitor)}.
+	 * The constant is the getter itself, unless the emitter requires another view of it.
+	 */
+	default Object getterConstant(Object getter) {
+		return getter;
+	}
+
+	/**
+	 * Replaces the getter on top of the stack with its constant, see {@link #getterConstant(Object)}.
+	 */
+	default void visitGetterConstant(MethodVisitor mv) {
+	}
+
+	interface GetterLoader {
+
+		/**
+		 * Pushes the getter onto the stack.
+		 */
+		void load(MethodVisitor mv);
+
+		/**
+		 * Pushes the getter's {@link java.lang.invoke.MethodHandle} onto the stack.
+		 */
+		void loadHandle(MethodVisitor mv);
+
+	}
+
+}
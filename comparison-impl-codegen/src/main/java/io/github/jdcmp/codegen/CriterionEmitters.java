@@ -0,0 +1,1334 @@
+package io.github.jdcmp.codegen;
+
+import io.github.jdcmp.api.HashParameters;
+import io.github.jdcmp.api.comparator.ordering.NullHandling;
+import io.github.jdcmp.api.documentation.ThreadSafe;
+import io.github.jdcmp.api.getter.OrderingCriterion;
+import io.github.jdcmp.api.getter.ReversedCriterion;
+import io.github.jdcmp.api.getter.member.MemberCriterion;
+import io.github.jdcmp.api.getter.object.ComparableGetter;
+import io.github.jdcmp.api.getter.object.GenericGetter;
+import io.github.jdcmp.api.getter.object.NestedGetter;
+import io.github.jdcmp.api.getter.object.NullSafeComparableCriterion;
+import io.github.jdcmp.api.getter.primitive.BooleanGetter;
+import io.github.jdcmp.api.getter.primitive.ByteGetter;
+import io.github.jdcmp.api.getter.primitive.CharGetter;
+import io.github.jdcmp.api.getter.primitive.DoubleGetter;
+import io.github.jdcmp.api.getter.primitive.FloatGetter;
+import io.github.jdcmp.api.getter.primitive.IntGetter;
+import io.github.jdcmp.api.getter.primitive.LongGetter;
+import io.github.jdcmp.api.getter.primitive.ShortGetter;
+import io.github.jdcmp.api.spec.ordering.BaseOrderingComparatorSpec;
+import io.github.jdcmp.codegen.CriterionEmitter.GetterLoader;
+import org.jetbrains.annotations.Nullable;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.ASTORE;
+import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.DUP;
+import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.GOTO;
+import static org.objectweb.asm.Opcodes.IADD;
+import static org.objectweb.asm.Opcodes.ICONST_0;
+import static org.objectweb.asm.Opcodes.IFEQ;
+import static org.objectweb.asm.Opcodes.IFNE;
+import static org.objectweb.asm.Opcodes.IFNONNULL;
+import static org.objectweb.asm.Opcodes.IFNULL;
+import static org.objectweb.asm.Opcodes.IF_ACMPEQ;
+import static org.objectweb.asm.Opcodes.IF_ICMPNE;
+import static org.objectweb.asm.Opcodes.IMUL;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
+import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.objectweb.asm.Opcodes.INTEGER;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.ISUB;
+import static org.objectweb.asm.Opcodes.LCMP;
+import static org.objectweb.asm.Opcodes.NOP;
+import static org.objectweb.asm.Opcodes.POP;
+
+/**
+ * <p>Selects a {@link CriterionEmitter} for each getter.</p>
+ *
+ * <p>Getters whose default methods (hash, areEqual, compare) are known, e.g. {@link IntGetter} or {@link ComparableGetter}, are
+ * specialized: the generated code calls the getter's accessor (e.g. {@link IntGetter#applyAsInt(Object)}) directly and inlines
+ * the comparison logic, including null checks and the calls to hashCode, equals and compareTo.
+ * Otherwise, all generated comparators would share the call sites inside the getters' default methods, whose type profiles
+ * quickly become megamorphic. Getters overriding any of the default methods are treated like any other criterion.</p>
+ *
+ * <p>Getters implementing {@link MemberCriterion} are not called at all: the generated code reads their field or calls their
+ * accessor method itself. Optionally, the same applies to serializable lambdas, see {@link SerializedLambdas}.</p>
+ */
+@ThreadSafe
+final class CriterionEmitters {
+
+	private static final ClassValue<PrimitiveCriterion> PRIMITIVE_CRITERIA = new ClassValue<PrimitiveCriterion>() {
+		@Override
+		protected @Nullable PrimitiveCriterion computeValue(Class<?> type) {
+			return PrimitiveCriterion.find(type);
+		}
+	};
+
+	private static final ClassValue<ObjectKind> OBJECT_KINDS = new ClassValue<ObjectKind>() {
+		@Override
+		protected @Nullable ObjectKind computeValue(Class<?> type) {
+			return ObjectKind.find(type);
+		}
+	};
+
+	/**
+	 * Selects the emitters of the given getters.
+	 *
+	 * @param getters               The getters
+	 * @param criterionInternalName Internal name of the criterion interface used by the generated class
+	 * @param implSpec              The generated class is defined in the runtime package of its lookup class
+	 * @return One emitter per getter
+	 */
+	public static List<CriterionEmitter> of(Collection<?> getters, String criterionInternalName, ImplSpec implSpec) {
+		ArrayList<CriterionEmitter> emitters = new ArrayList<>(getters.size());
+		GenericCriterion generic = new GenericCriterion(criterionInternalName);
+
+		for (Object getter : getters) {
+			emitters.add(find(getter, generic, implSpec));
+		}
+
+		return Collections.unmodifiableList(emitters);
+	}
+
+	private static CriterionEmitter find(Object getter, GenericCriterion generic, ImplSpec implSpec) {
+		Class<?> getterClass = getter.getClass();
+
+		if (usesDefaultMethods(getterClass, ReversedCriterion.class)) {
+			Object criterion = ((ReversedCriterion<?>) getter).getCriterion();
+			GenericCriterion reversedGeneric = new GenericCriterion(ReversedEmitter.CRITERION);
+			CriterionEmitter reversed = find(criterion, reversedGeneric, implSpec);
+
+			// the constant of a nested getter cannot be stored in place of the reversed criterion
+			return new ReversedEmitter(reversed instanceof NestedEmitter ? reversedGeneric : reversed);
+		}
+
+		BaseOrderingComparatorSpec<?, ?> nestedSpec = NestedCriteria.spec(getter);
+		if (nestedSpec != null) {
+			return Utils.or(NestedEmitter.of((NestedGetter<?, ?>) getter, nestedSpec, implSpec), generic);
+		}
+
+		PrimitiveCriterion primitive = PRIMITIVE_CRITERIA.get(getterClass);
+		if (primitive != null) {
+			return new PrimitiveEmitter(primitive, Utils.or(memberReader(getter, primitive.valueType, implSpec), primitive.accessor));
+		}
+
+		ObjectKind kind = OBJECT_KINDS.get(getterClass);
+		if (kind == null) {
+			return generic;
+		}
+
+		switch (kind) {
+			case GENERIC:
+				return new GenericGetterCriterion(generic, Utils.or(memberReader(getter, Object.class, implSpec), FUNCTION_READER));
+			case COMPARABLE:
+				return new ComparableCriterion(generic, Utils.or(memberReader(getter, Object.class, implSpec), FUNCTION_READER));
+			case NULL_SAFE_COMPARABLE:
+				NullSafeComparableCriterion<?, ?> nullSafe = (NullSafeComparableCriterion<?, ?>) getter;
+				ComparableGetter<?, ?> inner = nullSafe.getGetter();
+
+				if (inner != null && OBJECT_KINDS.get(inner.getClass()) == ObjectKind.COMPARABLE) {
+					int resultIfLeftIsNull = nullSafe.getNullHandling().getComparisonResultIfLeftSideIsNull();
+					ValueReader reader = Utils.or(directReader(inner, Object.class, implSpec), NULL_SAFE_READER);
+					return new NullSafeCriterion(generic, reader, resultIfLeftIsNull);
+				}
+
+				return generic;
+			default:
+				throw new AssertionError("Unknown kind: " + kind);
+		}
+	}
+
+	/**
+	 * Returns a reader bypassing the getter, either directly or via the getter's handle.
+	 */
+	private static @Nullable ValueReader memberReader(Object getter, Class<?> valueType, ImplSpec implSpec) {
+		if (getter instanceof MemberCriterion) {
+			return MemberReader.of((MemberCriterion) getter, implSpec.getLookup().lookupClass());
+		}
+
+		return directReader(getter, valueType, implSpec);
+	}
+
+	/**
+	 * Returns a reader accessing the getter's member directly, without loading the getter.
+	 */
+	private static @Nullable ValueReader directReader(Object getter, Class<?> valueType, ImplSpec implSpec) {
+		Member member;
+
+		if (getter instanceof MemberCriterion) {
+			member = ((MemberCriterion) getter).getMember();
+		} else if (implSpec.crackSerializableLambdas()) {
+			member = SerializedLambdas.implMethod(getter);
+		} else {
+			return null;
+		}
+
+		if (member == null || !MemberReader.returns(member, valueType)) {
+			return null;
+		}
+
+		return MemberReader.direct(member, implSpec.getLookup().lookupClass());
+	}
+
+	/**
+	 * Returns true if classes generated for the lookup class may refer to the given class by name, e.g. in CHECKCAST. Classes
+	 * are accessible if they are in the same runtime package as the lookup class or if they are public classes of the Java SE
+	 * platform, which are exported to and visible from every module and class loader. Hidden and VM-anonymous classes cannot
+	 * be named at all.
+	 */
+	static boolean isAccessible(Class<?> clazz, Class<?> lookupClass) {
+		Class<?> elementType = clazz;
+
+		while (elementType.isArray()) {
+			elementType = elementType.getComponentType();
+		}
+
+		if (elementType.isPrimitive()) {
+			return true;
+		} else if (elementType.getName().indexOf('/') >= 0) {
+			return false;
+		} else if (isSameRuntimePackage(elementType, lookupClass)) {
+			return true;
+		}
+
+		return Modifier.isPublic(elementType.getModifiers())
+				&& elementType.getEnclosingClass() == null
+				&& elementType.getName().startsWith("java.");
+	}
+
+	private static boolean isSameRuntimePackage(Class<?> clazz, Class<?> lookupClass) {
+		return clazz.getClassLoader() == lookupClass.getClassLoader() && packageName(clazz).equals(packageName(lookupClass));
+	}
+
+	private static String packageName(Class<?> clazz) {
+		String name = clazz.getName();
+		int lastDot = name.lastIndexOf('.');
+
+		return lastDot < 0 ? "" : name.substring(0, lastDot);
+	}
+
+	static boolean usesDefaultMethods(Class<?> getterClass, Class<?> getterInterface) {
+		if (!getterInterface.isAssignableFrom(getterClass)) {
+			return false;
+		}
+
+		for (Class<?> c = getterClass; c != null && c != Object.class; c = c.getSuperclass()) {
+			if (declaresCriterionMethod(c)) {
+				return false;
+			}
+		}
+
+		for (Class<?> i : allInterfaces(getterClass)) {
+			if (i != getterInterface && getterInterface.isAssignableFrom(i) && declaresCriterionMethod(i)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static boolean declaresCriterionMethod(Class<?> clazz) {
+		for (Method method : clazz.getDeclaredMethods()) {
+			if (method.isBridge() || method.isSynthetic()) {
+				continue;
+			}
+
+			Class<?>[] parameterTypes = method.getParameterTypes();
+			String name = method.getName();
+
+			if (parameterTypes.length == 1 && "hash".equals(name)) {
+				return true;
+			} else if (parameterTypes.length == 2 && ("areEqual".equals(name) || "compare".equals(name))) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static Set<Class<?>> allInterfaces(Class<?> clazz) {
+		Set<Class<?>> interfaces = new HashSet<>();
+
+		for (Class<?> c = clazz; c != null; c = c.getSuperclass()) {
+			addInterfaces(interfaces, c);
+		}
+
+		return interfaces;
+	}
+
+	private static void addInterfaces(Set<Class<?>> interfaces, Class<?> clazz) {
+		for (Class<?> i : clazz.getInterfaces()) {
+			if (interfaces.add(i)) {
+				addInterfaces(interfaces, i);
+			}
+		}
+	}
+
+	@ThreadSafe
+	private static final class GenericCriterion implements CriterionEmitter {
+
+		private final String criterionInternalName;
+
+		GenericCriterion(String criterionInternalName) {
+			this.criterionInternalName = Objects.requireNonNull(criterionInternalName);
+		}
+
+		@Override
+		public void hash(MethodVisitor mv, GetterLoader getter, int object, int scratch, StackMapFrame frame) {
+			getter.load(mv);
+			mv.visitVarInsn(ALOAD, object);
+			mv.visitMethodInsn(INVOKEINTERFACE, criterionInternalName, "hash", "(Ljava/lang/Object;)I", true);
+		}
+
+		@Override
+		public void areEqual(MethodVisitor mv, GetterLoader getter, int self, int other, int scratch, Label notEqual, StackMapFrame frame) {
+			getter.load(mv);
+			mv.visitVarInsn(ALOAD, self);
+			mv.visitVarInsn(ALOAD, other);
+			mv.visitMethodInsn(INVOKEINTERFACE, criterionInternalName, "areEqual", "(Ljava/lang/Object;Ljava/lang/Object;)Z", true);
+			mv.visitJumpInsn(IFEQ, notEqual);
+		}
+
+		@Override
+		public void compare(MethodVisitor mv, GetterLoader getter, int left, int right, int scratch, StackMapFrame frame) {
+			getter.load(mv);
+			mv.visitVarInsn(ALOAD, left);
+			mv.visitVarInsn(ALOAD, right);
+			mv.visitMethodInsn(INVOKEINTERFACE, criterionInternalName, "compare", "(Ljava/lang/Object;Ljava/lang/Object;)I", true);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof GenericCriterion && criterionInternalName.equals(((GenericCriterion) obj).criterionInternalName);
+		}
+
+		@Override
+		public int hashCode() {
+			return criterionInternalName.hashCode();
+		}
+
+		@Override
+		public String toString() {
+			return "Generic[" + criterionInternalName + "]";
+		}
+
+	}
+
+	/**
+	 * Pushes the value of a getter onto the stack.
+	 */
+	@ThreadSafe
+	@FunctionalInterface
+	private interface ValueReader {
+
+		void read(MethodVisitor mv, GetterLoader getter, int object);
+
+		default boolean requiresHandle() {
+			return false;
+		}
+
+	}
+
+	private enum FunctionReader implements ValueReader {
+
+		/**
+		 * Calls {@link java.util.function.Function#apply(Object)} of the getter.
+		 */
+		FUNCTION {
+			@Override
+			public void read(MethodVisitor mv, GetterLoader getter, int object) {
+				getter.load(mv);
+				mv.visitTypeInsn(CHECKCAST, GenericGetterCriterion.FUNCTION);
+				visitApply(mv, object);
+			}
+		},
+		/**
+		 * Calls {@link java.util.function.Function#apply(Object)} of the getter wrapped by a {@link NullSafeComparableCriterion}.
+		 */
+		NULL_SAFE {
+			@Override
+			public void read(MethodVisitor mv, GetterLoader getter, int object) {
+				getter.load(mv);
+				mv.visitTypeInsn(CHECKCAST, NullSafeCriterion.INTERNAL_NAME);
+				mv.visitMethodInsn(INVOKEINTERFACE, NullSafeCriterion.INTERNAL_NAME, "getGetter", NullSafeCriterion.GET_GETTER_DESCRIPTOR, true);
+				visitApply(mv, object);
+			}
+		},
+		/**
+		 * Calls {@link java.util.function.Function#apply(Object)} of the getter of a {@link NestedGetter}, see
+		 * {@link NestedCriteria#getGetter()}.
+		 */
+		NESTED {
+			@Override
+			public void read(MethodVisitor mv, GetterLoader getter, int object) {
+				getter.load(mv);
+				mv.visitTypeInsn(CHECKCAST, NestedEmitter.INTERNAL_NAME);
+				mv.visitMethodInsn(INVOKEVIRTUAL, NestedEmitter.INTERNAL_NAME, "getGetter", NestedEmitter.GET_GETTER_DESCRIPTOR, false);
+				visitApply(mv, object);
+			}
+		};
+
+		private static void visitApply(MethodVisitor mv, int object) {
+			mv.visitVarInsn(ALOAD, object);
+			mv.visitMethodInsn(INVOKEINTERFACE, GenericGetterCriterion.FUNCTION, "apply", GenericGetterCriterion.APPLY_DESCRIPTOR, true);
+		}
+
+	}
+
+	private static final ValueReader FUNCTION_READER = FunctionReader.FUNCTION;
+
+	private static final ValueReader NULL_SAFE_READER = FunctionReader.NULL_SAFE;
+
+	private static final ValueReader NESTED_READER = FunctionReader.NESTED;
+
+	/**
+	 * <p>Reads a member directly, or the {@link MemberCriterion#getMember() member} of a getter via its handle.</p>
+	 *
+	 * <p>The generated class is defined in the runtime package of the lookup class, but it is not a nestmate of any class.
+	 * Members that the generated class can access are read directly via GETFIELD or INVOKEVIRTUAL/INVOKEINTERFACE/INVOKESTATIC.
+	 * All other members of a {@link MemberCriterion} are read via its {@link MemberCriterion#getHandle() handle}, which is
+	 * stored in a static final field and therefore constant-folded by the JIT.</p>
+	 */
+	@ThreadSafe
+	private static final class MemberReader implements ValueReader {
+
+		private static final String INVOKE_EXACT_PREFIX = "(Ljava/lang/Object;)";
+
+		private final @Nullable Member member;
+
+		private final String valueDescriptor;
+
+		private MemberReader(@Nullable Member member, String valueDescriptor) {
+			this.member = member;
+			this.valueDescriptor = Objects.requireNonNull(valueDescriptor);
+		}
+
+		static MemberReader of(MemberCriterion criterion, Class<?> lookupClass) {
+			MemberReader direct = direct(criterion.getMember(), lookupClass);
+
+			if (direct != null) {
+				return direct;
+			}
+
+			Class<?> handleType = criterion.getHandle().type().returnType();
+
+			return new MemberReader(null, Type.getDescriptor(handleType));
+		}
+
+		/**
+		 * @param member A non-static field, a non-static method without parameters or a static method with one parameter
+		 */
+		static @Nullable MemberReader direct(Member member, Class<?> lookupClass) {
+			if (!isAccessible(member, lookupClass)) {
+				return null;
+			} else if (member instanceof Method && Modifier.isStatic(member.getModifiers())) {
+				Class<?> parameterType = ((Method) member).getParameterTypes()[0];
+
+				if (parameterType.isPrimitive() || !CriterionEmitters.isAccessible(parameterType, lookupClass)) {
+					return null;
+				}
+			}
+
+			return new MemberReader(member, Type.getDescriptor(valueType(member)));
+		}
+
+		static boolean returns(Member member, Class<?> valueType) {
+			Class<?> actualType = valueType(member);
+
+			return valueType.isPrimitive() ? actualType == valueType : !actualType.isPrimitive();
+		}
+
+		private static boolean isAccessible(Member member, Class<?> lookupClass) {
+			int modifiers = member.getModifiers();
+			Class<?> declaringClass = member.getDeclaringClass();
+
+			if (Modifier.isPrivate(modifiers) || !(member instanceof Field || member instanceof Method)) {
+				return false;
+			} else if (isSameRuntimePackage(declaringClass, lookupClass)) {
+				return true;
+			}
+
+			return Modifier.isPublic(modifiers) && CriterionEmitters.isAccessible(declaringClass, lookupClass);
+		}
+
+		private static Class<?> valueType(Member member) {
+			return member instanceof Field ? ((Field) member).getType() : ((Method) member).getReturnType();
+		}
+
+		@Override
+		public void read(MethodVisitor mv, GetterLoader getter, int object) {
+			Member member = this.member;
+
+			if (member == null) {
+				getter.loadHandle(mv);
+				mv.visitVarInsn(ALOAD, object);
+				mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/invoke/MethodHandle", "invokeExact", INVOKE_EXACT_PREFIX + valueDescriptor, false);
+				return;
+			}
+
+			Class<?> declaringClass = member.getDeclaringClass();
+			String owner = Type.getInternalName(declaringClass);
+			boolean isInterface = declaringClass.isInterface();
+			mv.visitVarInsn(ALOAD, object);
+
+			if (member instanceof Field) {
+				mv.visitTypeInsn(CHECKCAST, owner);
+				mv.visitFieldInsn(GETFIELD, owner, member.getName(), valueDescriptor);
+			} else if (Modifier.isStatic(member.getModifiers())) {
+				Method method = (Method) member;
+				mv.visitTypeInsn(CHECKCAST, Type.getInternalName(method.getParameterTypes()[0]));
+				mv.visitMethodInsn(INVOKESTATIC, owner, member.getName(), Type.getMethodDescriptor(method), isInterface);
+			} else {
+				mv.visitTypeInsn(CHECKCAST, owner);
+				int opcode = isInterface ? INVOKEINTERFACE : INVOKEVIRTUAL;
+				mv.visitMethodInsn(opcode, owner, member.getName(), "()" + valueDescriptor, isInterface);
+			}
+		}
+
+		@Override
+		public boolean requiresHandle() {
+			return member == null;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof MemberReader)) {
+				return false;
+			}
+
+			MemberReader other = (MemberReader) obj;
+
+			return Objects.equals(member, other.member) && valueDescriptor.equals(other.valueDescriptor);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(member, valueDescriptor);
+		}
+
+		@Override
+		public String toString() {
+			return member == null ? "Handle[" + valueDescriptor + "]" : "Member[" + member + "]";
+		}
+
+	}
+
+	/**
+	 * Mirrors the default methods of the primitive getters, e.g. {@link IntGetter#compare(Object, Object)}.
+	 */
+	private enum PrimitiveCriterion {
+
+		INT(IntGetter.class, "applyAsInt", int.class) {
+			@Override
+			void visitCompare(MethodVisitor mv) {
+				mv.visitMethodInsn(INVOKESTATIC, "java/lang/Integer", "compare", "(II)I", false);
+			}
+		},
+		LONG(LongGetter.class, "applyAsLong", long.class) {
+			@Override
+			void visitHash(MethodVisitor mv) {
+				mv.visitMethodInsn(INVOKESTATIC, "java/lang/Long", "hashCode", "(J)I", false);
+			}
+
+			@Override
+			void visitCompare(MethodVisitor mv) {
+				mv.visitMethodInsn(INVOKESTATIC, "java/lang/Long", "compare", "(JJ)I", false);
+			}
+		},
+		DOUBLE(DoubleGetter.class, "applyAsDouble", double.class) {
+			@Override
+			void visitHash(MethodVisitor mv) {
+				mv.visitMethodInsn(INVOKESTATIC, "java/lang/Double", "hashCode", "(D)I", false);
+			}
+
+			@Override
+			boolean visitEqualityValue(MethodVisitor mv) {
+				mv.visitMethodInsn(INVOKESTATIC, "java/lang/Double", "doubleToLongBits", "(D)J", false);
+				return true;
+			}
+
+			@Override
+			void visitCompare(MethodVisitor mv) {
+				mv.visitMethodInsn(INVOKESTATIC, "java/lang/Double", "compare", "(DD)I", false);
+			}
+		},
+		FLOAT(FloatGetter.class, "get", float.class) {
+			@Override
+			void visitHash(MethodVisitor mv) {
+				mv.visitMethodInsn(INVOKESTATIC, "java/lang/Float", "floatToIntBits", "(F)I", false);
+			}
+
+			@Override
+			boolean visitEqualityValue(MethodVisitor mv) {
+				mv.visitMethodInsn(INVOKESTATIC, "java/lang/Float", "floatToIntBits", "(F)I", false);
+				return false;
+			}
+
+			@Override
+			void visitCompare(MethodVisitor mv) {
+				mv.visitMethodInsn(INVOKESTATIC, "java/lang/Float", "compare", "(FF)I", false);
+			}
+		},
+		BOOLEAN(BooleanGetter.class, "test", boolean.class) {
+			@Override
+			void visitHash(MethodVisitor mv) {
+				mv.visitMethodInsn(INVOKESTATIC, "java/lang/Boolean", "hashCode", "(Z)I", false);
+			}
+
+			@Override
+			void visitCompare(MethodVisitor mv) {
+				mv.visitMethodInsn(INVOKESTATIC, "java/lang/Boolean", "compare", "(ZZ)I", false);
+			}
+		},
+		BYTE(ByteGetter.class, "get", byte.class),
+		SHORT(ShortGetter.class, "get", short.class),
+		CHAR(CharGetter.class, "get", char.class);
+
+		private final Class<?> getterInterface;
+
+		final Class<?> valueType;
+
+		/**
+		 * Calls the accessor of the getter interface, e.g. {@link IntGetter#applyAsInt(Object)}.
+		 */
+		final ValueReader accessor;
+
+		PrimitiveCriterion(Class<?> getterInterface, String methodName, Class<?> valueType) {
+			this.getterInterface = getterInterface;
+			this.valueType = valueType;
+			String internalName = Type.getInternalName(getterInterface);
+			String methodDescriptor = "(Ljava/lang/Object;)" + Type.getDescriptor(valueType);
+			this.accessor = (mv, getter, object) -> {
+				getter.load(mv);
+				mv.visitTypeInsn(CHECKCAST, internalName);
+				mv.visitVarInsn(ALOAD, object);
+				mv.visitMethodInsn(INVOKEINTERFACE, internalName, methodName, methodDescriptor, true);
+			};
+		}
+
+		static @Nullable PrimitiveCriterion find(Class<?> getterClass) {
+			for (PrimitiveCriterion criterion : values()) {
+				if (usesDefaultMethods(getterClass, criterion.getterInterface)) {
+					return criterion;
+				}
+			}
+
+			return null;
+		}
+
+		/**
+		 * Converts the accessor's value to the hash.
+		 */
+		void visitHash(MethodVisitor mv) {
+		}
+
+		/**
+		 * Converts the accessor's value to the value used for equality checks.
+		 *
+		 * @return true if the resulting value is a long; false if the resulting value is an int
+		 */
+		boolean visitEqualityValue(MethodVisitor mv) {
+			return this == LONG;
+		}
+
+		void visitCompare(MethodVisitor mv) {
+			mv.visitInsn(ISUB);
+		}
+
+	}
+
+	@ThreadSafe
+	private static final class PrimitiveEmitter implements CriterionEmitter {
+
+		private final PrimitiveCriterion criterion;
+
+		private final ValueReader reader;
+
+		PrimitiveEmitter(PrimitiveCriterion criterion, ValueReader reader) {
+			this.criterion = Objects.requireNonNull(criterion);
+			this.reader = Objects.requireNonNull(reader);
+		}
+
+		@Override
+		public void hash(MethodVisitor mv, GetterLoader getter, int object, int scratch, StackMapFrame frame) {
+			reader.read(mv, getter, object);
+			criterion.visitHash(mv);
+		}
+
+		@Override
+		public void areEqual(MethodVisitor mv, GetterLoader getter, int self, int other, int scratch, Label notEqual, StackMapFrame frame) {
+			reader.read(mv, getter, self);
+			criterion.visitEqualityValue(mv);
+			reader.read(mv, getter, other);
+
+			if (criterion.visitEqualityValue(mv)) {
+				mv.visitInsn(LCMP);
+				mv.visitJumpInsn(IFNE, notEqual);
+			} else {
+				mv.visitJumpInsn(IF_ICMPNE, notEqual);
+			}
+		}
+
+		@Override
+		public void compare(MethodVisitor mv, GetterLoader getter, int left, int right, int scratch, StackMapFrame frame) {
+			reader.read(mv, getter, left);
+			reader.read(mv, getter, right);
+			criterion.visitCompare(mv);
+		}
+
+		@Override
+		public boolean requiresHandle() {
+			return reader.requiresHandle();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof PrimitiveEmitter)) {
+				return false;
+			}
+
+			PrimitiveEmitter other = (PrimitiveEmitter) obj;
+
+			return criterion == other.criterion && reader.equals(other.reader);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * criterion.hashCode() + reader.hashCode();
+		}
+
+		@Override
+		public String toString() {
+			return criterion.name() + "[" + (reader == criterion.accessor ? "ACCESSOR" : reader) + "]";
+		}
+
+	}
+
+	private enum ObjectKind {
+
+		NULL_SAFE_COMPARABLE(NullSafeComparableCriterion.class),
+		COMPARABLE(ComparableGetter.class),
+		GENERIC(GenericGetter.class);
+
+		private final Class<?> getterInterface;
+
+		ObjectKind(Class<?> getterInterface) {
+			this.getterInterface = getterInterface;
+		}
+
+		static @Nullable ObjectKind find(Class<?> getterClass) {
+			for (ObjectKind kind : values()) {
+				if (usesDefaultMethods(getterClass, kind.getterInterface)) {
+					return kind;
+				}
+			}
+
+			return null;
+		}
+
+	}
+
+	/**
+	 * Mirrors the default methods of {@link GenericGetter}. Comparisons are delegated to the criterion.
+	 */
+	@ThreadSafe
+	private static class GenericGetterCriterion implements CriterionEmitter {
+
+		static final String FUNCTION = "java/util/function/Function";
+
+		static final String OBJECT = "java/lang/Object";
+
+		static final String APPLY_DESCRIPTOR = "(Ljava/lang/Object;)Ljava/lang/Object;";
+
+		private final GenericCriterion generic;
+
+		final ValueReader reader;
+
+		GenericGetterCriterion(GenericCriterion generic, ValueReader reader) {
+			this.generic = Objects.requireNonNull(generic);
+			this.reader = Objects.requireNonNull(reader);
+		}
+
+		@Override
+		public final void hash(MethodVisitor mv, GetterLoader getter, int object, int scratch, StackMapFrame frame) {
+			reader.read(mv, getter, object);
+			mv.visitInsn(DUP);
+			Label nonNull = new Label();
+			mv.visitJumpInsn(IFNONNULL, nonNull);
+			mv.visitInsn(POP);
+			mv.visitInsn(ICONST_0);
+			Label end = new Label();
+			mv.visitJumpInsn(GOTO, end);
+			mv.visitLabel(nonNull);
+			frame.push(OBJECT).visit(mv);
+			mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/Object", "hashCode", "()I", false);
+			mv.visitLabel(end);
+			frame.push(INTEGER).visit(mv);
+		}
+
+		@Override
+		public final void areEqual(MethodVisitor mv, GetterLoader getter, int self, int other, int scratch, Label notEqual, StackMapFrame frame) {
+			visitReadAndStore(mv, getter, self, other, scratch);
+			mv.visitVarInsn(ALOAD, scratch);
+			mv.visitVarInsn(ALOAD, scratch + 1);
+			Label equal = new Label();
+			mv.visitJumpInsn(IF_ACMPEQ, equal);
+			mv.visitVarInsn(ALOAD, scratch);
+			mv.visitJumpInsn(IFNULL, notEqual);
+			mv.visitVarInsn(ALOAD, scratch);
+			mv.visitVarInsn(ALOAD, scratch + 1);
+			mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/Object", "equals", "(Ljava/lang/Object;)Z", false);
+			mv.visitJumpInsn(IFEQ, notEqual);
+			mv.visitLabel(equal);
+			withScratch(frame, scratch).visit(mv);
+		}
+
+		@Override
+		public void compare(MethodVisitor mv, GetterLoader getter, int left, int right, int scratch, StackMapFrame frame) {
+			generic.compare(mv, getter, left, right, scratch, frame);
+		}
+
+		@Override
+		public final boolean requiresHandle() {
+			return reader.requiresHandle();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj == null || obj.getClass() != getClass()) {
+				return false;
+			}
+
+			GenericGetterCriterion other = (GenericGetterCriterion) obj;
+
+			return generic.equals(other.generic) && reader.equals(other.reader);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * generic.hashCode() + reader.hashCode();
+		}
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + "[" + reader + "]";
+		}
+
+		/**
+		 * Returns the frame after {@link #visitReadAndStore}.
+		 */
+		static StackMapFrame withScratch(StackMapFrame frame, int scratch) {
+			return frame.withLocal(scratch, OBJECT).withLocal(scratch + 1, OBJECT);
+		}
+
+		/**
+		 * Stores the values of <i>left</i> and <i>right</i> in <i>scratch</i> and <i>scratch + 1</i>.
+		 */
+		final void visitReadAndStore(MethodVisitor mv, GetterLoader getter, int left, int right, int scratch) {
+			reader.read(mv, getter, left);
+			mv.visitVarInsn(ASTORE, scratch);
+			reader.read(mv, getter, right);
+			mv.visitVarInsn(ASTORE, scratch + 1);
+		}
+
+	}
+
+	/**
+	 * Mirrors the default methods of {@link ComparableGetter}.
+	 */
+	@ThreadSafe
+	private static class ComparableCriterion extends GenericGetterCriterion {
+
+		ComparableCriterion(GenericCriterion generic, ValueReader reader) {
+			super(generic, reader);
+		}
+
+		@Override
+		public void compare(MethodVisitor mv, GetterLoader getter, int left, int right, int scratch, StackMapFrame frame) {
+			reader.read(mv, getter, left);
+			mv.visitTypeInsn(CHECKCAST, "java/lang/Comparable");
+			reader.read(mv, getter, right);
+			visitCompareTo(mv);
+		}
+
+		static void visitCompareTo(MethodVisitor mv) {
+			mv.visitMethodInsn(INVOKEINTERFACE, "java/lang/Comparable", "compareTo", "(Ljava/lang/Object;)I", true);
+		}
+
+	}
+
+	/**
+	 * Mirrors the default methods of {@link NullSafeComparableCriterion}, provided that the wrapped getter is a
+	 * {@link ComparableGetter} using the default methods. The position of nulls is a constant of the generated code.
+	 */
+	@ThreadSafe
+	private static final class NullSafeCriterion extends ComparableCriterion {
+
+		static final String INTERNAL_NAME = Type.getInternalName(NullSafeComparableCriterion.class);
+
+		static final String GET_GETTER_DESCRIPTOR = Type.getMethodDescriptor(Type.getType(ComparableGetter.class));
+
+		private final int resultIfLeftIsNull;
+
+		NullSafeCriterion(GenericCriterion generic, ValueReader reader, int resultIfLeftIsNull) {
+			super(generic, reader);
+			this.resultIfLeftIsNull = resultIfLeftIsNull;
+		}
+
+		@Override
+		public void compare(MethodVisitor mv, GetterLoader getter, int left, int right, int scratch, StackMapFrame frame) {
+			visitReadAndStore(mv, getter, left, right, scratch);
+			StackMapFrame stored = withScratch(frame, scratch);
+			Label end = new Label();
+			Label leftNonNull = new Label();
+			mv.visitVarInsn(ALOAD, scratch);
+			mv.visitJumpInsn(IFNONNULL, leftNonNull);
+			Label rightNonNull = new Label();
+			mv.visitVarInsn(ALOAD, scratch + 1);
+			mv.visitJumpInsn(IFNONNULL, rightNonNull);
+			mv.visitInsn(ICONST_0);
+			mv.visitJumpInsn(GOTO, end);
+			mv.visitLabel(rightNonNull);
+			stored.visit(mv);
+			mv.visitInsn(ICONST_0 + resultIfLeftIsNull);
+			mv.visitJumpInsn(GOTO, end);
+
+			mv.visitLabel(leftNonNull);
+			stored.visit(mv);
+			Label bothNonNull = new Label();
+			mv.visitVarInsn(ALOAD, scratch + 1);
+			mv.visitJumpInsn(IFNONNULL, bothNonNull);
+			mv.visitInsn(ICONST_0 - resultIfLeftIsNull);
+			mv.visitJumpInsn(GOTO, end);
+
+			mv.visitLabel(bothNonNull);
+			stored.visit(mv);
+			mv.visitVarInsn(ALOAD, scratch);
+			mv.visitTypeInsn(CHECKCAST, "java/lang/Comparable");
+			mv.visitVarInsn(ALOAD, scratch + 1);
+			visitCompareTo(mv);
+			mv.visitLabel(end);
+			stored.push(INTEGER).visit(mv);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return super.equals(obj) && resultIfLeftIsNull == ((NullSafeCriterion) obj).resultIfLeftIsNull;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * super.hashCode() + resultIfLeftIsNull;
+		}
+
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + "[" + reader + ", " + resultIfLeftIsNull + "]";
+		}
+
+	}
+
+	/**
+	 * Mirrors the default methods of {@link ReversedCriterion}: the code of the reversed criterion with the operands of
+	 * <i>compare</i> swapped. The reversed criterion is loaded via {@link ReversedCriterion#getCriterion()}, unless the code
+	 * of the reversed criterion does not load it at all, e.g. for accessible members.
+	 */
+	@ThreadSafe
+	private static final class ReversedEmitter implements CriterionEmitter {
+
+		static final String INTERNAL_NAME = Type.getInternalName(ReversedCriterion.class);
+
+		static final String CRITERION = Type.getInternalName(OrderingCriterion.class);
+
+		static final String GET_CRITERION_DESCRIPTOR = Type.getMethodDescriptor(Type.getType(OrderingCriterion.class));
+
+		private final CriterionEmitter reversed;
+
+		ReversedEmitter(CriterionEmitter reversed) {
+			this.reversed = Objects.requireNonNull(reversed);
+		}
+
+		@Override
+		public void hash(MethodVisitor mv, GetterLoader getter, int object, int scratch, StackMapFrame frame) {
+			reversed.hash(mv, unwrapping(getter), object, scratch, frame);
+		}
+
+		@Override
+		public void areEqual(MethodVisitor mv, GetterLoader getter, int self, int other, int scratch, Label notEqual, StackMapFrame frame) {
+			reversed.areEqual(mv, unwrapping(getter), self, other, scratch, notEqual, frame);
+		}
+
+		@Override
+		public void compare(MethodVisitor mv, GetterLoader getter, int left, int right, int scratch, StackMapFrame frame) {
+			reversed.compare(mv, unwrapping(getter), right, left, scratch, frame);
+		}
+
+		@Override
+		public boolean requiresHandle() {
+			return reversed.requiresHandle();
+		}
+
+		@Override
+		public void visitMemberCriterion(MethodVisitor mv) {
+			visitGetCriterion(mv);
+			reversed.visitMemberCriterion(mv);
+		}
+
+		@Override
+		public Object memberCriterion(Object getter) {
+			return reversed.memberCriterion(((ReversedCriterion<?>) getter).getCriterion());
+		}
+
+		private static GetterLoader unwrapping(GetterLoader getter) {
+			return new GetterLoader() {
+				@Override
+				public void load(MethodVisitor mv) {
+					getter.load(mv);
+					visitGetCriterion(mv);
+				}
+
+				@Override
+				public void loadHandle(MethodVisitor mv) {
+					getter.loadHandle(mv);
+				}
+			};
+		}
+
+		private static void visitGetCriterion(MethodVisitor mv) {
+			mv.visitTypeInsn(CHECKCAST, INTERNAL_NAME);
+			mv.visitMethodInsn(INVOKEINTERFACE, INTERNAL_NAME, "getCriterion", GET_CRITERION_DESCRIPTOR, true);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof ReversedEmitter && reversed.equals(((ReversedEmitter) obj).reversed);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * reversed.hashCode() + 1;
+		}
+
+		@Override
+		public String toString() {
+			return "Reversed[" + reversed + "]";
+		}
+
+	}
+
+	/**
+	 * <p>Mirrors the default methods of {@link NestedGetter}, provided that its comparator has been created by a
+	 * {@link CodegenProvider}: the criteria of the nested comparator are inlined instead of calling the comparator. The
+	 * nested objects are stored in <i>scratch</i> and <i>scratch + 1</i>, the inlined criteria use the local variables that
+	 * follow. The handling of nulls, strict types and the hash parameters of the nested comparator are constants of the
+	 * generated code.</p>
+	 *
+	 * <p>The generated class stores a {@link NestedCriteria} instead of the getter, which provides the getter of the nested
+	 * object and the criteria. Criteria that require handles are called instead, since the generated class stores at most one
+	 * handle per getter.</p>
+	 */
+	@ThreadSafe
+	private static final class NestedEmitter implements CriterionEmitter {
+
+		static final String INTERNAL_NAME = Type.getInternalName(NestedCriteria.class);
+
+		static final String GET_GETTER_DESCRIPTOR = "()L" + GenericGetterCriterion.FUNCTION + ";";
+
+		private static final String OF_DESCRIPTOR = "(Ljava/lang/Object;)Ljava/lang/Object;";
+
+		private static final String GET_CRITERION_DESCRIPTOR = "(I)Ljava/lang/Object;";
+
+		private final ValueReader reader;
+
+		private final List<CriterionEmitter> criteria;
+
+		private final String classToCompare;
+
+		private final boolean strictTypes;
+
+		private final int initialValue;
+
+		private final int multiplier;
+
+		private final NullHandling nullHandling;
+
+		private NestedEmitter(
+				ValueReader reader,
+				List<CriterionEmitter> criteria,
+				String classToCompare,
+				boolean strictTypes,
+				HashParameters hashParameters,
+				NullHandling nullHandling) {
+			this.reader = Objects.requireNonNull(reader);
+			this.criteria = Collections.unmodifiableList(new ArrayList<>(criteria));
+			this.classToCompare = Objects.requireNonNull(classToCompare);
+			this.strictTypes = strictTypes;
+			this.initialValue = hashParameters.initialValue();
+			this.multiplier = hashParameters.multiplier();
+			this.nullHandling = Objects.requireNonNull(nullHandling);
+		}
+
+		/**
+		 * Returns null if the generated class cannot refer to the class compared by the nested comparator.
+		 */
+		static @Nullable NestedEmitter of(NestedGetter<?, ?> getter, BaseOrderingComparatorSpec<?, ?> spec, ImplSpec implSpec) {
+			Class<?> classToCompare = spec.getClassToCompare();
+
+			if (!isAccessible(classToCompare, implSpec.getLookup().lookupClass())) {
+				return null;
+			}
+
+			GenericCriterion generic = new GenericCriterion(ReversedEmitter.CRITERION);
+			List<CriterionEmitter> criteria = new ArrayList<>(spec.getGetterCount());
+
+			for (Object criterion : spec.getGetters()) {
+				CriterionEmitter emitter = find(criterion, generic, implSpec);
+				criteria.add(emitter.requiresHandle() ? generic : emitter);
+			}
+
+			ValueReader reader = Utils.or(directReader(getter.getGetter(), Object.class, implSpec), NESTED_READER);
+
+			return new NestedEmitter(
+					reader,
+					criteria,
+					Type.getInternalName(classToCompare),
+					spec.useStrictTypes(),
+					spec.getHashParameters(),
+					spec.getNullHandling());
+		}
+
+		@Override
+		public void hash(MethodVisitor mv, GetterLoader getter, int object, int scratch, StackMapFrame frame) {
+			reader.read(mv, getter, object);
+			mv.visitVarInsn(ASTORE, scratch);
+			StackMapFrame stored = frame.withLocal(scratch, GenericGetterCriterion.OBJECT);
+			mv.visitVarInsn(ALOAD, scratch);
+			Label nonNull = new Label();
+			mv.visitJumpInsn(IFNONNULL, nonNull);
+			mv.visitInsn(ICONST_0);
+			Label end = new Label();
+			mv.visitJumpInsn(GOTO, end);
+
+			mv.visitLabel(nonNull);
+			stored.visit(mv);
+			visitCheckType(mv, scratch);
+			BytecodeGenerator.insertNumber(mv, initialValue);
+			StackMapFrame hashing = stored.push(INTEGER);
+
+			for (int i = 0; i < criteria.size(); ++i) {
+				BytecodeGenerator.insertNumber(mv, multiplier);
+				mv.visitInsn(IMUL);
+				criteria.get(i).hash(mv, criterion(getter, i), scratch, scratch + 1, hashing);
+				mv.visitInsn(IADD);
+			}
+
+			mv.visitLabel(end);
+			hashing.visit(mv);
+		}
+
+		@Override
+		public void areEqual(MethodVisitor mv, GetterLoader getter, int self, int other, int scratch, Label notEqual, StackMapFrame frame) {
+			StackMapFrame stored = visitReadAndStore(mv, getter, self, other, scratch, frame);
+			mv.visitVarInsn(ALOAD, scratch);
+			mv.visitVarInsn(ALOAD, scratch + 1);
+			Label equal = new Label();
+			mv.visitJumpInsn(IF_ACMPEQ, equal);
+			mv.visitVarInsn(ALOAD, scratch);
+			mv.visitJumpInsn(IFNULL, notEqual);
+			mv.visitVarInsn(ALOAD, scratch + 1);
+			mv.visitJumpInsn(IFNULL, notEqual);
+			visitCheckType(mv, scratch);
+
+			if (!GenericGetterCriterion.OBJECT.equals(classToCompare)) {
+				mv.visitVarInsn(ALOAD, scratch + 1);
+				mv.visitTypeInsn(INSTANCEOF, classToCompare);
+				mv.visitJumpInsn(IFEQ, notEqual);
+			}
+
+			for (int i = 0; i < criteria.size(); ++i) {
+				criteria.get(i).areEqual(mv, criterion(getter, i), scratch, scratch + 1, scratch + 2, notEqual, stored);
+			}
+
+			visitSeparateFrames(mv);
+			mv.visitLabel(equal);
+			stored.visit(mv);
+		}
+
+		@Override
+		public void compare(MethodVisitor mv, GetterLoader getter, int left, int right, int scratch, StackMapFrame frame) {
+			StackMapFrame stored = visitReadAndStore(mv, getter, left, right, scratch, frame);
+			visitCheckType(mv, scratch);
+			visitCheckType(mv, scratch + 1);
+			Label end = new Label();
+
+			if (!NullHandling.THROW.equals(nullHandling)) {
+				visitCompareNulls(mv, scratch, stored, end);
+			}
+
+			int last = criteria.size() - 1;
+
+			for (int i = 0; i < last; ++i) {
+				criteria.get(i).compare(mv, criterion(getter, i), scratch, scratch + 1, scratch + 2, stored);
+				mv.visitInsn(DUP);
+				mv.visitJumpInsn(IFNE, end);
+				mv.visitInsn(POP);
+			}
+
+			criteria.get(last).compare(mv, criterion(getter, last), scratch, scratch + 1, scratch + 2, stored);
+			visitSeparateFrames(mv);
+			mv.visitLabel(end);
+			stored.push(INTEGER).visit(mv);
+		}
+
+		/**
+		 * Jumps to <i>end</i> with the result if either nested object is null, like the nested comparator does.
+		 */
+		private void visitCompareNulls(MethodVisitor mv, int scratch, StackMapFrame stored, Label end) {
+			int resultIfLeftIsNull = nullHandling.getComparisonResultIfLeftSideIsNull();
+			Label leftNonNull = new Label();
+			mv.visitVarInsn(ALOAD, scratch);
+			mv.visitJumpInsn(IFNONNULL, leftNonNull);
+			Label rightNonNull = new Label();
+			mv.visitVarInsn(ALOAD, scratch + 1);
+			mv.visitJumpInsn(IFNONNULL, rightNonNull);
+			mv.visitInsn(ICONST_0);
+			mv.visitJumpInsn(GOTO, end);
+			mv.visitLabel(rightNonNull);
+			stored.visit(mv);
+			mv.visitInsn(ICONST_0 + resultIfLeftIsNull);
+			mv.visitJumpInsn(GOTO, end);
+
+			mv.visitLabel(leftNonNull);
+			stored.visit(mv);
+			Label bothNonNull = new Label();
+			mv.visitVarInsn(ALOAD, scratch + 1);
+			mv.visitJumpInsn(IFNONNULL, bothNonNull);
+			mv.visitInsn(ICONST_0 - resultIfLeftIsNull);
+			mv.visitJumpInsn(GOTO, end);
+
+			mv.visitLabel(bothNonNull);
+			stored.visit(mv);
+		}
+
+		/**
+		 * Separates the frame at the end of the last inlined criterion, if any, from the frame that follows. Both frames
+		 * differ, but cannot be visited at the same offset.
+		 */
+		private static void visitSeparateFrames(MethodVisitor mv) {
+			mv.visitInsn(NOP);
+		}
+
+		/**
+		 * Stores the nested objects of <i>left</i> and <i>right</i> in <i>scratch</i> and <i>scratch + 1</i> and returns the
+		 * resulting frame.
+		 */
+		private StackMapFrame visitReadAndStore(MethodVisitor mv, GetterLoader getter, int left, int right, int scratch, StackMapFrame frame) {
+			reader.read(mv, getter, left);
+			mv.visitVarInsn(ASTORE, scratch);
+			reader.read(mv, getter, right);
+			mv.visitVarInsn(ASTORE, scratch + 1);
+
+			return GenericGetterCriterion.withScratch(frame, scratch);
+		}
+
+		/**
+		 * Casts the nested object in the given local variable, if the nested comparator uses strict types.
+		 */
+		private void visitCheckType(MethodVisitor mv, int local) {
+			if (strictTypes) {
+				mv.visitVarInsn(ALOAD, local);
+				mv.visitTypeInsn(CHECKCAST, classToCompare);
+				mv.visitInsn(POP);
+			}
+		}
+
+		/**
+		 * Loads the criterion with the given index via {@link NestedCriteria#getCriterion(int)}.
+		 */
+		private static GetterLoader criterion(GetterLoader getter, int index) {
+			return new GetterLoader() {
+				@Override
+				public void load(MethodVisitor mv) {
+					getter.load(mv);
+					mv.visitTypeInsn(CHECKCAST, INTERNAL_NAME);
+					BytecodeGenerator.insertNumber(mv, index);
+					mv.visitMethodInsn(INVOKEVIRTUAL, INTERNAL_NAME, "getCriterion", GET_CRITERION_DESCRIPTOR, false);
+				}
+
+				@Override
+				public void loadHandle(MethodVisitor mv) {
+					throw new AssertionError("Criteria of nested getters do not require handles");
+				}
+			};
+		}
+
+		@Override
+		public boolean requiresHandle() {
+			return false;
+		}
+
+		@Override
+		public Object getterConstant(Object getter) {
+			return NestedCriteria.of(getter);
+		}
+
+		@Override
+		public void visitGetterConstant(MethodVisitor mv) {
+			mv.visitMethodInsn(INVOKESTATIC, INTERNAL_NAME, "of", OF_DESCRIPTOR, false);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof NestedEmitter)) {
+				return false;
+			}
+
+			NestedEmitter other = (NestedEmitter) obj;
+
+			return reader.equals(other.reader)
+					&& criteria.equals(other.criteria)
+					&& classToCompare.equals(other.classToCompare)
+					&& strictTypes == other.strictTypes
+					&& initialValue == other.initialValue
+					&& multiplier == other.multiplier
+					&& nullHandling == other.nullHandling;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(reader, criteria, classToCompare, strictTypes, initialValue, multiplier, nullHandling);
+		}
+
+		@Override
+		public String toString() {
+			return "Nested[" + reader + ", " + criteria + ", " + classToCompare + ", strictTypes=" + strictTypes
+					+ ", hash=" + initialValue + "/" + multiplier + ", " + nullHandling + "]";
+		}
+
+	}
+
+	private CriterionEmitters() {
+		throw new AssertionError("No instances");
+	}
+
+}
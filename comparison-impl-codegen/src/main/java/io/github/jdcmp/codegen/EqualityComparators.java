@@ -31,7 +31,6 @@ import java.util.Objects;
 
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 import static org.objectweb.asm.Opcodes.ARETURN;
-import static org.objectweb.asm.Opcodes.GETSTATIC;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 
 @ThreadSafe
@@ -45,6 +44,25 @@ final class EqualityComparators {
 		return SerializableImpl.create(userSpec, implSpec);
 	}
 
+	/**
+	 * Returns true if comparators of the given spec are generated, i.e. if the spec has criteria that fit into one class.
+	 */
+	public static boolean generates(BaseEqualityComparatorSpec<?, ?> userSpec) {
+		return AsmGenerator.supports(userSpec);
+	}
+
+	/**
+	 * Returns a comparator that iterates the criteria of the spec instead of generating a class.
+	 */
+	public static <T> EqualityComparator<T> interpret(EqualityComparatorSpec<T> userSpec) {
+		return new ComparatorN<>(userSpec);
+	}
+
+	public static <T> SerializableEqualityComparator<T> interpretSerializable(
+			SerializableEqualityComparatorSpec<T> userSpec, ImplSpec implSpec) {
+		return new SerializableComparatorN<>(userSpec, implSpec);
+	}
+
 	private static final class NonSerializableImpl {
 
 		public static <T> EqualityComparator<T> create(EqualityComparatorSpec<T> userSpec, ImplSpec implSpec) {
@@ -54,7 +72,7 @@ final class EqualityComparators {
 				return AsmGenerator.GENERATOR.generate(userSpec, implSpec);
 			}
 
-			return new ComparatorN<>(userSpec);
+			return interpret(userSpec);
 		}
 
 		private static <T> EqualityComparator<T> useFallback(EqualityComparatorSpec<T> userSpec) {
@@ -79,7 +97,7 @@ final class EqualityComparators {
 				return AsmGenerator.GENERATOR_SERIALIZABLE.generate(userSpec, implSpec);
 			}
 
-			return new SerializableComparatorN<>(userSpec, implSpec);
+			return interpretSerializable(userSpec, implSpec);
 		}
 
 		private static <T> SerializableEqualityComparator<T> useFallback(
@@ -207,7 +225,11 @@ final class EqualityComparators {
 
 		public static final AsmGenerator<SerializableEqualityComparator<?>> GENERATOR_SERIALIZABLE;
 
-		private static final int MAX_SUPPORTED_GETTERS = 32;
+		/**
+		 * Bounded by the size limits of the class file, e.g. of the static initializer. Wider specs are split into
+		 * {@link CriterionChunk}s.
+		 */
+		private static final int MAX_SUPPORTED_GETTERS = 1024;
 
 		private static final String SPEC_TO_SERIALIZED_FORM_NAME = "toSerializedForm";
 
@@ -255,7 +277,7 @@ final class EqualityComparators {
 			MethodVisitor mv = cw.visitMethod(ACC_PRIVATE, "writeReplace", "()Ljava/lang/Object;", null, null);
 			mv.visitCode();
 
-			mv.visitFieldInsn(GETSTATIC, cd.generatedInternalName, "spec", config.specType.descriptor);
+			visitGetSpec(mv, cd);
 			mv.visitMethodInsn(
 					INVOKEINTERFACE,
 					config.specType.internalName,
@@ -0,0 +1,76 @@
+package io.github.jdcmp.codegen;
+
+import io.github.jdcmp.api.documentation.ThreadSafe;
+import io.github.jdcmp.codegen.FallbackStrategy.FailureMemory;
+import io.github.jdcmp.codegen.Utils.ThrowableRunnable;
+import io.github.jdcmp.codegen.contract.EventHandler;
+
+import java.lang.invoke.MethodHandles.Lookup;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Remembers the strategies of a provider that failed to generate a class while a later strategy succeeded, so that they
+ * are tried last afterwards. Strategies are described by the generator, class definer and instantiator, and remembered
+ * per lookup class and lookup modes. The {@link EventHandler} is notified once per strategy.
+ */
+@ThreadSafe
+final class FailedStrategies {
+
+	private static final Logger LOGGER = Logger.getLogger(FailedStrategies.class.getName());
+
+	private final ClassValue<Set<String>> failed = new ClassValue<Set<String>>() {
+		@Override
+		protected Set<String> computeValue(Class<?> type) {
+			return ConcurrentHashMap.newKeySet();
+		}
+	};
+
+	public <T> FailureMemory<T> memory(Lookup lookup, EventHandler eventHandler, Function<? super T, String> describer) {
+		return new Memory<>(failed.get(lookup.lookupClass()), lookup.lookupModes(), eventHandler, describer);
+	}
+
+	@ThreadSafe
+	private static final class Memory<T> implements FailureMemory<T> {
+
+		private final Set<String> failed;
+
+		private final int lookupModes;
+
+		private final EventHandler eventHandler;
+
+		private final Function<? super T, String> describer;
+
+		Memory(Set<String> failed, int lookupModes, EventHandler eventHandler, Function<? super T, String> describer) {
+			this.failed = Objects.requireNonNull(failed);
+			this.lookupModes = lookupModes;
+			this.eventHandler = Objects.requireNonNull(eventHandler);
+			this.describer = Objects.requireNonNull(describer);
+		}
+
+		@Override
+		public boolean hasFailed(T strategy) {
+			return failed.contains(key(describer.apply(strategy)));
+		}
+
+		@Override
+		public void onFailure(T strategy, Throwable cause) {
+			String description = describer.apply(strategy);
+
+			if (failed.add(key(description))) {
+				LOGGER.log(Level.FINE, "Strategy failed and will be tried last: " + description, cause);
+				ThrowableRunnable.run(() -> eventHandler.onStrategyFailed(description, cause));
+			}
+		}
+
+		private String key(String description) {
+			return lookupModes + ":" + description;
+		}
+
+	}
+
+}
@@ -3,7 +3,9 @@ package io.github.jdcmp.codegen;
 import io.github.jdcmp.api.documentation.ThreadSafe;
 import io.github.jdcmp.codegen.Utils.ThrowableConsumer;
 import io.github.jdcmp.codegen.Utils.ThrowableFunction;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -21,13 +23,51 @@ final class FallbackStrategy<T> {
 	}
 
 	public <R> R applyChecked(ThrowableFunction<? super T, ? extends R> strategyRunner) throws Throwable {
+		return applyChecked(strategies, strategyRunner, null);
+	}
+
+	/**
+	 * Like {@link #applyChecked(ThrowableFunction)}, but strategies that failed before are tried last. Failures are only
+	 * remembered if a later strategy succeeds, i.e. remembering never causes the application to fail.
+	 *
+	 * @param strategyRunner Applies a strategy
+	 * @param memory         Remembers failed strategies
+	 * @param <R>            Type of the result
+	 * @return The result of the first successful strategy
+	 * @throws Throwable The failure of the first strategy, with the others suppressed, if all strategies failed
+	 */
+	public <R> R applyChecked(ThrowableFunction<? super T, ? extends R> strategyRunner, FailureMemory<? super T> memory)
+			throws Throwable {
+		List<T> ordered = new ArrayList<>(strategies.size());
+		List<T> failedBefore = new ArrayList<>(0);
+
+		for (T strategy : strategies) {
+			(memory.hasFailed(strategy) ? failedBefore : ordered).add(strategy);
+		}
+
+		ordered.addAll(failedBefore);
+
+		return applyChecked(ordered, strategyRunner, memory);
+	}
+
+	private static <T, R> R applyChecked(
+			List<T> strategies,
+			ThrowableFunction<? super T, ? extends R> strategyRunner,
+			@Nullable FailureMemory<? super T> memory) throws Throwable {
 		Throwable throwable = null;
+		List<T> failed = new ArrayList<>(0);
+		List<Throwable> causes = new ArrayList<>(0);
 
 		for (T strategy : strategies) {
 			try {
 				R value = strategyRunner.applyChecked(strategy);
+				Objects.requireNonNull(value, () -> "Strategy returned null: " + strategy);
 
-				return Objects.requireNonNull(value, () -> "Strategy returned null: " + strategy);
+				if (memory != null) {
+					remember(memory, failed, causes);
+				}
+
+				return value;
 			} catch (@SuppressWarnings("removal") ThreadDeath e) {
 				throw e;
 			} catch (InterruptedException e) {
@@ -36,12 +76,24 @@ final class FallbackStrategy<T> {
 				break;
 			} catch (Throwable e) {
 				throwable = Utils.chainThrowables(throwable, e);
+				failed.add(strategy);
+				causes.add(e);
 			}
 		}
 
 		throw Objects.requireNonNull(throwable);
 	}
 
+	private static <T> void remember(FailureMemory<? super T> memory, List<T> failed, List<Throwable> causes) {
+		for (int i = 0; i < failed.size(); ++i) {
+			T strategy = failed.get(i);
+
+			if (!memory.hasFailed(strategy)) {
+				memory.onFailure(strategy, causes.get(i));
+			}
+		}
+	}
+
 	public void consumeChecked(ThrowableConsumer<T> strategyRunner) throws Throwable {
 		applyChecked(strategy -> {
 			strategyRunner.acceptChecked(strategy);
@@ -59,6 +111,16 @@ final class FallbackStrategy<T> {
 		}
 	}
 
+	public <R> R apply(ThrowableFunction<? super T, ? extends R> strategyRunner, FailureMemory<? super T> memory) {
+		try {
+			return applyChecked(strategyRunner, memory);
+		} catch (@SuppressWarnings("removal") RuntimeException | ThreadDeath e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new RuntimeException(e);
+		}
+	}
+
 	public void consume(ThrowableConsumer<? super T> strategyRunner) {
 		apply(strategy -> {
 			strategyRunner.acceptChecked(strategy);
@@ -66,4 +128,19 @@ final class FallbackStrategy<T> {
 		});
 	}
 
+	/**
+	 * Remembers strategies that failed while a later strategy succeeded, which indicates that they are unusable in the
+	 * running JVM rather than for a particular input.
+	 *
+	 * @param <T> Type of the strategies
+	 */
+	@ThreadSafe
+	interface FailureMemory<T> {
+
+		boolean hasFailed(T strategy);
+
+		void onFailure(T strategy, Throwable cause);
+
+	}
+
 }
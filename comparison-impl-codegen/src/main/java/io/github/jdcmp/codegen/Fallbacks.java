@@ -3,15 +3,11 @@ package io.github.jdcmp.codegen;
 
 import io.github.jdcmp.api.comparator.equality.EqualityComparator;
 import io.github.jdcmp.api.comparator.equality.SerializableEqualityComparator;
-import io.github.jdcmp.api.comparator.ordering.OrderingComparator;
-import io.github.jdcmp.api.comparator.ordering.SerializableOrderingComparator;
 import io.github.jdcmp.api.documentation.ThreadSafe;
 import io.github.jdcmp.api.serialization.SerializationProxyRequiredException;
 import io.github.jdcmp.api.spec.Spec;
 import io.github.jdcmp.api.spec.Specs;
 import io.github.jdcmp.api.spec.equality.SerializableEqualityComparatorSpec;
-import io.github.jdcmp.api.spec.ordering.OrderingComparatorSpec;
-import io.github.jdcmp.api.spec.ordering.SerializableOrderingComparatorSpec;
 import io.github.jdcmp.codegen.customization.AvailableSerializationMode;
 import org.jetbrains.annotations.Nullable;
 
@@ -32,25 +28,6 @@ final class Fallbacks {
 
 	}
 
-	@ThreadSafe
-	static final class IdentityOrderFallback<T> extends AbstractIdentityOrderFallback<T> implements OrderingComparator<T> {
-
-		IdentityOrderFallback(Spec<?, ?> spec) {
-			super(spec);
-		}
-
-	}
-
-	@ThreadSafe
-	static final class NaturalOrderFallback<T extends Comparable<? super T>> extends AbstractNaturalOrderFallback<T>
-			implements OrderingComparator<T> {
-
-		NaturalOrderFallback(OrderingComparatorSpec<T> spec) {
-			super(spec);
-		}
-
-	}
-
 	@ThreadSafe
 	static final class SerializableIdentityFallback<T> extends AbstractIdentityFallback<T>
 			implements SerializableEqualityComparator<T> {
@@ -79,62 +56,6 @@ final class Fallbacks {
 
 	}
 
-	@ThreadSafe
-	static final class SerializableIdentityOrderFallback<T> extends AbstractIdentityOrderFallback<T>
-			implements SerializableOrderingComparator<T> {
-
-		private static final long serialVersionUID = 1L;
-
-		private final transient SerializableOrderingComparatorSpec<T> spec;
-
-		private final transient AvailableSerializationMode serializationMode;
-
-		SerializableIdentityOrderFallback(SerializableOrderingComparatorSpec<T> spec, AvailableSerializationMode serializationMode) {
-			super(spec);
-			this.spec = Specs.orderingSerializable(spec);
-			this.serializationMode = Objects.requireNonNull(serializationMode);
-		}
-
-		private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
-			throw new SerializationProxyRequiredException();
-		}
-
-		private Object writeReplace() throws ObjectStreamException {
-			serializationMode.throwIfPrevented();
-
-			return spec.toSerializedForm();
-		}
-
-	}
-
-	@ThreadSafe
-	static final class SerializableNaturalOrderFallback<T extends Comparable<? super T>>
-			extends AbstractNaturalOrderFallback<T> implements SerializableOrderingComparator<T> {
-
-		private static final long serialVersionUID = 1L;
-
-		private final transient SerializableOrderingComparatorSpec<T> spec;
-
-		private final transient AvailableSerializationMode serializationMode;
-
-		SerializableNaturalOrderFallback(SerializableOrderingComparatorSpec<T> spec, AvailableSerializationMode serializationMode) {
-			super(spec);
-			this.spec = Specs.orderingSerializable(spec);
-			this.serializationMode = Objects.requireNonNull(serializationMode);
-		}
-
-		private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
-			throw new SerializationProxyRequiredException();
-		}
-
-		private Object writeReplace() throws ObjectStreamException {
-			serializationMode.throwIfPrevented();
-
-			return spec.toSerializedForm();
-		}
-
-	}
-
 	private static abstract class AbstractIdentityFallback<T> implements EqualityComparator<T> {
 
 		protected final Class<?> classToCompare;
@@ -167,85 +88,6 @@ final class Fallbacks {
 
 	}
 
-	private static abstract class AbstractIdentityOrderFallback<T> extends AbstractIdentityFallback<T>
-			implements OrderingComparator<T> {
-
-		protected AbstractIdentityOrderFallback(Spec<?, ?> spec) {
-			super(spec);
-		}
-
-		@Override
-		public final int compare(T self, T other) {
-			Objects.requireNonNull(self);
-			Objects.requireNonNull(other);
-
-			if (strictTypes) {
-				Class<?> classToCompare = this.classToCompare;
-				classToCompare.cast(self);
-				classToCompare.cast(other);
-			}
-
-			return 0;
-		}
-
-	}
-
-	private static abstract class AbstractNaturalOrderFallback<T extends Comparable<? super T>>
-			implements OrderingComparator<T> {
-
-		private final Class<T> classToCompare;
-
-		private final int hash;
-
-		private final boolean strictTypes;
-
-		private AbstractNaturalOrderFallback(Spec<T, ?> spec) {
-			this.classToCompare = Objects.requireNonNull(spec.getClassToCompare());
-			this.hash = spec.getHashParameters().initialValue();
-			this.strictTypes = spec.useStrictTypes();
-		}
-
-		@Override
-		public final int hash(T object) {
-			if (object == null) {
-				return 0;
-			} else if (strictTypes) {
-				classToCompare.cast(object);
-			}
-
-			return hash;
-		}
-
-		@Override
-		public final boolean areEqual(T self, Object other) {
-			if (self == null) {
-				return other == null;
-			}
-
-			Class<T> classToCompare = this.classToCompare;
-
-			if ((strictTypes ? classToCompare.cast(self) : self) == other) {
-				return true;
-			}
-
-			if (classToCompare.isInstance(other)) {
-				T o = classToCompare.cast(other);
-
-				return self.compareTo(o) == 0;
-			}
-
-			return false;
-		}
-
-		@Override
-		public final int compare(T self, T other) {
-			Class<T> classToCompare = this.classToCompare;
-
-			return strictTypes ? classToCompare.cast(self).compareTo(classToCompare.cast(other)) : self.compareTo(other);
-		}
-
-	}
-
 	private Fallbacks() {
 		throw new AssertionError("No instances");
 	}
@@ -32,17 +32,29 @@ final class ImplSpec {
 
 	private final ClassGeneratorConfig classGenerationConfig;
 
+	private final @Nullable BytecodeCache bytecodeCache;
+
+	private final boolean usePrebuiltClasses;
+
+	private final FailedStrategies failedStrategies;
+
 	ImplSpec(
 			Lookup lookup,
 			EventHandler eventHandler,
 			OptionalClassDefiners classDefiners,
 			List<? extends Instantiator> instantiators,
-			ClassGeneratorConfig classGeneratorConfig) {
+			ClassGeneratorConfig classGeneratorConfig,
+			@Nullable BytecodeCache bytecodeCache,
+			boolean usePrebuiltClasses,
+			FailedStrategies failedStrategies) {
 		this.lookup = Objects.requireNonNull(lookup);
 		this.eventHandler = Objects.requireNonNull(eventHandler);
 		this.classDefiners = Objects.requireNonNull(classDefiners);
 		this.instantiators = Collections.unmodifiableList(instantiators);
 		this.classGenerationConfig = Objects.requireNonNull(classGeneratorConfig);
+		this.bytecodeCache = bytecodeCache;
+		this.usePrebuiltClasses = usePrebuiltClasses;
+		this.failedStrategies = Objects.requireNonNull(failedStrategies);
 	}
 
 	public Lookup getLookup() {
@@ -73,6 +85,26 @@ final class ImplSpec {
 		return classGenerationConfig.generateBridgeMethods;
 	}
 
+	public boolean crackSerializableLambdas() {
+		return classGenerationConfig.crackSerializableLambdas;
+	}
+
+	public ClassGeneratorConfig getClassGeneratorConfig() {
+		return classGenerationConfig;
+	}
+
+	public Optional<BytecodeCache> getBytecodeCache() {
+		return Optional.ofNullable(bytecodeCache);
+	}
+
+	public boolean usePrebuiltClasses() {
+		return usePrebuiltClasses;
+	}
+
+	public FailedStrategies getFailedStrategies() {
+		return failedStrategies;
+	}
+
 	@Immutable
 	static final class OptionalClassDefiners {
 
@@ -130,13 +162,48 @@ final class ImplSpec {
 
 		private final boolean generateBridgeMethods;
 
+		private final boolean crackSerializableLambdas;
+
 		public ClassGeneratorConfig(
 				AvailableSerializationMode serializationMode,
 				AvailableInitializationMode initializationMode,
-				boolean generateBridgeMethods) {
+				boolean generateBridgeMethods,
+				boolean crackSerializableLambdas) {
 			this.serializationMode = Objects.requireNonNull(serializationMode);
 			this.initializationMode = Objects.requireNonNull(initializationMode);
 			this.generateBridgeMethods = generateBridgeMethods;
+			this.crackSerializableLambdas = crackSerializableLambdas;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			} else if (!(obj instanceof ClassGeneratorConfig)) {
+				return false;
+			}
+
+			ClassGeneratorConfig other = (ClassGeneratorConfig) obj;
+
+			return serializationMode == other.serializationMode
+					&& initializationMode == other.initializationMode
+					&& generateBridgeMethods == other.generateBridgeMethods
+					&& crackSerializableLambdas == other.crackSerializableLambdas;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(serializationMode, initializationMode, generateBridgeMethods, crackSerializableLambdas);
+		}
+
+		@Override
+		public String toString() {
+			return "ClassGeneratorConfig[" +
+					"serializationMode=" + serializationMode.name() +
+					", initializationMode=" + initializationMode.name() +
+					", generateBridgeMethods=" + generateBridgeMethods +
+					", crackSerializableLambdas=" + crackSerializableLambdas +
+					"]";
 		}
 
 	}
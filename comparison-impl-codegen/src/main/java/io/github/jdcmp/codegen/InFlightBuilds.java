@@ -0,0 +1,161 @@
+package io.github.jdcmp.codegen;
+
+import io.github.jdcmp.api.documentation.Immutable;
+import io.github.jdcmp.api.documentation.ThreadSafe;
+import io.github.jdcmp.api.spec.Spec;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandles.Lookup;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * <p>Coalesces concurrent builds of equal specs, i.e. threads that request a comparator while an equal one is being
+ * generated wait for it and receive the same instance. Specs are equal if they compare the same class using the same getter
+ * instances and configuration.</p>
+ *
+ * <p>Builds are only tracked while they are in flight. Later builds generate a new comparator as usual.</p>
+ *
+ * @param <C> Type of the generated comparators
+ */
+@ThreadSafe
+final class InFlightBuilds<C> {
+
+	private final ConcurrentMap<Key, CompletableFuture<C>> builds = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the result of the equal build that is in flight, or builds the comparator otherwise.
+	 *
+	 * @param userSpec The spec
+	 * @param implSpec The implementation spec
+	 * @param specific Properties of the spec that affect the comparator, in addition to those of {@link Spec}
+	 * @param builder  Builds the comparator
+	 * @return The comparator
+	 */
+	C build(Spec<?, ?> userSpec, ImplSpec implSpec, @Nullable Object specific, Supplier<? extends C> builder) {
+		Key key = new Key(userSpec, implSpec, specific);
+		CompletableFuture<C> future = new CompletableFuture<>();
+		CompletableFuture<C> inFlight = builds.putIfAbsent(key, future);
+
+		if (inFlight != null) {
+			return await(inFlight);
+		}
+
+		try {
+			C comparator = builder.get();
+			future.complete(comparator);
+
+			return comparator;
+		} catch (RuntimeException | Error e) {
+			future.completeExceptionally(e);
+			throw e;
+		} finally {
+			builds.remove(key, future);
+		}
+	}
+
+	private static <C> C await(CompletableFuture<C> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+
+			throw e;
+		}
+	}
+
+	/**
+	 * Compares the getters by identity and everything else by equality.
+	 */
+	@Immutable
+	private static final class Key {
+
+		private final List<?> getters;
+
+		private final List<Object> properties;
+
+		private final int hashCode;
+
+		Key(Spec<?, ?> userSpec, ImplSpec implSpec, @Nullable Object specific) {
+			Lookup lookup = implSpec.getLookup();
+			this.getters = userSpec.getGettersAsList();
+			this.properties = Arrays.asList(
+					userSpec.getClassToCompare(),
+					userSpec.isSerializable(),
+					userSpec.useStrictTypes(),
+					userSpec.getHashParameters(),
+					specific,
+					lookup.lookupClass(),
+					lookup.lookupModes(),
+					implSpec.getEventHandler(),
+					implSpec.getClassDefiners().all(),
+					implSpec.getInstantiators(),
+					implSpec.getClassGeneratorConfig(),
+					implSpec.getBytecodeCache().orElse(null),
+					implSpec.usePrebuiltClasses(),
+					implSpec.getFailedStrategies());
+			this.hashCode = 31 * identityHashCode(getters) + properties.hashCode();
+		}
+
+		private static int identityHashCode(List<?> getters) {
+			int hashCode = 1;
+
+			for (Object getter : getters) {
+				hashCode = 31 * hashCode + System.identityHashCode(getter);
+			}
+
+			return hashCode;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			} else if (!(obj instanceof Key)) {
+				return false;
+			}
+
+			Key other = (Key) obj;
+
+			return hashCode == other.hashCode
+					&& sameGetters(other.getters)
+					&& properties.equals(other.properties);
+		}
+
+		private boolean sameGetters(List<?> otherGetters) {
+			List<?> getters = this.getters;
+			int size = getters.size();
+
+			if (size != otherGetters.size()) {
+				return false;
+			}
+
+			for (int i = 0; i < size; ++i) {
+				if (getters.get(i) != otherGetters.get(i)) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+	}
+
+}
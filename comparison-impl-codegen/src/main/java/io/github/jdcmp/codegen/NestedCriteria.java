@@ -0,0 +1,128 @@
+package io.github.jdcmp.codegen;
+
+import io.github.jdcmp.api.documentation.ThreadSafe;
+import io.github.jdcmp.api.getter.SerializableOrderingCriterion;
+import io.github.jdcmp.api.getter.object.NestedGetter;
+import io.github.jdcmp.api.spec.ordering.BaseOrderingComparatorSpec;
+import io.github.jdcmp.codegen.documentation.CalledFromGeneratedCode;
+import io.github.jdcmp.codegen.documentation.NotPublicAPI;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ObjectStreamException;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * <p>The constant that generated classes store for a {@link NestedGetter} whose comparator has been created by a
+ * {@link CodegenProvider}. The generated code reads the nested object and the criteria of the nested comparator via
+ * {@link #getGetter()} and {@link #getCriterion(int)} and inlines the criteria, see {@link CriterionEmitters}. Nested getters among the criteria are replaced as
+ * well. The methods of the criterion delegate to the nested getter, which also replaces this object when serialized.</p>
+ *
+ * <p>Despite being public (technical reasons), <strong>this class is not part of the public API</strong>, cannot be relied upon and
+ * should not be used directly.</p>
+ */
+@ThreadSafe
+@NotPublicAPI(reason = "Technical reasons - Accessed from generated code")
+public final class NestedCriteria implements SerializableOrderingCriterion<Object> {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient Function<Object, ?> getter;
+
+	private final transient Object[] criteria;
+
+	private final transient NestedGetter<Object, ?> nestedGetter;
+
+	@SuppressWarnings("unchecked")
+	private NestedCriteria(NestedGetter<?, ?> nestedGetter, BaseOrderingComparatorSpec<?, ?> spec) {
+		this.nestedGetter = (NestedGetter<Object, ?>) Objects.requireNonNull(nestedGetter);
+		this.getter = (Function<Object, ?>) nestedGetter.getGetter();
+		Object[] criteria = spec.getGetters().toArray();
+
+		for (int i = 0; i < criteria.length; ++i) {
+			criteria[i] = of(criteria[i]);
+		}
+
+		this.criteria = criteria;
+	}
+
+	/**
+	 * Returns the constant stored for the given getter, i.e. an instance of this class for nested getters whose criteria can
+	 * be inlined, otherwise the getter itself.
+	 *
+	 * @param getter The getter
+	 * @return The constant
+	 */
+	@CalledFromGeneratedCode
+	public static Object of(Object getter) {
+		BaseOrderingComparatorSpec<?, ?> spec = spec(getter);
+
+		return spec == null ? getter : new NestedCriteria((NestedGetter<?, ?>) getter, spec);
+	}
+
+	/**
+	 * Returns the spec of the nested comparator, if the getter is a {@link NestedGetter} using the default methods and its
+	 * comparator has been created by a {@link CodegenProvider} from criteria.
+	 */
+	static @Nullable BaseOrderingComparatorSpec<?, ?> spec(Object getter) {
+		if (!CriterionEmitters.usesDefaultMethods(getter.getClass(), NestedGetter.class)) {
+			return null;
+		}
+
+		BaseOrderingComparatorSpec<?, ?> spec = OrderingCombinators.spec(((NestedGetter<?, ?>) getter).getComparator());
+
+		return spec == null || spec.hasNoGetters() ? null : spec;
+	}
+
+	/**
+	 * Returns the getter of the nested object.
+	 *
+	 * @return The getter
+	 */
+	@CalledFromGeneratedCode
+	public Function<Object, ?> getGetter() {
+		return getter;
+	}
+
+	/**
+	 * Returns the criterion of the nested comparator with the given index, see {@link #of(Object)}.
+	 *
+	 * @param index The index of the criterion
+	 * @return The criterion
+	 */
+	@CalledFromGeneratedCode
+	public Object getCriterion(int index) {
+		return criteria[index];
+	}
+
+	@Override
+	public int hash(Object object) {
+		return nestedGetter.hash(object);
+	}
+
+	@Override
+	public boolean areEqual(Object self, Object other) {
+		return nestedGetter.areEqual(self, other);
+	}
+
+	@Override
+	public int compare(Object self, Object other) {
+		return nestedGetter.compare(self, other);
+	}
+
+	@Override
+	public String toString() {
+		return "NestedCriteria[" + nestedGetter + "]";
+	}
+
+	/**
+	 * Serializes the nested getter instead, so the serialized form does not depend on this implementation.
+	 *
+	 * @return The nested getter
+	 * @throws ObjectStreamException Never
+	 */
+	private Object writeReplace() throws ObjectStreamException {
+		return nestedGetter;
+	}
+
+}
@@ -0,0 +1,402 @@
+package io.github.jdcmp.codegen;
+
+import io.github.jdcmp.api.comparator.ordering.NullHandling;
+import io.github.jdcmp.api.comparator.ordering.NullHandling.NullHandlingMapper;
+import io.github.jdcmp.api.comparator.ordering.OrderingComparator;
+import io.github.jdcmp.api.documentation.ThreadSafe;
+import io.github.jdcmp.api.getter.OrderingCriterion;
+import io.github.jdcmp.api.getter.ReversedCriterion;
+import io.github.jdcmp.api.getter.SerializableOrderingCriterion;
+import io.github.jdcmp.api.getter.SerializableReversedCriterion;
+import io.github.jdcmp.api.spec.Specs;
+import io.github.jdcmp.api.spec.ordering.BaseOrderingComparatorSpec;
+import io.github.jdcmp.api.spec.ordering.SerializableOrderingComparatorSpec;
+import io.github.jdcmp.codegen.TieredComparators.TieredCompilation;
+import io.github.jdcmp.codegen.documentation.CalledFromGeneratedCode;
+import io.github.jdcmp.codegen.documentation.NotPublicAPI;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+/**
+ * <p>Implements {@link Comparator#reversed()} and {@link Comparator#thenComparing(Comparator)} of the ordering comparators
+ * created by {@link CodegenProvider}. Instead of wrapping the comparator, both return a comparator of a derived spec, which
+ * is generated like any other comparator and keeps the semantics of <i>hash</i> and <i>areEqual</i>:</p>
+ *
+ * <ul>
+ *     <li><i>reversed</i>: Each getter is wrapped in a {@link ReversedCriterion}, whose generated code swaps the operands of
+ *     <i>compare</i>, and the position of nulls is reversed.</li>
+ *     <li><i>thenComparing</i>: The getters of the other comparator are appended, if it has been created by a
+ *     {@link CodegenProvider} and the result cannot be distinguished from the default implementation, i.e. if both
+ *     comparators handle nulls alike and the other comparator's strict types are preserved.</li>
+ * </ul>
+ *
+ * <p>Derived comparators are created with the settings of the original comparator and memoized: <i>reversed</i> returns the
+ * same comparator on every call, reversing it again returns the original comparator, and <i>thenComparing</i> returns the
+ * same comparator for the same other comparator. In all other cases, e.g. for specs without getters or comparators using
+ * different lookups, the default implementations of {@link Comparator} are used.</p>
+ *
+ * <p>Despite being public (technical reasons), <strong>this class is not part of the public API</strong>, cannot be relied upon and
+ * should not be used directly.</p>
+ */
+@ThreadSafe
+@NotPublicAPI(reason = "Technical reasons - Called from generated code")
+public final class OrderingCombinators {
+
+	/**
+	 * Stores the derivation in the given comparator, unless it already has one, e.g. because concurrent builds of an equal
+	 * spec returned the same instance.
+	 */
+	static <C extends OrderingComparator<?>> C created(
+			C comparator,
+			BaseOrderingComparatorSpec<?, ?> userSpec,
+			ImplSpec implSpec,
+			TieredCompilation tieredCompilation) {
+		if (comparator instanceof Combinable) {
+			Combinable combinable = (Combinable) comparator;
+
+			if (combinable.getDerivation() == null) {
+				combinable.setDerivation(new Derivation(userSpec, implSpec, tieredCompilation));
+			}
+		}
+
+		return comparator;
+	}
+
+	/**
+	 * Returns the spec of the given comparator, if it has been created by a {@link CodegenProvider}.
+	 */
+	static @Nullable BaseOrderingComparatorSpec<?, ?> spec(Object comparator) {
+		Derivation derivation = derivation(comparator);
+
+		return derivation == null ? null : derivation.userSpec;
+	}
+
+	private static @Nullable Derivation derivation(Object comparator) {
+		return comparator instanceof Combinable ? ((Combinable) comparator).getDerivation() : null;
+	}
+
+	/**
+	 * Returns a comparator that imposes the reverse ordering of the given comparator.
+	 *
+	 * @param comparator The comparator
+	 * @param <T>        Type whose instances can be compared
+	 * @return The reversed comparator
+	 */
+	@CalledFromGeneratedCode
+	public static <T> Comparator<T> reversed(OrderingComparator<T> comparator) {
+		Derivation derivation = derivation(comparator);
+
+		if (derivation == null || derivation.userSpec.hasNoGetters()) {
+			return Collections.reverseOrder(comparator);
+		}
+
+		return derivation.reversed(comparator);
+	}
+
+	/**
+	 * Returns a comparator that uses the other comparator if the given comparator considers two objects equal.
+	 *
+	 * @param comparator The comparator
+	 * @param other      The other comparator
+	 * @param <T>        Type whose instances can be compared
+	 * @return The combined comparator
+	 */
+	@CalledFromGeneratedCode
+	public static <T> Comparator<T> thenComparing(OrderingComparator<T> comparator, Comparator<? super T> other) {
+		Objects.requireNonNull(other);
+		Derivation derivation = derivation(comparator);
+		Derivation otherDerivation = derivation(other);
+
+		if (derivation != null && otherDerivation != null && derivation.canAppend(otherDerivation)) {
+			return derivation.thenComparing(other, otherDerivation);
+		}
+
+		return (Comparator<T> & Serializable) (o1, o2) -> {
+			int result = comparator.compare(o1, o2);
+
+			return result != 0 ? result : other.compare(o1, o2);
+		};
+	}
+
+	private static NullHandling reverse(NullHandling nullHandling) {
+		return nullHandling.map(new NullHandlingMapper<NullHandling>() {
+			@Override
+			public NullHandling onThrow() {
+				return NullHandling.THROW;
+			}
+
+			@Override
+			public NullHandling onNullsFirst() {
+				return NullHandling.NULLS_LAST;
+			}
+
+			@Override
+			public NullHandling onNullsLast() {
+				return NullHandling.NULLS_FIRST;
+			}
+		});
+	}
+
+	/**
+	 * <p>Implemented by the ordering comparators of {@link CodegenProvider}, including generated classes, which store their
+	 * {@link Derivation} in a field. Thus, combinators need no shared registry of comparators.</p>
+	 *
+	 * <p>Despite being public (technical reasons), <strong>this interface is not part of the public API</strong>, cannot be
+	 * relied upon and should not be used directly.</p>
+	 */
+	@NotPublicAPI(reason = "Technical reasons - Implemented by generated code")
+	public interface Combinable {
+
+		/**
+		 * Returns the derivation of this comparator.
+		 *
+		 * @return The derivation; null if this comparator has not been returned by a {@link CodegenProvider} yet
+		 */
+		@Nullable Derivation getDerivation();
+
+		/**
+		 * Sets the derivation of this comparator, once it is returned by a {@link CodegenProvider}.
+		 *
+		 * @param derivation The derivation
+		 */
+		void setDerivation(Derivation derivation);
+
+	}
+
+	/**
+	 * <p>The spec and settings a comparator has been created with, from which derived comparators are created. Derived
+	 * comparators are memoized.</p>
+	 *
+	 * <p>Despite being public (technical reasons), <strong>this class is not part of the public API</strong>, cannot be
+	 * relied upon and should not be used directly.</p>
+	 */
+	@ThreadSafe
+	@NotPublicAPI(reason = "Technical reasons - Stored by generated code")
+	public static final class Derivation {
+
+		final BaseOrderingComparatorSpec<?, ?> userSpec;
+
+		private final ImplSpec implSpec;
+
+		private final TieredCompilation tieredCompilation;
+
+		/**
+		 * The reversed comparator, created on first use.
+		 */
+		private volatile @Nullable Comparator<?> reversed;
+
+		/**
+		 * The comparator that has been reversed to create this comparator, if any.
+		 */
+		private volatile @Nullable Comparator<?> reversedFrom;
+
+		/**
+		 * The combined comparators by the other comparator, created on first use. The other comparator is held weakly.
+		 * Guarded by this.
+		 */
+		private @Nullable Map<Object, Comparator<?>> appended;
+
+		Derivation(BaseOrderingComparatorSpec<?, ?> userSpec, ImplSpec implSpec, TieredCompilation tieredCompilation) {
+			this.userSpec = Objects.requireNonNull(userSpec);
+			this.implSpec = Objects.requireNonNull(implSpec);
+			this.tieredCompilation = Objects.requireNonNull(tieredCompilation);
+		}
+
+		/**
+		 * Returns the reversed comparator, which is created once. If two threads race, both create a comparator, but only the
+		 * first one is kept and returned.
+		 */
+		@SuppressWarnings("unchecked")
+		<T> Comparator<T> reversed(OrderingComparator<T> comparator) {
+			Comparator<?> reversedFrom = this.reversedFrom;
+
+			if (reversedFrom != null) {
+				return (Comparator<T>) reversedFrom;
+			}
+
+			Comparator<?> reversed = this.reversed;
+
+			if (reversed != null) {
+				return (Comparator<T>) reversed;
+			}
+
+			Comparator<T> created = createReversed();
+
+			synchronized (this) {
+				if (this.reversed == null) {
+					Derivation derivation = derivation(created);
+
+					if (derivation != null) {
+						derivation.reversedFrom = comparator;
+					}
+
+					this.reversed = created;
+				}
+
+				return (Comparator<T>) this.reversed;
+			}
+		}
+
+		private <T> Comparator<T> createReversed() {
+			BaseOrderingComparatorSpec<T, ?> userSpec = spec(this);
+			NullHandling nullHandling = reverse(userSpec.getNullHandling());
+
+			if (userSpec instanceof SerializableOrderingComparatorSpec) {
+				List<SerializableOrderingCriterion<? super T>> getters = new ArrayList<>();
+
+				for (SerializableOrderingCriterion<? super T> getter : ((SerializableOrderingComparatorSpec<T>) userSpec).getGetters()) {
+					getters.add(SerializableReversedCriterion.of(getter));
+				}
+
+				return createSerializable(userSpec, getters, false, nullHandling);
+			}
+
+			List<OrderingCriterion<? super T>> getters = new ArrayList<>();
+
+			for (OrderingCriterion<? super T> getter : userSpec.getGetters()) {
+				getters.add(ReversedCriterion.of(getter));
+			}
+
+			return create(userSpec, getters, false, nullHandling);
+		}
+
+		/**
+		 * Returns true if appending the getters of the other comparator does not change the result of any comparison. If this
+		 * comparator lets nulls through to its getters, so must the other one. If the other comparator checks types strictly,
+		 * this comparator must compare the same class or check a subclass strictly. Both comparators must use the same lookup,
+		 * since the combined comparator is generated with the lookup of this comparator.
+		 */
+		boolean canAppend(Derivation other) {
+			BaseOrderingComparatorSpec<?, ?> userSpec = this.userSpec;
+			BaseOrderingComparatorSpec<?, ?> otherSpec = other.userSpec;
+
+			if (userSpec.hasNoGetters() || otherSpec.hasNoGetters()) {
+				return false;
+			}
+
+			Lookup lookup = implSpec.getLookup();
+			Lookup otherLookup = other.implSpec.getLookup();
+
+			if (lookup.lookupClass() != otherLookup.lookupClass() || lookup.lookupModes() != otherLookup.lookupModes()) {
+				return false;
+			}
+
+			NullHandling nullHandling = userSpec.getNullHandling();
+			NullHandling otherNullHandling = otherSpec.getNullHandling();
+
+			if (nullHandling != otherNullHandling && (nullHandling == NullHandling.THROW || otherNullHandling == NullHandling.THROW)) {
+				return false;
+			}
+
+			Class<?> classToCompare = userSpec.getClassToCompare();
+			Class<?> otherClassToCompare = otherSpec.getClassToCompare();
+
+			return !otherSpec.useStrictTypes()
+					|| classToCompare == otherClassToCompare
+					|| userSpec.useStrictTypes() && otherClassToCompare.isAssignableFrom(classToCompare);
+		}
+
+		/**
+		 * Returns the combined comparator, which is created once per other comparator. The other comparator is held weakly.
+		 */
+		@SuppressWarnings("unchecked")
+		<T> Comparator<T> thenComparing(Object otherComparator, Derivation other) {
+			synchronized (this) {
+				Comparator<?> combined = appended == null ? null : appended.get(otherComparator);
+
+				if (combined != null) {
+					return (Comparator<T>) combined;
+				}
+			}
+
+			Comparator<T> created = append(other);
+
+			synchronized (this) {
+				if (appended == null) {
+					appended = new WeakHashMap<>();
+				}
+
+				Comparator<?> combined = appended.putIfAbsent(otherComparator, created);
+
+				return (Comparator<T>) (combined == null ? created : combined);
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private <T> Comparator<T> append(Derivation other) {
+			BaseOrderingComparatorSpec<T, ?> userSpec = spec(this);
+			BaseOrderingComparatorSpec<T, ?> otherSpec = spec(other);
+			boolean strictTypes = userSpec.useStrictTypes() || otherSpec.useStrictTypes();
+
+			if (userSpec instanceof SerializableOrderingComparatorSpec && otherSpec instanceof SerializableOrderingComparatorSpec) {
+				List<SerializableOrderingCriterion<? super T>> getters = new ArrayList<>();
+				getters.addAll(((SerializableOrderingComparatorSpec<T>) userSpec).getGetters());
+				getters.addAll(((SerializableOrderingComparatorSpec<T>) otherSpec).getGetters());
+
+				return createSerializable(userSpec, getters, strictTypes, userSpec.getNullHandling());
+			}
+
+			List<OrderingCriterion<? super T>> getters = new ArrayList<>();
+			getters.addAll(userSpec.getGetters());
+			getters.addAll(otherSpec.getGetters());
+
+			return create(userSpec, getters, strictTypes, userSpec.getNullHandling());
+		}
+
+		private <T> Comparator<T> create(
+				BaseOrderingComparatorSpec<T, ?> userSpec,
+				List<OrderingCriterion<? super T>> getters,
+				boolean strictTypes,
+				NullHandling nullHandling) {
+			return TieredComparators.ordering(
+					Specs.ordering(
+							userSpec.getClassToCompare(),
+							userSpec.getHashParameters(),
+							strictTypes || userSpec.useStrictTypes(),
+							getters,
+							nullHandling,
+							userSpec.getFallbackMode().orElse(null),
+							userSpec.getLookup().orElse(null)),
+					implSpec,
+					tieredCompilation);
+		}
+
+		private <T> Comparator<T> createSerializable(
+				BaseOrderingComparatorSpec<T, ?> userSpec,
+				List<SerializableOrderingCriterion<? super T>> getters,
+				boolean strictTypes,
+				NullHandling nullHandling) {
+			return TieredComparators.orderingSerializable(
+					Specs.orderingSerializable(
+							userSpec.getClassToCompare(),
+							userSpec.getHashParameters(),
+							strictTypes || userSpec.useStrictTypes(),
+							getters,
+							nullHandling,
+							userSpec.getFallbackMode().orElse(null),
+							userSpec.getLookup().orElse(null)),
+					implSpec,
+					tieredCompilation);
+		}
+
+		@SuppressWarnings("unchecked")
+		private static <T> BaseOrderingComparatorSpec<T, ?> spec(Derivation derivation) {
+			return (BaseOrderingComparatorSpec<T, ?>) derivation.userSpec;
+		}
+
+	}
+
+	private OrderingCombinators() {
+		throw new AssertionError("No instances");
+	}
+
+}
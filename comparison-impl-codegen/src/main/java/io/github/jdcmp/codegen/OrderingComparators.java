@@ -4,7 +4,6 @@ import io.github.jdcmp.api.MissingCriteriaException;
 import io.github.jdcmp.api.builder.ordering.OrderingFallbackMode;
 import io.github.jdcmp.api.builder.ordering.OrderingFallbackMode.FallbackMapper;
 import io.github.jdcmp.api.comparator.ordering.NullHandling;
-import io.github.jdcmp.api.comparator.ordering.NullHandling.NullHandlingMapper;
 import io.github.jdcmp.api.comparator.ordering.OrderingComparator;
 import io.github.jdcmp.api.comparator.ordering.SerializableOrderingComparator;
 import io.github.jdcmp.api.documentation.ThreadSafe;
@@ -14,12 +13,11 @@ import io.github.jdcmp.api.serialization.SerializationProxyRequiredException;
 import io.github.jdcmp.api.spec.ordering.BaseOrderingComparatorSpec;
 import io.github.jdcmp.api.spec.ordering.OrderingComparatorSpec;
 import io.github.jdcmp.api.spec.ordering.SerializableOrderingComparatorSpec;
-import io.github.jdcmp.codegen.Fallbacks.IdentityOrderFallback;
-import io.github.jdcmp.codegen.Fallbacks.NaturalOrderFallback;
-import io.github.jdcmp.codegen.Fallbacks.SerializableIdentityOrderFallback;
-import io.github.jdcmp.codegen.Fallbacks.SerializableNaturalOrderFallback;
+import io.github.jdcmp.codegen.OrderingCombinators.Combinable;
+import io.github.jdcmp.codegen.OrderingCombinators.Derivation;
 import io.github.jdcmp.codegen.bridge.StaticInitializerBridge;
 import io.github.jdcmp.codegen.customization.AvailableSerializationMode;
+import org.jetbrains.annotations.Nullable;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
@@ -30,28 +28,36 @@ import java.io.ObjectInputStream;
 import java.io.ObjectStreamException;
 import java.lang.invoke.MethodHandles.Lookup;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
 
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_TRANSIENT;
+import static org.objectweb.asm.Opcodes.ACC_VOLATILE;
 import static org.objectweb.asm.Opcodes.ALOAD;
 import static org.objectweb.asm.Opcodes.ARETURN;
 import static org.objectweb.asm.Opcodes.CHECKCAST;
-import static org.objectweb.asm.Opcodes.DUP;
-import static org.objectweb.asm.Opcodes.GETSTATIC;
+import static org.objectweb.asm.Opcodes.GETFIELD;
 import static org.objectweb.asm.Opcodes.GOTO;
 import static org.objectweb.asm.Opcodes.ICONST_0;
 import static org.objectweb.asm.Opcodes.ICONST_1;
 import static org.objectweb.asm.Opcodes.IFEQ;
+import static org.objectweb.asm.Opcodes.IFNE;
 import static org.objectweb.asm.Opcodes.IFNONNULL;
+import static org.objectweb.asm.Opcodes.IF_ACMPNE;
 import static org.objectweb.asm.Opcodes.ILOAD;
+import static org.objectweb.asm.Opcodes.INTEGER;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
 import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
 import static org.objectweb.asm.Opcodes.IRETURN;
 import static org.objectweb.asm.Opcodes.ISTORE;
 import static org.objectweb.asm.Opcodes.POP;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
+import static org.objectweb.asm.Opcodes.RETURN;
 
 @ThreadSafe
 final class OrderingComparators {
@@ -65,63 +71,42 @@ final class OrderingComparators {
 		return SerializableImpl.create(userSpec, implSpec);
 	}
 
-	private static final class NonSerializableImpl {
-
-		public static <T> OrderingComparator<T> create(OrderingComparatorSpec<T> userSpec, ImplSpec implSpec) {
-			if (userSpec.hasNoGetters()) {
-				return useFallback(userSpec);
-			} else if (AsmGenerator.supports(userSpec)) {
-				return AsmGenerator.GENERATOR.generate(userSpec, implSpec);
-			}
-
-			return handleNulls(userSpec, new ComparatorN<>(userSpec));
-		}
-
-		private static <T> OrderingComparator<T> useFallback(OrderingComparatorSpec<T> userSpec) {
-			OrderingFallbackMode fallbackMode = userSpec.getFallbackMode().orElseThrow(MissingCriteriaException::of);
-
-			return fallbackMode.map(new FallbackMapper<OrderingComparator<T>>() {
-				@Override
-				public OrderingComparator<T> onIdentity() {
-					return handleNulls(userSpec, new IdentityOrderFallback<>(userSpec));
-				}
-
-				@Override
-				public OrderingComparator<T> onNatural() {
-					return handleNulls(userSpec, naturalOrderingFallback(userSpec));
-				}
-			});
-		}
-
-		@SuppressWarnings("unchecked")
-		private static <T, C extends Comparable<? super C>> OrderingComparator<T> naturalOrderingFallback(OrderingComparatorSpec<T> spec) {
-			OrderingComparatorSpec<C> comparableSpec = (OrderingComparatorSpec<C>) spec;
-			NaturalOrderFallback<C> fallback = new NaturalOrderFallback<>(comparableSpec);
+	/**
+	 * Returns true if comparators of the given spec are generated, i.e. if the spec has criteria that fit into one class.
+	 */
+	public static boolean generates(BaseOrderingComparatorSpec<?, ?> userSpec) {
+		return AsmGenerator.supports(userSpec);
+	}
 
-			return (OrderingComparator<T>) fallback;
-		}
+	/**
+	 * Returns a comparator that iterates the criteria of the spec instead of generating a class.
+	 */
+	public static <T> OrderingComparator<T> interpret(OrderingComparatorSpec<T> userSpec) {
+		return new ComparatorN<>(userSpec);
+	}
 
-		private static <T> OrderingComparator<T> handleNulls(OrderingComparatorSpec<T> userSpec, OrderingComparator<T> comparator) {
-			return userSpec.getNullHandling().map(new NullHandlingMapper<OrderingComparator<T>>() {
-				@Override
-				public OrderingComparator<T> onThrow() {
-					return comparator;
-				}
+	public static <T> SerializableOrderingComparator<T> interpretSerializable(
+			SerializableOrderingComparatorSpec<T> userSpec, ImplSpec implSpec) {
+		return new SerializableComparatorN<>(userSpec, implSpec.getSerializationMode());
+	}
 
-				@Override
-				public OrderingComparator<T> onNullsFirst() {
-					Comparator<T> nullSafeComparator = Comparator.nullsFirst(comparator);
+	/**
+	 * Fails unless the spec has a fallback mode, which replaces the criteria of specs without getters.
+	 */
+	private static void requireFallbackMode(BaseOrderingComparatorSpec<?, ?> userSpec) {
+		userSpec.getFallbackMode().orElseThrow(MissingCriteriaException::of);
+	}
 
-					return new DelegatingComparator<>(comparator, nullSafeComparator);
-				}
+	private static final class NonSerializableImpl {
 
-				@Override
-				public OrderingComparator<T> onNullsLast() {
-					Comparator<T> nullSafeComparator = Comparator.nullsLast(comparator);
+		public static <T> OrderingComparator<T> create(OrderingComparatorSpec<T> userSpec, ImplSpec implSpec) {
+			if (userSpec.hasNoGetters()) {
+				requireFallbackMode(userSpec);
+			} else if (!AsmGenerator.supports(userSpec)) {
+				return interpret(userSpec);
+			}
 
-					return new DelegatingComparator<>(comparator, nullSafeComparator);
-				}
-			});
+			return AsmGenerator.GENERATOR.generate(userSpec, implSpec);
 		}
 
 	}
@@ -130,73 +115,12 @@ final class OrderingComparators {
 
 		public static <T> SerializableOrderingComparator<T> create(SerializableOrderingComparatorSpec<T> userSpec, ImplSpec implSpec) {
 			if (userSpec.hasNoGetters()) {
-				return useFallback(userSpec, implSpec);
-			} else if (AsmGenerator.supports(userSpec)) {
-				return AsmGenerator.GENERATOR_SERIALIZABLE.generate(userSpec, implSpec);
+				requireFallbackMode(userSpec);
+			} else if (!AsmGenerator.supports(userSpec)) {
+				return interpretSerializable(userSpec, implSpec);
 			}
 
-			SerializableComparatorN<T> nonNullComparator = new SerializableComparatorN<>(userSpec, implSpec.getSerializationMode());
-
-			return handleNulls(userSpec, implSpec, nonNullComparator);
-		}
-
-		private static <T> SerializableOrderingComparator<T> useFallback(
-				SerializableOrderingComparatorSpec<T> userSpec, ImplSpec implSpec) {
-			OrderingFallbackMode fallbackMode = userSpec.getFallbackMode().orElseThrow(MissingCriteriaException::of);
-
-			return fallbackMode.map(new FallbackMapper<SerializableOrderingComparator<T>>() {
-				@Override
-				public SerializableOrderingComparator<T> onIdentity() {
-					return handleNulls(userSpec, implSpec, identityFallback(userSpec, implSpec));
-				}
-
-				@Override
-				public SerializableOrderingComparator<T> onNatural() {
-					return handleNulls(userSpec, implSpec, naturalOrderingFallback(userSpec, implSpec));
-				}
-			});
-		}
-
-		private static <T> SerializableIdentityOrderFallback<T> identityFallback(
-				SerializableOrderingComparatorSpec<T> userSpec,
-				ImplSpec implSpec) {
-			return new SerializableIdentityOrderFallback<>(userSpec, implSpec.getSerializationMode());
-		}
-
-		@SuppressWarnings("unchecked")
-		private static <T, C extends Comparable<? super C>> SerializableOrderingComparator<T> naturalOrderingFallback(
-				SerializableOrderingComparatorSpec<?> userSpec,
-				ImplSpec implSpec) {
-			SerializableOrderingComparatorSpec<C> cast = (SerializableOrderingComparatorSpec<C>) userSpec;
-			SerializableNaturalOrderFallback<C> fallback = new SerializableNaturalOrderFallback<>(cast, implSpec.getSerializationMode());
-
-			return (SerializableOrderingComparator<T>) fallback;
-		}
-
-		private static <T> SerializableOrderingComparator<T> handleNulls(
-				SerializableOrderingComparatorSpec<T> userSpec,
-				ImplSpec implSpec,
-				SerializableOrderingComparator<T> comparator) {
-			return userSpec.getNullHandling().map(new NullHandlingMapper<SerializableOrderingComparator<T>>() {
-				@Override
-				public SerializableOrderingComparator<T> onThrow() {
-					return comparator;
-				}
-
-				@Override
-				public SerializableOrderingComparator<T> onNullsFirst() {
-					Comparator<T> nullSafeComparator = Comparator.nullsFirst(comparator);
-
-					return new SerializableDelegatingComparator<>(comparator, nullSafeComparator, userSpec, implSpec);
-				}
-
-				@Override
-				public SerializableOrderingComparator<T> onNullsLast() {
-					Comparator<T> nullSafeComparator = Comparator.nullsLast(comparator);
-
-					return new SerializableDelegatingComparator<>(comparator, nullSafeComparator, userSpec, implSpec);
-				}
-			});
+			return AsmGenerator.GENERATOR_SERIALIZABLE.generate(userSpec, implSpec);
 		}
 
 	}
@@ -240,10 +164,12 @@ final class OrderingComparators {
 
 	@ThreadSafe
 	private static abstract class AbstractComparator<T> extends EqualityComparators.AbstractComparator<T>
-			implements OrderingComparator<T> {
+			implements OrderingComparator<T>, Combinable {
 
 		private final BaseOrderingComparatorSpec<T, ?> userSpec;
 
+		private volatile @Nullable Derivation derivation;
+
 		protected AbstractComparator(BaseOrderingComparatorSpec<T, ?> userSpec) {
 			super(userSpec);
 			this.userSpec = Objects.requireNonNull(userSpec);
@@ -259,6 +185,17 @@ final class OrderingComparators {
 				classToCompare.cast(o2);
 			}
 
+			if (o1 == null || o2 == null) {
+				NullHandling nullHandling = userSpec.getNullHandling();
+
+				// otherwise let the criteria handle nulls, like the generated comparators do
+				if (!NullHandling.THROW.equals(nullHandling)) {
+					int leftSideIsNull = nullHandling.getComparisonResultIfLeftSideIsNull();
+
+					return o1 != null ? -leftSideIsNull : o2 != null ? leftSideIsNull : 0;
+				}
+			}
+
 			for (OrderingCriterion<? super T> getter : userSpec.getGetters()) {
 				int result = getter.compare(o1, o2);
 
@@ -270,83 +207,24 @@ final class OrderingComparators {
 			return 0;
 		}
 
-	}
-
-	private static final class DelegatingComparator<T> implements OrderingComparator<T> {
-
-		private final OrderingComparator<T> delegate;
-
-		private final Comparator<T> comparator;
-
-		private DelegatingComparator(OrderingComparator<T> delegate, Comparator<T> comparator) {
-			this.delegate = Objects.requireNonNull(delegate);
-			this.comparator = Objects.requireNonNull(comparator);
-		}
-
-		@Override
-		public int hash(T object) {
-			return delegate.hash(object);
-		}
-
-		@Override
-		public boolean areEqual(T self, Object other) {
-			return delegate.areEqual(self, other);
-		}
-
 		@Override
-		public int compare(T o1, T o2) {
-			return comparator.compare(o1, o2);
-		}
-
-	}
-
-	@ThreadSafe
-	private static final class SerializableDelegatingComparator<T> implements SerializableOrderingComparator<T> {
-
-		private static final long serialVersionUID = 1L;
-
-		private final transient SerializableOrderingComparator<T> delegate;
-
-		private final transient Comparator<T> comparator;
-
-		private final transient SerializableOrderingComparatorSpec<T> userSpec;
-
-		private final transient ImplSpec implSpec;
-
-		SerializableDelegatingComparator(
-				SerializableOrderingComparator<T> delegate,
-				Comparator<T> comparator,
-				SerializableOrderingComparatorSpec<T> userSpec,
-				ImplSpec implSpec) {
-			this.delegate = Objects.requireNonNull(delegate);
-			this.comparator = Objects.requireNonNull(comparator);
-			this.userSpec = Objects.requireNonNull(userSpec);
-			this.implSpec = Objects.requireNonNull(implSpec);
+		public final Comparator<T> reversed() {
+			return OrderingCombinators.reversed(this);
 		}
 
 		@Override
-		public int hash(T object) {
-			return delegate.hash(object);
+		public final Comparator<T> thenComparing(Comparator<? super T> other) {
+			return OrderingCombinators.thenComparing(this, other);
 		}
 
 		@Override
-		public boolean areEqual(T self, Object other) {
-			return delegate.areEqual(self, other);
+		public final @Nullable Derivation getDerivation() {
+			return derivation;
 		}
 
 		@Override
-		public int compare(T o1, T o2) {
-			return comparator.compare(o1, o2);
-		}
-
-		private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
-			throw new SerializationProxyRequiredException();
-		}
-
-		private Object writeReplace() throws ObjectStreamException {
-			implSpec.getSerializationMode().throwIfPrevented();
-
-			return userSpec.toSerializedForm();
+		public final void setDerivation(Derivation derivation) {
+			this.derivation = Objects.requireNonNull(derivation);
 		}
 
 	}
@@ -359,10 +237,27 @@ final class OrderingComparators {
 
 		public static final AsmGenerator<SerializableOrderingComparator<?>> GENERATOR_SERIALIZABLE;
 
-		private static final int MAX_SUPPORTED_GETTERS = 32;
+		/**
+		 * Bounded by the size limits of the class file, e.g. of the static initializer. Wider specs are split into
+		 * {@link CriterionChunk}s.
+		 */
+		private static final int MAX_SUPPORTED_GETTERS = 1024;
 
 		private static final Method SPEC_TO_SERIALIZED_FORM;
 
+		private static final String COMPARABLE_INTERNAL_NAME = Type.getInternalName(Comparable.class);
+
+		private static final String COMPARATOR_DESCRIPTOR = Type.getDescriptor(Comparator.class);
+
+		private static final String COMBINATORS_INTERNAL_NAME = Type.getInternalName(OrderingCombinators.class);
+
+		private static final String DERIVATION_DESCRIPTOR = Type.getDescriptor(Derivation.class);
+
+		private static final String REVERSED_DESCRIPTOR = "(" + Type.getDescriptor(OrderingComparator.class) + ")" + COMPARATOR_DESCRIPTOR;
+
+		private static final String THEN_COMPARING_DESCRIPTOR =
+				"(" + Type.getDescriptor(OrderingComparator.class) + COMPARATOR_DESCRIPTOR + ")" + COMPARATOR_DESCRIPTOR;
+
 		static {
 			try {
 				SPEC_TO_SERIALIZED_FORM = SerializableOrderingComparatorSpec.class.getDeclaredMethod("toSerializedForm");
@@ -375,13 +270,15 @@ final class OrderingComparators {
 						OrderingComparatorSpec.class,
 						OrderingCriterion.class,
 						"GeneratedOrderingComparator",
-						staticInitializerBridge);
+						staticInitializerBridge,
+						Combinable.class);
 				GeneratorConfig generatorConfigSerializable = new GeneratorConfig(
 						SerializableOrderingComparator.class,
 						SerializableOrderingComparatorSpec.class,
 						SerializableOrderingCriterion.class,
 						"GeneratedSerializableOrderingComparator",
-						staticInitializerBridgeSerializable);
+						staticInitializerBridgeSerializable,
+						Combinable.class);
 				GENERATOR = new AsmGenerator<>(generatorConfig);
 				GENERATOR_SERIALIZABLE = new AsmGenerator<>(generatorConfigSerializable);
 			} catch (Exception e) {
@@ -399,12 +296,58 @@ final class OrderingComparators {
 			super(config);
 		}
 
+		@Override
+		protected Object shapeOf(BaseOrderingComparatorSpec<?, ?> userSpec) {
+			NullHandling nullHandling = userSpec.getNullHandling();
+
+			// the fallback mode only affects the code of specs without getters
+			return userSpec.hasNoGetters() ? Arrays.asList(nullHandling, fallbackMode(userSpec)) : nullHandling;
+		}
+
+		private static OrderingFallbackMode fallbackMode(BaseOrderingComparatorSpec<?, ?> userSpec) {
+			return userSpec.getFallbackMode().orElseThrow(MissingCriteriaException::of);
+		}
+
+		/**
+		 * Specs without getters compare by identity, i.e. distinct objects are never equal, or by their natural order.
+		 */
+		@Override
+		protected void visitAllCriteriaEqual(MethodVisitor mv, Consts consts, int self, int other, Label notEqual) {
+			if (!consts.criteria.isEmpty()) {
+				super.visitAllCriteriaEqual(mv, consts, self, other, notEqual);
+				return;
+			}
+
+			fallbackMode(consts.userSpec).map(new FallbackMapper<Void>() {
+				@Override
+				public Void onIdentity() {
+					mv.visitInsn(ICONST_0);
+					return null;
+				}
+
+				@Override
+				public Void onNatural() {
+					visitCompareTo(mv, self, other);
+					mv.visitJumpInsn(IFNE, notEqual);
+					mv.visitInsn(ICONST_1);
+					return null;
+				}
+			});
+		}
+
+		private static void visitCompareTo(MethodVisitor mv, int self, int other) {
+			mv.visitVarInsn(ALOAD, self);
+			mv.visitTypeInsn(CHECKCAST, COMPARABLE_INTERNAL_NAME);
+			mv.visitVarInsn(ALOAD, other);
+			mv.visitMethodInsn(INVOKEINTERFACE, COMPARABLE_INTERNAL_NAME, "compareTo", "(Ljava/lang/Object;)I", true);
+		}
+
 		@Override
 		protected void addCompatibleSerializationMethod(ClassWriter cw, ClassDescription cd) {
 			MethodVisitor mv = cw.visitMethod(ACC_PRIVATE, "writeReplace", "()Ljava/lang/Object;", null, null);
 			mv.visitCode();
 
-			mv.visitFieldInsn(GETSTATIC, cd.generatedInternalName, "spec", config.specType.descriptor);
+			visitGetSpec(mv, cd);
 			String descriptor = Type.getMethodDescriptor(SPEC_TO_SERIALIZED_FORM);
 			mv.visitMethodInsn(INVOKEINTERFACE, config.specType.internalName, SPEC_TO_SERIALIZED_FORM.getName(), descriptor, true);
 
@@ -414,6 +357,42 @@ final class OrderingComparators {
 		@Override
 		protected void customize(ClassWriter cw, ClassDescription cd, Consts consts) {
 			addCompareMethod(cw, cd, consts);
+			addCombinatorMethods(cw, cd);
+		}
+
+		/**
+		 * Overrides the default methods of {@link Comparator} that would wrap the comparator, see {@link OrderingCombinators},
+		 * and implements {@link Combinable} by a field holding the derivation.
+		 */
+		private static void addCombinatorMethods(ClassWriter cw, ClassDescription cd) {
+			String owner = cd.generatedInternalName;
+			cw.visitField(ACC_PRIVATE | ACC_VOLATILE | ACC_TRANSIENT, "derivation", DERIVATION_DESCRIPTOR, null, null).visitEnd();
+
+			MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "getDerivation", "()" + DERIVATION_DESCRIPTOR, null, null);
+			mv.visitCode();
+			mv.visitVarInsn(ALOAD, 0);
+			mv.visitFieldInsn(GETFIELD, owner, "derivation", DERIVATION_DESCRIPTOR);
+			endReturn(mv, ARETURN);
+
+			mv = cw.visitMethod(ACC_PUBLIC, "setDerivation", "(" + DERIVATION_DESCRIPTOR + ")V", null, null);
+			mv.visitCode();
+			mv.visitVarInsn(ALOAD, 0);
+			mv.visitVarInsn(ALOAD, 1);
+			mv.visitFieldInsn(PUTFIELD, owner, "derivation", DERIVATION_DESCRIPTOR);
+			endReturn(mv, RETURN);
+
+			mv = cw.visitMethod(ACC_PUBLIC, "reversed", "()" + COMPARATOR_DESCRIPTOR, null, null);
+			mv.visitCode();
+			mv.visitVarInsn(ALOAD, 0);
+			mv.visitMethodInsn(INVOKESTATIC, COMBINATORS_INTERNAL_NAME, "reversed", REVERSED_DESCRIPTOR, false);
+			endReturn(mv, ARETURN);
+
+			mv = cw.visitMethod(ACC_PUBLIC, "thenComparing", "(" + COMPARATOR_DESCRIPTOR + ")" + COMPARATOR_DESCRIPTOR, null, null);
+			mv.visitCode();
+			mv.visitVarInsn(ALOAD, 0);
+			mv.visitVarInsn(ALOAD, 1);
+			mv.visitMethodInsn(INVOKESTATIC, COMBINATORS_INTERNAL_NAME, "thenComparing", THEN_COMPARING_DESCRIPTOR, false);
+			endReturn(mv, ARETURN);
 		}
 
 		private void addCompareMethod(ClassWriter cw, ClassDescription cd, Consts consts) {
@@ -422,6 +401,8 @@ final class OrderingComparators {
 
 		private final class CompareTo {
 
+			private static final String HELPER_DESCRIPTOR = "(Ljava/lang/Object;Ljava/lang/Object;)I";
+
 			private final ClassDescription cd;
 
 			private final Consts consts;
@@ -432,66 +413,142 @@ final class OrderingComparators {
 			}
 
 			public void addTo(ClassWriter cw) {
-				String classToCompareDescriptor = consts.classToCompare.descriptor;
-				String descriptorTypeSafe = "(" + classToCompareDescriptor + classToCompareDescriptor + ")I";
-				String descriptor = consts.implSpec.generateBridgeMethods() ? descriptorTypeSafe : "(Ljava/lang/Object;Ljava/lang/Object;)I";
+				String descriptorTypeSafe = consts.classToCompare.compareDescriptor;
+				String descriptor = consts.generateBridgeMethods ? descriptorTypeSafe : "(Ljava/lang/Object;Ljava/lang/Object;)I";
 
 				MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "compare", descriptor, descriptorTypeSafe, null);
 				mv.visitCode();
+				String parameterType = consts.generateBridgeMethods ? consts.classToCompare.internalName : ClassConsts.OBJECT_INTERNAL_NAME;
+				StackMapFrame frame = cd.frame(parameterType, parameterType);
 
 				if (consts.userSpec.useStrictTypes()) {
-					mv.visitFieldInsn(GETSTATIC, cd.generatedInternalName, "classToCompare", ClassConsts.CLASS_DESCRIPTOR);
-					mv.visitInsn(DUP);
-					mv.visitVarInsn(ALOAD, 1);
-					mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/Class", "cast", "(Ljava/lang/Object;)Ljava/lang/Object;", false);
-					mv.visitInsn(POP);
-					mv.visitVarInsn(ALOAD, 2);
-					mv.visitMethodInsn(INVOKEVIRTUAL, "java/lang/Class", "cast", "(Ljava/lang/Object;)Ljava/lang/Object;", false);
-					mv.visitInsn(POP);
+					visitCheckType(mv, cd, consts, 1);
+					visitCheckType(mv, cd, consts, 2);
 				}
 
-				addNullHandling(mv);
-
-				String getterInternalName = config.getterType.internalName;
-				String getterDescriptor = config.getterType.descriptor;
-				int i = 0;
-				for (; i < consts.userSpec.getGetterCount() - 1; ++i) {
-					mv.visitFieldInsn(GETSTATIC, cd.generatedInternalName, "getter" + i, getterDescriptor);
-					mv.visitVarInsn(ALOAD, 1);
-					mv.visitVarInsn(ALOAD, 2);
-					mv.visitMethodInsn(INVOKEINTERFACE, getterInternalName, "compare", "(Ljava/lang/Object;Ljava/lang/Object;)I", true);
-					mv.visitVarInsn(ISTORE, 3);
-					mv.visitVarInsn(ILOAD, 3);
-					Label label0 = new Label();
-					mv.visitJumpInsn(IFEQ, label0);
-					mv.visitVarInsn(ILOAD, 3);
-					mv.visitInsn(IRETURN);
-					mv.visitLabel(label0);
+				addNullHandling(mv, frame);
+
+				int getterCount = consts.criteria.size();
+
+				if (getterCount > 0 && rejectsOrHandlesNulls()) {
+					visitReturnZeroIfSame(mv, frame);
+				}
+
+				if (getterCount == 0) {
+					visitFallback(mv);
+				} else if (CriterionChunk.isNecessary(getterCount)) {
+					for (CriterionChunk chunk : CriterionChunk.of(getterCount)) {
+						visitHelperReceiver(mv, cd);
+						mv.visitVarInsn(ALOAD, 1);
+						mv.visitVarInsn(ALOAD, 2);
+						visitInvokeHelper(mv, cd, chunk.methodName("compare"), HELPER_DESCRIPTOR);
+						if (!chunk.isLast(getterCount)) {
+							visitReturnIfNonZero(mv, 3, frame);
+						}
+						addHelperMethod(cw, chunk);
+					}
+				} else {
+					visitCompares(mv, 0, getterCount, 1, 2, 3, frame);
 				}
 
-				mv.visitFieldInsn(GETSTATIC, cd.generatedInternalName, "getter" + i, getterDescriptor);
-				mv.visitVarInsn(ALOAD, 1);
-				mv.visitVarInsn(ALOAD, 2);
-				mv.visitMethodInsn(INVOKEINTERFACE, getterInternalName, "compare", "(Ljava/lang/Object;Ljava/lang/Object;)I", true);
 				endReturn(mv, IRETURN);
 
-				if (consts.implSpec.generateBridgeMethods()) {
+				if (consts.generateBridgeMethods) {
 					addBridgeMethod(cw);
 				}
 			}
 
-			private void addNullHandling(MethodVisitor mv) {
+			private void addHelperMethod(ClassWriter cw, CriterionChunk chunk) {
+				MethodVisitor mv = cw.visitMethod(cd.helperAccess(), chunk.methodName("compare"), HELPER_DESCRIPTOR, null, null);
+				mv.visitCode();
+
+				StackMapFrame frame = cd.helperFrame(ClassConsts.OBJECT_INTERNAL_NAME, ClassConsts.OBJECT_INTERNAL_NAME);
+				visitCompares(mv, chunk.start, chunk.end, cd.helperLocal(0), cd.helperLocal(1), cd.helperLocal(2), frame);
+
+				endReturn(mv, IRETURN);
+			}
+
+			/**
+			 * Returns the first non-zero result of the criteria, leaving the result of the last criterion on the stack.
+			 * The local variable <i>result</i> and the following ones are used as scratch space, which the frame must not
+			 * include.
+			 */
+			private void visitCompares(MethodVisitor mv, int start, int end, int left, int right, int result, StackMapFrame frame) {
+				List<CriterionEmitter> criteria = consts.criteria;
+				int last = end - 1;
+
+				for (int i = start; i < last; ++i) {
+					criteria.get(i).compare(mv, getterLoader(cd, i), left, right, result + 1, frame);
+					visitReturnIfNonZero(mv, result, frame);
+				}
+
+				criteria.get(last).compare(mv, getterLoader(cd, last), left, right, result + 1, frame);
+			}
+
+			/**
+			 * Pushes the result of the fallback mode, which replaces the criteria of specs without getters.
+			 */
+			private void visitFallback(MethodVisitor mv) {
+				fallbackMode(consts.userSpec).map(new FallbackMapper<Void>() {
+					@Override
+					public Void onIdentity() {
+						// the identity order does not accept nulls, even if no criterion would fail
+						if (NullHandling.THROW.equals(consts.userSpec.getNullHandling()) && !consts.userSpec.useStrictTypes()) {
+							visitRequireNonNull(mv);
+						}
+						mv.visitInsn(ICONST_0);
+						return null;
+					}
+
+					@Override
+					public Void onNatural() {
+						visitCompareTo(mv, 1, 2);
+						return null;
+					}
+				});
+			}
+
+			private void visitReturnIfNonZero(MethodVisitor mv, int result, StackMapFrame frame) {
+				mv.visitVarInsn(ISTORE, result);
+				mv.visitVarInsn(ILOAD, result);
+				Label label0 = new Label();
+				mv.visitJumpInsn(IFEQ, label0);
+				mv.visitVarInsn(ILOAD, result);
+				mv.visitInsn(IRETURN);
+				mv.visitLabel(label0);
+				frame.visit(mv);
+			}
+
+			/**
+			 * Returns true if the code emitted by {@link #addNullHandling} returns or throws for null objects. Otherwise, the
+			 * criteria decide how to handle nulls.
+			 */
+			private boolean rejectsOrHandlesNulls() {
+				return consts.userSpec.useStrictTypes() || !NullHandling.THROW.equals(consts.userSpec.getNullHandling());
+			}
+
+			/**
+			 * Identical objects are equal according to every criterion, unless a criterion violates the contract of
+			 * {@link java.util.Comparator}.
+			 */
+			private void visitReturnZeroIfSame(MethodVisitor mv, StackMapFrame frame) {
+				mv.visitVarInsn(ALOAD, 1);
+				mv.visitVarInsn(ALOAD, 2);
+				Label label0 = new Label();
+				mv.visitJumpInsn(IF_ACMPNE, label0);
+				mv.visitInsn(ICONST_0);
+				mv.visitInsn(IRETURN);
+				mv.visitLabel(label0);
+				frame.visit(mv);
+			}
+
+			private void addNullHandling(MethodVisitor mv, StackMapFrame frame) {
 				NullHandling nullHandling = consts.userSpec.getNullHandling();
 
 				if (NullHandling.THROW.equals(nullHandling)) {
 					// only fail early if strict types are enabled, otherwise let the criterion handle nulls
 					if (consts.userSpec.useStrictTypes()) {
-						mv.visitVarInsn(ALOAD, 1);
-						mv.visitMethodInsn(INVOKESTATIC, "java/util/Objects", "requireNonNull", "(Ljava/lang/Object;)Ljava/lang/Object;", false);
-						mv.visitInsn(POP);
-						mv.visitVarInsn(ALOAD, 2);
-						mv.visitMethodInsn(INVOKESTATIC, "java/util/Objects", "requireNonNull", "(Ljava/lang/Object;)Ljava/lang/Object;", false);
-						mv.visitInsn(POP);
+						visitRequireNonNull(mv);
 					}
 					return;
 				}
@@ -508,31 +565,42 @@ final class OrderingComparators {
 				Label label2 = new Label();
 				mv.visitJumpInsn(GOTO, label2);
 				mv.visitLabel(label1);
+				frame.visit(mv);
 				insertNumber(mv, leftSideIsNull);
 				mv.visitLabel(label2);
+				frame.push(INTEGER).visit(mv);
 				mv.visitInsn(IRETURN);
 				mv.visitLabel(label0);
+				frame.visit(mv);
 				mv.visitVarInsn(ALOAD, 2);
 				Label label3 = new Label();
 				mv.visitJumpInsn(IFNONNULL, label3);
-				mv.visitInsn(ICONST_1);
 				insertNumber(mv, -leftSideIsNull);
 				mv.visitInsn(IRETURN);
 				mv.visitLabel(label3);
+				frame.visit(mv);
+			}
+
+			private void visitRequireNonNull(MethodVisitor mv) {
+				mv.visitVarInsn(ALOAD, 1);
+				mv.visitMethodInsn(INVOKESTATIC, "java/util/Objects", "requireNonNull", "(Ljava/lang/Object;)Ljava/lang/Object;", false);
+				mv.visitInsn(POP);
+				mv.visitVarInsn(ALOAD, 2);
+				mv.visitMethodInsn(INVOKESTATIC, "java/util/Objects", "requireNonNull", "(Ljava/lang/Object;)Ljava/lang/Object;", false);
+				mv.visitInsn(POP);
 			}
 
 			private void addBridgeMethod(ClassWriter cw) {
 				MethodVisitor mv = cw.visitMethod(ClassConsts.ACCESS_BRIDGE, "compare", "(Ljava/lang/Object;Ljava/lang/Object;)I", null, null);
 				mv.visitCode();
 
-				String descriptor = consts.classToCompare.descriptor;
 				String internalName = consts.classToCompare.internalName;
 				mv.visitVarInsn(ALOAD, 0);
 				mv.visitVarInsn(ALOAD, 1);
 				mv.visitTypeInsn(CHECKCAST, internalName);
 				mv.visitVarInsn(ALOAD, 2);
 				mv.visitTypeInsn(CHECKCAST, internalName);
-				String targetDescriptor = "(" + descriptor + descriptor + ")I";
+				String targetDescriptor = consts.classToCompare.compareDescriptor;
 				mv.visitMethodInsn(INVOKEVIRTUAL, cd.generatedInternalName, "compare", targetDescriptor, false);
 
 				endReturn(mv, IRETURN);
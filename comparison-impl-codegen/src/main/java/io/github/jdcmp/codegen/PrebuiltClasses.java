@@ -0,0 +1,305 @@
+package io.github.jdcmp.codegen;
+
+import io.github.jdcmp.api.documentation.Immutable;
+import io.github.jdcmp.api.documentation.ThreadSafe;
+import io.github.jdcmp.codegen.documentation.NotPublicAPI;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <p>Comparator classes generated at build time, e.g. by <i>comparison-maven-plugin</i>. Such classes are ordinary named
+ * classes in the package of the lookup class. Their constants are stored in final instance fields, initialized by a
+ * constructor taking the spec (see {@link io.github.jdcmp.codegen.customization.AvailableInitializationMode#SHARED}).</p>
+ *
+ * <p>The index resource {@link #INDEX_RESOURCE} maps fingerprints of class descriptions to class names. At runtime, the
+ * class loader of the lookup class is searched for indexes. If the index contains a class of the required fingerprint, it
+ * is instantiated without generating any bytecode.</p>
+ */
+@ThreadSafe
+@NotPublicAPI(reason = "Used by comparison-maven-plugin")
+public final class PrebuiltClasses {
+
+	/**
+	 * Location of the index, relative to the root of the class path.
+	 */
+	public static final String INDEX_RESOURCE = "META-INF/jdcmp/prebuilt-classes.properties";
+
+	private static final Logger LOGGER = Logger.getLogger(PrebuiltClasses.class.getName());
+
+	private static final Object RECORDING_LOCK = new Object();
+
+	private static volatile @Nullable Recording recording;
+
+	private static final ClassValue<Index> INDEXES = new ClassValue<Index>() {
+		@Override
+		protected Index computeValue(Class<?> lookupClass) {
+			return Index.load(lookupClass.getClassLoader());
+		}
+	};
+
+	/**
+	 * Runs the given action, recording the classes of all comparators created in the meantime, by any thread. Comparators are
+	 * created as usual. Recordings are mutually exclusive.
+	 *
+	 * @param action The action, e.g. initialization of classes holding comparators
+	 * @return The recorded classes, without duplicates
+	 */
+	public static List<PrebuiltClass> record(Runnable action) {
+		synchronized (RECORDING_LOCK) {
+			Recording current = new Recording();
+			recording = current;
+
+			try {
+				action.run();
+			} finally {
+				recording = null;
+			}
+
+			return current.classes();
+		}
+	}
+
+	/**
+	 * Writes class files to the given directory and adds them to the index, which is created if necessary.
+	 *
+	 * @param directory The root of the class path, e.g. <code>target/classes</code>
+	 * @param classes   The classes
+	 * @throws IOException If writing fails
+	 */
+	public static void write(Path directory, Collection<PrebuiltClass> classes) throws IOException {
+		Path indexFile = directory.resolve(INDEX_RESOURCE);
+		TreeMap<String, String> index = new TreeMap<>();
+
+		if (Files.exists(indexFile)) {
+			try (InputStream in = Files.newInputStream(indexFile)) {
+				Properties properties = new Properties();
+				properties.load(in);
+				properties.stringPropertyNames().forEach(name -> index.put(name, properties.getProperty(name)));
+			}
+		}
+
+		for (PrebuiltClass prebuiltClass : classes) {
+			Path file = directory.resolve(prebuiltClass.internalName + ".class");
+			Files.createDirectories(file.getParent());
+			Files.write(file, prebuiltClass.bytes);
+			index.put(prebuiltClass.fingerprint, prebuiltClass.getClassName());
+		}
+
+		Files.createDirectories(indexFile.getParent());
+
+		// Properties#store adds a timestamp, which breaks reproducible builds
+		try (BufferedWriter writer = Files.newBufferedWriter(indexFile, StandardCharsets.ISO_8859_1)) {
+			for (Map.Entry<String, String> entry : index.entrySet()) {
+				writer.write(entry.getKey() + "=" + entry.getValue());
+				writer.newLine();
+			}
+		}
+	}
+
+	static @Nullable Recording recording() {
+		return recording;
+	}
+
+	static boolean isEmpty(Class<?> lookupClass) {
+		return INDEXES.get(lookupClass).classNames.isEmpty();
+	}
+
+	/**
+	 * Finds the constructor of the prebuilt class of the given fingerprint.
+	 *
+	 * @param lookupClass The lookup class, whose class loader is searched
+	 * @param fingerprint The fingerprint
+	 * @param specType    The type of the constructor's only parameter
+	 * @return The constructor; null if there is no such class or if it cannot be loaded or instantiated
+	 */
+	static @Nullable Constructor<?> constructor(Class<?> lookupClass, String fingerprint, Class<?> specType) {
+		return INDEXES.get(lookupClass).constructor(fingerprint, specType);
+	}
+
+	private PrebuiltClasses() {
+		throw new AssertionError("No instances");
+	}
+
+	/**
+	 * A class generated at build time.
+	 */
+	@Immutable
+	public static final class PrebuiltClass {
+
+		private final String lookupClassName;
+
+		private final String internalName;
+
+		private final String fingerprint;
+
+		private final byte[] bytes;
+
+		PrebuiltClass(String lookupClassName, String internalName, String fingerprint, byte[] bytes) {
+			this.lookupClassName = Objects.requireNonNull(lookupClassName);
+			this.internalName = Objects.requireNonNull(internalName);
+			this.fingerprint = Objects.requireNonNull(fingerprint);
+			this.bytes = bytes.clone();
+		}
+
+		/**
+		 * Returns the binary name of the lookup class. The prebuilt class belongs to the same package and class loader.
+		 *
+		 * @return The binary name of the lookup class
+		 */
+		public String getLookupClassName() {
+			return lookupClassName;
+		}
+
+		/**
+		 * Returns the binary name of the prebuilt class.
+		 *
+		 * @return The binary name of the prebuilt class
+		 */
+		public String getClassName() {
+			return internalName.replace('/', '.');
+		}
+
+		/**
+		 * Returns the fingerprint of the class description, which is the key of the class in the index.
+		 *
+		 * @return A hexadecimal string
+		 */
+		public String getFingerprint() {
+			return fingerprint;
+		}
+
+		/**
+		 * Returns the bytecode of the prebuilt class.
+		 *
+		 * @return A copy of the class file
+		 */
+		public byte[] getBytes() {
+			return bytes.clone();
+		}
+
+		@Override
+		public String toString() {
+			return "PrebuiltClass[className=" + getClassName() + ", fingerprint=" + fingerprint + "]";
+		}
+
+	}
+
+	@ThreadSafe
+	static final class Recording {
+
+		private final Map<String, PrebuiltClass> classes = new LinkedHashMap<>();
+
+		synchronized void add(String lookupClassName, String internalName, String fingerprint, byte[] bytes) {
+			classes.putIfAbsent(fingerprint, new PrebuiltClass(lookupClassName, internalName, fingerprint, bytes));
+		}
+
+		synchronized List<PrebuiltClass> classes() {
+			return Collections.unmodifiableList(new ArrayList<>(classes.values()));
+		}
+
+	}
+
+	/**
+	 * The merged indexes visible to a class loader.
+	 */
+	@ThreadSafe
+	private static final class Index {
+
+		private final @Nullable ClassLoader classLoader;
+
+		private final Map<String, String> classNames;
+
+		private final ConcurrentMap<String, Constructor<?>> constructors = new ConcurrentHashMap<>();
+
+		private Index(@Nullable ClassLoader classLoader, Map<String, String> classNames) {
+			this.classLoader = classLoader;
+			this.classNames = classNames;
+		}
+
+		static Index load(@Nullable ClassLoader classLoader) {
+			ClassLoader loader = classLoader == null ? ClassLoader.getSystemClassLoader() : classLoader;
+			Map<String, String> classNames = new ConcurrentHashMap<>();
+
+			try {
+				Enumeration<URL> resources = loader.getResources(INDEX_RESOURCE);
+
+				while (resources.hasMoreElements()) {
+					URL url = resources.nextElement();
+
+					try (InputStream in = url.openStream()) {
+						Properties properties = new Properties();
+						properties.load(in);
+						properties.stringPropertyNames().forEach(name -> classNames.put(name, properties.getProperty(name)));
+					} catch (IOException e) {
+						LOGGER.log(Level.FINE, "Failed to load index of prebuilt classes: " + url, e);
+					}
+				}
+			} catch (IOException e) {
+				LOGGER.log(Level.FINE, "Failed to find indexes of prebuilt classes", e);
+			}
+
+			return new Index(classLoader, classNames);
+		}
+
+		@Nullable Constructor<?> constructor(String fingerprint, Class<?> specType) {
+			Constructor<?> constructor = constructors.get(fingerprint);
+
+			if (constructor != null) {
+				return constructor;
+			}
+
+			String className = classNames.get(fingerprint);
+
+			if (className == null) {
+				return null;
+			}
+
+			Class<?> prebuiltClass;
+			try {
+				prebuiltClass = Class.forName(className, false, classLoader);
+			} catch (ClassNotFoundException | LinkageError e) {
+				LOGGER.log(Level.FINE, "Failed to load prebuilt class: " + className, e);
+				classNames.remove(fingerprint);
+
+				return null;
+			}
+
+			try {
+				constructor = SharedClasses.constructor(prebuiltClass, specType);
+			} catch (RuntimeException e) {
+				LOGGER.log(Level.FINE, "Failed to obtain constructor of prebuilt class: " + className, e);
+				classNames.remove(fingerprint);
+
+				return null;
+			}
+
+			Constructor<?> existing = constructors.putIfAbsent(fingerprint, constructor);
+
+			return existing == null ? constructor : existing;
+		}
+
+	}
+
+}
@@ -0,0 +1,113 @@
+package io.github.jdcmp.codegen;
+
+import io.github.jdcmp.api.documentation.ThreadSafe;
+import org.jetbrains.annotations.Nullable;
+import org.objectweb.asm.Type;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandleInfo;
+import java.lang.invoke.SerializedLambda;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <p>Resolves serializable lambdas to their implementation method, using the {@link SerializedLambda} returned by the
+ * lambda's <code>writeReplace</code> method.</p>
+ *
+ * <p>Only capture-free lambdas taking a single argument are resolved, i.e. method references such as
+ * <code>Person::getName</code> (a method without parameters) or <code>Persons::name</code> (a static method with one
+ * parameter).</p>
+ */
+@ThreadSafe
+final class SerializedLambdas {
+
+	private static final Logger LOGGER = Logger.getLogger(SerializedLambdas.class.getName());
+
+	/**
+	 * Returns the implementation method of the given lambda.
+	 *
+	 * @param lambda An object, possibly a serializable lambda
+	 * @return The implementation method; null if the object is not a capture-free serializable lambda or if the method cannot
+	 * be resolved
+	 */
+	static @Nullable Method implMethod(Object lambda) {
+		Class<?> lambdaClass = lambda.getClass();
+
+		if (!(lambda instanceof Serializable) || !lambdaClass.isSynthetic()) {
+			return null;
+		}
+
+		try {
+			SerializedLambda serializedLambda = serializedLambda(lambda);
+
+			if (serializedLambda == null || serializedLambda.getCapturedArgCount() != 0) {
+				return null;
+			}
+
+			return resolve(serializedLambda, lambdaClass.getClassLoader());
+		} catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+			LOGGER.log(Level.FINE, "Failed to resolve lambda: " + lambdaClass, e);
+
+			return null;
+		}
+	}
+
+	private static @Nullable SerializedLambda serializedLambda(Object lambda) throws ReflectiveOperationException {
+		Method writeReplace = lambda.getClass().getDeclaredMethod("writeReplace");
+		writeReplace.setAccessible(true);
+		Object replacement = writeReplace.invoke(lambda);
+
+		return replacement instanceof SerializedLambda ? (SerializedLambda) replacement : null;
+	}
+
+	private static @Nullable Method resolve(SerializedLambda serializedLambda, @Nullable ClassLoader classLoader)
+			throws ClassNotFoundException {
+		Class<?> implClass = Class.forName(serializedLambda.getImplClass().replace('/', '.'), false, classLoader);
+		String name = serializedLambda.getImplMethodName();
+		String descriptor = serializedLambda.getImplMethodSignature();
+		int parameterCount = Type.getArgumentTypes(descriptor).length;
+
+		switch (serializedLambda.getImplMethodKind()) {
+			case MethodHandleInfo.REF_invokeVirtual:
+			case MethodHandleInfo.REF_invokeInterface:
+				return parameterCount == 0 ? find(implClass, name, descriptor, false) : null;
+			case MethodHandleInfo.REF_invokeStatic:
+				return parameterCount == 1 ? find(implClass, name, descriptor, true) : null;
+			default:
+				return null;
+		}
+	}
+
+	private static @Nullable Method find(@Nullable Class<?> clazz, String name, String descriptor, boolean isStatic) {
+		if (clazz == null) {
+			return null;
+		}
+
+		for (Method method : clazz.getDeclaredMethods()) {
+			if (method.getName().equals(name)
+					&& Modifier.isStatic(method.getModifiers()) == isStatic
+					&& Type.getMethodDescriptor(method).equals(descriptor)) {
+				return method;
+			}
+		}
+
+		if (isStatic) {
+			return null;
+		}
+
+		Method method = find(clazz.getSuperclass(), name, descriptor, false);
+
+		for (int i = 0; method == null && i < clazz.getInterfaces().length; ++i) {
+			method = find(clazz.getInterfaces()[i], name, descriptor, false);
+		}
+
+		return method;
+	}
+
+	private SerializedLambdas() {
+		throw new AssertionError("No instances");
+	}
+
+}
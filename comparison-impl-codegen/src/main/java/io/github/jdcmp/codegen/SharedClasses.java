@@ -0,0 +1,176 @@
+package io.github.jdcmp.codegen;
+
+import io.github.jdcmp.api.HashParameters;
+import io.github.jdcmp.api.documentation.Immutable;
+import io.github.jdcmp.api.documentation.ThreadSafe;
+import io.github.jdcmp.codegen.Utils.ThrowableRunnable;
+import io.github.jdcmp.codegen.contract.EventHandler;
+import io.github.jdcmp.codegen.customization.AvailableInitializationMode;
+import io.github.jdcmp.codegen.customization.AvailableSerializationMode;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.reflect.Constructor;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>Generated classes used by {@link AvailableInitializationMode#SHARED}, keyed by their {@link Shape}. Such classes keep
+ * their constants in instance fields, which are initialized by a constructor taking the spec.</p>
+ *
+ * <p>The classes are stored in a {@link ClassValue} of the lookup class, i.e. they are defined in the same class loader and
+ * become unreachable together with it.</p>
+ *
+ * @param <C> Type of the generated comparators
+ */
+@ThreadSafe
+final class SharedClasses<C> {
+
+	private final ClassValue<ConcurrentMap<Shape, Constructor<? extends C>>> classes
+			= new ClassValue<ConcurrentMap<Shape, Constructor<? extends C>>>() {
+		@Override
+		protected ConcurrentMap<Shape, Constructor<? extends C>> computeValue(Class<?> lookupClass) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	/**
+	 * Instantiates the shared class of the given shape, if there is one.
+	 *
+	 * @param shape        The shape
+	 * @param spec         The spec passed to the constructor
+	 * @param eventHandler Notified via {@link EventHandler#onClassShared(Class)}
+	 * @return A new instance; null if no class of the given shape has been added yet
+	 */
+	@Nullable C newInstance(Shape shape, Object spec, EventHandler eventHandler) {
+		Constructor<? extends C> constructor = classes.get(shape.lookupClass).get(shape);
+
+		if (constructor == null) {
+			return null;
+		}
+
+		C instance = newInstance(constructor, spec);
+		ThrowableRunnable.run(() -> eventHandler.onClassShared(constructor.getDeclaringClass()));
+
+		return instance;
+	}
+
+	void add(Shape shape, Class<? extends C> generatedClass, Class<?> specType) {
+		classes.get(shape.lookupClass).putIfAbsent(shape, constructor(generatedClass, specType));
+	}
+
+	static <T> Constructor<? extends T> constructor(Class<? extends T> generatedClass, Class<?> specType) {
+		Constructor<? extends T> constructor;
+		try {
+			constructor = generatedClass.getDeclaredConstructor(specType);
+		} catch (Exception e) {
+			throw new RuntimeException("Failed to obtain constructor for class: " + generatedClass, e);
+		}
+
+		try {
+			constructor.setAccessible(true);
+		} catch (Exception e) {
+			throw new RuntimeException("Constructor is inaccessible: " + constructor, e);
+		}
+
+		return constructor;
+	}
+
+	static <T> T newInstance(Constructor<? extends T> constructor, Object spec) {
+		try {
+			return constructor.newInstance(spec);
+		} catch (Exception e) {
+			throw new RuntimeException("Cannot create instance of class: " + constructor.getDeclaringClass(), e);
+		}
+	}
+
+	/**
+	 * Everything that affects the bytecode of a generated class, except for the getter instances.
+	 */
+	@Immutable
+	static final class Shape {
+
+		private final Class<?> lookupClass;
+
+		private final int lookupModes;
+
+		private final Class<?> classToCompare;
+
+		private final boolean serializable;
+
+		private final boolean strictTypes;
+
+		private final HashParameters hashParameters;
+
+		private final AvailableSerializationMode serializationMode;
+
+		private final boolean generateBridgeMethods;
+
+		private final List<CriterionEmitter> criteria;
+
+		private final @Nullable Object specific;
+
+		private final int hashCode;
+
+		Shape(
+				Class<?> lookupClass,
+				int lookupModes,
+				Class<?> classToCompare,
+				boolean serializable,
+				boolean strictTypes,
+				HashParameters hashParameters,
+				AvailableSerializationMode serializationMode,
+				boolean generateBridgeMethods,
+				List<CriterionEmitter> criteria,
+				@Nullable Object specific) {
+			this.lookupClass = Objects.requireNonNull(lookupClass);
+			this.lookupModes = lookupModes;
+			this.classToCompare = Objects.requireNonNull(classToCompare);
+			this.serializable = serializable;
+			this.strictTypes = strictTypes;
+			this.hashParameters = Objects.requireNonNull(hashParameters);
+			this.serializationMode = Objects.requireNonNull(serializationMode);
+			this.generateBridgeMethods = generateBridgeMethods;
+			this.criteria = Objects.requireNonNull(criteria);
+			this.specific = specific;
+			this.hashCode = Objects.hash(lookupClass, lookupModes, classToCompare, serializable, strictTypes, hashParameters,
+					serializationMode, generateBridgeMethods, criteria, specific);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			} else if (!(obj instanceof Shape)) {
+				return false;
+			}
+
+			Shape other = (Shape) obj;
+
+			return hashCode == other.hashCode
+					&& lookupClass == other.lookupClass
+					&& lookupModes == other.lookupModes
+					&& classToCompare == other.classToCompare
+					&& serializable == other.serializable
+					&& strictTypes == other.strictTypes
+					&& hashParameters.equals(other.hashParameters)
+					&& serializationMode == other.serializationMode
+					&& generateBridgeMethods == other.generateBridgeMethods
+					&& criteria.equals(other.criteria)
+					&& Objects.equals(specific, other.specific);
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public String toString() {
+			return "Shape[classToCompare=" + classToCompare.getName() + ", getterCount=" + criteria.size() + "]";
+		}
+
+	}
+
+}
@@ -0,0 +1,75 @@
+package io.github.jdcmp.codegen;
+
+import io.github.jdcmp.api.documentation.Immutable;
+import org.objectweb.asm.MethodVisitor;
+
+import java.util.Arrays;
+
+import static org.objectweb.asm.Opcodes.F_FULL;
+import static org.objectweb.asm.Opcodes.TOP;
+
+/**
+ * <p>The types of the local variables and the operand stack at a branch target, visited as a full frame.</p>
+ *
+ * <p>Generated classes are written without {@link org.objectweb.asm.ClassWriter#COMPUTE_FRAMES}, which would analyze the data
+ * flow of every method and load classes to merge types. The types at each branch target are known from the shape of the
+ * generated methods instead. Types are given as in {@link MethodVisitor#visitFrame}, e.g. an internal name or
+ * {@link org.objectweb.asm.Opcodes#INTEGER}. Frames may declare a supertype of the actual type, e.g. <i>java/lang/Object</i>
+ * for any reference, and fewer local variables than are assigned. Long and double locals are not supported.</p>
+ */
+@Immutable
+final class StackMapFrame {
+
+	private static final Object[] EMPTY = new Object[0];
+
+	private final Object[] locals;
+
+	private final Object[] stack;
+
+	private StackMapFrame(Object[] locals, Object[] stack) {
+		this.locals = locals;
+		this.stack = stack;
+	}
+
+	static StackMapFrame of(Object... locals) {
+		return new StackMapFrame(locals.clone(), EMPTY);
+	}
+
+	/**
+	 * Returns a frame whose local variable <i>index</i> has the given type. Unassigned variables below the index are TOP.
+	 */
+	StackMapFrame withLocal(int index, Object type) {
+		Object[] locals = Arrays.copyOf(this.locals, Math.max(this.locals.length, index + 1));
+
+		for (int i = this.locals.length; i < index; ++i) {
+			locals[i] = TOP;
+		}
+
+		locals[index] = type;
+
+		return new StackMapFrame(locals, stack);
+	}
+
+	/**
+	 * Returns a frame with the given type pushed onto the operand stack.
+	 */
+	StackMapFrame push(Object type) {
+		Object[] stack = Arrays.copyOf(this.stack, this.stack.length + 1);
+		stack[this.stack.length] = type;
+
+		return new StackMapFrame(locals, stack);
+	}
+
+	/**
+	 * Visits the frame. Must directly follow the label of the branch target.
+	 */
+	void visit(MethodVisitor mv) {
+		mv.visitFrame(F_FULL, locals.length, locals, stack.length, stack);
+	}
+
+	@Override
+	public String toString() {
+		return "StackMapFrame[locals=" + Arrays.toString(locals) + ", stack=" + Arrays.toString(stack) + "]";
+	}
+
+}
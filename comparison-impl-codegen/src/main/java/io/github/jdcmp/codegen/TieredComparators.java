@@ -0,0 +1,340 @@
+package io.github.jdcmp.codegen;
+
+import io.github.jdcmp.api.comparator.equality.EqualityComparator;
+import io.github.jdcmp.api.comparator.equality.SerializableEqualityComparator;
+import io.github.jdcmp.api.comparator.ordering.OrderingComparator;
+import io.github.jdcmp.api.comparator.ordering.SerializableOrderingComparator;
+import io.github.jdcmp.api.documentation.Immutable;
+import io.github.jdcmp.api.documentation.ThreadSafe;
+import io.github.jdcmp.api.serialization.SerializationProxyRequiredException;
+import io.github.jdcmp.api.spec.equality.EqualityComparatorSpec;
+import io.github.jdcmp.api.spec.equality.SerializableEqualityComparatorSpec;
+import io.github.jdcmp.api.spec.ordering.OrderingComparatorSpec;
+import io.github.jdcmp.api.spec.ordering.SerializableOrderingComparatorSpec;
+import io.github.jdcmp.codegen.OrderingCombinators.Combinable;
+import io.github.jdcmp.codegen.OrderingCombinators.Derivation;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamException;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * <p>Comparators that start interpreted and switch to the generated class once they are hot, see
+ * {@link CodegenProvider#setTieredCompilationThreshold(Integer)}. Specs that are never generated, e.g. specs without
+ * criteria, are created as usual.</p>
+ *
+ * <p>The generated class is created by the first invocation that exceeds the threshold, either on the invoking thread
+ * or via an {@link Executor}. If generation fails, the comparator remains interpreted.</p>
+ */
+@ThreadSafe
+final class TieredComparators {
+
+	private static final Logger LOGGER = Logger.getLogger(TieredComparators.class.getName());
+
+	public static <T> EqualityComparator<T> equality(
+			EqualityComparatorSpec<T> userSpec,
+			ImplSpec implSpec,
+			TieredCompilation tieredCompilation) {
+		if (!tieredCompilation.isEnabled() || !EqualityComparators.generates(userSpec)) {
+			return EqualityComparators.create(userSpec, implSpec);
+		}
+
+		Tier<EqualityComparator<T>> tier = new Tier<>(
+				EqualityComparators.interpret(userSpec),
+				() -> EqualityComparators.create(userSpec, implSpec),
+				tieredCompilation);
+
+		return new TieredEqualityComparator<>(tier);
+	}
+
+	public static <T> SerializableEqualityComparator<T> equalitySerializable(
+			SerializableEqualityComparatorSpec<T> userSpec,
+			ImplSpec implSpec,
+			TieredCompilation tieredCompilation) {
+		if (!tieredCompilation.isEnabled() || !EqualityComparators.generates(userSpec)) {
+			return EqualityComparators.createSerializable(userSpec, implSpec);
+		}
+
+		Tier<EqualityComparator<T>> tier = new Tier<>(
+				EqualityComparators.interpretSerializable(userSpec, implSpec),
+				() -> EqualityComparators.createSerializable(userSpec, implSpec),
+				tieredCompilation);
+
+		return new TieredSerializableEqualityComparator<>(tier, userSpec, implSpec);
+	}
+
+	public static <T> OrderingComparator<T> ordering(
+			OrderingComparatorSpec<T> userSpec,
+			ImplSpec implSpec,
+			TieredCompilation tieredCompilation) {
+		if (!tieredCompilation.isEnabled() || !OrderingComparators.generates(userSpec)) {
+			return OrderingCombinators.created(OrderingComparators.create(userSpec, implSpec), userSpec, implSpec, tieredCompilation);
+		}
+
+		Tier<OrderingComparator<T>> tier = new Tier<>(
+				OrderingComparators.interpret(userSpec),
+				() -> OrderingComparators.create(userSpec, implSpec),
+				tieredCompilation);
+
+		return OrderingCombinators.created(new TieredOrderingComparator<>(tier), userSpec, implSpec, tieredCompilation);
+	}
+
+	public static <T> SerializableOrderingComparator<T> orderingSerializable(
+			SerializableOrderingComparatorSpec<T> userSpec,
+			ImplSpec implSpec,
+			TieredCompilation tieredCompilation) {
+		if (!tieredCompilation.isEnabled() || !OrderingComparators.generates(userSpec)) {
+			SerializableOrderingComparator<T> comparator = OrderingComparators.createSerializable(userSpec, implSpec);
+
+			return OrderingCombinators.created(comparator, userSpec, implSpec, tieredCompilation);
+		}
+
+		Tier<OrderingComparator<T>> tier = new Tier<>(
+				OrderingComparators.interpretSerializable(userSpec, implSpec),
+				() -> OrderingComparators.createSerializable(userSpec, implSpec),
+				tieredCompilation);
+		TieredSerializableOrderingComparator<T> comparator = new TieredSerializableOrderingComparator<>(tier, userSpec, implSpec);
+
+		return OrderingCombinators.created(comparator, userSpec, implSpec, tieredCompilation);
+	}
+
+	@Immutable
+	static final class TieredCompilation {
+
+		private final int threshold;
+
+		private final @Nullable Executor executor;
+
+		TieredCompilation(int threshold, @Nullable Executor executor) {
+			if (threshold < 0) {
+				throw new IllegalArgumentException("Threshold must not be negative: " + threshold);
+			}
+
+			this.threshold = threshold;
+			this.executor = executor;
+		}
+
+		boolean isEnabled() {
+			return threshold > 0;
+		}
+
+		@Override
+		public String toString() {
+			return "TieredCompilation[threshold=" + threshold + ", executor=" + executor + "]";
+		}
+
+	}
+
+	/**
+	 * Holds the current implementation of a tiered comparator. The invocation counter is not synchronized, lost updates
+	 * merely delay the generation of the class. Once generated, the counter is no longer updated.
+	 */
+	@ThreadSafe
+	private static final class Tier<C> {
+
+		private final int threshold;
+
+		private final @Nullable Executor executor;
+
+		private volatile C current;
+
+		private volatile @Nullable Supplier<? extends C> generator;
+
+		private int invocations;
+
+		Tier(C interpreted, Supplier<? extends C> generator, TieredCompilation tieredCompilation) {
+			this.threshold = tieredCompilation.threshold;
+			this.executor = tieredCompilation.executor;
+			this.current = Objects.requireNonNull(interpreted);
+			this.generator = Objects.requireNonNull(generator);
+		}
+
+		C get() {
+			if (generator != null && ++invocations >= threshold) {
+				generate();
+			}
+
+			return current;
+		}
+
+		private void generate() {
+			Supplier<? extends C> generator;
+
+			synchronized (this) {
+				generator = this.generator;
+
+				if (generator == null) {
+					return;
+				}
+
+				this.generator = null;
+			}
+
+			Executor executor = this.executor;
+
+			if (executor == null) {
+				install(generator);
+				return;
+			}
+
+			try {
+				executor.execute(() -> install(generator));
+			} catch (RejectedExecutionException e) {
+				LOGGER.log(Level.WARNING, "Generation was rejected, the comparator remains interpreted.", e);
+			}
+		}
+
+		private void install(Supplier<? extends C> generator) {
+			try {
+				current = generator.get();
+			} catch (RuntimeException | LinkageError e) {
+				LOGGER.log(Level.WARNING, "Generation failed, the comparator remains interpreted.", e);
+			}
+		}
+
+	}
+
+	@ThreadSafe
+	private static class TieredEqualityComparator<T> implements EqualityComparator<T> {
+
+		private final Tier<? extends EqualityComparator<T>> tier;
+
+		TieredEqualityComparator(Tier<? extends EqualityComparator<T>> tier) {
+			this.tier = Objects.requireNonNull(tier);
+		}
+
+		@Override
+		public final int hash(@Nullable T object) {
+			return tier.get().hash(object);
+		}
+
+		@Override
+		public final boolean areEqual(@Nullable T self, @Nullable Object other) {
+			return tier.get().areEqual(self, other);
+		}
+
+	}
+
+	@ThreadSafe
+	private static final class TieredSerializableEqualityComparator<T> extends TieredEqualityComparator<T>
+			implements SerializableEqualityComparator<T> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final transient SerializableEqualityComparatorSpec<T> userSpec;
+
+		private final transient ImplSpec implSpec;
+
+		TieredSerializableEqualityComparator(
+				Tier<? extends EqualityComparator<T>> tier,
+				SerializableEqualityComparatorSpec<T> userSpec,
+				ImplSpec implSpec) {
+			super(tier);
+			this.userSpec = Objects.requireNonNull(userSpec);
+			this.implSpec = Objects.requireNonNull(implSpec);
+		}
+
+		private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+			throw new SerializationProxyRequiredException();
+		}
+
+		private Object writeReplace() throws ObjectStreamException {
+			implSpec.getSerializationMode().throwIfPrevented();
+
+			return userSpec.toSerializedForm();
+		}
+
+	}
+
+	@ThreadSafe
+	private static class TieredOrderingComparator<T> implements OrderingComparator<T>, Combinable {
+
+		private final Tier<? extends OrderingComparator<T>> tier;
+
+		private volatile @Nullable Derivation derivation;
+
+		TieredOrderingComparator(Tier<? extends OrderingComparator<T>> tier) {
+			this.tier = Objects.requireNonNull(tier);
+		}
+
+		@Override
+		public final int hash(@Nullable T object) {
+			return tier.get().hash(object);
+		}
+
+		@Override
+		public final boolean areEqual(@Nullable T self, @Nullable Object other) {
+			return tier.get().areEqual(self, other);
+		}
+
+		@Override
+		public final int compare(T o1, T o2) {
+			return tier.get().compare(o1, o2);
+		}
+
+		@Override
+		public final Comparator<T> reversed() {
+			return OrderingCombinators.reversed(this);
+		}
+
+		@Override
+		public final Comparator<T> thenComparing(Comparator<? super T> other) {
+			return OrderingCombinators.thenComparing(this, other);
+		}
+
+		@Override
+		public final @Nullable Derivation getDerivation() {
+			return derivation;
+		}
+
+		@Override
+		public final void setDerivation(Derivation derivation) {
+			this.derivation = Objects.requireNonNull(derivation);
+		}
+
+	}
+
+	@ThreadSafe
+	private static final class TieredSerializableOrderingComparator<T> extends TieredOrderingComparator<T>
+			implements SerializableOrderingComparator<T> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final transient SerializableOrderingComparatorSpec<T> userSpec;
+
+		private final transient ImplSpec implSpec;
+
+		TieredSerializableOrderingComparator(
+				Tier<? extends OrderingComparator<T>> tier,
+				SerializableOrderingComparatorSpec<T> userSpec,
+				ImplSpec implSpec) {
+			super(tier);
+			this.userSpec = Objects.requireNonNull(userSpec);
+			this.implSpec = Objects.requireNonNull(implSpec);
+		}
+
+		private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+			throw new SerializationProxyRequiredException();
+		}
+
+		private Object writeReplace() throws ObjectStreamException {
+			implSpec.getSerializationMode().throwIfPrevented();
+
+			return userSpec.toSerializedForm();
+		}
+
+	}
+
+	private TieredComparators() {
+		throw new AssertionError("No instances");
+	}
+
+}
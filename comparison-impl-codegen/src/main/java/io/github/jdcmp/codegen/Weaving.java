@@ -0,0 +1,682 @@
+package io.github.jdcmp.codegen;
+
+import io.github.jdcmp.api.HashParameters;
+import io.github.jdcmp.api.comparator.equality.EqualityComparator;
+import io.github.jdcmp.api.comparator.equality.SerializableEqualityComparator;
+import io.github.jdcmp.api.comparator.ordering.NullHandling;
+import io.github.jdcmp.api.comparator.ordering.OrderingComparator;
+import io.github.jdcmp.api.comparator.ordering.SerializableOrderingComparator;
+import io.github.jdcmp.api.documentation.ThreadSafe;
+import io.github.jdcmp.api.spec.Spec;
+import io.github.jdcmp.api.spec.ordering.BaseOrderingComparatorSpec;
+import io.github.jdcmp.codegen.CriterionEmitter.GetterLoader;
+import io.github.jdcmp.codegen.documentation.CalledFromGeneratedCode;
+import io.github.jdcmp.codegen.documentation.NotPublicAPI;
+import org.jetbrains.annotations.Nullable;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.VarInsnNode;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import static org.objectweb.asm.Opcodes.ACC_ABSTRACT;
+import static org.objectweb.asm.Opcodes.ACC_BRIDGE;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_NATIVE;
+import static org.objectweb.asm.Opcodes.ACC_STATIC;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.ASM9;
+import static org.objectweb.asm.Opcodes.ASTORE;
+import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.GETSTATIC;
+import static org.objectweb.asm.Opcodes.IADD;
+import static org.objectweb.asm.Opcodes.ICONST_0;
+import static org.objectweb.asm.Opcodes.ICONST_1;
+import static org.objectweb.asm.Opcodes.IFEQ;
+import static org.objectweb.asm.Opcodes.IFNE;
+import static org.objectweb.asm.Opcodes.IFNONNULL;
+import static org.objectweb.asm.Opcodes.IF_ACMPNE;
+import static org.objectweb.asm.Opcodes.ILOAD;
+import static org.objectweb.asm.Opcodes.IMUL;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
+import static org.objectweb.asm.Opcodes.INTEGER;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
+import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.objectweb.asm.Opcodes.IRETURN;
+import static org.objectweb.asm.Opcodes.ISTORE;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.V1_5;
+
+/**
+ * <p>Inlines comparators into the methods <code>hashCode</code>, <code>equals</code> and <code>compareTo</code> of the
+ * compared class, e.g. for <i>comparison-agent</i>. Methods are woven if their body only delegates to a comparator constant,
+ * e.g. <code>return COMPARATOR.hash(this);</code>. The woven body contains the code of the generated comparator, reading
+ * fields and calling accessors of the compared class directly.</p>
+ *
+ * <p>Weaving takes three steps:</p>
+ *
+ * <ol>
+ *     <li>{@link #instrumentInitializer(ClassLoader, byte[])}: At load time, the static initializers of classes declaring comparator
+ *     constants are instrumented to call {@link #initialized(Class)} when they complete.</li>
+ *     <li>{@link #initialized(Class)}: The constants are matched with the comparators created by the class. If any of them can
+ *     be inlined, the listener is notified of the compared class, which is expected to retransform the class.</li>
+ *     <li>{@link #weave(Class, byte[])}: The delegating method bodies are replaced.</li>
+ * </ol>
+ *
+ * <p>A comparator can be inlined if it has been generated while weaving was enabled, if the lookup class declares the
+ * constant and belongs to the runtime package of the compared class, and if none of its criteria requires the getter
+ * instance. The latter is the case
+ * for getters implementing {@link io.github.jdcmp.api.getter.member.MemberCriterion} and for resolved serializable lambdas,
+ * see {@link SerializedLambdas}, that read non-private members.</p>
+ */
+@ThreadSafe
+@NotPublicAPI(reason = "Used by comparison-agent")
+public final class Weaving {
+
+	private static final Logger LOGGER = Logger.getLogger(Weaving.class.getName());
+
+	private static final String HOOK_OWNER = Type.getInternalName(Weaving.class);
+
+	private static final String HOOK_NAME = "initialized";
+
+	private static final String HOOK_DESCRIPTOR = "(Ljava/lang/Class;)V";
+
+	private static final List<Class<?>> COMPARATOR_TYPES = Collections.unmodifiableList(Arrays.asList(
+			EqualityComparator.class,
+			SerializableEqualityComparator.class,
+			OrderingComparator.class,
+			SerializableOrderingComparator.class));
+
+	private static final Set<String> COMPARATOR_DESCRIPTORS = comparatorTypeNames(Type::getDescriptor);
+
+	private static final Set<String> COMPARATOR_INTERNAL_NAMES = comparatorTypeNames(Type::getInternalName);
+
+	private static volatile @Nullable Consumer<Class<?>> listener;
+
+	/**
+	 * Comparators created by each lookup class that can be inlined, until the lookup class is initialized. Only constants
+	 * declared by the lookup class are matched, see {@link #initialized(Class)}. Generated comparators do not override
+	 * equals and hashCode, hence the weak keys are compared by identity.
+	 */
+	private static final ClassValue<Map<Object, Inlining>> CREATED = new ClassValue<Map<Object, Inlining>>() {
+		@Override
+		protected Map<Object, Inlining> computeValue(Class<?> lookupClass) {
+			return Collections.synchronizedMap(new WeakHashMap<>());
+		}
+	};
+
+	/**
+	 * Comparator constants to inline into each compared class, keyed by the field's owner and name, see {@link #key(String, String)}.
+	 */
+	private static final ClassValue<Map<String, Inlining>> CONSTANTS = new ClassValue<Map<String, Inlining>>() {
+		@Override
+		protected Map<String, Inlining> computeValue(Class<?> classToCompare) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	/**
+	 * Enables weaving. Comparators created beforehand are not inlined.
+	 *
+	 * @param listener Called with classes that should be retransformed, i.e. passed to {@link #weave(Class, byte[])}. May be
+	 *                 called from static initializers.
+	 */
+	public static void enable(Consumer<Class<?>> listener) {
+		Weaving.listener = Objects.requireNonNull(listener);
+	}
+
+	/**
+	 * Instruments the static initializer of a class declaring comparator constants, see {@link #initialized(Class)}.
+	 *
+	 * @param classLoader The class loader of the class
+	 * @param classBytes  The class file
+	 * @return The instrumented class file; null if the class declares no comparator constants or cannot call this class
+	 */
+	public static byte @Nullable [] instrumentInitializer(@Nullable ClassLoader classLoader, byte[] classBytes) {
+		ClassReader reader = new ClassReader(classBytes);
+
+		if ((reader.readShort(6) & 0xFFFF) < V1_5 || !declaresComparatorConstant(reader) || !isVisible(classLoader)) {
+			return null;
+		}
+
+		Type type = Type.getObjectType(reader.getClassName());
+		ClassWriter writer = new ClassWriter(reader, ClassWriter.COMPUTE_MAXS);
+		reader.accept(new ClassVisitor(ASM9, writer) {
+			@Override
+			public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+				MethodVisitor mv = super.visitMethod(access, name, descriptor, signature, exceptions);
+
+				if (!"<clinit>".equals(name)) {
+					return mv;
+				}
+
+				return new MethodVisitor(ASM9, mv) {
+					@Override
+					public void visitInsn(int opcode) {
+						if (opcode == RETURN) {
+							super.visitLdcInsn(type);
+							super.visitMethodInsn(INVOKESTATIC, HOOK_OWNER, HOOK_NAME, HOOK_DESCRIPTOR, false);
+						}
+
+						super.visitInsn(opcode);
+					}
+				};
+			}
+		}, 0);
+
+		return writer.toByteArray();
+	}
+
+	/**
+	 * Called by instrumented static initializers, see {@link #instrumentInitializer(ClassLoader, byte[])}. Matches the class's comparator
+	 * constants with the comparators it created, i.e. those whose lookup class is the initialized class.
+	 *
+	 * @param clazz The initialized class
+	 */
+	@CalledFromGeneratedCode
+	public static void initialized(Class<?> clazz) {
+		Consumer<Class<?>> listener = Weaving.listener;
+		Map<Object, Inlining> created = CREATED.get(clazz);
+
+		if (listener == null || created.isEmpty()) {
+			return;
+		}
+
+		Set<Class<?>> classesToWeave = new HashSet<>();
+		String owner = Type.getInternalName(clazz);
+
+		for (Field field : clazz.getDeclaredFields()) {
+			Inlining inlining = created.get(constant(field));
+
+			if (inlining != null) {
+				CONSTANTS.get(inlining.classToCompare).put(key(owner, field.getName()), inlining);
+				classesToWeave.add(inlining.classToCompare);
+			}
+		}
+
+		created.clear();
+
+		for (Class<?> classToWeave : classesToWeave) {
+			listener.accept(classToWeave);
+		}
+	}
+
+	/**
+	 * Replaces the bodies of the methods delegating to comparator constants that can be inlined.
+	 *
+	 * @param clazz      The class
+	 * @param classBytes The class file
+	 * @return The woven class file; null if there is nothing to weave
+	 */
+	public static byte @Nullable [] weave(Class<?> clazz, byte[] classBytes) {
+		Map<String, Inlining> constants = CONSTANTS.get(clazz);
+
+		if (constants.isEmpty()) {
+			return null;
+		}
+
+		ClassReader reader = new ClassReader(classBytes);
+		Map<String, Consumer<MethodVisitor>> bodies = findDelegatingMethods(reader, constants);
+
+		if (bodies.isEmpty()) {
+			return null;
+		}
+
+		ClassWriter writer = new ClassLoaderWriter(reader, clazz.getClassLoader());
+		reader.accept(new ClassVisitor(ASM9, writer) {
+			@Override
+			public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+				MethodVisitor mv = super.visitMethod(access, name, descriptor, signature, exceptions);
+				Consumer<MethodVisitor> body = bodies.get(name + descriptor);
+
+				return body == null ? mv : new BodyReplacer(mv, body);
+			}
+		}, 0);
+
+		return writer.toByteArray();
+	}
+
+	/**
+	 * Called for each generated comparator while weaving is enabled.
+	 */
+	static void created(Object comparator, Spec<?, ?> userSpec, ImplSpec implSpec, List<CriterionEmitter> criteria) {
+		// comparators without criteria use a fallback mode, which is not woven
+		if (listener == null || criteria.isEmpty()) {
+			return;
+		}
+
+		Class<?> lookupClass = implSpec.getLookup().lookupClass();
+		Class<?> classToCompare = userSpec.getClassToCompare();
+
+		if (!isSameRuntimePackage(lookupClass, classToCompare) || classToCompare.isInterface()) {
+			return;
+		}
+
+		NullHandling nullHandling = userSpec instanceof BaseOrderingComparatorSpec
+				? ((BaseOrderingComparatorSpec<?, ?>) userSpec).getNullHandling()
+				: null;
+		Inlining inlining = new Inlining(classToCompare, userSpec.getHashParameters(), criteria, nullHandling);
+
+		if (inlining.isSelfContained()) {
+			CREATED.get(lookupClass).put(comparator, inlining);
+		}
+	}
+
+	private static Set<String> comparatorTypeNames(Function<Class<?>, String> name) {
+		Set<String> names = new HashSet<>();
+
+		for (Class<?> type : COMPARATOR_TYPES) {
+			names.add(name.apply(type));
+		}
+
+		return Collections.unmodifiableSet(names);
+	}
+
+	private static boolean declaresComparatorConstant(ClassReader reader) {
+		boolean[] found = {false};
+		reader.accept(new ClassVisitor(ASM9) {
+			@Override
+			public FieldVisitor visitField(int access, String name, String descriptor, String signature, Object value) {
+				found[0] |= (access & (ACC_STATIC | ACC_FINAL)) == (ACC_STATIC | ACC_FINAL) && COMPARATOR_DESCRIPTORS.contains(descriptor);
+
+				return null;
+			}
+		}, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+
+		return found[0];
+	}
+
+	/**
+	 * Whether the class loader resolves this class, rather than a copy unknown to the listener.
+	 */
+	private static boolean isVisible(@Nullable ClassLoader classLoader) {
+		if (classLoader == null) {
+			return false;
+		}
+
+		try {
+			return Class.forName(Weaving.class.getName(), false, classLoader) == Weaving.class;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	private static @Nullable Object constant(Field field) {
+		int modifiers = field.getModifiers();
+
+		if (!Modifier.isStatic(modifiers) || !Modifier.isFinal(modifiers) || !COMPARATOR_TYPES.contains(field.getType())) {
+			return null;
+		}
+
+		try {
+			field.setAccessible(true);
+
+			return field.get(null);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			LOGGER.log(Level.FINE, "Failed to read comparator constant: " + field, e);
+
+			return null;
+		}
+	}
+
+	/**
+	 * Finds the methods delegating to comparator constants and returns their new bodies, keyed by name and descriptor.
+	 */
+	private static Map<String, Consumer<MethodVisitor>> findDelegatingMethods(ClassReader reader, Map<String, Inlining> constants) {
+		String classDescriptor = "L" + reader.getClassName() + ";";
+		List<MethodNode> methods = new ArrayList<>();
+		reader.accept(new ClassVisitor(ASM9) {
+			@Override
+			public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+				if ((access & (ACC_STATIC | ACC_ABSTRACT | ACC_NATIVE | ACC_BRIDGE)) != 0) {
+					return null;
+				}
+
+				MethodNode method = new MethodNode(access, name, descriptor, signature, exceptions);
+				methods.add(method);
+
+				return method;
+			}
+		}, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+
+		Map<String, Consumer<MethodVisitor>> bodies = new HashMap<>();
+
+		for (MethodNode method : methods) {
+			String signature = method.name + method.desc;
+			Inlining inlining;
+
+			if ("hashCode()I".equals(signature)) {
+				inlining = delegate(method, constants, "hash", 1);
+
+				if (inlining != null) {
+					bodies.put(signature, inlining::visitHashCode);
+				}
+			} else if ("equals(Ljava/lang/Object;)Z".equals(signature)) {
+				inlining = delegate(method, constants, "areEqual", 2);
+
+				if (inlining != null) {
+					bodies.put(signature, inlining::visitEquals);
+				}
+			} else if (("compareTo(" + classDescriptor + ")I").equals(signature) || "compareTo(Ljava/lang/Object;)I".equals(signature)) {
+				inlining = delegate(method, constants, "compare", 2);
+
+				if (inlining != null && inlining.nullHandling != null) {
+					bodies.put(signature, inlining::visitCompareTo);
+				}
+			}
+		}
+
+		return bodies;
+	}
+
+	/**
+	 * Matches <code>return CONSTANT.method(this[, arg]);</code>.
+	 *
+	 * @return The inlining of the constant; null if the method does not match
+	 */
+	private static @Nullable Inlining delegate(MethodNode method, Map<String, Inlining> constants, String name, int arguments) {
+		List<AbstractInsnNode> instructions = new ArrayList<>();
+
+		for (AbstractInsnNode instruction : method.instructions) {
+			if (instruction.getOpcode() >= 0) {
+				instructions.add(instruction);
+			}
+		}
+
+		if (instructions.size() != arguments + 3 || instructions.get(0).getOpcode() != GETSTATIC) {
+			return null;
+		}
+
+		for (int i = 0; i < arguments; ++i) {
+			AbstractInsnNode load = instructions.get(i + 1);
+
+			if (load.getOpcode() != ALOAD || ((VarInsnNode) load).var != i) {
+				return null;
+			}
+		}
+
+		AbstractInsnNode invoke = instructions.get(arguments + 1);
+
+		if (invoke.getOpcode() != INVOKEINTERFACE
+				|| !name.equals(((MethodInsnNode) invoke).name)
+				|| !COMPARATOR_INTERNAL_NAMES.contains(((MethodInsnNode) invoke).owner)
+				|| instructions.get(arguments + 2).getOpcode() != IRETURN) {
+			return null;
+		}
+
+		FieldInsnNode constant = (FieldInsnNode) instructions.get(0);
+
+		return constants.get(key(constant.owner, constant.name));
+	}
+
+	private static String key(String owner, String name) {
+		return owner + "." + name;
+	}
+
+	private static boolean isSameRuntimePackage(Class<?> a, Class<?> b) {
+		String nameA = a.getName();
+		String nameB = b.getName();
+		int lastDotA = nameA.lastIndexOf('.');
+		int lastDotB = nameB.lastIndexOf('.');
+
+		return a.getClassLoader() == b.getClassLoader()
+				&& lastDotA == lastDotB
+				&& nameA.regionMatches(0, nameB, 0, Math.max(lastDotA, 0));
+	}
+
+	/**
+	 * The code of a generated comparator, emitted into the compared class. <i>this</i> is the left side of all operations.
+	 * The frames passed to the criteria are ignored, since the frames of woven methods are computed by the
+	 * {@link ClassLoaderWriter}.
+	 */
+	@ThreadSafe
+	static final class Inlining {
+
+		private final Class<?> classToCompare;
+
+		private final String internalName;
+
+		private final HashParameters hashParameters;
+
+		private final List<CriterionEmitter> criteria;
+
+		private final @Nullable NullHandling nullHandling;
+
+		Inlining(Class<?> classToCompare, HashParameters hashParameters, List<CriterionEmitter> criteria, @Nullable NullHandling nullHandling) {
+			this.classToCompare = Objects.requireNonNull(classToCompare);
+			this.internalName = Type.getInternalName(classToCompare);
+			this.hashParameters = Objects.requireNonNull(hashParameters);
+			this.criteria = Objects.requireNonNull(criteria);
+			this.nullHandling = nullHandling;
+		}
+
+		private StackMapFrame frame() {
+			return StackMapFrame.of(internalName, "java/lang/Object");
+		}
+
+		/**
+		 * Checks whether all methods can be emitted without loading getters, which the compared class cannot access.
+		 */
+		boolean isSelfContained() {
+			try {
+				visitHashCode(new MethodNode());
+				visitEquals(new MethodNode());
+
+				if (nullHandling != null) {
+					visitCompareTo(new MethodNode());
+				}
+
+				return true;
+			} catch (GetterRequiredException e) {
+				return false;
+			}
+		}
+
+		/**
+		 * See {@link BytecodeGenerator}, which pre-calculates the multipliers in the same way.
+		 */
+		void visitHashCode(MethodVisitor mv) {
+			int getterCount = criteria.size();
+			int[] multipliers = new int[getterCount + 1];
+			multipliers[getterCount] = 1;
+
+			for (int i = getterCount - 1; i >= 0; --i) {
+				multipliers[i] = hashParameters.multiplier() * multipliers[i + 1];
+			}
+
+			BytecodeGenerator.insertNumber(mv, hashParameters.initialValue() * multipliers[0]);
+
+			for (int i = 0; i < getterCount; ++i) {
+				criteria.get(i).hash(mv, NoGetterLoader.INSTANCE, 0, 1, StackMapFrame.of(internalName).push(INTEGER));
+
+				if (i < getterCount - 1) {
+					BytecodeGenerator.insertNumber(mv, multipliers[i + 1]);
+					mv.visitInsn(IMUL);
+				}
+
+				mv.visitInsn(IADD);
+			}
+
+			mv.visitInsn(IRETURN);
+		}
+
+		void visitEquals(MethodVisitor mv) {
+			mv.visitVarInsn(ALOAD, 0);
+			mv.visitVarInsn(ALOAD, 1);
+			Label notSame = new Label();
+			mv.visitJumpInsn(IF_ACMPNE, notSame);
+			mv.visitInsn(ICONST_1);
+			mv.visitInsn(IRETURN);
+
+			mv.visitLabel(notSame);
+			mv.visitVarInsn(ALOAD, 1);
+			mv.visitTypeInsn(INSTANCEOF, internalName);
+			Label instance = new Label();
+			mv.visitJumpInsn(IFNE, instance);
+			mv.visitInsn(ICONST_0);
+			mv.visitInsn(IRETURN);
+
+			mv.visitLabel(instance);
+			mv.visitVarInsn(ALOAD, 1);
+			mv.visitTypeInsn(CHECKCAST, internalName);
+			mv.visitVarInsn(ASTORE, 2);
+			Label notEqual = new Label();
+
+			for (CriterionEmitter criterion : criteria) {
+				criterion.areEqual(mv, NoGetterLoader.INSTANCE, 0, 2, 3, notEqual, frame().withLocal(2, internalName));
+			}
+
+			mv.visitInsn(ICONST_1);
+			mv.visitInsn(IRETURN);
+			mv.visitLabel(notEqual);
+			mv.visitInsn(ICONST_0);
+			mv.visitInsn(IRETURN);
+		}
+
+		/**
+		 * Emits the body of <code>compareTo</code>. Since <i>this</i> is never null, only the null handling of the argument
+		 * remains.
+		 */
+		void visitCompareTo(MethodVisitor mv) {
+			NullHandling nullHandling = Objects.requireNonNull(this.nullHandling);
+
+			if (!NullHandling.THROW.equals(nullHandling)) {
+				mv.visitVarInsn(ALOAD, 1);
+				Label nonNull = new Label();
+				mv.visitJumpInsn(IFNONNULL, nonNull);
+				BytecodeGenerator.insertNumber(mv, -nullHandling.getComparisonResultIfLeftSideIsNull());
+				mv.visitInsn(IRETURN);
+				mv.visitLabel(nonNull);
+			}
+
+			int last = criteria.size() - 1;
+
+			for (int i = 0; i < last; ++i) {
+				criteria.get(i).compare(mv, NoGetterLoader.INSTANCE, 0, 1, 3, frame());
+				mv.visitVarInsn(ISTORE, 2);
+				mv.visitVarInsn(ILOAD, 2);
+				Label zero = new Label();
+				mv.visitJumpInsn(IFEQ, zero);
+				mv.visitVarInsn(ILOAD, 2);
+				mv.visitInsn(IRETURN);
+				mv.visitLabel(zero);
+			}
+
+			criteria.get(last).compare(mv, NoGetterLoader.INSTANCE, 0, 1, 3, frame());
+			mv.visitInsn(IRETURN);
+		}
+
+	}
+
+	/**
+	 * The compared class has no access to getters, since it cannot declare additional fields when it is retransformed.
+	 */
+	private enum NoGetterLoader implements GetterLoader {
+
+		INSTANCE;
+
+		@Override
+		public void load(MethodVisitor mv) {
+			throw GetterRequiredException.INSTANCE;
+		}
+
+		@Override
+		public void loadHandle(MethodVisitor mv) {
+			throw GetterRequiredException.INSTANCE;
+		}
+
+	}
+
+	private static final class GetterRequiredException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		static final GetterRequiredException INSTANCE = new GetterRequiredException();
+
+		private GetterRequiredException() {
+			super("Getter required", null, false, false);
+		}
+
+	}
+
+	/**
+	 * Replaces the code of a method, keeping its annotations and other attributes.
+	 */
+	private static final class BodyReplacer extends MethodVisitor {
+
+		private final MethodVisitor writer;
+
+		private final Consumer<MethodVisitor> body;
+
+		BodyReplacer(MethodVisitor writer, Consumer<MethodVisitor> body) {
+			super(ASM9, writer);
+			this.writer = writer;
+			this.body = body;
+		}
+
+		@Override
+		public void visitCode() {
+			// drop the original code, including its frames, local variables and maxs
+			mv = null;
+		}
+
+		@Override
+		public void visitEnd() {
+			writer.visitCode();
+			body.accept(writer);
+			writer.visitMaxs(0, 0);
+			writer.visitEnd();
+		}
+
+	}
+
+	/**
+	 * Computes frames of the woven methods, resolving classes via the class loader of the woven class. The code of all other
+	 * methods is copied as is.
+	 */
+	private static final class ClassLoaderWriter extends ClassWriter {
+
+		private final @Nullable ClassLoader classLoader;
+
+		ClassLoaderWriter(ClassReader reader, @Nullable ClassLoader classLoader) {
+			super(reader, ClassWriter.COMPUTE_FRAMES);
+			this.classLoader = classLoader;
+		}
+
+		@Override
+		protected ClassLoader getClassLoader() {
+			return classLoader == null ? ClassLoader.getSystemClassLoader() : classLoader;
+		}
+
+	}
+
+	private Weaving() {
+		throw new AssertionError("No instances");
+	}
+
+}
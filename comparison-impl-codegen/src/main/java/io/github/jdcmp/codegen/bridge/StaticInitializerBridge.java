@@ -16,12 +16,17 @@ import io.github.jdcmp.codegen.documentation.NotPublicAPI;
 import java.lang.invoke.MethodHandles.Lookup;
 import java.util.Objects;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * <p>Serves as an information broker between class initialization and the static initializer of the generated classes. If constant pool
  * patching (defineAnonymousClass) and hidden classData (defineHiddenClassWithClassData) are both unavailable, this bridge is used
  * as a fallback.</p>
  *
+ * <p>Specs are handed over once through a map keyed by the generated class. Unlike a ThreadLocal, this neither requires the
+ * class to be initialized by the registering thread nor leaves entries in the maps of (virtual) threads.</p>
+ *
  * <p>Despite being public (technical reasons), <strong>this class is not part of the public API</strong>, cannot be relied upon and
  * should not be used directly.</p>
  */
@@ -29,7 +34,7 @@ import java.util.concurrent.Callable;
 @ThreadSafe
 public final class StaticInitializerBridge {
 
-	private static final ThreadLocal<Registration<?>> THREAD_LOCAL = new ThreadLocal<>();
+	private static final ConcurrentMap<Class<?>, Spec<?, ?>> REGISTRATIONS = new ConcurrentHashMap<>();
 
 	/**
 	 * Registers the given spec as dependencies for the given comparator class, then runs the given action.
@@ -41,7 +46,7 @@ public final class StaticInitializerBridge {
 	 * @return The user action's result
 	 */
 	public static <T> T run(Class<?> comparatorClass, Spec<?, ?> spec, Callable<? extends T> callable) {
-		THREAD_LOCAL.set(new Registration<>(comparatorClass, spec));
+		REGISTRATIONS.put(comparatorClass, Objects.requireNonNull(spec));
 
 		try {
 			return callable.call();
@@ -50,7 +55,7 @@ public final class StaticInitializerBridge {
 		} catch (Exception e) {
 			throw new RuntimeException(e);
 		} finally {
-			THREAD_LOCAL.remove();
+			REGISTRATIONS.remove(comparatorClass, spec);
 		}
 	}
 
@@ -99,40 +104,23 @@ public final class StaticInitializerBridge {
 	}
 
 	private static <T> T resolve(Lookup caller, Class<T> expectedSpecClass) {
-		try {
-			Registration<?> registration = THREAD_LOCAL.get();
+		if (lacksAccess(caller)) {
+			throw new IllegalArgumentException("Caller Lookup must have PRIVATE access");
+		}
 
-			if (registration == null) {
-				throw new IllegalStateException("No spec is registered");
-			} else if (registration.comparatorClass != caller.lookupClass()) {
-				throw new IllegalArgumentException("Caller provided an unexpected Lookup class: " + caller.lookupClass());
-			} else if (lacksAccess(caller)) {
-				throw new IllegalArgumentException("Caller Lookup must have PRIVATE access");
-			}
+		Spec<?, ?> spec = REGISTRATIONS.remove(caller.lookupClass());
 
-			return expectedSpecClass.cast(registration.spec);
-		} finally {
-			THREAD_LOCAL.remove();
+		if (spec == null) {
+			throw new IllegalStateException("No spec is registered for class: " + caller.lookupClass());
 		}
+
+		return expectedSpecClass.cast(spec);
 	}
 
 	private static boolean lacksAccess(Lookup caller) {
 		return (caller.lookupModes() & Lookup.PRIVATE) != Lookup.PRIVATE;
 	}
 
-	private static final class Registration<T> {
-
-		private final Class<?> comparatorClass;
-
-		private final T spec;
-
-		Registration(Class<?> comparatorClass, T spec) {
-			this.comparatorClass = Objects.requireNonNull(comparatorClass);
-			this.spec = Objects.requireNonNull(spec);
-		}
-
-	}
-
 	private StaticInitializerBridge() {
 		throw new AssertionError("No instances");
 	}
@@ -3,6 +3,8 @@ package io.github.jdcmp.codegen.contract;
 
 import io.github.jdcmp.api.documentation.ThreadSafe;
 
+import java.nio.file.Path;
+
 /**
  * An event handler may be used to intercept certain parts of the class generation process.
  */
@@ -39,4 +41,55 @@ public interface EventHandler {
 	default void onClassInstantiated(Class<?> comparatorClass, byte[] bytes) throws Exception {
 	}
 
+	/**
+	 * Called after an existing generated class has been instantiated instead of generating a new class, see
+	 * {@link io.github.jdcmp.codegen.customization.AvailableInitializationMode#SHARED}. Each call corresponds to one class
+	 * that did not have to be generated.
+	 *
+	 * @param comparatorClass Shared comparator class
+	 * @throws Exception If event handling fails; simplifies development by not forcing try around checked exceptions
+	 */
+	default void onClassShared(Class<?> comparatorClass) throws Exception {
+	}
+
+	/**
+	 * Called after a class generated at build time has been instantiated instead of generating a new class, e.g. by
+	 * <i>comparison-maven-plugin</i>.
+	 *
+	 * @param comparatorClass Prebuilt comparator class
+	 * @throws Exception If event handling fails; simplifies development by not forcing try around checked exceptions
+	 */
+	default void onPrebuiltClassInstantiated(Class<?> comparatorClass) throws Exception {
+	}
+
+	/**
+	 * Called after a class's bytecode has been loaded from the bytecode cache instead of being generated, see
+	 * {@link io.github.jdcmp.codegen.CodegenProvider#setBytecodeCacheDirectory(java.nio.file.Path)}.
+	 *
+	 * @param path The cache entry
+	 * @throws Exception If event handling fails; simplifies development by not forcing try around checked exceptions
+	 */
+	default void onBytecodeCacheHit(Path path) throws Exception {
+	}
+
+	/**
+	 * Called if the bytecode cache contains no valid entry for a class, which is then generated and stored.
+	 *
+	 * @param path The cache entry
+	 * @throws Exception If event handling fails; simplifies development by not forcing try around checked exceptions
+	 */
+	default void onBytecodeCacheMiss(Path path) throws Exception {
+	}
+
+	/**
+	 * Called once per provider if a strategy for generating classes failed while a later strategy succeeded. Such strategies
+	 * are considered unusable in the running JVM and are tried last for subsequent comparators.
+	 *
+	 * @param strategy A description of the strategy, i.e. the class definer and instantiator
+	 * @param cause    The failure
+	 * @throws Exception If event handling fails; simplifies development by not forcing try around checked exceptions
+	 */
+	default void onStrategyFailed(String strategy, Throwable cause) throws Exception {
+	}
+
 }
@@ -33,6 +33,39 @@ public enum AvailableInitializationMode {
 		public <T> T map(InitializationModeMapper<T> mapper) {
 			return mapper.onExternal();
 		}
+	},
+	/**
+	 * Generated classes contain no fields. The spec and the getters are stored as class data of a hidden class and loaded via
+	 * <i>ConstantDynamic</i>, see <i>MethodHandles.classDataAt</i>.
+	 *
+	 * <ul>
+	 *     <li>The absence of fields and of a static initializer reduces the size of the generated bytecode.</li>
+	 *     <li>Loaded constants are trusted by the JIT compiler, just like static final fields.</li>
+	 *     <li>Requires Java 16 or newer. Falls back to {@link #STATIC_INITIALIZER} otherwise.</li>
+	 * </ul>
+	 */
+	CLASS_DATA {
+		@Override
+		public <T> T map(InitializationModeMapper<T> mapper) {
+			return mapper.onClassData();
+		}
+	},
+	/**
+	 * Generated classes store the spec and the getters in final instance fields, which are initialized by a constructor. One
+	 * generated class serves all comparators of the same shape, i.e. comparators that differ only in their getter instances.
+	 *
+	 * <ul>
+	 *     <li>Reduces the number of generated classes, and thereby metaspace, code cache and warm-up, if many comparators
+	 *     of the same shape are created.</li>
+	 *     <li>Final instance fields are trusted by the JIT compiler only in VM-anonymous and hidden classes.</li>
+	 *     <li>Requires {@link AvailableInstantiator#CONSTRUCTOR}. Falls back to {@link #STATIC_INITIALIZER} otherwise.</li>
+	 * </ul>
+	 */
+	SHARED {
+		@Override
+		public <T> T map(InitializationModeMapper<T> mapper) {
+			return mapper.onShared();
+		}
 	};
 
 	/**
@@ -69,6 +102,20 @@ public enum AvailableInitializationMode {
 		 */
 		T onExternal();
 
+		/**
+		 * Invoked when {@link AvailableInitializationMode#CLASS_DATA} is used.
+		 *
+		 * @return User-supplied return value
+		 */
+		T onClassData();
+
+		/**
+		 * Invoked when {@link AvailableInitializationMode#SHARED} is used.
+		 *
+		 * @return User-supplied return value
+		 */
+		T onShared();
+
 	}
 
 }
@@ -0,0 +1,161 @@
+package io.github.jdcmp.codegen;
+
+import io.github.jdcmp.api.Comparators;
+import io.github.jdcmp.api.comparator.ordering.OrderingComparator;
+import io.github.jdcmp.api.getter.OrderingCriterion;
+import io.github.jdcmp.api.getter.object.ComparableGetter;
+import io.github.jdcmp.api.getter.primitive.IntGetter;
+import io.github.jdcmp.codegen.contract.EventHandler;
+import io.github.jdcmp.codegen.customization.AvailableClassDefiner;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.objectweb.asm.ClassWriter;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@EnabledForJreRange(min = JRE.JAVA_15)
+public class BytecodeCacheTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	public void missThenHit() throws Exception {
+		EventHandler first = Mockito.mock(EventHandler.class);
+		EventHandler second = Mockito.mock(EventHandler.class);
+
+		create(first);
+		OrderingComparator<String> comparator = create(second);
+
+		Mockito.verify(first).onBytecodeCacheMiss(Mockito.any());
+		Mockito.verify(first).onClassGenerated(Mockito.any());
+		Mockito.verify(second).onBytecodeCacheHit(Mockito.any());
+		Mockito.verify(second, Mockito.never()).onClassGenerated(Mockito.any());
+		Mockito.verify(second).onClassInstantiated(Mockito.eq(comparator.getClass()), Mockito.any());
+		Assertions.assertTrue(comparator.compare("a", "bb") < 0);
+		Assertions.assertTrue(comparator.compare("bb", "ab") > 0);
+		Assertions.assertEquals(0, comparator.compare("ab", "ab"));
+	}
+
+	@Test
+	public void invalidEntry_regenerated() throws Exception {
+		create(Mockito.mock(EventHandler.class));
+		Path entry = entries().get(0);
+		Files.write(entry, new byte[] {1, 2, 3});
+		EventHandler eventHandler = Mockito.mock(EventHandler.class);
+
+		OrderingComparator<String> comparator = create(eventHandler);
+
+		Mockito.verify(eventHandler).onBytecodeCacheMiss(entry);
+		Mockito.verify(eventHandler).onClassGenerated(Mockito.any());
+		Assertions.assertTrue(comparator.compare("a", "bb") < 0);
+		Assertions.assertTrue(Files.size(entry) > 3);
+	}
+
+	@Test
+	public void corruptedBytecode_regenerated() throws Exception {
+		create(Mockito.mock(EventHandler.class));
+		Path entry = entries().get(0);
+		byte[] bytes = Files.readAllBytes(entry);
+		bytes[bytes.length - 9] ^= 1;
+		Files.write(entry, bytes);
+		EventHandler eventHandler = Mockito.mock(EventHandler.class);
+
+		OrderingComparator<String> comparator = create(eventHandler);
+
+		Mockito.verify(eventHandler).onBytecodeCacheMiss(entry);
+		Mockito.verify(eventHandler).onClassGenerated(Mockito.any());
+		Assertions.assertTrue(comparator.compare("a", "bb") < 0);
+	}
+
+	@Test
+	public void differentSpecs_differentEntries() throws Exception {
+		create(Mockito.mock(EventHandler.class));
+		Comparators.ordering()
+				.nonSerializable()
+				.requireAtLeastOneGetter(String.class)
+				.use(IntGetter.of(String::length))
+				.build(provider(Mockito.mock(EventHandler.class)));
+
+		Assertions.assertEquals(2, entries().size());
+	}
+
+	@Test
+	public void portableFingerprint_sameForJarAndDirectory() throws Exception {
+		Path classes = location(BytecodeCache.class);
+		Assumptions.assumeTrue(Files.isDirectory(classes));
+		Path jar = directory.resolve("comparison-impl-codegen.jar");
+
+		try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar)); Stream<Path> files = Files.walk(classes)) {
+			for (Path file : files.filter(Files::isRegularFile).collect(Collectors.toList())) {
+				out.putNextEntry(new JarEntry(classes.relativize(file).toString().replace('\\', '/')));
+				Files.copy(file, out);
+			}
+
+			out.putNextEntry(new JarEntry(PrebuiltClasses.INDEX_RESOURCE));
+			out.write("fingerprint=Generated".getBytes(StandardCharsets.UTF_8));
+		}
+
+		Assertions.assertEquals(portableFingerprint(classes), portableFingerprint(jar));
+	}
+
+	private static String portableFingerprint(Path codegen) throws Exception {
+		URL[] urls = {codegen.toUri().toURL(), location(OrderingCriterion.class).toUri().toURL(),
+				location(ClassWriter.class).toUri().toURL()};
+
+		try (URLClassLoader classLoader = new URLClassLoader(urls, null)) {
+			Class<?> bytecodeCache = Class.forName(BytecodeCache.class.getName(), false, classLoader);
+			Assertions.assertNotSame(BytecodeCache.class, bytecodeCache);
+			Method portableFingerprint = bytecodeCache.getDeclaredMethod("portableFingerprint", String.class);
+			portableFingerprint.setAccessible(true);
+
+			return (String) portableFingerprint.invoke(null, "description");
+		}
+	}
+
+	private static Path location(Class<?> clazz) throws Exception {
+		return Paths.get(clazz.getProtectionDomain().getCodeSource().getLocation().toURI());
+	}
+
+	private OrderingComparator<String> create(EventHandler eventHandler) {
+		return Comparators.ordering()
+				.nonSerializable()
+				.requireAtLeastOneGetter(String.class)
+				.use(IntGetter.of(String::length))
+				.use(ComparableGetter.of(s -> s))
+				.build(provider(eventHandler));
+	}
+
+	private CodegenProvider provider(EventHandler eventHandler) {
+		CodegenProvider provider = CodegenProvider.of(MethodHandles.lookup());
+		provider.setClassDefiners(AvailableClassDefiner.LOOKUP_HIDDEN);
+		provider.setBytecodeCacheDirectory(directory);
+		provider.setEventHandler(eventHandler);
+
+		return provider;
+	}
+
+	private List<Path> entries() throws Exception {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.collect(Collectors.toList());
+		}
+	}
+
+}
@@ -2,16 +2,27 @@ package io.github.jdcmp.codegen;
 
 import io.github.jdcmp.api.Comparators;
 import io.github.jdcmp.api.HashParameters;
+import io.github.jdcmp.api.builder.ordering.OrderingFallbackMode;
 import io.github.jdcmp.api.comparator.equality.EqualityComparator;
+import io.github.jdcmp.api.comparator.equality.SerializableEqualityComparator;
+import io.github.jdcmp.api.comparator.ordering.NullHandling;
+import io.github.jdcmp.api.comparator.ordering.Order;
 import io.github.jdcmp.api.comparator.ordering.OrderingComparator;
+import io.github.jdcmp.api.comparator.ordering.SerializableOrderingComparator;
+import io.github.jdcmp.api.getter.OrderingCriterion;
 import io.github.jdcmp.api.getter.array.CharArrayGetter;
 import io.github.jdcmp.api.getter.array.ComparableArrayGetter;
 import io.github.jdcmp.api.getter.array.IntArrayGetter;
 import io.github.jdcmp.api.getter.object.ComparableGetter;
+import io.github.jdcmp.api.getter.object.GenericGetter;
+import io.github.jdcmp.api.getter.object.NestedGetter;
 import io.github.jdcmp.api.getter.object.ObjectGetter;
 import io.github.jdcmp.api.getter.object.SerializableComparableGetter;
+import io.github.jdcmp.api.getter.object.SerializableNestedGetter;
 import io.github.jdcmp.api.getter.primitive.IntGetter;
 import io.github.jdcmp.api.getter.primitive.SerializableIntGetter;
+import io.github.jdcmp.api.spec.Spec;
+import io.github.jdcmp.api.spec.Specs;
 import io.github.jdcmp.codegen.contract.EventHandler;
 import io.github.jdcmp.codegen.customization.AvailableClassDefiner;
 import io.github.jdcmp.codegen.customization.AvailableInitializationMode;
@@ -24,15 +35,30 @@ import org.junit.jupiter.api.condition.EnabledForJreRange;
 import org.junit.jupiter.api.condition.JRE;
 import org.mockito.Mockito;
 
+import java.io.Serializable;
+import java.lang.Character.UnicodeBlock;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class CodegenProviderTest {
 
@@ -235,7 +261,7 @@ public class CodegenProviderTest {
 					.use(CharArrayGetter.of(String::toCharArray))
 					.build(provider);
 
-			Assertions.assertEquals(3, comparator.getClass().getDeclaredMethods().length);
+			Assertions.assertEquals(7, comparator.getClass().getDeclaredMethods().length);
 		}
 
 		@Test
@@ -248,7 +274,7 @@ public class CodegenProviderTest {
 					.use(CharArrayGetter.of(String::toCharArray))
 					.build(provider);
 
-			Assertions.assertEquals(6, comparator.getClass().getDeclaredMethods().length);
+			Assertions.assertEquals(10, comparator.getClass().getDeclaredMethods().length);
 		}
 
 		@Test
@@ -376,6 +402,54 @@ public class CodegenProviderTest {
 			Assertions.assertTrue(comparator.compare(x_a_1, null) < 0);
 		}
 
+		@Test
+		void compare_fallbackToNaturalOrdering_nullsFirst() throws Exception {
+			EventHandler eventHandler = Mockito.mock(EventHandler.class);
+			provider.setEventHandler(eventHandler);
+			OrderingComparator<String> comparator = Comparators.ordering()
+					.nonSerializable()
+					.fallbackToNaturalOrdering(String.class)
+					.nullsFirst()
+					.build(provider);
+
+			Assertions.assertEquals(0, comparator.compare(null, null));
+			Assertions.assertTrue(comparator.compare(null, "a") < 0);
+			Assertions.assertTrue(comparator.compare("a", null) > 0);
+			Assertions.assertTrue(comparator.compare("a", "b") < 0);
+			Assertions.assertTrue(comparator.areEqual("a", new String("a")));
+			Assertions.assertFalse(comparator.areEqual("a", "b"));
+			Mockito.verify(eventHandler).onClassGenerated(Mockito.any());
+		}
+
+		@Test
+		void compare_fallbackToIdentity_nullsLast() throws Exception {
+			EventHandler eventHandler = Mockito.mock(EventHandler.class);
+			provider.setEventHandler(eventHandler);
+			OrderingComparator<X> comparator = Comparators.ordering()
+					.nonSerializable()
+					.fallbackToIdentity(X.class)
+					.nullsLast()
+					.build(provider);
+
+			Assertions.assertEquals(0, comparator.compare(null, null));
+			Assertions.assertTrue(comparator.compare(null, x_a_1) > 0);
+			Assertions.assertTrue(comparator.compare(x_a_1, null) < 0);
+			Assertions.assertEquals(0, comparator.compare(x_a_1, x_b_1));
+			Assertions.assertFalse(comparator.areEqual(x_a_1, x_a_2));
+			Mockito.verify(eventHandler).onClassGenerated(Mockito.any());
+		}
+
+		@Test
+		void compare_fallbackToIdentity_throw() {
+			OrderingComparator<X> comparator = Comparators.ordering()
+					.nonSerializable()
+					.fallbackToIdentity(X.class)
+					.build(provider);
+
+			Assertions.assertThrows(NullPointerException.class, () -> comparator.compare(null, x_a_1));
+			Assertions.assertThrows(NullPointerException.class, () -> comparator.compare(x_a_1, null));
+		}
+
 		@Test
 		void compare_nullableCriterion_String() {
 			OrderingComparator<X> comparator = Comparators.ordering()
@@ -546,6 +620,91 @@ public class CodegenProviderTest {
 			Assertions.assertThrows(UnsupportedOperationException.class, CodegenProviderTest.this::createComparator);
 		}
 
+		@Test
+		@EnabledForJreRange(min = JRE.JAVA_16)
+		void classData_lookupHiddenClassData() {
+			provider.setInitializationMode(AvailableInitializationMode.CLASS_DATA);
+			provider.setClassDefiners(AvailableClassDefiner.LOOKUP_HIDDEN_CLASS_DATA);
+			Comparator<X> comparator = createComparator();
+
+			org.assertj.core.api.Assertions.assertThat(comparator.getClass().getDeclaredFields())
+					.extracting(Field::getName)
+					.containsExactly("derivation");
+		}
+
+		@Test
+		@EnabledForJreRange(min = JRE.JAVA_15)
+		void classData_fallbackToStaticInitializer() {
+			provider.setInitializationMode(AvailableInitializationMode.CLASS_DATA);
+			provider.setClassDefiners(AvailableClassDefiner.LOOKUP_HIDDEN);
+			Comparator<X> comparator = createComparator();
+
+			org.assertj.core.api.Assertions.assertThat(comparator.getClass().getDeclaredFields()).isNotEmpty();
+		}
+
+		@Test
+		void shared_sameShape() throws Exception {
+			EventHandler eventHandler = Mockito.mock(EventHandler.class);
+			provider.setEventHandler(eventHandler);
+			provider.setInitializationMode(AvailableInitializationMode.SHARED);
+			Comparator<X> ascending = createOrdering(SerializableIntGetter.of(X::getA));
+			Comparator<X> descending = createOrdering(SerializableIntGetter.of(x -> -x.getA()));
+
+			Assertions.assertSame(ascending.getClass(), descending.getClass());
+			Assertions.assertEquals(-1, ascending.compare(x_a_1, x_b_1));
+			Assertions.assertEquals(1, descending.compare(x_a_1, x_b_1));
+			Mockito.verify(eventHandler, Mockito.times(1)).onClassGenerated(Mockito.any());
+			Mockito.verify(eventHandler, Mockito.times(1)).onClassShared(ascending.getClass());
+		}
+
+		@Test
+		void shared_differentShape() {
+			provider.setInitializationMode(AvailableInitializationMode.SHARED);
+			Comparator<X> comparator = createComparator();
+			Comparator<X> other = createOrdering(SerializableIntGetter.of(X::getA));
+
+			Assertions.assertNotSame(comparator.getClass(), other.getClass());
+		}
+
+		@Test
+		void shared_wideSpec() {
+			provider.setInitializationMode(AvailableInitializationMode.SHARED);
+			List<SerializableIntGetter<X>> getters = new ArrayList<>();
+			for (int i = 0; i < CriterionChunk.SIZE * 2 + 1; ++i) {
+				getters.add(SerializableIntGetter.of(X::getA));
+			}
+			EqualityComparator<X> comparator = Comparators.equality()
+					.serializable()
+					.requireAtLeastOneGetter(X.class)
+					.use(getters)
+					.build(provider);
+			EqualityComparator<X> other = Comparators.equality()
+					.serializable()
+					.requireAtLeastOneGetter(X.class)
+					.use(getters)
+					.build(provider);
+
+			Assertions.assertSame(comparator.getClass(), other.getClass());
+			Assertions.assertTrue(other.areEqual(x_a_1, x_a_2));
+			Assertions.assertFalse(other.areEqual(x_a_1, x_b_1));
+			Assertions.assertEquals(comparator.hash(x_a_1), other.hash(x_a_2));
+			org.assertj.core.api.Assertions.assertThat(comparator.getClass().getDeclaredFields())
+					.noneMatch(field -> Modifier.isStatic(field.getModifiers()));
+		}
+
+		@Test
+		void shared_fallbackToStaticInitializer() {
+			provider.setInitializationMode(AvailableInitializationMode.SHARED);
+			provider.setInstantiators(AvailableInstantiator.UNSAFE);
+			Comparator<X> comparator = createComparator();
+			Comparator<X> other = createComparator();
+
+			Assertions.assertNotSame(comparator.getClass(), other.getClass());
+			org.assertj.core.api.Assertions.assertThat(comparator.getClass().getDeclaredFields())
+					.filteredOn(field -> !field.getName().equals("derivation"))
+					.allMatch(field -> Modifier.isStatic(field.getModifiers()));
+		}
+
 	}
 
 	@Nested
@@ -610,6 +769,18 @@ public class CodegenProviderTest {
 			createComparator();
 		}
 
+		@Test
+		void initializationMode_classData() {
+			provider.setInitializationMode(AvailableInitializationMode.CLASS_DATA);
+			createComparator();
+		}
+
+		@Test
+		void initializationMode_shared() {
+			provider.setInitializationMode(AvailableInitializationMode.SHARED);
+			createComparator();
+		}
+
 		@Test
 		void eventHandler() throws Throwable {
 			EventHandler eventHandler = Mockito.mock(EventHandler.class);
@@ -628,6 +799,887 @@ public class CodegenProviderTest {
 
 	}
 
+	@Nested
+	class TieredCompilationTests {
+
+		@Test
+		void generatesClassOnceHot() throws Exception {
+			EventHandler eventHandler = Mockito.mock(EventHandler.class);
+			provider.setEventHandler(eventHandler);
+			provider.setTieredCompilationThreshold(3);
+			Comparator<X> comparator = createOrdering(SerializableIntGetter.of(X::getA));
+
+			Assertions.assertEquals(-1, comparator.compare(x_a_1, x_b_1));
+			Assertions.assertEquals(1, comparator.compare(x_b_1, x_a_1));
+			Mockito.verify(eventHandler, Mockito.never()).onClassGenerated(Mockito.any());
+
+			Assertions.assertEquals(0, comparator.compare(x_a_1, x_a_2));
+			Assertions.assertEquals(1, comparator.compare(null, x_a_1));
+			Mockito.verify(eventHandler, Mockito.times(1)).onClassGenerated(Mockito.any());
+		}
+
+		@Test
+		void equality() {
+			provider.setTieredCompilationThreshold(2);
+			EqualityComparator<X> comparator = Comparators.equality()
+					.nonSerializable()
+					.requireAtLeastOneGetter(X.class)
+					.use(IntGetter.of(X::getA))
+					.use(ObjectGetter.of(X::getB))
+					.build(provider);
+
+			for (int i = 0; i < 3; ++i) {
+				Assertions.assertTrue(comparator.areEqual(x_a_1, x_a_2));
+				Assertions.assertFalse(comparator.areEqual(x_a_1, x_b_1));
+				Assertions.assertEquals(comparator.hash(x_a_1), comparator.hash(x_a_2));
+			}
+		}
+
+		@Test
+		void executor() throws Exception {
+			EventHandler eventHandler = Mockito.mock(EventHandler.class);
+			List<Runnable> tasks = new ArrayList<>();
+			provider.setEventHandler(eventHandler);
+			provider.setTieredCompilationThreshold(1);
+			provider.setTieredCompilationExecutor(tasks::add);
+			Comparator<X> comparator = createComparator();
+
+			Assertions.assertEquals(1, tasks.size());
+			Mockito.verify(eventHandler, Mockito.never()).onClassGenerated(Mockito.any());
+
+			tasks.get(0).run();
+			Assertions.assertEquals(-1, comparator.compare(x_a_1, x_b_1));
+			Assertions.assertEquals(1, tasks.size());
+			Mockito.verify(eventHandler, Mockito.times(1)).onClassGenerated(Mockito.any());
+		}
+
+		@Test
+		void serializable() throws Exception {
+			provider.setTieredCompilationThreshold(100);
+			SerializableOrderingComparator<X> comparator = Comparators.ordering()
+					.serializable()
+					.requireAtLeastOneGetter(X.class)
+					.use(SerializableIntGetter.of(X::getA))
+					.build(provider);
+
+			OrderingComparator<X> copy = SerializationUtils.copy(comparator);
+
+			Assertions.assertEquals(-1, copy.compare(x_a_1, x_b_1));
+		}
+
+		@Test
+		void interpreted_nullsFirst() {
+			provider.setTieredCompilationThreshold(100);
+			OrderingComparator<X> comparator = Comparators.ordering()
+					.nonSerializable()
+					.requireAtLeastOneGetter(X.class)
+					.use(IntGetter.of(X::getA))
+					.nullsFirst()
+					.build(provider);
+
+			Assertions.assertEquals(0, comparator.compare(null, null));
+			Assertions.assertTrue(comparator.compare(null, x_a_1) < 0);
+			Assertions.assertTrue(comparator.compare(x_a_1, null) > 0);
+			Assertions.assertEquals(-1, comparator.compare(x_a_1, x_b_1));
+		}
+
+		@Test
+		void threshold_negative() {
+			Assertions.assertThrows(IllegalArgumentException.class, () -> provider.setTieredCompilationThreshold(-1));
+		}
+
+		@Test
+		void threshold_default() throws Exception {
+			EventHandler eventHandler = Mockito.mock(EventHandler.class);
+			provider.setEventHandler(eventHandler);
+			provider.setTieredCompilationThreshold(5);
+			provider.setTieredCompilationThreshold(null);
+			createOrdering(SerializableIntGetter.of(X::getA));
+
+			Mockito.verify(eventHandler, Mockito.times(1)).onClassGenerated(Mockito.any());
+		}
+
+	}
+
+	@Nested
+	class FrameTests {
+
+		/**
+		 * Covers every branch target of the generated methods, whose frames are verified when the class is loaded.
+		 */
+		@Test
+		void branchTargets() {
+			X nullB = new X(42, null);
+
+			for (AvailableInitializationMode initializationMode : AvailableInitializationMode.values()) {
+				if (AvailableInitializationMode.EXTERNAL.equals(initializationMode)) {
+					continue;
+				}
+
+				provider.setInitializationMode(initializationMode);
+
+				for (boolean strictTypes : new boolean[] {true, false}) {
+					for (boolean generateBridgeMethods : new boolean[] {true, false}) {
+						for (int getterCount : new int[] {4, CriterionChunk.SIZE * 2 + 1}) {
+							provider.setGenerateBridgeMethods(generateBridgeMethods);
+							String description = initializationMode + ", strictTypes=" + strictTypes
+									+ ", generateBridgeMethods=" + generateBridgeMethods + ", getterCount=" + getterCount;
+							OrderingComparator<X> comparator = Comparators.ordering()
+									.nonSerializable()
+									.requireAtLeastOneGetter(X.class)
+									.use(mixedGetters(getterCount))
+									.strictTypes(strictTypes)
+									.nullsFirst()
+									.build(provider);
+
+							Assertions.assertEquals(-1, comparator.compare(nullB, x_a_1), description);
+							Assertions.assertEquals(0, comparator.compare(x_a_1, x_a_2), description);
+							Assertions.assertEquals(-1, comparator.compare(null, nullB), description);
+							Assertions.assertEquals(1, comparator.compare(nullB, null), description);
+							Assertions.assertTrue(comparator.areEqual(x_a_1, x_a_2), description);
+							Assertions.assertFalse(comparator.areEqual(nullB, x_a_1), description);
+							Assertions.assertFalse(comparator.areEqual(x_a_1, null), description);
+							Assertions.assertEquals(comparator.hash(x_a_1), comparator.hash(x_a_2), description);
+							Assertions.assertEquals(comparator.hash(nullB), comparator.hash(new X(42, null)), description);
+						}
+					}
+				}
+			}
+		}
+
+		private List<OrderingCriterion<X>> mixedGetters(int getterCount) {
+			List<OrderingCriterion<X>> getters = new ArrayList<>();
+
+			for (int i = 0; i < getterCount; ++i) {
+				switch (i % 4) {
+					case 0:
+						getters.add(ComparableGetter.nullsFirst(X::getB));
+						break;
+					case 1:
+						getters.add(ComparableGetter.of(x -> x.getB() == null ? "" : x.getB()));
+						break;
+					case 2:
+						getters.add(IntGetter.of(X::getA));
+						break;
+					default:
+						getters.add(ComparableGetter.nullsLast(X::getB));
+						break;
+				}
+			}
+
+			return getters;
+		}
+
+	}
+
+	@Nested
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	class TypeCheckTests {
+
+		@Test
+		void strictTypes_unnamedClass() {
+			for (AvailableInitializationMode initializationMode : sharedAndStatic()) {
+				provider.setInitializationMode(initializationMode);
+				OrderingComparator comparator = Comparators.ordering()
+						.nonSerializable()
+						.requireAtLeastOneGetter(SimpleImmutableEntry.class)
+						.use(IntGetter.of(entry -> (Integer) entry.getValue()))
+						.build(provider);
+				SimpleImmutableEntry<String, Integer> entry = new SimpleImmutableEntry<>("a", 1);
+
+				Assertions.assertTrue(comparator.areEqual(entry, new SimpleImmutableEntry<>("b", 1)));
+				Assertions.assertFalse(comparator.areEqual(entry, "a"));
+				Assertions.assertThrows(ClassCastException.class, () -> comparator.hash("a"));
+				Assertions.assertThrows(ClassCastException.class, () -> comparator.areEqual("a", entry));
+				Assertions.assertThrows(ClassCastException.class, () -> comparator.compare(entry, "a"));
+			}
+		}
+
+		@Test
+		void strictTypes_unnamedFinalClass() {
+			for (AvailableInitializationMode initializationMode : sharedAndStatic()) {
+				provider.setInitializationMode(initializationMode);
+				OrderingComparator comparator = Comparators.ordering()
+						.nonSerializable()
+						.requireAtLeastOneGetter(UnicodeBlock.class)
+						.use(ComparableGetter.of(UnicodeBlock::toString))
+						.build(provider);
+
+				Assertions.assertTrue(Modifier.isFinal(UnicodeBlock.class.getModifiers()));
+				Assertions.assertTrue(comparator.areEqual(UnicodeBlock.BASIC_LATIN, UnicodeBlock.of('a')));
+				Assertions.assertFalse(comparator.areEqual(UnicodeBlock.BASIC_LATIN, UnicodeBlock.ARROWS));
+				Assertions.assertFalse(comparator.areEqual(UnicodeBlock.BASIC_LATIN, "BASIC_LATIN"));
+				Assertions.assertFalse(comparator.areEqual(UnicodeBlock.BASIC_LATIN, null));
+				Assertions.assertThrows(ClassCastException.class, () -> comparator.hash("a"));
+				Assertions.assertThrows(ClassCastException.class, () -> comparator.compare("a", UnicodeBlock.ARROWS));
+			}
+		}
+
+		@Test
+		void compare_identical_skipsCriteria() {
+			OrderingComparator<X> comparator = Comparators.ordering()
+					.nonSerializable()
+					.requireAtLeastOneGetter(X.class)
+					.use(IntGetter.of(x -> {
+						throw new IllegalStateException();
+					}))
+					.build(provider);
+
+			Assertions.assertEquals(0, comparator.compare(x_a_1, x_a_1));
+			Assertions.assertThrows(IllegalStateException.class, () -> comparator.compare(x_a_1, x_a_2));
+		}
+
+		private List<AvailableInitializationMode> sharedAndStatic() {
+			return Arrays.asList(AvailableInitializationMode.STATIC_INITIALIZER, AvailableInitializationMode.SHARED);
+		}
+
+	}
+
+	@Nested
+	class CombinatorTests {
+
+		@Test
+		void reversed() {
+			OrderingComparator<X> comparator = ordering(IntGetter.of(X::getA), NullHandling.NULLS_FIRST);
+			Comparator<X> reversed = comparator.reversed();
+
+			Assertions.assertTrue(reversed instanceof OrderingComparator);
+			Assertions.assertEquals(1, reversed.compare(x_a_1, x_b_1));
+			Assertions.assertEquals(-1, reversed.compare(x_b_1, x_a_1));
+			Assertions.assertEquals(0, reversed.compare(x_a_1, x_a_2));
+			Assertions.assertEquals(1, reversed.compare(null, x_a_1));
+			Assertions.assertEquals(-1, reversed.compare(x_a_1, null));
+
+			OrderingComparator<X> ordering = (OrderingComparator<X>) reversed;
+			Assertions.assertEquals(comparator.hash(x_a_1), ordering.hash(x_a_1));
+			Assertions.assertTrue(ordering.areEqual(x_a_1, x_a_2));
+			Assertions.assertFalse(ordering.areEqual(x_a_1, x_b_1));
+
+			Comparator<X> twice = reversed.reversed();
+			Assertions.assertTrue(twice instanceof OrderingComparator);
+			Assertions.assertEquals(-1, twice.compare(x_a_1, x_b_1));
+			Assertions.assertEquals(-1, twice.compare(null, x_a_1));
+		}
+
+		@Test
+		void reversed_memoized() {
+			OrderingComparator<X> comparator = ordering(IntGetter.of(X::getA), NullHandling.NULLS_FIRST);
+			Comparator<X> reversed = comparator.reversed();
+
+			Assertions.assertSame(reversed, comparator.reversed());
+			Assertions.assertSame(comparator, reversed.reversed());
+		}
+
+		@Test
+		void reversed_interpreted() {
+			provider.setTieredCompilationThreshold(100);
+			Comparator<X> reversed = ordering(IntGetter.of(X::getA), NullHandling.THROW).reversed();
+
+			Assertions.assertTrue(reversed instanceof OrderingComparator);
+			Assertions.assertEquals(1, reversed.compare(x_a_1, x_b_1));
+		}
+
+		@Test
+		void reversed_serializable() throws Exception {
+			SerializableOrderingComparator<X> comparator = Comparators.ordering()
+					.serializable()
+					.requireAtLeastOneGetter(X.class)
+					.use(SerializableIntGetter.of(X::getA))
+					.build(provider);
+			Comparator<X> reversed = comparator.reversed();
+
+			Assertions.assertTrue(reversed instanceof SerializableOrderingComparator);
+			Comparator<X> copy = SerializationUtils.copy((Serializable) reversed);
+			Assertions.assertEquals(1, copy.compare(x_a_1, x_b_1));
+			Assertions.assertEquals(-1, copy.compare(x_b_1, x_a_1));
+		}
+
+		@Test
+		void reversed_withoutGetters() {
+			OrderingComparator<String> comparator = Comparators.ordering()
+					.nonSerializable()
+					.fallbackToNaturalOrdering(String.class)
+					.build(provider);
+			Comparator<String> reversed = comparator.reversed();
+
+			Assertions.assertFalse(reversed instanceof OrderingComparator);
+			Assertions.assertTrue(reversed.compare("a", "b") > 0);
+		}
+
+		@Test
+		void thenComparing() {
+			OrderingComparator<X> byB = ordering(ComparableGetter.of(X::getB), NullHandling.THROW);
+			OrderingComparator<X> byA = ordering(IntGetter.of(X::getA), NullHandling.THROW);
+			X x_c = new X(42, "a");
+			Comparator<X> combined = byB.thenComparing(byA.reversed());
+
+			Assertions.assertTrue(combined instanceof OrderingComparator);
+			List<X> list = new ArrayList<>(Arrays.asList(x_a_1, x_b_1, x_c, new X(84, "a")));
+			list.sort(combined);
+			Assertions.assertEquals(Arrays.asList(new X(84, "a"), x_c, x_a_1, x_b_1), list);
+
+			OrderingComparator<X> ordering = (OrderingComparator<X>) combined;
+			Assertions.assertTrue(ordering.areEqual(x_a_1, x_a_2));
+			Assertions.assertFalse(ordering.areEqual(x_a_1, new X(43, "test")));
+			Assertions.assertFalse(ordering.areEqual(x_a_1, new X(42, "tesT")));
+		}
+
+		@Test
+		void thenComparing_otherComparator() {
+			OrderingComparator<X> byA = ordering(IntGetter.of(X::getA), NullHandling.THROW);
+			Comparator<X> combined = byA.thenComparing(X::getB);
+
+			Assertions.assertFalse(combined instanceof OrderingComparator);
+			Assertions.assertEquals(0, combined.compare(x_a_1, x_a_2));
+			Assertions.assertTrue(combined.compare(x_a_1, new X(42, "x")) < 0);
+			Assertions.assertTrue(combined.compare(x_b_1, x_a_1) > 0);
+		}
+
+		@Test
+		void thenComparing_differentNullHandling() {
+			OrderingComparator<X> nullsFirst = ordering(IntGetter.of(X::getA), NullHandling.NULLS_FIRST);
+			OrderingComparator<X> throwing = ordering(ComparableGetter.of(X::getB), NullHandling.THROW);
+			Comparator<X> combined = nullsFirst.thenComparing(throwing);
+
+			Assertions.assertFalse(combined instanceof OrderingComparator);
+			Assertions.assertThrows(NullPointerException.class, () -> combined.compare(null, null));
+		}
+
+		@Test
+		void thenComparing_memoized() {
+			OrderingComparator<X> byA = ordering(IntGetter.of(X::getA), NullHandling.THROW);
+			OrderingComparator<X> byB = ordering(ComparableGetter.of(X::getB), NullHandling.THROW);
+			Comparator<X> combined = byA.thenComparing(byB);
+
+			Assertions.assertSame(combined, byA.thenComparing(byB));
+			Assertions.assertNotSame(combined, byA.thenComparing(ordering(ComparableGetter.of(X::getB), NullHandling.THROW)));
+		}
+
+		@Test
+		void thenComparing_differentLookups() {
+			OrderingComparator<X> byA = ordering(IntGetter.of(X::getA), NullHandling.THROW);
+			OrderingComparator<X> byB = Comparators.ordering()
+					.nonSerializable()
+					.requireAtLeastOneGetter(X.class)
+					.use(ComparableGetter.of(X::getB))
+					.build(CodegenProvider.of());
+			Comparator<X> combined = byA.thenComparing(byB);
+
+			Assertions.assertFalse(combined instanceof OrderingComparator);
+			Assertions.assertTrue(combined.compare(x_a_1, new X(42, "x")) < 0);
+		}
+
+		@Test
+		void use_mixedOrder() {
+			OrderingComparator<X> comparator = Comparators.ordering()
+					.nonSerializable()
+					.requireAtLeastOneGetter(X.class)
+					.use(ComparableGetter.of(X::getB))
+					.use(IntGetter.of(X::getA), Order.DESC)
+					.build(provider);
+			X x_c = new X(84, "test");
+
+			List<X> list = new ArrayList<>(Arrays.asList(x_a_1, x_b_1, x_c, new X(42, "a")));
+			list.sort(comparator);
+			Assertions.assertEquals(Arrays.asList(new X(42, "a"), x_c, x_a_1, x_b_1), list);
+			Assertions.assertEquals(0, comparator.compare(x_a_1, x_a_2));
+			Assertions.assertTrue(comparator.areEqual(x_a_1, x_a_2));
+			Assertions.assertFalse(comparator.areEqual(x_a_1, x_c));
+		}
+
+		@Test
+		void use_descendingCriterionWithDescendingOrder_descending() {
+			OrderingComparator<X> comparator = Comparators.ordering()
+					.nonSerializable()
+					.requireAtLeastOneGetter(X.class)
+					.use(IntGetter.of(X::getA).descending(), Order.DESC)
+					.build(provider);
+
+			Assertions.assertEquals(1, comparator.compare(x_a_1, x_b_1));
+		}
+
+		@Test
+		void use_descending_serializable() throws Exception {
+			SerializableOrderingComparator<X> comparator = Comparators.ordering()
+					.serializable()
+					.requireAtLeastOneGetter(X.class)
+					.use(SerializableIntGetter.of(X::getA), Order.DESC)
+					.use(SerializableComparableGetter.of(X::getB).descending())
+					.build(provider);
+
+			SerializableOrderingComparator<X> copy = SerializationUtils.copy(comparator);
+			Assertions.assertEquals(1, copy.compare(x_a_1, x_b_1));
+			Assertions.assertTrue(copy.compare(x_a_1, new X(42, "x")) > 0);
+			Assertions.assertEquals(0, copy.compare(x_a_1, x_a_2));
+		}
+
+		private OrderingComparator<X> ordering(OrderingCriterion<? super X> getter, NullHandling nullHandling) {
+			return Comparators.ordering()
+					.nonSerializable()
+					.requireAtLeastOneGetter(X.class)
+					.use(getter)
+					.nullHandling(nullHandling)
+					.build(provider);
+		}
+
+	}
+
+	@Nested
+	class NestedGetterTests {
+
+		final List<Z> objects = Arrays.asList(
+				new Z(null, 1),
+				new Z(null, 2),
+				new Z(x_a_1, 1),
+				new Z(x_a_2, 1),
+				new Z(x_a_1, 2),
+				new Z(x_b_1, 1),
+				new Z(new X(42, "a"), 1),
+				new Z(new X(42, null), 1));
+
+		@Test
+		void nested() {
+			for (NullHandling nullHandling : Arrays.asList(NullHandling.NULLS_FIRST, NullHandling.NULLS_LAST)) {
+				OrderingComparator<X> byX = Comparators.ordering()
+						.nonSerializable()
+						.requireAtLeastOneGetter(X.class)
+						.use(IntGetter.of(X::getA))
+						.use(ComparableGetter.nullsFirst(X::getB))
+						.nullHandling(nullHandling)
+						.build(provider);
+
+				assertSameAsNestedComparator(byX);
+			}
+		}
+
+		@Test
+		void nested_throwsForNulls() {
+			OrderingComparator<X> byX = Comparators.ordering()
+					.nonSerializable()
+					.requireAtLeastOneGetter(X.class)
+					.use(IntGetter.of(X::getA))
+					.build(provider);
+			OrderingComparator<Z> byZ = byZ(NestedGetter.of(Z::getX, byX));
+
+			Assertions.assertThrows(NullPointerException.class, () -> byZ.compare(new Z(null, 1), new Z(x_a_1, 1)));
+			Assertions.assertEquals(0, byZ.compare(new Z(x_a_1, 1), new Z(x_a_2, 1)));
+			Assertions.assertFalse(byZ.areEqual(new Z(null, 1), new Z(x_a_1, 1)));
+			Assertions.assertTrue(byZ.areEqual(new Z(null, 1), new Z(null, 1)));
+		}
+
+		@Test
+		void nested_strictTypes() {
+			OrderingComparator<X> byX = Comparators.ordering()
+					.nonSerializable()
+					.requireAtLeastOneGetter(X.class)
+					.use(IntGetter.of(X::getA))
+					.nullsLast()
+					.strictTypes(true)
+					.build(provider);
+
+			assertSameAsNestedComparator(byX);
+		}
+
+		@Test
+		void nested_deep() {
+			OrderingComparator<X> byX = Comparators.ordering()
+					.nonSerializable()
+					.requireAtLeastOneGetter(X.class)
+					.use(ComparableGetter.nullsLast(X::getB))
+					.nullsFirst()
+					.build(provider);
+			OrderingComparator<Z> byZ = Comparators.ordering()
+					.nonSerializable()
+					.requireAtLeastOneGetter(Z.class)
+					.use(NestedGetter.of(Z::getX, byX))
+					.use(IntGetter.of(Z::getC))
+					.nullsLast()
+					.build(provider);
+			OrderingComparator<Z> byOuter = byZ(NestedGetter.of(Z::getOuter, byZ));
+			OrderingComparator<Z> expected = byZ(GenericGetter.of(Z::getOuter), byZ);
+
+			for (Z left : objects) {
+				for (Z right : objects) {
+					Z outerLeft = new Z(null, 0, left);
+					Z outerRight = new Z(null, 0, right);
+
+					Assertions.assertEquals(expected.compare(outerLeft, outerRight), byOuter.compare(outerLeft, outerRight));
+					Assertions.assertEquals(expected.areEqual(outerLeft, outerRight), byOuter.areEqual(outerLeft, outerRight));
+				}
+
+				Z outer = new Z(null, 0, left);
+				Assertions.assertEquals(expected.hash(outer), byOuter.hash(outer));
+			}
+		}
+
+		@Test
+		void nested_serializable() throws Exception {
+			SerializableOrderingComparator<X> byX = Comparators.ordering()
+					.serializable()
+					.requireAtLeastOneGetter(X.class)
+					.use(SerializableIntGetter.of(X::getA))
+					.nullsFirst()
+					.build(provider);
+			SerializableOrderingComparator<Z> byZ = Comparators.ordering()
+					.serializable()
+					.requireAtLeastOneGetter(Z.class)
+					.use(SerializableNestedGetter.of(Z::getX, byX))
+					.build(provider);
+
+			Comparator<Z> copy = SerializationUtils.copy(byZ);
+
+			Assertions.assertEquals(-1, copy.compare(new Z(null, 1), new Z(x_a_1, 1)));
+			Assertions.assertEquals(-1, copy.compare(new Z(x_a_1, 1), new Z(x_b_1, 1)));
+			Assertions.assertEquals(0, copy.compare(new Z(x_a_1, 1), new Z(x_a_2, 2)));
+		}
+
+		@Test
+		void nested_otherComparator() {
+			OrderingComparator<Z> byZ = byZ(NestedGetter.of(Z::getX, new OrderingComparator<X>() {
+				@Override
+				public int hash(X object) {
+					return object == null ? 0 : object.getA();
+				}
+
+				@Override
+				public boolean areEqual(X self, Object other) {
+					return self == other || self != null && other instanceof X && self.getA() == ((X) other).getA();
+				}
+
+				@Override
+				public int compare(X o1, X o2) {
+					return Integer.compare(o1.getA(), o2.getA());
+				}
+			}));
+
+			Assertions.assertEquals(-1, byZ.compare(new Z(x_a_1, 1), new Z(x_b_1, 1)));
+			Assertions.assertEquals(byZ.hash(new Z(x_a_1, 1)), byZ.hash(new Z(new X(42, "x"), 1)));
+			Assertions.assertTrue(byZ.areEqual(new Z(x_a_1, 1), new Z(new X(42, "x"), 1)));
+		}
+
+		/**
+		 * Compares a comparator inlining the nested comparator to one calling it.
+		 */
+		private void assertSameAsNestedComparator(OrderingComparator<X> byX) {
+			OrderingComparator<Z> nested = byZ(NestedGetter.of(Z::getX, byX));
+			OrderingComparator<Z> expected = byZ(GenericGetter.of(Z::getX), byX);
+
+			for (Z left : objects) {
+				for (Z right : objects) {
+					Assertions.assertEquals(expected.compare(left, right), nested.compare(left, right), left + " " + right);
+					Assertions.assertEquals(expected.areEqual(left, right), nested.areEqual(left, right), left + " " + right);
+				}
+
+				Assertions.assertEquals(expected.hash(left), nested.hash(left), left.toString());
+			}
+		}
+
+		private OrderingComparator<Z> byZ(OrderingCriterion<? super Z> getter) {
+			return Comparators.ordering()
+					.nonSerializable()
+					.requireAtLeastOneGetter(Z.class)
+					.use(getter)
+					.use(IntGetter.of(Z::getC))
+					.build(provider);
+		}
+
+		/**
+		 * Returns a comparator whose first criterion calls the nested comparator.
+		 */
+		private <R> OrderingComparator<Z> byZ(GenericGetter<Z, R> getter, OrderingComparator<? super R> comparator) {
+			return byZ(new OrderingCriterion<Z>() {
+				@Override
+				public int hash(Z object) {
+					return comparator.hash(getter.apply(object));
+				}
+
+				@Override
+				public boolean areEqual(Z self, Z other) {
+					return comparator.areEqual(getter.apply(self), getter.apply(other));
+				}
+
+				@Override
+				public int compare(Z self, Z other) {
+					return comparator.compare(getter.apply(self), getter.apply(other));
+				}
+			});
+		}
+
+	}
+
+	@Nested
+	class CreateAllTests {
+
+		@Test
+		void createAll() {
+			HashParameters hashParameters = HashParameters.of(17, 37);
+			List<Spec<?, ?>> specs = Arrays.asList(
+					Specs.equality(X.class, hashParameters, true,
+							Collections.singletonList(IntGetter.of(X::getA)), null, lookup),
+					Specs.equalitySerializable(X.class, hashParameters, true,
+							Collections.singletonList(SerializableIntGetter.of(X::getA)), null, lookup),
+					Specs.ordering(X.class, hashParameters, true,
+							Collections.singletonList(IntGetter.of(X::getA)), NullHandling.NULLS_LAST, OrderingFallbackMode.IDENTITY, lookup),
+					Specs.orderingSerializable(X.class, hashParameters, true,
+							Collections.singletonList(SerializableIntGetter.of(X::getA)), NullHandling.NULLS_FIRST, OrderingFallbackMode.IDENTITY, lookup));
+
+			List<EqualityComparator<?>> comparators = provider.createAll(specs);
+
+			Assertions.assertEquals(4, comparators.size());
+			Assertions.assertFalse(comparators.get(0) instanceof SerializableEqualityComparator);
+			Assertions.assertTrue(comparators.get(1) instanceof SerializableEqualityComparator);
+			Assertions.assertFalse(comparators.get(2) instanceof SerializableOrderingComparator);
+			Assertions.assertTrue(comparators.get(3) instanceof SerializableOrderingComparator);
+
+			for (EqualityComparator<?> comparator : comparators) {
+				@SuppressWarnings("unchecked")
+				EqualityComparator<X> typed = (EqualityComparator<X>) comparator;
+				Assertions.assertTrue(typed.areEqual(x_a_1, x_a_2));
+				Assertions.assertFalse(typed.areEqual(x_a_1, x_b_1));
+			}
+
+			Assertions.assertEquals(1, compare(comparators.get(2), null, x_a_1));
+			Assertions.assertEquals(-1, compare(comparators.get(3), null, x_a_1));
+		}
+
+		@Test
+		void createAll_many() {
+			List<Spec<?, ?>> specs = new ArrayList<>();
+
+			for (int i = 0; i < 64; ++i) {
+				specs.add(Specs.ordering(X.class, HashParameters.of(17, 37), true,
+						Collections.singletonList(IntGetter.of(X::getA)), NullHandling.THROW, OrderingFallbackMode.IDENTITY, lookup));
+			}
+
+			List<EqualityComparator<?>> comparators = provider.createAll(specs);
+
+			Assertions.assertEquals(specs.size(), comparators.size());
+			Assertions.assertThrows(UnsupportedOperationException.class, () -> comparators.add(null));
+
+			for (EqualityComparator<?> comparator : comparators) {
+				Assertions.assertEquals(-1, compare(comparator, x_a_1, x_b_1));
+			}
+		}
+
+		@Test
+		void createAll_executor() {
+			List<Spec<?, ?>> specs = new ArrayList<>();
+
+			for (int i = 0; i < 4; ++i) {
+				specs.add(Specs.ordering(X.class, HashParameters.of(17, 37), true,
+						Collections.singletonList(IntGetter.of(X::getA)), NullHandling.THROW, OrderingFallbackMode.IDENTITY, lookup));
+			}
+
+			AtomicInteger executions = new AtomicInteger();
+			List<EqualityComparator<?>> comparators = provider.createAll(specs, command -> {
+				executions.incrementAndGet();
+				command.run();
+			});
+
+			Assertions.assertEquals(specs.size(), executions.get());
+			Assertions.assertEquals(specs.size(), comparators.size());
+
+			for (EqualityComparator<?> comparator : comparators) {
+				Assertions.assertEquals(-1, compare(comparator, x_a_1, x_b_1));
+			}
+		}
+
+		@Test
+		void createAll_executor_unsupportedSpec() {
+			List<Spec<?, ?>> specs = Collections.singletonList(Mockito.mock(Spec.class));
+
+			Assertions.assertThrows(IllegalArgumentException.class, () -> provider.createAll(specs, Runnable::run));
+		}
+
+		@Test
+		void createAll_empty() {
+			Assertions.assertEquals(Collections.emptyList(), provider.createAll(Collections.emptyList()));
+		}
+
+		@Test
+		void createAll_unsupportedSpec() {
+			List<Spec<?, ?>> specs = Collections.singletonList(Mockito.mock(Spec.class));
+
+			Assertions.assertThrows(IllegalArgumentException.class, () -> provider.createAll(specs));
+		}
+
+		@SuppressWarnings("unchecked")
+		private int compare(EqualityComparator<?> comparator, X o1, X o2) {
+			return ((OrderingComparator<X>) comparator).compare(o1, o2);
+		}
+
+	}
+
+	@Nested
+	class WarmUpTests {
+
+		@Test
+		void warmUp() {
+			EventHandler eventHandler = Mockito.mock(EventHandler.class);
+			provider.setEventHandler(eventHandler);
+			provider.warmUp();
+
+			Mockito.verifyNoInteractions(eventHandler);
+			createComparator();
+		}
+
+		@Test
+		void warmUp_unavailableClassDefiners() {
+			provider.setClassDefiners(AvailableClassDefiner.values());
+			provider.setInstantiators(AvailableInstantiator.values());
+			provider.warmUp();
+		}
+
+		@Test
+		void warmUp_failedStrategiesRemembered() throws Exception {
+			CodegenProvider provider = CodegenProvider.of();
+			EventHandler eventHandler = Mockito.mock(EventHandler.class);
+			provider.setEventHandler(eventHandler);
+			provider.setClassDefiners(AvailableClassDefiner.LOOKUP);
+			provider.setInstantiators(AvailableInstantiator.REFLECTION_FACTORY, AvailableInstantiator.CONSTRUCTOR);
+			provider.setInitializationMode(AvailableInitializationMode.EXTERNAL);
+			provider.warmUp();
+
+			Mockito.verify(eventHandler, Mockito.atLeastOnce()).onStrategyFailed(Mockito.any(), Mockito.any());
+			Mockito.clearInvocations(eventHandler);
+
+			OrderingComparator<X> comparator = Comparators.ordering()
+					.nonSerializable()
+					.requireAtLeastOneGetter(X.class)
+					.use(IntGetter.of(X::getA))
+					.build(provider);
+
+			Assertions.assertEquals(-1, comparator.compare(x_a_1, x_b_1));
+			Mockito.verify(eventHandler, Mockito.never()).onStrategyFailed(Mockito.any(), Mockito.any());
+		}
+
+		@Test
+		void warmUpAsync() throws Exception {
+			provider.warmUpAsync().get(1, TimeUnit.MINUTES);
+			createComparator();
+		}
+
+		@Test
+		void warmUpAsync_tieredCompilationExecutor() throws Exception {
+			AtomicInteger executions = new AtomicInteger();
+			provider.setTieredCompilationExecutor(command -> {
+				executions.incrementAndGet();
+				command.run();
+			});
+
+			provider.warmUpAsync().get(1, TimeUnit.MINUTES);
+
+			Assertions.assertEquals(1, executions.get());
+		}
+
+		@Test
+		void warmUpAsync_inProgress_sameFuture() throws Exception {
+			List<Runnable> tasks = new ArrayList<>();
+			CompletableFuture<Void> future = provider.warmUpAsync(tasks::add);
+
+			Assertions.assertSame(future, provider.warmUpAsync(tasks::add));
+			Assertions.assertSame(future, provider.warmUpAsync());
+			Assertions.assertEquals(1, tasks.size());
+
+			tasks.get(0).run();
+			future.get(1, TimeUnit.MINUTES);
+
+			Assertions.assertNotSame(future, provider.warmUpAsync(tasks::add));
+			Assertions.assertEquals(2, tasks.size());
+		}
+
+		@Test
+		void warmUpAsync_rejected() {
+			CompletableFuture<Void> future = provider.warmUpAsync(command -> {
+				throw new RejectedExecutionException();
+			});
+
+			ExecutionException e = Assertions.assertThrows(ExecutionException.class, () -> future.get(1, TimeUnit.MINUTES));
+			Assertions.assertTrue(e.getCause() instanceof RejectedExecutionException);
+		}
+
+	}
+
+	@Nested
+	class InFlightBuildTests {
+
+		@Test
+		void concurrentBuilds_sameGetters() throws Exception {
+			CountDownLatch generating = new CountDownLatch(1);
+			CountDownLatch release = new CountDownLatch(1);
+			AtomicInteger generated = new AtomicInteger();
+			provider.setEventHandler(new EventHandler() {
+				@Override
+				public void onClassGenerated(byte[] bytes) throws Exception {
+					generated.incrementAndGet();
+					generating.countDown();
+					release.await();
+				}
+			});
+			IntGetter<X> getter = IntGetter.of(X::getA);
+			List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+			Callable<EqualityComparator<X>> build = () -> {
+				threads.add(Thread.currentThread());
+				return Comparators.equality()
+						.nonSerializable()
+						.requireAtLeastOneGetter(X.class)
+						.use(getter)
+						.build(provider);
+			};
+			ExecutorService executor = Executors.newFixedThreadPool(2);
+
+			try {
+				Future<EqualityComparator<X>> first = executor.submit(build);
+				Assertions.assertTrue(generating.await(1, TimeUnit.MINUTES));
+				Future<EqualityComparator<X>> second = executor.submit(build);
+				awaitWaiting(threads, 2);
+				release.countDown();
+
+				Assertions.assertSame(first.get(1, TimeUnit.MINUTES), second.get(1, TimeUnit.MINUTES));
+				Assertions.assertEquals(1, generated.get());
+			} finally {
+				release.countDown();
+				executor.shutdownNow();
+			}
+		}
+
+		@Test
+		void sequentialBuilds() {
+			IntGetter<X> getter = IntGetter.of(X::getA);
+			EqualityComparator<X> comparator = Comparators.equality()
+					.nonSerializable()
+					.requireAtLeastOneGetter(X.class)
+					.use(getter)
+					.build(provider);
+			EqualityComparator<X> other = Comparators.equality()
+					.nonSerializable()
+					.requireAtLeastOneGetter(X.class)
+					.use(getter)
+					.build(provider);
+
+			Assertions.assertNotSame(comparator, other);
+		}
+
+		private void awaitWaiting(List<Thread> threads, int count) throws InterruptedException {
+			long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(1);
+
+			while (threads.size() < count || threads.get(count - 1).getState() != Thread.State.WAITING) {
+				Assertions.assertTrue(System.nanoTime() < deadline, "Thread did not wait for the build in flight");
+				Thread.sleep(1);
+			}
+		}
+
+	}
+
+	private Comparator<X> createOrdering(SerializableIntGetter<X> getter) {
+		return Comparators.ordering()
+				.serializable()
+				.requireAtLeastOneGetter(X.class)
+				.use(getter)
+				.nullsLast()
+				.build(provider);
+	}
+
 	private Comparator<X> createComparator() {
 		Comparator<X> comparator = Comparators.ordering()
 				.serializable()
@@ -683,6 +1735,43 @@ public class CodegenProviderTest {
 
 	}
 
+	private static final class Z {
+
+		final X x;
+
+		final int c;
+
+		final Z outer;
+
+		Z(X x, int c) {
+			this(x, c, null);
+		}
+
+		Z(X x, int c, Z outer) {
+			this.x = x;
+			this.c = c;
+			this.outer = outer;
+		}
+
+		public X getX() {
+			return x;
+		}
+
+		public int getC() {
+			return c;
+		}
+
+		public Z getOuter() {
+			return outer;
+		}
+
+		@Override
+		public String toString() {
+			return "Z[" + (x == null ? null : x.a + "/" + x.b) + ", " + c + "]";
+		}
+
+	}
+
 	private static final class Y {
 
 		final String[] a;
@@ -0,0 +1,69 @@
+package io.github.jdcmp.codegen;
+
+import io.github.jdcmp.api.Comparators;
+import io.github.jdcmp.api.comparator.ordering.OrderingComparator;
+import io.github.jdcmp.api.getter.primitive.IntGetter;
+import io.github.jdcmp.codegen.contract.EventHandler;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class CriterionChunkTest {
+
+	@Test
+	void of() {
+		List<CriterionChunk> chunks = CriterionChunk.of(20);
+
+		Assertions.assertEquals(3, chunks.size());
+		Assertions.assertEquals(0, chunks.get(0).start);
+		Assertions.assertEquals(8, chunks.get(0).end);
+		Assertions.assertEquals(16, chunks.get(2).start);
+		Assertions.assertEquals(20, chunks.get(2).end);
+		Assertions.assertTrue(chunks.get(2).isLast(20));
+		Assertions.assertFalse(chunks.get(1).isLast(20));
+		Assertions.assertEquals("hash$2", chunks.get(2).methodName("hash"));
+	}
+
+	@Test
+	void isNecessary() {
+		Assertions.assertFalse(CriterionChunk.isNecessary(CriterionChunk.SIZE));
+		Assertions.assertTrue(CriterionChunk.isNecessary(CriterionChunk.SIZE + 1));
+	}
+
+	@Test
+	void generatedClass_hasHelperMethods() {
+		AtomicReference<Class<?>> generatedClass = new AtomicReference<>();
+		CodegenProvider provider = CodegenProvider.of(MethodHandles.lookup());
+		provider.setEventHandler(new EventHandler() {
+			@Override
+			public void onClassDefined(Class<?> clazz, byte[] bytes) {
+				generatedClass.set(clazz);
+			}
+		});
+
+		OrderingComparator<String> comparator = Comparators.ordering()
+				.nonSerializable()
+				.requireAtLeastOneGetter(String.class)
+				.use(Stream.generate(() -> IntGetter.<String>of(String::length)).limit(128).collect(Collectors.toList()))
+				.build(provider);
+
+		List<String> methodNames = Arrays.stream(generatedClass.get().getDeclaredMethods())
+				.map(Method::getName)
+				.collect(Collectors.toList());
+
+		Assertions.assertSame(generatedClass.get(), comparator.getClass());
+		Assertions.assertTrue(methodNames.contains("hash$15"));
+		Assertions.assertTrue(methodNames.contains("areEqual$15"));
+		Assertions.assertTrue(methodNames.contains("compare$15"));
+		Assertions.assertEquals(0, comparator.compare("ab", "cd"));
+		Assertions.assertTrue(comparator.compare("a", "cd") < 0);
+	}
+
+}
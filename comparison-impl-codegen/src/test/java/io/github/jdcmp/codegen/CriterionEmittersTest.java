@@ -0,0 +1,352 @@
+package io.github.jdcmp.codegen;
+
+import io.github.jdcmp.api.Comparators;
+import io.github.jdcmp.api.comparator.ordering.OrderingComparator;
+import io.github.jdcmp.api.getter.ReversedCriterion;
+import io.github.jdcmp.api.getter.member.FieldGetter;
+import io.github.jdcmp.api.getter.member.MethodGetter;
+import io.github.jdcmp.api.getter.object.ComparableGetter;
+import io.github.jdcmp.api.getter.object.NestedGetter;
+import io.github.jdcmp.api.getter.object.SerializableComparableGetter;
+import io.github.jdcmp.api.getter.primitive.IntGetter;
+import io.github.jdcmp.api.getter.primitive.LongGetter;
+import io.github.jdcmp.api.getter.primitive.SerializableIntGetter;
+import io.github.jdcmp.codegen.contract.EventHandler;
+import io.github.jdcmp.codegen.customization.AvailableClassDefiner;
+import io.github.jdcmp.codegen.customization.AvailableInitializationMode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class CriterionEmittersTest {
+
+	@Test
+	void usesDefaultMethods_lambda() {
+		IntGetter<String> getter = IntGetter.of(String::length);
+
+		Assertions.assertTrue(CriterionEmitters.usesDefaultMethods(getter.getClass(), IntGetter.class));
+		Assertions.assertFalse(CriterionEmitters.usesDefaultMethods(getter.getClass(), LongGetter.class));
+	}
+
+	@Test
+	void usesDefaultMethods_serializableLambda() {
+		SerializableIntGetter<String> getter = SerializableIntGetter.of(String::length);
+
+		Assertions.assertTrue(CriterionEmitters.usesDefaultMethods(getter.getClass(), IntGetter.class));
+	}
+
+	@Test
+	void usesDefaultMethods_overridden() {
+		Assertions.assertFalse(CriterionEmitters.usesDefaultMethods(OverridingGetter.class, IntGetter.class));
+		Assertions.assertFalse(CriterionEmitters.usesDefaultMethods(OverridingSubclass.class, IntGetter.class));
+		Assertions.assertFalse(CriterionEmitters.usesDefaultMethods(OverridingInterface.class, IntGetter.class));
+	}
+
+	@Test
+	void generatedCode_callsAccessorDirectly() {
+		CodegenProvider provider = CodegenProvider.of(MethodHandles.lookup());
+		GeneratedInstructions generated = GeneratedInstructions.capture(provider);
+
+		Comparators.ordering()
+				.nonSerializable()
+				.requireAtLeastOneGetter(String.class)
+				.use(IntGetter.of(String::length))
+				.build(provider);
+
+		generated.assertContains(Opcodes.INVOKEINTERFACE, "io/github/jdcmp/api/getter/primitive/IntGetter", "applyAsInt", "(Ljava/lang/Object;)I");
+	}
+
+	@Test
+	void generatedCode_callsCompareToDirectly() {
+		CodegenProvider provider = CodegenProvider.of(MethodHandles.lookup());
+		GeneratedInstructions generated = GeneratedInstructions.capture(provider);
+
+		Comparators.ordering()
+				.nonSerializable()
+				.requireAtLeastOneGetter(String.class)
+				.use(ComparableGetter.nullsFirst(String::trim))
+				.build(provider);
+
+		generated.assertContains(Opcodes.INVOKEINTERFACE, "io/github/jdcmp/api/getter/object/NullSafeComparableCriterion", "getGetter",
+				"()Lio/github/jdcmp/api/getter/object/ComparableGetter;");
+		generated.assertContains(Opcodes.INVOKEINTERFACE, "java/lang/Comparable", "compareTo", "(Ljava/lang/Object;)I");
+	}
+
+	@Test
+	void generatedCode_readsAccessibleMemberDirectly() {
+		CodegenProvider provider = CodegenProvider.of(MethodHandles.lookup());
+		GeneratedInstructions generated = GeneratedInstructions.capture(provider);
+
+		Comparators.ordering()
+				.nonSerializable()
+				.requireAtLeastOneGetter(Member.class)
+				.use(FieldGetter.ofInt(MethodHandles.lookup(), Member.class, "value"))
+				.use(MethodGetter.ofComparable(MethodHandles.lookup(), Member.class, "getName", String.class))
+				.build(provider);
+
+		String member = Type.getInternalName(Member.class);
+		generated.assertContains(Opcodes.GETFIELD, member, "value", "I");
+		generated.assertContains(Opcodes.INVOKEVIRTUAL, member, "getName", "()Ljava/lang/String;");
+		generated.assertNoneNamed("applyAsInt");
+		generated.assertNoneNamed("invokeExact");
+	}
+
+	@Test
+	void generatedCode_readsInaccessibleMemberViaHandle() {
+		CodegenProvider provider = CodegenProvider.of(MethodHandles.lookup());
+		GeneratedInstructions generated = GeneratedInstructions.capture(provider);
+
+		Comparators.ordering()
+				.nonSerializable()
+				.requireAtLeastOneGetter(Member.class)
+				.use(FieldGetter.ofInt(Member.LOOKUP, Member.class, "secret"))
+				.build(provider);
+
+		generated.assertContains(Opcodes.INVOKEVIRTUAL, "java/lang/invoke/MethodHandle", "invokeExact", "(Ljava/lang/Object;)I");
+		generated.assertNoneNamed("applyAsInt");
+	}
+
+	@Test
+	void generatedCode_reversed_callsAccessorDirectly() {
+		CodegenProvider provider = CodegenProvider.of(MethodHandles.lookup());
+		GeneratedInstructions generated = GeneratedInstructions.capture(provider);
+
+		OrderingComparator<String> comparator = Comparators.ordering()
+				.nonSerializable()
+				.requireAtLeastOneGetter(String.class)
+				.use(ReversedCriterion.of(IntGetter.of(String::length)))
+				.build(provider);
+
+		generated.assertContains(Opcodes.INVOKEINTERFACE, "io/github/jdcmp/api/getter/ReversedCriterion", "getCriterion",
+				"()Lio/github/jdcmp/api/getter/OrderingCriterion;");
+		generated.assertContains(Opcodes.INVOKEINTERFACE, "io/github/jdcmp/api/getter/primitive/IntGetter", "applyAsInt", "(Ljava/lang/Object;)I");
+		Assertions.assertEquals(1, comparator.compare("a", "bb"));
+		Assertions.assertEquals(-1, comparator.compare("bb", "a"));
+	}
+
+	@Test
+	@EnabledForJreRange(min = JRE.JAVA_16)
+	void generatedCode_reversed_readsInaccessibleMemberViaHandle() {
+		CodegenProvider provider = CodegenProvider.of(MethodHandles.lookup());
+		provider.setClassDefiners(AvailableClassDefiner.LOOKUP, AvailableClassDefiner.LOOKUP_HIDDEN_CLASS_DATA);
+		Member one = new Member(0, 1);
+		Member two = new Member(0, 2);
+
+		for (AvailableInitializationMode initializationMode : AvailableInitializationMode.values()) {
+			provider.setInitializationMode(initializationMode);
+			OrderingComparator<Member> comparator = Comparators.ordering()
+					.nonSerializable()
+					.requireAtLeastOneGetter(Member.class)
+					.use(ReversedCriterion.of(FieldGetter.ofInt(Member.LOOKUP, Member.class, "secret")))
+					.build(provider);
+
+			Assertions.assertEquals(1, comparator.compare(one, two), initializationMode.name());
+			Assertions.assertEquals(-1, comparator.compare(two, one), initializationMode.name());
+			Assertions.assertTrue(comparator.areEqual(one, new Member(1, 1)), initializationMode.name());
+		}
+	}
+
+	@Test
+	void generatedCode_nested_inlinesCriteria() {
+		CodegenProvider provider = CodegenProvider.of(MethodHandles.lookup());
+		GeneratedInstructions generated = GeneratedInstructions.capture(provider);
+		Holder one = new Holder(new Member(1, 0));
+		Holder two = new Holder(new Member(2, 0));
+		Holder empty = new Holder(null);
+
+		for (AvailableInitializationMode initializationMode : AvailableInitializationMode.values()) {
+			provider.setInitializationMode(initializationMode);
+			OrderingComparator<Member> byMember = Comparators.ordering()
+					.nonSerializable()
+					.requireAtLeastOneGetter(Member.class)
+					.use(ComparableGetter.of(Member::getName))
+					.nullsLast()
+					.build(provider);
+			OrderingComparator<Holder> comparator = Comparators.ordering()
+					.nonSerializable()
+					.requireAtLeastOneGetter(Holder.class)
+					.use(NestedGetter.of(Holder::getMember, byMember))
+					.build(provider);
+
+			generated.assertContains(Opcodes.INVOKEVIRTUAL, "io/github/jdcmp/codegen/NestedCriteria", "getGetter", "()Ljava/util/function/Function;");
+			generated.assertContains(Opcodes.INVOKEINTERFACE, "java/lang/Comparable", "compareTo", "(Ljava/lang/Object;)I");
+			generated.assertNoneNamed("getComparator");
+			Assertions.assertEquals(-1, comparator.compare(one, two), initializationMode.name());
+			Assertions.assertEquals(-1, comparator.compare(one, empty), initializationMode.name());
+			Assertions.assertEquals(0, comparator.compare(empty, new Holder(null)), initializationMode.name());
+			Assertions.assertEquals(17 * 37 + byMember.hash(one.getMember()), comparator.hash(one), initializationMode.name());
+			Assertions.assertTrue(comparator.areEqual(one, new Holder(new Member(1, 2))), initializationMode.name());
+			Assertions.assertFalse(comparator.areEqual(one, empty), initializationMode.name());
+		}
+	}
+
+	@Test
+	void generatedCode_callsCrackedLambdaDirectly() {
+		CodegenProvider provider = CodegenProvider.of(MethodHandles.lookup());
+		provider.setCrackSerializableLambdas(true);
+		GeneratedInstructions generated = GeneratedInstructions.capture(provider);
+
+		Comparators.ordering()
+				.nonSerializable()
+				.requireAtLeastOneGetter(String.class)
+				.use(SerializableIntGetter.of(String::length))
+				.use(SerializableComparableGetter.nullsFirst(String::trim))
+				.build(provider);
+
+		generated.assertContains(Opcodes.INVOKEVIRTUAL, "java/lang/String", "length", "()I");
+		generated.assertContains(Opcodes.INVOKEVIRTUAL, "java/lang/String", "trim", "()Ljava/lang/String;");
+		generated.assertNoneNamed("applyAsInt");
+		generated.assertNoneNamed("getGetter");
+	}
+
+	static final class Member {
+
+		static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+		final int value;
+
+		private final int secret;
+
+		Member(int value, int secret) {
+			this.value = value;
+			this.secret = secret;
+		}
+
+		String getName() {
+			return "m" + value;
+		}
+
+	}
+
+	static final class Holder {
+
+		private final Member member;
+
+		Holder(Member member) {
+			this.member = member;
+		}
+
+		Member getMember() {
+			return member;
+		}
+
+	}
+
+	static class OverridingGetter implements IntGetter<String> {
+
+		@Override
+		public int applyAsInt(String value) {
+			return value.length();
+		}
+
+		@Override
+		public int compare(String self, String other) {
+			return 0;
+		}
+
+	}
+
+	static final class OverridingSubclass extends OverridingGetter {
+
+	}
+
+	interface OverridingInterface extends IntGetter<String> {
+
+		@Override
+		default int hash(String object) {
+			return 0;
+		}
+
+	}
+
+	/**
+	 * Captures the field and method instructions of the last generated class.
+	 */
+	static final class GeneratedInstructions implements EventHandler {
+
+		private volatile List<String> instructions = Collections.emptyList();
+
+		static GeneratedInstructions capture(CodegenProvider provider) {
+			GeneratedInstructions generated = new GeneratedInstructions();
+			provider.setEventHandler(generated);
+
+			return generated;
+		}
+
+		@Override
+		public void onClassGenerated(byte[] classBytes) {
+			List<String> instructions = new ArrayList<>();
+			new ClassReader(classBytes).accept(new ClassVisitor(Opcodes.ASM9) {
+				@Override
+				public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+					return new MethodVisitor(Opcodes.ASM9) {
+						@Override
+						public void visitFieldInsn(int opcode, String owner, String name, String descriptor) {
+							instructions.add(format(opcode, owner, name, descriptor));
+						}
+
+						@Override
+						public void visitMethodInsn(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+							instructions.add(format(opcode, owner, name, descriptor));
+						}
+					};
+				}
+			}, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+			this.instructions = instructions;
+		}
+
+		void assertContains(int opcode, String owner, String name, String descriptor) {
+			List<String> instructions = this.instructions;
+			String instruction = format(opcode, owner, name, descriptor);
+
+			Assertions.assertTrue(instructions.contains(instruction), () -> instruction + " not in " + instructions);
+		}
+
+		void assertNoneNamed(String name) {
+			List<String> instructions = this.instructions;
+
+			Assertions.assertTrue(instructions.stream().noneMatch(instruction -> instruction.contains("." + name + " ")),
+					() -> name + " in " + instructions);
+		}
+
+		private static String format(int opcode, String owner, String name, String descriptor) {
+			return opcodeName(opcode) + " " + owner + "." + name + " " + descriptor;
+		}
+
+		private static String opcodeName(int opcode) {
+			switch (opcode) {
+				case Opcodes.GETSTATIC:
+					return "GETSTATIC";
+				case Opcodes.PUTSTATIC:
+					return "PUTSTATIC";
+				case Opcodes.GETFIELD:
+					return "GETFIELD";
+				case Opcodes.PUTFIELD:
+					return "PUTFIELD";
+				case Opcodes.INVOKEVIRTUAL:
+					return "INVOKEVIRTUAL";
+				case Opcodes.INVOKESPECIAL:
+					return "INVOKESPECIAL";
+				case Opcodes.INVOKESTATIC:
+					return "INVOKESTATIC";
+				case Opcodes.INVOKEINTERFACE:
+					return "INVOKEINTERFACE";
+				default:
+					return String.valueOf(opcode);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,117 @@
+package io.github.jdcmp.codegen;
+
+import io.github.jdcmp.codegen.FallbackStrategy.FailureMemory;
+import io.github.jdcmp.codegen.contract.EventHandler;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+public class FallbackStrategyTest {
+
+	@Test
+	void apply_firstSuccessful() {
+		FallbackStrategy<String> strategy = FallbackStrategy.of(Arrays.asList("a", "b", "c"));
+
+		Assertions.assertEquals("B", strategy.apply(s -> failUnless("b", s)));
+	}
+
+	@Test
+	void apply_allFail() {
+		FallbackStrategy<String> strategy = FallbackStrategy.of(Arrays.asList("a", "b"));
+
+		RuntimeException e = Assertions.assertThrows(RuntimeException.class, () -> strategy.apply(s -> failUnless("x", s)));
+		Assertions.assertEquals("a", e.getMessage());
+		Assertions.assertEquals("b", e.getSuppressed()[0].getMessage());
+	}
+
+	@Test
+	void apply_memory_remembersFailuresBeforeSuccess() {
+		FallbackStrategy<String> strategy = FallbackStrategy.of(Arrays.asList("a", "b", "c"));
+		TestMemory memory = new TestMemory();
+		List<String> tried = new ArrayList<>();
+
+		Assertions.assertEquals("C", strategy.apply(s -> {
+			tried.add(s);
+			return failUnless("c", s);
+		}, memory));
+		Assertions.assertEquals(Arrays.asList("a", "b"), memory.failed);
+
+		tried.clear();
+		Assertions.assertEquals("C", strategy.apply(s -> {
+			tried.add(s);
+			return failUnless("c", s);
+		}, memory));
+		Assertions.assertEquals(Collections.singletonList("c"), tried);
+		Assertions.assertEquals(Arrays.asList("a", "b"), memory.failed);
+	}
+
+	@Test
+	void apply_memory_allFail() {
+		FallbackStrategy<String> strategy = FallbackStrategy.of(Arrays.asList("a", "b"));
+		TestMemory memory = new TestMemory();
+
+		Assertions.assertThrows(RuntimeException.class, () -> strategy.apply(s -> failUnless("x", s), memory));
+		Assertions.assertEquals(Collections.emptyList(), memory.failed);
+	}
+
+	@Test
+	void apply_memory_triesFailedStrategiesLast() {
+		FallbackStrategy<String> strategy = FallbackStrategy.of(Arrays.asList("a", "b"));
+		TestMemory memory = new TestMemory();
+		memory.failed.add("a");
+
+		Assertions.assertEquals("A", strategy.apply(s -> failUnless("a", s), memory));
+		Assertions.assertEquals(Arrays.asList("a", "b"), memory.failed);
+	}
+
+	@Test
+	void failedStrategies_notifiesOnce() throws Exception {
+		FailedStrategies failedStrategies = new FailedStrategies();
+		EventHandler eventHandler = Mockito.mock(EventHandler.class);
+		FailureMemory<String> memory = failedStrategies.memory(MethodHandles.lookup(), eventHandler, Function.identity());
+		FailureMemory<String> other = failedStrategies.memory(MethodHandles.lookup(), eventHandler, Function.identity());
+		RuntimeException cause = new RuntimeException();
+
+		Assertions.assertFalse(memory.hasFailed("a"));
+		memory.onFailure("a", cause);
+		other.onFailure("a", cause);
+
+		Assertions.assertTrue(other.hasFailed("a"));
+		Assertions.assertFalse(other.hasFailed("b"));
+		Assertions.assertFalse(failedStrategies.memory(MethodHandles.publicLookup(), eventHandler, Function.identity()).hasFailed("a"));
+		Assertions.assertFalse(new FailedStrategies().memory(MethodHandles.lookup(), eventHandler, Function.identity()).hasFailed("a"));
+		Mockito.verify(eventHandler, Mockito.times(1)).onStrategyFailed("a", cause);
+	}
+
+	private static String failUnless(String expected, String actual) {
+		if (!expected.equals(actual)) {
+			throw new RuntimeException(actual);
+		}
+
+		return actual.toUpperCase();
+	}
+
+	private static final class TestMemory implements FailureMemory<String> {
+
+		final List<String> failed = new ArrayList<>();
+
+		@Override
+		public boolean hasFailed(String strategy) {
+			return failed.contains(strategy);
+		}
+
+		@Override
+		public void onFailure(String strategy, Throwable cause) {
+			failed.add(strategy);
+		}
+
+	}
+
+}
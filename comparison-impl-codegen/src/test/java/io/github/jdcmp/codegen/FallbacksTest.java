@@ -5,16 +5,15 @@ import io.github.jdcmp.api.HashParameters;
 import io.github.jdcmp.api.builder.equality.EqualityFallbackMode;
 import io.github.jdcmp.api.builder.ordering.OrderingFallbackMode;
 import io.github.jdcmp.api.comparator.ordering.NullHandling;
+import io.github.jdcmp.api.comparator.ordering.OrderingComparator;
+import io.github.jdcmp.api.comparator.ordering.SerializableOrderingComparator;
 import io.github.jdcmp.api.spec.Specs;
 import io.github.jdcmp.api.spec.equality.EqualityComparatorSpec;
 import io.github.jdcmp.api.spec.equality.SerializableEqualityComparatorSpec;
 import io.github.jdcmp.api.spec.ordering.OrderingComparatorSpec;
 import io.github.jdcmp.api.spec.ordering.SerializableOrderingComparatorSpec;
 import io.github.jdcmp.codegen.Fallbacks.IdentityFallback;
-import io.github.jdcmp.codegen.Fallbacks.IdentityOrderFallback;
-import io.github.jdcmp.codegen.Fallbacks.NaturalOrderFallback;
 import io.github.jdcmp.codegen.Fallbacks.SerializableIdentityFallback;
-import io.github.jdcmp.codegen.Fallbacks.SerializableNaturalOrderFallback;
 import io.github.jdcmp.codegen.customization.AvailableSerializationMode;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Nested;
@@ -27,6 +26,8 @@ import java.util.Collections;
 @SuppressWarnings({"unchecked", "rawtypes"})
 public class FallbacksTest {
 
+	static final CodegenProvider PROVIDER = CodegenProvider.of(MethodHandles.lookup());
+
 	@Nested
 	class StrictTypes {
 
@@ -71,7 +72,7 @@ public class FallbacksTest {
 					NullHandling.THROW,
 					OrderingFallbackMode.IDENTITY,
 					MethodHandles.lookup());
-			IdentityOrderFallback fallback = new IdentityOrderFallback<>(spec);
+			OrderingComparator fallback = PROVIDER.createOrderingComparator(spec);
 
 			Assertions.assertThrows(ClassCastException.class, () -> fallback.hash(new Object()));
 			Assertions.assertThrows(ClassCastException.class, () -> fallback.areEqual(new Object(), new Object()));
@@ -89,7 +90,7 @@ public class FallbacksTest {
 					NullHandling.THROW,
 					OrderingFallbackMode.NATURAL,
 					MethodHandles.lookup());
-			NaturalOrderFallback fallback = new NaturalOrderFallback<>(spec);
+			OrderingComparator fallback = PROVIDER.createOrderingComparator(spec);
 
 			Assertions.assertThrows(ClassCastException.class, () -> fallback.hash(42));
 			Assertions.assertThrows(ClassCastException.class, () -> fallback.areEqual(42, null));
@@ -107,7 +108,7 @@ public class FallbacksTest {
 					NullHandling.THROW,
 					OrderingFallbackMode.NATURAL,
 					MethodHandles.lookup());
-			SerializableNaturalOrderFallback fallback = new SerializableNaturalOrderFallback<>(spec, AvailableSerializationMode.COMPATIBLE);
+			SerializableOrderingComparator fallback = PROVIDER.createSerializableOrderingComparator(spec);
 
 			Assertions.assertThrows(ClassCastException.class, () -> fallback.hash(42));
 			Assertions.assertThrows(ClassCastException.class, () -> fallback.areEqual(42, null));
@@ -163,7 +164,7 @@ public class FallbacksTest {
 					NullHandling.THROW,
 					OrderingFallbackMode.IDENTITY,
 					MethodHandles.lookup());
-			IdentityOrderFallback fallback = new IdentityOrderFallback<>(spec);
+			OrderingComparator fallback = PROVIDER.createOrderingComparator(spec);
 
 			Object object = new Object();
 			Assertions.assertEquals(17, fallback.hash(object));
@@ -183,7 +184,7 @@ public class FallbacksTest {
 					NullHandling.THROW,
 					OrderingFallbackMode.NATURAL,
 					MethodHandles.lookup());
-			NaturalOrderFallback fallback = new NaturalOrderFallback<>(spec);
+			OrderingComparator fallback = PROVIDER.createOrderingComparator(spec);
 
 			String object = new String("test");
 			Assertions.assertEquals(17, fallback.hash(object));
@@ -203,7 +204,7 @@ public class FallbacksTest {
 					NullHandling.THROW,
 					OrderingFallbackMode.NATURAL,
 					MethodHandles.lookup());
-			SerializableNaturalOrderFallback fallback = new SerializableNaturalOrderFallback<>(spec, AvailableSerializationMode.COMPATIBLE);
+			SerializableOrderingComparator fallback = PROVIDER.createSerializableOrderingComparator(spec);
 
 			String object = new String("test");
 			Assertions.assertEquals(17, fallback.hash(object));
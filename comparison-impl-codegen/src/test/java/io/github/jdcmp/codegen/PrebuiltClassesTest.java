@@ -0,0 +1,199 @@
+package io.github.jdcmp.codegen;
+
+import io.github.jdcmp.api.Comparators;
+import io.github.jdcmp.api.comparator.ordering.OrderingComparator;
+import io.github.jdcmp.api.getter.object.ComparableGetter;
+import io.github.jdcmp.api.getter.primitive.IntGetter;
+import io.github.jdcmp.codegen.PrebuiltClasses.PrebuiltClass;
+import io.github.jdcmp.codegen.contract.EventHandler;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+
+public class PrebuiltClassesTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	public void record() throws Exception {
+		EventHandler eventHandler = Mockito.mock(EventHandler.class);
+		List<OrderingComparator<String>> comparators = new ArrayList<>();
+
+		List<PrebuiltClass> classes = PrebuiltClasses.record(() -> {
+			comparators.add(create(MethodHandles.lookup(), eventHandler));
+			comparators.add(create(MethodHandles.lookup(), eventHandler));
+		});
+
+		Assertions.assertEquals(1, classes.size());
+		Assertions.assertEquals(PrebuiltClassesTest.class.getName(), classes.get(0).getLookupClassName());
+		Assertions.assertTrue(classes.get(0).getClassName().endsWith("#" + classes.get(0).getFingerprint()));
+		Assertions.assertTrue(comparators.get(0).compare("a", "bb") < 0);
+		Mockito.verify(eventHandler, Mockito.times(2)).onClassGenerated(Mockito.any());
+	}
+
+	@Test
+	public void writeThenLoad() throws Exception {
+		Lookup lookup = fixtureLookup();
+		List<PrebuiltClass> classes = PrebuiltClasses.record(() -> create(lookup, Mockito.mock(EventHandler.class)));
+		PrebuiltClasses.write(directory, classes);
+		EventHandler eventHandler = Mockito.mock(EventHandler.class);
+
+		OrderingComparator<String> comparator = create(fixtureLookup(), eventHandler);
+
+		Assertions.assertEquals(classes.get(0).getClassName(), comparator.getClass().getName());
+		Mockito.verify(eventHandler).onPrebuiltClassInstantiated(comparator.getClass());
+		Mockito.verify(eventHandler, Mockito.never()).onClassGenerated(Mockito.any());
+		Assertions.assertTrue(comparator.compare("a", "bb") < 0);
+		Assertions.assertTrue(comparator.compare("bb", "ab") > 0);
+		Assertions.assertEquals(0, comparator.compare("ab", "ab"));
+		Assertions.assertEquals(comparator.hash("ab"), comparator.hash("ab"));
+	}
+
+	@Test
+	public void writeThenLoad_disabled() throws Exception {
+		Lookup lookup = fixtureLookup();
+		PrebuiltClasses.write(directory, PrebuiltClasses.record(() -> create(lookup, Mockito.mock(EventHandler.class))));
+		EventHandler eventHandler = Mockito.mock(EventHandler.class);
+		CodegenProvider provider = CodegenProvider.of(fixtureLookup());
+		provider.setEventHandler(eventHandler);
+		provider.setUsePrebuiltClasses(false);
+
+		create(provider);
+
+		Mockito.verify(eventHandler, Mockito.never()).onPrebuiltClassInstantiated(Mockito.any());
+		Mockito.verify(eventHandler).onClassGenerated(Mockito.any());
+	}
+
+	@Test
+	public void writeThenLoad_missingConstructor_generated() throws Exception {
+		Lookup lookup = fixtureLookup();
+		PrebuiltClasses.write(directory, PrebuiltClasses.record(() -> create(lookup, Mockito.mock(EventHandler.class))));
+		Path index = directory.resolve(PrebuiltClasses.INDEX_RESOURCE);
+		List<String> entries = new ArrayList<>();
+		for (String entry : Files.readAllLines(index)) {
+			entries.add(entry.substring(0, entry.indexOf('=') + 1) + Object.class.getName());
+		}
+		Files.write(index, entries);
+		EventHandler eventHandler = Mockito.mock(EventHandler.class);
+
+		OrderingComparator<String> comparator = create(fixtureLookup(), eventHandler);
+
+		Mockito.verify(eventHandler, Mockito.never()).onPrebuiltClassInstantiated(Mockito.any());
+		Mockito.verify(eventHandler).onClassGenerated(Mockito.any());
+		Assertions.assertTrue(comparator.compare("a", "bb") < 0);
+	}
+
+	@Test
+	public void write_mergesIndex() throws Exception {
+		Lookup lookup = fixtureLookup();
+		PrebuiltClasses.write(directory, PrebuiltClasses.record(() -> create(lookup, Mockito.mock(EventHandler.class))));
+		PrebuiltClasses.write(directory, PrebuiltClasses.record(() -> Comparators.ordering()
+				.nonSerializable()
+				.requireAtLeastOneGetter(String.class)
+				.use(IntGetter.of(String::length))
+				.build(CodegenProvider.of(lookup))));
+
+		Assertions.assertEquals(2, Files.readAllLines(directory.resolve(PrebuiltClasses.INDEX_RESOURCE)).size());
+	}
+
+	@Test
+	public void noIndex_generated() throws Exception {
+		EventHandler eventHandler = Mockito.mock(EventHandler.class);
+
+		create(MethodHandles.lookup(), eventHandler);
+
+		Mockito.verify(eventHandler).onClassGenerated(Mockito.any());
+	}
+
+	private static OrderingComparator<String> create(Lookup lookup, EventHandler eventHandler) {
+		CodegenProvider provider = CodegenProvider.of(lookup);
+		provider.setEventHandler(eventHandler);
+
+		return create(provider);
+	}
+
+	private static OrderingComparator<String> create(CodegenProvider provider) {
+		return Comparators.ordering()
+				.nonSerializable()
+				.requireAtLeastOneGetter(String.class)
+				.use(IntGetter.of(String::length))
+				.use(ComparableGetter.of(s -> s))
+				.build(provider);
+	}
+
+	/**
+	 * Loads {@link Fixture} in a new class loader, which also loads classes written to the temporary directory.
+	 */
+	private Lookup fixtureLookup() throws Exception {
+		String name = Fixture.class.getName();
+		String resource = name.replace('.', '/') + ".class";
+		Path file = directory.resolve(resource);
+
+		if (Files.notExists(file)) {
+			Files.createDirectories(file.getParent());
+
+			try (InputStream in = Fixture.class.getClassLoader().getResourceAsStream(resource)) {
+				Files.copy(in, file);
+			}
+		}
+
+		ClassLoader loader = new FixtureClassLoader(directory.toUri().toURL(), name);
+
+		return (Lookup) loader.loadClass(name).getMethod("lookup").invoke(null);
+	}
+
+	public static final class Fixture {
+
+		public static Lookup lookup() {
+			return MethodHandles.lookup();
+		}
+
+	}
+
+	/**
+	 * Loads the fixture and prebuilt classes itself, everything else via its parent.
+	 */
+	private static final class FixtureClassLoader extends URLClassLoader {
+
+		private final String prefix;
+
+		FixtureClassLoader(URL url, String prefix) {
+			super(new URL[] {url}, PrebuiltClassesTest.class.getClassLoader());
+			this.prefix = prefix;
+		}
+
+		@Override
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			if (!name.startsWith(prefix)) {
+				return super.loadClass(name, resolve);
+			}
+
+			synchronized (getClassLoadingLock(name)) {
+				Class<?> loaded = findLoadedClass(name);
+
+				return loaded == null ? findClass(name) : loaded;
+			}
+		}
+
+		@Override
+		public Enumeration<URL> getResources(String name) throws IOException {
+			return findResources(name);
+		}
+
+	}
+
+}
@@ -28,6 +28,11 @@ public class SerializationBypassProxyTest {
 
 	static final Lookup lookup = MethodHandles.lookup();
 
+	/**
+	 * Exceeds the number of getters supported by code generation.
+	 */
+	static final int GETTERS_N = 1025;
+
 	CodegenProvider provider;
 
 	@BeforeEach
@@ -60,7 +65,7 @@ public class SerializationBypassProxyTest {
 
 			@Test
 			public void getters_n() throws IOException {
-				testComparator(64);
+				testComparator(GETTERS_N);
 			}
 
 		}
@@ -90,7 +95,7 @@ public class SerializationBypassProxyTest {
 
 			@Test
 			public void getters_n() throws IOException {
-				testComparator(64);
+				testComparator(GETTERS_N);
 			}
 
 		}
@@ -115,7 +120,7 @@ public class SerializationBypassProxyTest {
 
 			@Test
 			public void getters_n() throws IOException {
-				testComparator(64);
+				testComparator(GETTERS_N);
 			}
 
 			@Test
@@ -134,7 +139,7 @@ public class SerializationBypassProxyTest {
 
 			@Test
 			public void serialize_getters_n() throws IOException {
-				SerializableEqualityComparator<String> comparator = createComparator(64);
+				SerializableEqualityComparator<String> comparator = createComparator(GETTERS_N);
 
 				Assertions.assertThrows(Exception.class, () -> SerializationUtils.serialize(comparator));
 			}
@@ -183,7 +188,7 @@ public class SerializationBypassProxyTest {
 
 			@Test
 			public void getters_n() throws IOException {
-				testComparator(64);
+				testComparator(GETTERS_N);
 			}
 
 		}
@@ -198,12 +203,16 @@ public class SerializationBypassProxyTest {
 
 			@Test
 			public void getters_0() throws IOException {
-				testComparator(0);
+				testUnprotected(0);
 			}
 
 			@Test
 			public void getters_1() throws IOException {
-				SerializableOrderingComparator<String> comparator = createComparator(1);
+				testUnprotected(1);
+			}
+
+			private void testUnprotected(int getters) throws IOException {
+				SerializableOrderingComparator<String> comparator = createComparator(getters);
 				byte[] bytes = generateSerializationBytesBypassingProxy(comparator);
 
 				SerializableOrderingComparator<String> deserialized = SerializationUtils.deserialize(bytes);
@@ -213,7 +222,7 @@ public class SerializationBypassProxyTest {
 
 			@Test
 			public void getters_n() throws IOException {
-				testComparator(64);
+				testComparator(GETTERS_N);
 			}
 
 		}
@@ -238,7 +247,7 @@ public class SerializationBypassProxyTest {
 
 			@Test
 			public void getters_n() throws IOException {
-				testComparator(64);
+				testComparator(GETTERS_N);
 			}
 
 			@Test
@@ -257,7 +266,7 @@ public class SerializationBypassProxyTest {
 
 			@Test
 			public void serialize_getters_n() throws IOException {
-				SerializableOrderingComparator<String> comparator = createComparator(64);
+				SerializableOrderingComparator<String> comparator = createComparator(GETTERS_N);
 
 				Assertions.assertThrows(Exception.class, () -> SerializationUtils.serialize(comparator));
 			}
@@ -7,6 +7,7 @@ import io.github.jdcmp.api.comparator.equality.SerializableEqualityComparator;
 import io.github.jdcmp.api.comparator.ordering.OrderingComparator;
 import io.github.jdcmp.api.comparator.ordering.SerializableOrderingComparator;
 import io.github.jdcmp.api.getter.primitive.SerializableIntGetter;
+import io.github.jdcmp.codegen.OrderingCombinators.Derivation;
 import io.github.jdcmp.codegen.customization.AvailableClassDefiner;
 import io.github.jdcmp.codegen.customization.AvailableSerializationMode;
 import org.junit.jupiter.api.Assertions;
@@ -19,6 +20,7 @@ import java.io.Serializable;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodHandles.Lookup;
 import java.lang.reflect.Method;
+import java.util.Comparator;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -280,9 +282,13 @@ public class SerializationModeTest {
 				Method bridgeAreEqual = comparatorClass.getDeclaredMethod("areEqual", Object.class, Object.class);
 				Method compare = comparatorClass.getDeclaredMethod("compare", String.class, String.class);
 				Method bridgeCompare = comparatorClass.getDeclaredMethod("compare", Object.class, Object.class);
+				Method reversed = comparatorClass.getDeclaredMethod("reversed");
+				Method thenComparing = comparatorClass.getDeclaredMethod("thenComparing", Comparator.class);
+				Method getDerivation = comparatorClass.getDeclaredMethod("getDerivation");
+				Method setDerivation = comparatorClass.getDeclaredMethod("setDerivation", Derivation.class);
 
-				org.assertj.core.api.Assertions.assertThat(methods)
-						.containsOnly(hash, bridgeHash, areEqual, bridgeAreEqual, compare, bridgeCompare);
+				org.assertj.core.api.Assertions.assertThat(methods).containsOnly(hash, bridgeHash, areEqual, bridgeAreEqual, compare,
+						bridgeCompare, reversed, thenComparing, getDerivation, setDerivation);
 			}
 
 		}
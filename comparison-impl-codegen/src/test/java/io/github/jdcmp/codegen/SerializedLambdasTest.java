@@ -0,0 +1,64 @@
+package io.github.jdcmp.codegen;
+
+import io.github.jdcmp.api.getter.object.SerializableComparableGetter;
+import io.github.jdcmp.api.getter.object.SerializableGenericGetter;
+import io.github.jdcmp.api.getter.primitive.IntGetter;
+import io.github.jdcmp.api.getter.primitive.SerializableIntGetter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+
+public class SerializedLambdasTest {
+
+	@Test
+	public void implMethod_virtual() throws Exception {
+		Method method = SerializedLambdas.implMethod(SerializableIntGetter.of(String::length));
+
+		Assertions.assertEquals(String.class.getMethod("length"), method);
+	}
+
+	@Test
+	public void implMethod_inherited() throws Exception {
+		Method method = SerializedLambdas.implMethod(SerializableIntGetter.<Sub>of(Sub::getValue));
+
+		Assertions.assertEquals(Base.class.getDeclaredMethod("getValue"), method);
+	}
+
+	@Test
+	public void implMethod_static() throws Exception {
+		Method method = SerializedLambdas.implMethod(SerializableComparableGetter.of(SerializedLambdasTest::name));
+
+		Assertions.assertEquals(SerializedLambdasTest.class.getDeclaredMethod("name", Base.class), method);
+	}
+
+	@Test
+	public void implMethod_capturing() {
+		String suffix = "x";
+
+		Assertions.assertNull(SerializedLambdas.implMethod(SerializableGenericGetter.<String, String>of(s -> s + suffix)));
+	}
+
+	@Test
+	public void implMethod_notSerializable() {
+		Assertions.assertNull(SerializedLambdas.implMethod(IntGetter.of(String::length)));
+		Assertions.assertNull(SerializedLambdas.implMethod("not a lambda"));
+	}
+
+	static String name(Base base) {
+		return "" + base.getValue();
+	}
+
+	static class Base {
+
+		int getValue() {
+			return 1;
+		}
+
+	}
+
+	static final class Sub extends Base {
+
+	}
+
+}
@@ -0,0 +1,107 @@
+package io.github.jdcmp.codegen.bridge;
+
+import io.github.jdcmp.api.Comparators;
+import io.github.jdcmp.api.comparator.ordering.OrderingComparator;
+import io.github.jdcmp.api.getter.primitive.IntGetter;
+import io.github.jdcmp.api.spec.equality.EqualityComparatorSpec;
+import io.github.jdcmp.codegen.CodegenProvider;
+import io.github.jdcmp.codegen.customization.AvailableClassDefiner;
+import io.github.jdcmp.codegen.customization.AvailableInitializationMode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.mockito.Mockito;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class StaticInitializerBridgeTest {
+
+	static final Lookup LOOKUP = MethodHandles.lookup();
+
+	@Test
+	void resolve_unregistered() {
+		Assertions.assertThrows(IllegalStateException.class, () -> StaticInitializerBridge.equality(LOOKUP));
+	}
+
+	@Test
+	void resolve_underprivilegedLookup() {
+		EqualityComparatorSpec<?> spec = Mockito.mock(EqualityComparatorSpec.class);
+
+		StaticInitializerBridge.run(StaticInitializerBridgeTest.class, spec, () -> {
+			Assertions.assertThrows(IllegalArgumentException.class, () -> StaticInitializerBridge.equality(MethodHandles.publicLookup()));
+			return null;
+		});
+	}
+
+	@Test
+	void resolve_once() {
+		EqualityComparatorSpec<?> spec = Mockito.mock(EqualityComparatorSpec.class);
+
+		StaticInitializerBridge.run(StaticInitializerBridgeTest.class, spec, () -> {
+			Assertions.assertSame(spec, StaticInitializerBridge.equality(LOOKUP));
+			Assertions.assertThrows(IllegalStateException.class, () -> StaticInitializerBridge.equality(LOOKUP));
+			return null;
+		});
+	}
+
+	@Test
+	void resolve_otherThread() {
+		EqualityComparatorSpec<?> spec = Mockito.mock(EqualityComparatorSpec.class);
+
+		StaticInitializerBridge.run(StaticInitializerBridgeTest.class, spec, () -> {
+			Object resolved = CompletableFuture.supplyAsync(() -> StaticInitializerBridge.equality(LOOKUP)).get(1, TimeUnit.MINUTES);
+			Assertions.assertSame(spec, resolved);
+			return null;
+		});
+	}
+
+	@Test
+	void run_removesRegistration() {
+		EqualityComparatorSpec<?> spec = Mockito.mock(EqualityComparatorSpec.class);
+
+		StaticInitializerBridge.run(StaticInitializerBridgeTest.class, spec, () -> null);
+
+		Assertions.assertThrows(IllegalStateException.class, () -> StaticInitializerBridge.equality(LOOKUP));
+	}
+
+	@Test
+	@EnabledForJreRange(min = JRE.JAVA_21)
+	void virtualThreads() throws Exception {
+		CodegenProvider provider = CodegenProvider.of(LOOKUP);
+		provider.setInitializationMode(AvailableInitializationMode.STATIC_INITIALIZER);
+		provider.setClassDefiners(AvailableClassDefiner.LOOKUP);
+		ExecutorService executor = (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		List<Future<?>> futures = new ArrayList<>();
+
+		try {
+			for (int i = 0; i < 100; ++i) {
+				futures.add(executor.submit(() -> {
+					OrderingComparator<Integer> comparator = Comparators.ordering()
+							.nonSerializable()
+							.requireAtLeastOneGetter(Integer.class)
+							.use(IntGetter.of(Integer::intValue))
+							.build(provider);
+					Assertions.assertEquals(-1, comparator.compare(1, 2));
+					return null;
+				}));
+			}
+
+			for (Future<?> future : futures) {
+				future.get(1, TimeUnit.MINUTES);
+			}
+		} finally {
+			executor.shutdown();
+			Assertions.assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+		}
+	}
+
+}
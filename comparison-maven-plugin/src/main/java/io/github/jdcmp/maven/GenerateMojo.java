@@ -0,0 +1,153 @@
+package io.github.jdcmp.maven;
+
+import io.github.jdcmp.codegen.PrebuiltClasses;
+import io.github.jdcmp.codegen.PrebuiltClasses.PrebuiltClass;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>Generates comparator classes at build time. The declared factories are initialized in a class loader of the project's
+ * runtime class path, while all comparators created in the meantime are recorded. The recorded classes are written to the
+ * output directory together with an index, which <i>comparison-impl-codegen</i> uses at runtime instead of generating
+ * bytecode.</p>
+ *
+ * <p>Only classes whose lookup class belongs to the output directory are written. Classes of other lookup classes, e.g. of
+ * the default lookup, would belong to packages of other artifacts.</p>
+ */
+@Mojo(
+		name = "generate",
+		defaultPhase = LifecyclePhase.PROCESS_CLASSES,
+		requiresDependencyResolution = ResolutionScope.RUNTIME,
+		threadSafe = true)
+public final class GenerateMojo extends AbstractMojo {
+
+	/**
+	 * Binary names of classes whose initialization creates comparators, e.g. classes holding comparators in static final
+	 * fields.
+	 */
+	@Parameter(required = true)
+	private List<String> factories;
+
+	@Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+	private File outputDirectory;
+
+	@Parameter(defaultValue = "${project.runtimeClasspathElements}", readonly = true, required = true)
+	private List<String> classpathElements;
+
+	@Parameter(property = "jdcmp.skip", defaultValue = "false")
+	private boolean skip;
+
+	@Override
+	public void execute() throws MojoExecutionException {
+		if (skip) {
+			getLog().info("Skipping comparator generation");
+
+			return;
+		}
+
+		Path output = outputDirectory.toPath();
+		List<PrebuiltClass> recorded;
+
+		try (URLClassLoader classLoader = createClassLoader()) {
+			recorded = record(classLoader);
+		} catch (IOException e) {
+			throw new MojoExecutionException("Failed to close class loader", e);
+		}
+
+		List<PrebuiltClass> classes = new ArrayList<>(recorded.size());
+
+		for (PrebuiltClass prebuiltClass : recorded) {
+			String lookupClassFile = prebuiltClass.getLookupClassName().replace('.', '/') + ".class";
+
+			if (Files.exists(output.resolve(lookupClassFile))) {
+				classes.add(prebuiltClass);
+			} else {
+				getLog().warn("Skipping class of a lookup class outside of the output directory: " + prebuiltClass);
+			}
+		}
+
+		try {
+			PrebuiltClasses.write(output, classes);
+		} catch (IOException e) {
+			throw new MojoExecutionException("Failed to write comparator classes to: " + output, e);
+		}
+
+		getLog().info("Generated " + classes.size() + " comparator classes");
+	}
+
+	private List<PrebuiltClass> record(ClassLoader classLoader) throws MojoExecutionException {
+		Thread thread = Thread.currentThread();
+		ClassLoader contextClassLoader = thread.getContextClassLoader();
+		thread.setContextClassLoader(classLoader);
+
+		try {
+			return PrebuiltClasses.record(() -> {
+				for (String factory : factories) {
+					initialize(factory, classLoader);
+				}
+			});
+		} catch (FactoryException e) {
+			throw new MojoExecutionException("Failed to initialize factory: " + e.factory, e.getCause());
+		} finally {
+			thread.setContextClassLoader(contextClassLoader);
+		}
+	}
+
+	private void initialize(String factory, ClassLoader classLoader) {
+		getLog().debug("Initializing factory: " + factory);
+
+		try {
+			Class.forName(factory, true, classLoader);
+		} catch (ClassNotFoundException | LinkageError e) {
+			throw new FactoryException(factory, e);
+		}
+	}
+
+	/**
+	 * Creates a class loader of the runtime class path. Its parent is the plugin's class loader, which ensures that the
+	 * comparators are created by the same <i>comparison-impl-codegen</i> that records them.
+	 */
+	private URLClassLoader createClassLoader() throws MojoExecutionException {
+		List<URL> urls = new ArrayList<>(classpathElements.size() + 1);
+
+		try {
+			urls.add(outputDirectory.toURI().toURL());
+
+			for (String element : classpathElements) {
+				urls.add(new File(element).toURI().toURL());
+			}
+		} catch (MalformedURLException e) {
+			throw new MojoExecutionException("Invalid class path element", e);
+		}
+
+		return new URLClassLoader(urls.toArray(new URL[0]), GenerateMojo.class.getClassLoader());
+	}
+
+	private static final class FactoryException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		final String factory;
+
+		FactoryException(String factory, Throwable cause) {
+			super(cause);
+			this.factory = factory;
+		}
+
+	}
+
+}
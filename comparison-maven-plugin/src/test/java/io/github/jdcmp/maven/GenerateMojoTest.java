@@ -0,0 +1,114 @@
+package io.github.jdcmp.maven;
+
+import io.github.jdcmp.api.Comparators;
+import io.github.jdcmp.api.comparator.ordering.OrderingComparator;
+import io.github.jdcmp.api.getter.object.ComparableGetter;
+import io.github.jdcmp.api.getter.primitive.IntGetter;
+import io.github.jdcmp.codegen.CodegenProvider;
+import io.github.jdcmp.codegen.PrebuiltClasses;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+public class GenerateMojoTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	public void execute_writesClassesAndIndex() throws Exception {
+		copyClassFile(Factory.class);
+
+		mojo(Factory.class.getName()).execute();
+
+		List<String> index = Files.readAllLines(directory.resolve(PrebuiltClasses.INDEX_RESOURCE));
+		Assertions.assertEquals(1, index.size());
+		String className = index.get(0).substring(index.get(0).indexOf('=') + 1);
+		Assertions.assertTrue(className.startsWith(Factory.class.getPackage().getName() + "."));
+		Assertions.assertTrue(Files.isRegularFile(directory.resolve(className.replace('.', '/') + ".class")));
+	}
+
+	@Test
+	public void execute_lookupClassOutsideOutputDirectory_skipped() throws Exception {
+		mojo(OutsideFactory.class.getName()).execute();
+
+		Assertions.assertEquals(Collections.emptyList(), Files.readAllLines(directory.resolve(PrebuiltClasses.INDEX_RESOURCE)));
+	}
+
+	@Test
+	public void execute_skip() throws Exception {
+		GenerateMojo mojo = mojo(Factory.class.getName());
+		set(mojo, "skip", true);
+
+		mojo.execute();
+
+		Assertions.assertFalse(Files.exists(directory.resolve(PrebuiltClasses.INDEX_RESOURCE)));
+	}
+
+	@Test
+	public void execute_missingFactory_throws() throws Exception {
+		GenerateMojo mojo = mojo("io.github.jdcmp.maven.DoesNotExist");
+
+		Assertions.assertThrows(MojoExecutionException.class, mojo::execute);
+		Assertions.assertFalse(Files.exists(directory.resolve(PrebuiltClasses.INDEX_RESOURCE)));
+	}
+
+	private GenerateMojo mojo(String factory) throws Exception {
+		GenerateMojo mojo = new GenerateMojo();
+		set(mojo, "factories", Collections.singletonList(factory));
+		set(mojo, "outputDirectory", directory.toFile());
+		set(mojo, "classpathElements", Collections.emptyList());
+
+		return mojo;
+	}
+
+	private static void set(GenerateMojo mojo, String name, Object value) throws Exception {
+		Field field = GenerateMojo.class.getDeclaredField(name);
+		field.setAccessible(true);
+		field.set(mojo, value);
+	}
+
+	/**
+	 * Places the class file of the given lookup class in the output directory, as if it had been compiled there.
+	 */
+	private void copyClassFile(Class<?> clazz) throws Exception {
+		String resource = clazz.getName().replace('.', '/') + ".class";
+		Path file = directory.resolve(resource);
+		Files.createDirectories(file.getParent());
+
+		try (InputStream in = clazz.getClassLoader().getResourceAsStream(resource)) {
+			Files.copy(in, file);
+		}
+	}
+
+	public static final class Factory {
+
+		static final OrderingComparator<String> COMPARATOR = Comparators.ordering()
+				.nonSerializable()
+				.requireAtLeastOneGetter(String.class)
+				.use(IntGetter.of(String::length))
+				.use(ComparableGetter.of(s -> s))
+				.build(CodegenProvider.of(MethodHandles.lookup()));
+
+	}
+
+	public static final class OutsideFactory {
+
+		static final OrderingComparator<String> COMPARATOR = Comparators.ordering()
+				.nonSerializable()
+				.requireAtLeastOneGetter(String.class)
+				.use(IntGetter.of(String::length))
+				.build(CodegenProvider.of(MethodHandles.lookup()));
+
+	}
+
+}
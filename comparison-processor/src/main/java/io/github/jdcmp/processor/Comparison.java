@@ -0,0 +1,52 @@
+package io.github.jdcmp.processor;
+
+import io.github.jdcmp.api.comparator.ordering.NullHandling;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Generates a class named <code>&lt;Type&gt;Comparisons</code> in the package of the annotated type, containing the static
+ * methods <code>hash</code>, <code>areEqual</code> and optionally <code>compare</code>. The methods use the fields and
+ * methods annotated with {@link Criterion}. Their results match those of comparators created via
+ * <code>Comparators.equality()</code> and <code>Comparators.ordering()</code> with equivalent getters.</p>
+ *
+ * <p>Nested types are named after their enclosing types, e.g. <code>Outer_InnerComparisons</code>.</p>
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target({
+		ElementType.TYPE,
+})
+public @interface Comparison {
+
+	/**
+	 * Whether the method <code>compare</code> is generated, which requires all criteria to be orderable.
+	 *
+	 * @return True to generate <code>compare</code>
+	 */
+	boolean ordering() default false;
+
+	/**
+	 * Handling of null objects in <code>compare</code>, see <code>OrderingComparatorBuilder#nullHandling</code>.
+	 *
+	 * @return The null handling
+	 */
+	NullHandling nullHandling() default NullHandling.THROW;
+
+	/**
+	 * See <code>HashParameters#initialValue()</code>.
+	 *
+	 * @return The initial hash value
+	 */
+	int hashInitialValue() default 17;
+
+	/**
+	 * See <code>HashParameters#multiplier()</code>.
+	 *
+	 * @return The hash multiplier
+	 */
+	int hashMultiplier() default 37;
+
+}
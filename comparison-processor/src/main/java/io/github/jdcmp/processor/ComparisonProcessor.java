@@ -0,0 +1,264 @@
+package io.github.jdcmp.processor;
+
+import io.github.jdcmp.api.comparator.ordering.NullHandling;
+import io.github.jdcmp.processor.CriterionSource.Kind;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <p>Generates the helper classes of types annotated with {@link Comparison}. See {@link ComparisonSource} for the
+ * generated code.</p>
+ *
+ * <p>The processor is registered as service, i.e. it is used automatically if this artifact is on the class path of the
+ * compiler.</p>
+ */
+public final class ComparisonProcessor extends AbstractProcessor {
+
+	private static final String SUFFIX = "Comparisons";
+
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		return Collections.singleton(Comparison.class.getCanonicalName());
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		for (Element element : roundEnv.getElementsAnnotatedWith(Comparison.class)) {
+			if (element.getKind() != ElementKind.CLASS && element.getKind() != ElementKind.INTERFACE) {
+				error("@Comparison requires a class", element);
+			} else {
+				process((TypeElement) element);
+			}
+		}
+
+		return true;
+	}
+
+	private void process(TypeElement type) {
+		if (isInaccessible(type)) {
+			error("@Comparison requires a type that is accessible within its package", type);
+			return;
+		}
+
+		Comparison comparison = type.getAnnotation(Comparison.class);
+		List<CriterionSource> criteria = criteria(type, comparison.ordering());
+
+		if (criteria == null) {
+			return;
+		} else if (criteria.isEmpty()) {
+			error("@Comparison requires at least one @Criterion", type);
+			return;
+		}
+
+		Elements elements = processingEnv.getElementUtils();
+		String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+		String simpleName = generatedSimpleName(type);
+		String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+		ComparisonSource source = new ComparisonSource(
+				packageName,
+				simpleName,
+				type.getQualifiedName().toString(),
+				type.getModifiers().contains(Modifier.PUBLIC),
+				comparison,
+				criteria);
+
+		try {
+			JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+
+			try (Writer writer = file.openWriter()) {
+				writer.write(source.toString());
+			}
+		} catch (IOException e) {
+			error("Failed to write " + qualifiedName + ": " + e.getMessage(), type);
+		}
+	}
+
+	/**
+	 * Collects the criteria of the given type in their order.
+	 *
+	 * @return The criteria; null if any criterion is invalid
+	 */
+	private @Nullable List<CriterionSource> criteria(TypeElement type, boolean ordering) {
+		List<Element> members = new ArrayList<>();
+
+		for (Element member : type.getEnclosedElements()) {
+			if (member.getAnnotation(Criterion.class) != null) {
+				members.add(member);
+			}
+		}
+
+		// stable, i.e. criteria of equal order remain in declaration order
+		members.sort(Comparator.comparingInt(member -> member.getAnnotation(Criterion.class).order()));
+		List<CriterionSource> criteria = new ArrayList<>(members.size());
+		boolean valid = true;
+
+		for (Element member : members) {
+			CriterionSource criterion = criterion(member, ordering);
+
+			if (criterion == null) {
+				valid = false;
+			} else {
+				criteria.add(criterion);
+			}
+		}
+
+		return valid ? criteria : null;
+	}
+
+	private @Nullable CriterionSource criterion(Element member, boolean ordering) {
+		Set<Modifier> modifiers = member.getModifiers();
+
+		if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.STATIC)) {
+			error("@Criterion requires a member that is neither private nor static", member);
+			return null;
+		}
+
+		String accessor;
+		TypeMirror type;
+
+		if (member.getKind() == ElementKind.FIELD) {
+			accessor = member.getSimpleName().toString();
+			type = member.asType();
+		} else {
+			ExecutableElement method = (ExecutableElement) member;
+
+			if (!method.getParameters().isEmpty() || method.getReturnType().getKind() == TypeKind.VOID) {
+				error("@Criterion requires a method without parameters that returns a value", member);
+				return null;
+			}
+
+			accessor = member.getSimpleName() + "()";
+			type = method.getReturnType();
+		}
+
+		Kind kind = kind(type);
+		NullHandling nullHandling = member.getAnnotation(Criterion.class).nullHandling();
+		CriterionSource criterion = new CriterionSource(accessor, kind, arrayGetter(type), nullHandling);
+
+		if (ordering && !criterion.isOrderable()) {
+			error("@Criterion of type " + type + " cannot be ordered", member);
+			return null;
+		} else if (criterion.isNullSafe() && kind != Kind.COMPARABLE && kind != Kind.COMPARABLE_ARRAY) {
+			error("@Criterion supports null handling for Comparable values and arrays thereof only", member);
+			return null;
+		}
+
+		return criterion;
+	}
+
+	private Kind kind(TypeMirror type) {
+		switch (type.getKind()) {
+			case BOOLEAN:
+				return Kind.BOOLEAN;
+			case BYTE:
+			case SHORT:
+			case CHAR:
+				return Kind.SMALL_INTEGRAL;
+			case INT:
+				return Kind.INT;
+			case LONG:
+				return Kind.LONG;
+			case FLOAT:
+				return Kind.FLOAT;
+			case DOUBLE:
+				return Kind.DOUBLE;
+			case ARRAY:
+				TypeMirror componentType = ((ArrayType) type).getComponentType();
+
+				if (componentType.getKind().isPrimitive()) {
+					return Kind.PRIMITIVE_ARRAY;
+				} else if (componentType.getKind() == TypeKind.ARRAY) {
+					return Kind.MULTIDIMENSIONAL_ARRAY;
+				}
+
+				return isComparable(componentType) ? Kind.COMPARABLE_ARRAY : Kind.OBJECT_ARRAY;
+			default:
+				return isComparable(type) ? Kind.COMPARABLE : Kind.OBJECT;
+		}
+	}
+
+	/**
+	 * Returns the simple name of the getter whose static <code>compare</code> method compares primitive arrays, e.g.
+	 * <code>IntArrayGetter</code>.
+	 */
+	private static @Nullable String arrayGetter(TypeMirror type) {
+		if (type.getKind() != TypeKind.ARRAY) {
+			return null;
+		}
+
+		TypeMirror componentType = ((ArrayType) type).getComponentType();
+
+		if (!componentType.getKind().isPrimitive()) {
+			return null;
+		}
+
+		String name = componentType.getKind().name();
+
+		return name.charAt(0) + name.substring(1).toLowerCase() + "ArrayGetter";
+	}
+
+	private boolean isComparable(TypeMirror type) {
+		Types types = processingEnv.getTypeUtils();
+		TypeElement comparable = processingEnv.getElementUtils().getTypeElement(Comparable.class.getCanonicalName());
+
+		return types.isAssignable(type, types.erasure(comparable.asType()));
+	}
+
+	private static boolean isInaccessible(TypeElement type) {
+		for (Element element = type; !(element instanceof PackageElement); element = element.getEnclosingElement()) {
+			if (element.getModifiers().contains(Modifier.PRIVATE)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns the simple names of the type and its enclosing types, joined by underscores, followed by {@link #SUFFIX}.
+	 */
+	private static String generatedSimpleName(TypeElement type) {
+		StringBuilder sb = new StringBuilder(type.getSimpleName());
+
+		for (Element element = type.getEnclosingElement(); element instanceof TypeElement; element = element.getEnclosingElement()) {
+			sb.insert(0, element.getSimpleName() + "_");
+		}
+
+		return sb.append(SUFFIX).toString();
+	}
+
+	private void error(String message, Element element) {
+		Messager messager = processingEnv.getMessager();
+		messager.printMessage(Diagnostic.Kind.ERROR, message, element);
+	}
+
+}
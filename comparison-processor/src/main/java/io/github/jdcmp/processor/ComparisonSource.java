@@ -0,0 +1,204 @@
+package io.github.jdcmp.processor;
+
+import io.github.jdcmp.api.comparator.ordering.NullHandling;
+import io.github.jdcmp.api.documentation.Immutable;
+import io.github.jdcmp.processor.CriterionSource.Kind;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>Source code of the class generated for a {@link Comparison}. The generated methods mirror the bytecode of
+ * <i>comparison-impl-codegen</i>:</p>
+ *
+ * <ul>
+ *     <li><code>hash</code>: 0 for null, otherwise <code>h = h * multiplier + hash(criterion)</code> for each criterion,
+ *     starting with the initial value.</li>
+ *     <li><code>areEqual</code>: true for identical objects, false if <i>other</i> is not an instance of the type, otherwise
+ *     true if all criteria are equal.</li>
+ *     <li><code>compare</code>: the null handling of the {@link Comparison}, followed by the first non-zero result of the
+ *     criteria.</li>
+ * </ul>
+ *
+ * <p>Types are referenced without type arguments, so that generic types need no special treatment.</p>
+ */
+@Immutable
+final class ComparisonSource {
+
+	private final String packageName;
+
+	private final String simpleName;
+
+	private final String type;
+
+	private final boolean isPublic;
+
+	private final Comparison comparison;
+
+	private final List<CriterionSource> criteria;
+
+	ComparisonSource(
+			String packageName,
+			String simpleName,
+			String type,
+			boolean isPublic,
+			Comparison comparison,
+			List<CriterionSource> criteria) {
+		this.packageName = Objects.requireNonNull(packageName);
+		this.simpleName = Objects.requireNonNull(simpleName);
+		this.type = Objects.requireNonNull(type);
+		this.isPublic = isPublic;
+		this.comparison = Objects.requireNonNull(comparison);
+		this.criteria = Objects.requireNonNull(criteria);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder(4096);
+
+		if (!packageName.isEmpty()) {
+			sb.append("package ").append(packageName).append(";\n\n");
+		}
+
+		String visibility = isPublic ? "public " : "";
+		sb.append("// Generated by comparison-processor from ").append(type).append(". Do not edit.\n");
+		sb.append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n");
+		sb.append(visibility).append("final class ").append(simpleName).append(" {\n\n");
+
+		sb.append("\tprivate ").append(simpleName).append("() {\n");
+		sb.append("\t\tthrow new AssertionError(\"No instances\");\n");
+		sb.append("\t}\n\n");
+
+		appendHash(sb, visibility);
+		appendAreEqual(sb, visibility);
+
+		if (comparison.ordering()) {
+			appendCompare(sb, visibility);
+			appendHelpers(sb);
+		}
+
+		sb.append("}\n");
+
+		return sb.toString();
+	}
+
+	private void appendHash(StringBuilder sb, String visibility) {
+		sb.append("\t").append(visibility).append("static int hash(").append(type).append(" object) {\n");
+		sb.append("\t\tif (object == null) {\n");
+		sb.append("\t\t\treturn 0;\n");
+		sb.append("\t\t}\n\n");
+		sb.append("\t\tint hash = ").append(comparison.hashInitialValue()).append(";\n");
+
+		for (CriterionSource criterion : criteria) {
+			sb.append("\t\thash = hash * ").append(comparison.hashMultiplier()).append(" + ")
+					.append(criterion.hash("object")).append(";\n");
+		}
+
+		sb.append("\n\t\treturn hash;\n");
+		sb.append("\t}\n\n");
+	}
+
+	private void appendAreEqual(StringBuilder sb, String visibility) {
+		sb.append("\t").append(visibility).append("static boolean areEqual(").append(type).append(" self, Object other) {\n");
+		sb.append("\t\tif (self == other) {\n");
+		sb.append("\t\t\treturn true;\n");
+		sb.append("\t\t} else if (self == null || !(other instanceof ").append(type).append(")) {\n");
+		sb.append("\t\t\treturn false;\n");
+		sb.append("\t\t}\n\n");
+		sb.append("\t\t").append(type).append(" o = (").append(type).append(") other;\n\n");
+		sb.append("\t\treturn ");
+
+		for (int i = 0; i < criteria.size(); ++i) {
+			if (i > 0) {
+				sb.append("\n\t\t\t\t&& ");
+			}
+
+			sb.append(criteria.get(i).areEqual("self", "o"));
+		}
+
+		sb.append(";\n");
+		sb.append("\t}\n\n");
+	}
+
+	private void appendCompare(StringBuilder sb, String visibility) {
+		sb.append("\t").append(visibility).append("static int compare(").append(type).append(" self, ").append(type)
+				.append(" other) {\n");
+
+		NullHandling nullHandling = comparison.nullHandling();
+
+		if (nullHandling != NullHandling.THROW) {
+			int leftSideIsNull = nullHandling.getComparisonResultIfLeftSideIsNull();
+			sb.append("\t\tif (self == null) {\n");
+			sb.append("\t\t\treturn other == null ? 0 : ").append(leftSideIsNull).append(";\n");
+			sb.append("\t\t} else if (other == null) {\n");
+			sb.append("\t\t\treturn ").append(-leftSideIsNull).append(";\n");
+			sb.append("\t\t}\n\n");
+		}
+
+		int last = criteria.size() - 1;
+
+		for (int i = 0; i < last; ++i) {
+			sb.append(i == 0 ? "\t\tint result = " : "\t\tresult = ").append(criteria.get(i).compare("self", "other")).append(";\n");
+			sb.append("\t\tif (result != 0) {\n");
+			sb.append("\t\t\treturn result;\n");
+			sb.append("\t\t}\n\n");
+		}
+
+		sb.append("\t\treturn ").append(criteria.get(last).compare("self", "other")).append(";\n");
+		sb.append("\t}\n");
+	}
+
+	/**
+	 * Adds the helper methods used by comparable criteria, see <code>NullSafeComparableCriterion</code> and
+	 * <code>ComparableArrayGetter</code>.
+	 */
+	private void appendHelpers(StringBuilder sb) {
+		boolean nullable = false;
+		boolean arrays = false;
+		boolean nullableArrays = false;
+
+		for (CriterionSource criterion : criteria) {
+			if (criterion.getKind() == Kind.COMPARABLE) {
+				nullable |= criterion.isNullSafe();
+			} else if (criterion.getKind() == Kind.COMPARABLE_ARRAY) {
+				nullable |= criterion.isNullSafe();
+				nullableArrays |= criterion.isNullSafe();
+				arrays |= !criterion.isNullSafe();
+			}
+		}
+
+		if (nullable) {
+			sb.append("\n\tprivate static int ").append(CriterionSource.COMPARE_NULLABLE)
+					.append("(Comparable a, Comparable b, int leftSideIsNull) {\n");
+			sb.append("\t\tif (a == null) {\n");
+			sb.append("\t\t\treturn b == null ? 0 : leftSideIsNull;\n");
+			sb.append("\t\t} else if (b == null) {\n");
+			sb.append("\t\t\treturn -leftSideIsNull;\n");
+			sb.append("\t\t}\n\n");
+			sb.append("\t\treturn a.compareTo(b);\n");
+			sb.append("\t}\n");
+		}
+
+		if (arrays) {
+			sb.append("\n\tprivate static int ").append(CriterionSource.COMPARE_ARRAYS).append("(Comparable[] a, Comparable[] b) {\n");
+			sb.append("\t\treturn io.github.jdcmp.api.getter.array.ComparableArrayGetter.compareLexicographically(a, b, ")
+					.append("(Comparable x, Comparable y) -> x.compareTo(y));\n");
+			sb.append("\t}\n");
+		}
+
+		if (nullableArrays) {
+			sb.append("\n\tprivate static int ").append(CriterionSource.COMPARE_NULLABLE_ARRAYS)
+					.append("(Comparable[] a, Comparable[] b, int leftSideIsNull) {\n");
+			sb.append("\t\tif (a == null) {\n");
+			sb.append("\t\t\treturn b == null ? 0 : leftSideIsNull;\n");
+			sb.append("\t\t} else if (b == null) {\n");
+			sb.append("\t\t\treturn -leftSideIsNull;\n");
+			sb.append("\t\t}\n\n");
+			sb.append("\t\treturn io.github.jdcmp.api.getter.array.ComparableArrayGetter.compareLexicographically(a, b, ")
+					.append("(Comparable x, Comparable y) -> ").append(CriterionSource.COMPARE_NULLABLE)
+					.append("(x, y, leftSideIsNull));\n");
+			sb.append("\t}\n");
+		}
+	}
+
+}
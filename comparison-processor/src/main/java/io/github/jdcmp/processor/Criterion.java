@@ -0,0 +1,46 @@
+package io.github.jdcmp.processor;
+
+import io.github.jdcmp.api.comparator.ordering.NullHandling;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Marks a field or a parameterless method as criterion of the enclosing {@link Comparison}. The member must be neither
+ * private nor static. Its type determines the semantics, which follow the corresponding getter:</p>
+ *
+ * <ul>
+ *     <li>Primitives: <code>IntGetter</code>, <code>DoubleGetter</code>, etc.</li>
+ *     <li>Primitive arrays: <code>IntArrayGetter</code>, <code>DoubleArrayGetter</code>, etc.</li>
+ *     <li>Arrays of {@link Comparable}: <code>ComparableArrayGetter</code></li>
+ *     <li>Multidimensional arrays: <code>MultidimensionalArrayGetter</code> (unordered)</li>
+ *     <li>Other arrays: <code>ObjectArrayGetter</code> (unordered)</li>
+ *     <li>{@link Comparable}: <code>ComparableGetter</code></li>
+ *     <li>Other objects: <code>GenericGetter</code> (unordered)</li>
+ * </ul>
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target({
+		ElementType.FIELD,
+		ElementType.METHOD,
+})
+public @interface Criterion {
+
+	/**
+	 * The position of the criterion. Criteria of equal position are ordered by declaration.
+	 *
+	 * @return The position
+	 */
+	int order() default 0;
+
+	/**
+	 * Handling of null values in <code>compare</code>. Only applicable to {@link Comparable} values and arrays thereof, see
+	 * <code>ComparableGetter#nullsFirst</code> and <code>ComparableArrayGetter#nullsFirst</code>.
+	 *
+	 * @return The null handling
+	 */
+	NullHandling nullHandling() default NullHandling.THROW;
+
+}
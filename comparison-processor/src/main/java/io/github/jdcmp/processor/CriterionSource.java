@@ -0,0 +1,257 @@
+package io.github.jdcmp.processor;
+
+import io.github.jdcmp.api.comparator.ordering.NullHandling;
+import io.github.jdcmp.api.documentation.Immutable;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * Source code of a single criterion, i.e. the expressions for hashing, equality and comparison of a member's value.
+ */
+@Immutable
+final class CriterionSource {
+
+	static final String COMPARE_NULLABLE = "compareNullable";
+
+	static final String COMPARE_ARRAYS = "compareArrays";
+
+	static final String COMPARE_NULLABLE_ARRAYS = "compareNullableArrays";
+
+	private final String accessor;
+
+	private final Kind kind;
+
+	private final @Nullable String arrayGetter;
+
+	private final NullHandling nullHandling;
+
+	CriterionSource(String accessor, Kind kind, @Nullable String arrayGetter, NullHandling nullHandling) {
+		this.accessor = Objects.requireNonNull(accessor);
+		this.kind = Objects.requireNonNull(kind);
+		this.arrayGetter = arrayGetter;
+		this.nullHandling = Objects.requireNonNull(nullHandling);
+	}
+
+	String hash(String object) {
+		return kind.hash(value(object));
+	}
+
+	String areEqual(String self, String other) {
+		return kind.areEqual(value(self), value(other));
+	}
+
+	/**
+	 * Returns the comparison expression, which may call one of the helper methods {@link #COMPARE_NULLABLE},
+	 * {@link #COMPARE_ARRAYS} or {@link #COMPARE_NULLABLE_ARRAYS}.
+	 */
+	String compare(String self, String other) {
+		String a = value(self);
+		String b = value(other);
+
+		switch (kind) {
+			case PRIMITIVE_ARRAY:
+				return "io.github.jdcmp.api.getter.array." + arrayGetter + ".compare(" + a + ", " + b + ")";
+			case COMPARABLE:
+				return isNullSafe()
+						? COMPARE_NULLABLE + "(" + a + ", " + b + ", " + leftSideIsNull() + ")"
+						: a + ".compareTo(" + b + ")";
+			case COMPARABLE_ARRAY:
+				return isNullSafe()
+						? COMPARE_NULLABLE_ARRAYS + "(" + a + ", " + b + ", " + leftSideIsNull() + ")"
+						: COMPARE_ARRAYS + "(" + a + ", " + b + ")";
+			default:
+				return kind.compare(a, b);
+		}
+	}
+
+	boolean isOrderable() {
+		return kind.orderable;
+	}
+
+	boolean isNullSafe() {
+		return nullHandling != NullHandling.THROW;
+	}
+
+	Kind getKind() {
+		return kind;
+	}
+
+	private int leftSideIsNull() {
+		return nullHandling.getComparisonResultIfLeftSideIsNull();
+	}
+
+	private String value(String object) {
+		return object + "." + accessor;
+	}
+
+	/**
+	 * The semantics of a criterion, matching the default methods of the corresponding getter.
+	 */
+	enum Kind {
+
+		BOOLEAN(true) {
+			@Override
+			String hash(String value) {
+				return "Boolean.hashCode(" + value + ")";
+			}
+
+			@Override
+			String compare(String a, String b) {
+				return "Boolean.compare(" + a + ", " + b + ")";
+			}
+		},
+		/**
+		 * byte, short and char.
+		 */
+		SMALL_INTEGRAL(true) {
+			@Override
+			String hash(String value) {
+				return value;
+			}
+
+			@Override
+			String compare(String a, String b) {
+				return a + " - " + b;
+			}
+		},
+		INT(true) {
+			@Override
+			String hash(String value) {
+				return value;
+			}
+
+			@Override
+			String compare(String a, String b) {
+				return "Integer.compare(" + a + ", " + b + ")";
+			}
+		},
+		LONG(true) {
+			@Override
+			String hash(String value) {
+				return "Long.hashCode(" + value + ")";
+			}
+
+			@Override
+			String compare(String a, String b) {
+				return "Long.compare(" + a + ", " + b + ")";
+			}
+		},
+		FLOAT(true) {
+			@Override
+			String hash(String value) {
+				return "Float.floatToIntBits(" + value + ")";
+			}
+
+			@Override
+			String areEqual(String a, String b) {
+				return "Float.floatToIntBits(" + a + ") == Float.floatToIntBits(" + b + ")";
+			}
+
+			@Override
+			String compare(String a, String b) {
+				return "Float.compare(" + a + ", " + b + ")";
+			}
+		},
+		DOUBLE(true) {
+			@Override
+			String hash(String value) {
+				return "Double.hashCode(" + value + ")";
+			}
+
+			@Override
+			String areEqual(String a, String b) {
+				return "Double.doubleToLongBits(" + a + ") == Double.doubleToLongBits(" + b + ")";
+			}
+
+			@Override
+			String compare(String a, String b) {
+				return "Double.compare(" + a + ", " + b + ")";
+			}
+		},
+		PRIMITIVE_ARRAY(true) {
+			@Override
+			String hash(String value) {
+				return "java.util.Arrays.hashCode(" + value + ")";
+			}
+
+			@Override
+			String areEqual(String a, String b) {
+				return "java.util.Arrays.equals(" + a + ", " + b + ")";
+			}
+		},
+		COMPARABLE_ARRAY(true) {
+			@Override
+			String hash(String value) {
+				return "java.util.Arrays.hashCode(" + value + ")";
+			}
+
+			@Override
+			String areEqual(String a, String b) {
+				return "java.util.Arrays.equals(" + a + ", " + b + ")";
+			}
+		},
+		MULTIDIMENSIONAL_ARRAY(false) {
+			@Override
+			String hash(String value) {
+				return "java.util.Arrays.deepHashCode(" + value + ")";
+			}
+
+			@Override
+			String areEqual(String a, String b) {
+				return "java.util.Arrays.deepEquals(" + a + ", " + b + ")";
+			}
+		},
+		OBJECT_ARRAY(false) {
+			@Override
+			String hash(String value) {
+				return "java.util.Arrays.hashCode(" + value + ")";
+			}
+
+			@Override
+			String areEqual(String a, String b) {
+				return "java.util.Arrays.equals(" + a + ", " + b + ")";
+			}
+		},
+		COMPARABLE(true) {
+			@Override
+			String hash(String value) {
+				return "java.util.Objects.hashCode(" + value + ")";
+			}
+
+			@Override
+			String areEqual(String a, String b) {
+				return "java.util.Objects.equals(" + a + ", " + b + ")";
+			}
+		},
+		OBJECT(false) {
+			@Override
+			String hash(String value) {
+				return "java.util.Objects.hashCode(" + value + ")";
+			}
+
+			@Override
+			String areEqual(String a, String b) {
+				return "java.util.Objects.equals(" + a + ", " + b + ")";
+			}
+		};
+
+		private final boolean orderable;
+
+		Kind(boolean orderable) {
+			this.orderable = orderable;
+		}
+
+		abstract String hash(String value);
+
+		String areEqual(String a, String b) {
+			return a + " == " + b;
+		}
+
+		String compare(String a, String b) {
+			throw new UnsupportedOperationException("Unordered criterion: " + this);
+		}
+
+	}
+
+}
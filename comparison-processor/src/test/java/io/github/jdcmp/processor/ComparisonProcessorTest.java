@@ -0,0 +1,285 @@
+package io.github.jdcmp.processor;
+
+import io.github.jdcmp.api.Comparators;
+import io.github.jdcmp.api.comparator.ordering.NullHandling;
+import io.github.jdcmp.api.comparator.ordering.OrderingComparator;
+import io.github.jdcmp.codegen.CodegenProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class ComparisonProcessorTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	public void ordering_matchesRuntimeComparator() throws Exception {
+		ClassLoader loader = compile("sample/Item.java", String.join("\n",
+				"package sample;",
+				"",
+				"import io.github.jdcmp.api.Comparators;",
+				"import io.github.jdcmp.api.HashParameters;",
+				"import io.github.jdcmp.api.comparator.ordering.NullHandling;",
+				"import io.github.jdcmp.api.comparator.ordering.OrderingComparator;",
+				"import io.github.jdcmp.api.getter.array.ComparableArrayGetter;",
+				"import io.github.jdcmp.api.getter.array.IntArrayGetter;",
+				"import io.github.jdcmp.api.getter.object.ComparableGetter;",
+				"import io.github.jdcmp.api.getter.primitive.*;",
+				"import io.github.jdcmp.codegen.CodegenProvider;",
+				"import io.github.jdcmp.processor.Comparison;",
+				"import io.github.jdcmp.processor.Criterion;",
+				"import java.lang.invoke.MethodHandles;",
+				"import java.util.Arrays;",
+				"import java.util.List;",
+				"",
+				"@Comparison(ordering = true, nullHandling = NullHandling.NULLS_LAST, hashInitialValue = 3, hashMultiplier = 31)",
+				"public class Item {",
+				"  @Criterion(order = 2) final int id;",
+				"  @Criterion(order = 1, nullHandling = NullHandling.NULLS_FIRST) final String name;",
+				"  @Criterion final double score;",
+				"  @Criterion final int[] values;",
+				"  @Criterion(nullHandling = NullHandling.NULLS_LAST) final String[] tags;",
+				"  final long ignored;",
+				"",
+				"  Item(int id, String name, double score, int[] values, String[] tags, long ignored) {",
+				"    this.id = id; this.name = name; this.score = score; this.values = values; this.tags = tags;",
+				"    this.ignored = ignored;",
+				"  }",
+				"",
+				"  @Criterion(order = 3) public char initial() { return name == null ? ' ' : name.charAt(0); }",
+				"",
+				"  public static List<Item> samples() {",
+				"    return Arrays.asList(null,",
+				"        new Item(1, \"a\", 1.0, new int[] {1}, new String[] {\"x\"}, 0),",
+				"        new Item(1, \"a\", 1.0, new int[] {1}, new String[] {\"x\"}, 1),",
+				"        new Item(2, \"a\", 1.0, new int[] {1}, new String[] {\"x\"}, 0),",
+				"        new Item(1, null, 1.0, new int[] {1}, new String[] {\"x\"}, 0),",
+				"        new Item(1, \"b\", -0.0, new int[] {1}, new String[] {\"x\"}, 0),",
+				"        new Item(1, \"b\", 0.0, new int[] {1}, new String[] {\"x\"}, 0),",
+				"        new Item(1, \"b\", Double.NaN, new int[] {1, 2}, new String[] {\"x\"}, 0),",
+				"        new Item(1, \"b\", 0.0, new int[0], new String[] {\"x\"}, 0),",
+				"        new Item(1, \"b\", 0.0, new int[] {1}, null, 0),",
+				"        new Item(1, \"b\", 0.0, new int[] {1}, new String[] {null}, 0),",
+				"        new Item(1, \"b\", 0.0, new int[] {1}, new String[] {\"y\", \"z\"}, 0));",
+				"  }",
+				"",
+				"  public static OrderingComparator<Item> runtime() {",
+				"    return Comparators.ordering()",
+				"        .nonSerializable()",
+				"        .requireAtLeastOneGetter(Item.class)",
+				"        .use(DoubleGetter.of(i -> i.score))",
+				"        .use(IntArrayGetter.of(i -> i.values))",
+				"        .use(ComparableArrayGetter.nullsLast(i -> i.tags))",
+				"        .use(ComparableGetter.nullsFirst(i -> i.name))",
+				"        .use(IntGetter.of(i -> i.id))",
+				"        .use(CharGetter.of(Item::initial))",
+				"        .hashParameters(HashParameters.of(3, 31))",
+				"        .nullsLast()",
+				"        .build(CodegenProvider.of(MethodHandles.lookup()));",
+				"  }",
+				"}"));
+		Class<?> itemClass = loader.loadClass("sample.Item");
+		Class<?> comparisons = loader.loadClass("sample.ItemComparisons");
+		Method hash = comparisons.getMethod("hash", itemClass);
+		Method areEqual = comparisons.getMethod("areEqual", itemClass, Object.class);
+		Method compare = comparisons.getMethod("compare", itemClass, itemClass);
+		List<?> samples = (List<?>) itemClass.getMethod("samples").invoke(null);
+		@SuppressWarnings("unchecked")
+		OrderingComparator<Object> runtime = (OrderingComparator<Object>) itemClass.getMethod("runtime").invoke(null);
+
+		for (Object a : samples) {
+			Assertions.assertEquals(runtime.hash(a), hash.invoke(null, a));
+
+			for (Object b : samples) {
+				Assertions.assertEquals(runtime.areEqual(a, b), areEqual.invoke(null, a, b), a + " " + b);
+				Assertions.assertEquals(Integer.signum(runtime.compare(a, b)), Integer.signum((int) compare.invoke(null, a, b)));
+			}
+		}
+
+		Assertions.assertFalse((boolean) areEqual.invoke(null, samples.get(1), "a"));
+	}
+
+	@Test
+	public void equality_nestedType() throws Exception {
+		ClassLoader loader = compile("sample/Outer.java", String.join("\n",
+				"package sample;",
+				"",
+				"import io.github.jdcmp.processor.Comparison;",
+				"import io.github.jdcmp.processor.Criterion;",
+				"import java.util.List;",
+				"",
+				"public class Outer {",
+				"  @Comparison",
+				"  static class Inner<T> {",
+				"    @Criterion final List<T> list;",
+				"    @Criterion final Object[][] matrix;",
+				"    Inner(List<T> list, Object[][] matrix) { this.list = list; this.matrix = matrix; }",
+				"    public static Inner<String> of(List<String> list, Object[][] matrix) { return new Inner<>(list, matrix); }",
+				"  }",
+				"}"));
+		Class<?> innerClass = loader.loadClass("sample.Outer$Inner");
+		Class<?> comparisons = loader.loadClass("sample.Outer_InnerComparisons");
+		Method of = innerClass.getMethod("of", List.class, Object[][].class);
+		Method hash = comparisons.getDeclaredMethod("hash", innerClass);
+		Method areEqual = comparisons.getDeclaredMethod("areEqual", innerClass, Object.class);
+		// the nested type is package-private, and so are the generated class and methods
+		of.setAccessible(true);
+		hash.setAccessible(true);
+		areEqual.setAccessible(true);
+		Object a = of.invoke(null, Arrays.asList("x", "y"), new Object[][] {{1, 2}});
+		Object b = of.invoke(null, Arrays.asList("x", "y"), new Object[][] {{1, 2}});
+		Object c = of.invoke(null, Arrays.asList("x", "y"), new Object[][] {{1, 3}});
+
+		Assertions.assertThrows(NoSuchMethodException.class, () -> comparisons.getDeclaredMethod("compare", innerClass, innerClass));
+		Assertions.assertEquals(hash.invoke(null, a), hash.invoke(null, b));
+		Assertions.assertEquals(0, hash.invoke(null, (Object) null));
+		Assertions.assertTrue((boolean) areEqual.invoke(null, a, b));
+		Assertions.assertFalse((boolean) areEqual.invoke(null, a, c));
+		Assertions.assertFalse((boolean) areEqual.invoke(null, a, null));
+		Assertions.assertTrue((boolean) areEqual.invoke(null, null, null));
+	}
+
+	@Test
+	public void generatedHash_matchesRuntimeDefaults() throws Exception {
+		ClassLoader loader = compile("sample/Point.java", String.join("\n",
+				"package sample;",
+				"",
+				"@io.github.jdcmp.processor.Comparison",
+				"public class Point {",
+				"  @io.github.jdcmp.processor.Criterion public final long x;",
+				"  @io.github.jdcmp.processor.Criterion public final float y;",
+				"  @io.github.jdcmp.processor.Criterion public final boolean z;",
+				"  public Point(long x, float y, boolean z) { this.x = x; this.y = y; this.z = z; }",
+				"}"));
+		Class<?> pointClass = loader.loadClass("sample.Point");
+		Object point = pointClass.getConstructor(long.class, float.class, boolean.class).newInstance(5L, 1.5f, true);
+		Method hash = loader.loadClass("sample.PointComparisons").getMethod("hash", pointClass);
+
+		int expected = ((17 * 37 + Long.hashCode(5L)) * 37 + Float.floatToIntBits(1.5f)) * 37 + Boolean.hashCode(true);
+
+		Assertions.assertEquals(expected, hash.invoke(null, point));
+	}
+
+	@Test
+	public void privateMember_error() throws Exception {
+		List<String> errors = compileWithErrors("sample/Broken.java", String.join("\n",
+				"package sample;",
+				"",
+				"@io.github.jdcmp.processor.Comparison",
+				"public class Broken {",
+				"  @io.github.jdcmp.processor.Criterion private int id;",
+				"}"));
+
+		Assertions.assertEquals(1, errors.size(), errors.toString());
+		Assertions.assertTrue(errors.get(0).contains("neither private nor static"));
+	}
+
+	@Test
+	public void unorderableCriterion_error() throws Exception {
+		List<String> errors = compileWithErrors("sample/Broken.java", String.join("\n",
+				"package sample;",
+				"",
+				"@io.github.jdcmp.processor.Comparison(ordering = true)",
+				"public class Broken {",
+				"  @io.github.jdcmp.processor.Criterion Object value;",
+				"}"));
+
+		Assertions.assertEquals(1, errors.size(), errors.toString());
+		Assertions.assertTrue(errors.get(0).contains("cannot be ordered"));
+	}
+
+	@Test
+	public void nullHandlingOnPrimitive_error() throws Exception {
+		List<String> errors = compileWithErrors("sample/Broken.java", String.join("\n",
+				"package sample;",
+				"",
+				"@io.github.jdcmp.processor.Comparison",
+				"public class Broken {",
+				"  @io.github.jdcmp.processor.Criterion(nullHandling = " + NullHandling.class.getName() + ".NULLS_FIRST) int value;",
+				"}"));
+
+		Assertions.assertEquals(1, errors.size(), errors.toString());
+		Assertions.assertTrue(errors.get(0).contains("null handling"));
+	}
+
+	@Test
+	public void noCriteria_error() throws Exception {
+		List<String> errors = compileWithErrors("sample/Broken.java", String.join("\n",
+				"package sample;",
+				"",
+				"@io.github.jdcmp.processor.Comparison",
+				"public class Broken {",
+				"  int value;",
+				"}"));
+
+		Assertions.assertEquals(1, errors.size(), errors.toString());
+		Assertions.assertTrue(errors.get(0).contains("at least one"));
+	}
+
+	private ClassLoader compile(String file, String source) throws Exception {
+		List<String> errors = compileWithErrors(file, source);
+		Assertions.assertTrue(errors.isEmpty(), errors.toString());
+
+		return new URLClassLoader(new URL[] {directory.resolve("classes").toUri().toURL()}, getClass().getClassLoader());
+	}
+
+	private List<String> compileWithErrors(String file, String source) throws Exception {
+		Path sourceFile = directory.resolve("src").resolve(file);
+		Path classes = Files.createDirectories(directory.resolve("classes"));
+		Files.createDirectories(sourceFile.getParent());
+		Files.write(sourceFile, source.getBytes(StandardCharsets.UTF_8));
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+			List<String> options = new ArrayList<>(Arrays.asList(
+					"-classpath", classPath(),
+					"-d", classes.toString(),
+					"-s", Files.createDirectories(directory.resolve("generated")).toString()));
+			JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+					fileManager.getJavaFileObjects(sourceFile.toFile()));
+			task.setProcessors(Collections.singletonList(new ComparisonProcessor()));
+			task.call();
+		}
+
+		return diagnostics.getDiagnostics().stream()
+				.filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+				.map(diagnostic -> diagnostic.getMessage(null))
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Surefire may hide the class path in a manifest-only jar, hence the class path is derived from the required classes.
+	 */
+	private static String classPath() throws Exception {
+		List<String> elements = new ArrayList<>();
+
+		for (Class<?> type : Arrays.asList(Comparison.class, Comparators.class, CodegenProvider.class)) {
+			elements.add(new File(type.getProtectionDomain().getCodeSource().getLocation().toURI()).toString());
+		}
+
+		return String.join(File.pathSeparator, elements);
+	}
+
+}
@@ -164,6 +164,64 @@ enum CodegenProvider implements Providers.TestProvider {
 			return provider;
 		}
 	},
+	INITIALIZATION_MODE_CLASS_DATA {
+		@Override
+		public JRE minJavaVersion() {
+			return JRE.JAVA_16;
+		}
+
+		@Override
+		public JRE maxJavaVersion() {
+			return JRE.JAVA_22;
+		}
+
+		@Override
+		public ComparatorProvider get() {
+			io.github.jdcmp.codegen.CodegenProvider provider = new io.github.jdcmp.codegen.CodegenProvider();
+			provider.setInitializationMode(AvailableInitializationMode.CLASS_DATA);
+
+			return provider;
+		}
+	},
+	INITIALIZATION_MODE_SHARED {
+		@Override
+		public JRE minJavaVersion() {
+			return JRE.JAVA_8;
+		}
+
+		@Override
+		public JRE maxJavaVersion() {
+			return JRE.JAVA_22;
+		}
+
+		@Override
+		public ComparatorProvider get() {
+			io.github.jdcmp.codegen.CodegenProvider provider = new io.github.jdcmp.codegen.CodegenProvider();
+			provider.setInitializationMode(AvailableInitializationMode.SHARED);
+
+			return provider;
+		}
+	},
+	CRACK_SERIALIZABLE_LAMBDAS {
+		@Override
+		public JRE minJavaVersion() {
+			return JRE.JAVA_8;
+		}
+
+		@Override
+		public JRE maxJavaVersion() {
+			return JRE.JAVA_22;
+		}
+
+		@Override
+		public ComparatorProvider get() {
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			io.github.jdcmp.codegen.CodegenProvider provider = io.github.jdcmp.codegen.CodegenProvider.of(lookup);
+			provider.setCrackSerializableLambdas(true);
+
+			return provider;
+		}
+	},
 	CLASS_DEFINER_CLASS_LOADER {
 		@Override
 		public JRE minJavaVersion() {
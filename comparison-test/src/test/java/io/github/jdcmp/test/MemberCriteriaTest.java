@@ -0,0 +1,227 @@
+package io.github.jdcmp.test;
+
+import io.github.jdcmp.api.Comparators;
+import io.github.jdcmp.api.MissingCriteriaException;
+import io.github.jdcmp.api.comparator.equality.EqualityComparator;
+import io.github.jdcmp.api.comparator.ordering.OrderingComparator;
+import io.github.jdcmp.api.provider.ComparatorProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+class MemberCriteriaTest {
+
+	private static final Lookup LOOKUP = MethodHandles.lookup();
+
+	@ProviderTest
+	void useAllFields_equality(ComparatorProvider provider) {
+		EqualityComparator<Entity> comparator = Comparators.equality()
+				.nonSerializable()
+				.requireAtLeastOneGetter(Entity.class)
+				.useAllFields(Entity.LOOKUP)
+				.build(provider);
+
+		Entity a = new Entity(1L, "a", new int[] {1, 2}, Arrays.asList("x", "y"), 5);
+		Entity b = new Entity(1L, "a", new int[] {1, 2}, Arrays.asList("x", "y"), 6);
+
+		Assertions.assertTrue(comparator.areEqual(a, b), "transient field must be ignored");
+		Assertions.assertEquals(comparator.hash(a), comparator.hash(b));
+		Assertions.assertFalse(comparator.areEqual(a, new Entity(2L, "a", new int[] {1, 2}, Arrays.asList("x", "y"), 5)));
+		Assertions.assertFalse(comparator.areEqual(a, new Entity(1L, null, new int[] {1, 2}, Arrays.asList("x", "y"), 5)));
+		Assertions.assertFalse(comparator.areEqual(a, new Entity(1L, "a", new int[] {1}, Arrays.asList("x", "y"), 5)));
+		Assertions.assertFalse(comparator.areEqual(a, new Entity(1L, "a", new int[] {1, 2}, Collections.emptyList(), 5)));
+	}
+
+	@ProviderTest
+	void useAllFields_ordering(ComparatorProvider provider) {
+		OrderingComparator<Version> comparator = Comparators.ordering()
+				.nonSerializable()
+				.requireAtLeastOneGetter(Version.class)
+				.useAllFields(LOOKUP)
+				.build(provider);
+
+		// superclass fields first
+		List<Version> sorted = Arrays.asList(
+				new Version(0, 9, new String[] {"z"}),
+				new Version(1, 0, new String[] {"b"}),
+				new Version(1, 1, new String[0]),
+				new Version(1, 1, new String[] {"a"}),
+				new Version(1, 1, new String[] {"a", "b"}),
+				new Version(2, 0, new String[0]));
+
+		for (int i = 0; i < sorted.size(); ++i) {
+			for (int j = 0; j < sorted.size(); ++j) {
+				Assertions.assertEquals(Integer.signum(Integer.compare(i, j)), Integer.signum(comparator.compare(sorted.get(i), sorted.get(j))));
+			}
+		}
+	}
+
+	@ProviderTest
+	void useAllFields_ordersFieldsOfClassByName(ComparatorProvider provider) {
+		OrderingComparator<Size> comparator = Comparators.ordering()
+				.nonSerializable()
+				.requireAtLeastOneGetter(Size.class)
+				.useAllFields(LOOKUP)
+				.build(provider);
+
+		// height before width, regardless of declaration order
+		Assertions.assertTrue(comparator.compare(new Size(2, 1), new Size(1, 2)) < 0);
+		Assertions.assertTrue(comparator.compare(new Size(1, 2), new Size(2, 2)) < 0);
+	}
+
+	@ProviderTest
+	void useBeanProperties_ordersNullsFirst(ComparatorProvider provider) {
+		OrderingComparator<Entity> comparator = Comparators.ordering()
+				.nonSerializable()
+				.requireAtLeastOneGetter(Entity.class)
+				.useBeanProperties(LOOKUP, method -> method.getName().equals("getName"))
+				.build(provider);
+
+		Entity a = new Entity(1L, "a", new int[0], Collections.emptyList(), 0);
+		Entity unnamed = new Entity(1L, null, new int[0], Collections.emptyList(), 0);
+
+		Assertions.assertTrue(comparator.compare(unnamed, a) < 0);
+		Assertions.assertTrue(comparator.compare(a, unnamed) > 0);
+		Assertions.assertEquals(0, comparator.compare(unnamed, new Entity(2L, null, new int[0], Collections.emptyList(), 0)));
+	}
+
+	@ProviderTest
+	void useBeanProperties_usesFilteredGetters(ComparatorProvider provider) {
+		OrderingComparator<Entity> comparator = Comparators.ordering()
+				.nonSerializable()
+				.requireAtLeastOneGetter(Entity.class)
+				.useBeanProperties(LOOKUP, method -> !method.getName().equals("getTags"))
+				.build(provider);
+
+		// getId, getName, isActive
+		Entity a = new Entity(1L, "a", new int[0], Collections.emptyList(), 0);
+		Entity b = new Entity(1L, "b", new int[] {1}, Arrays.asList("x"), 0);
+		Entity c = new Entity(2L, "a", new int[0], Collections.emptyList(), 0);
+
+		Assertions.assertTrue(comparator.compare(a, b) < 0);
+		Assertions.assertTrue(comparator.compare(b, c) < 0);
+		Assertions.assertEquals(0, comparator.compare(a, new Entity(1L, "a", new int[] {2}, Arrays.asList("y"), 1)));
+		Assertions.assertTrue(comparator.areEqual(a, new Entity(1L, "a", new int[] {2}, Arrays.asList("y"), 1)));
+	}
+
+	@Test
+	void ordering_rejectsUnorderableMembers() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> Comparators.ordering()
+				.nonSerializable()
+				.requireAtLeastOneGetter(Entity.class)
+				.useAllFields(Entity.LOOKUP));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> Comparators.ordering()
+				.nonSerializable()
+				.fallbackToIdentity(Entity.class)
+				.useBeanProperties(LOOKUP, method -> true));
+	}
+
+	@Test
+	void requireAtLeastOneGetter_rejectsClassesWithoutMembers() {
+		Assertions.assertThrows(MissingCriteriaException.class, () -> Comparators.equality()
+				.nonSerializable()
+				.requireAtLeastOneGetter(Object.class)
+				.useAllFields(LOOKUP));
+		Assertions.assertThrows(MissingCriteriaException.class, () -> Comparators.equality()
+				.nonSerializable()
+				.requireAtLeastOneGetter(Entity.class)
+				.useBeanProperties(LOOKUP, method -> false));
+	}
+
+	static class Base {
+
+		final long id;
+
+		Base(long id) {
+			this.id = id;
+		}
+
+		public long getId() {
+			return id;
+		}
+
+	}
+
+	static final class Entity extends Base {
+
+		static final Lookup LOOKUP = MethodHandles.lookup();
+
+		static final String IGNORED = "static";
+
+		private final String name;
+
+		final int[] values;
+
+		private final List<String> tags;
+
+		transient int cachedHash;
+
+		Entity(long id, String name, int[] values, List<String> tags, int cachedHash) {
+			super(id);
+			this.name = name;
+			this.values = values;
+			this.tags = tags;
+			this.cachedHash = cachedHash;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public List<String> getTags() {
+			return tags;
+		}
+
+		public boolean isActive() {
+			return true;
+		}
+
+		public String describe() {
+			return name + tags;
+		}
+
+	}
+
+	static class Major {
+
+		final int major;
+
+		Major(int major) {
+			this.major = major;
+		}
+
+	}
+
+	static final class Version extends Major {
+
+		final int minor;
+
+		final String[] qualifiers;
+
+		Version(int major, int minor, String[] qualifiers) {
+			super(major);
+			this.minor = minor;
+			this.qualifiers = qualifiers;
+		}
+
+	}
+
+	static final class Size {
+
+		final int width;
+
+		final int height;
+
+		Size(int width, int height) {
+			this.width = width;
+			this.height = height;
+		}
+
+	}
+
+}
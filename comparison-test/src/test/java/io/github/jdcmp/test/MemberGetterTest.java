@@ -0,0 +1,158 @@
+package io.github.jdcmp.test;
+
+import io.github.jdcmp.api.Comparators;
+import io.github.jdcmp.api.HashParameters;
+import io.github.jdcmp.api.comparator.equality.EqualityComparator;
+import io.github.jdcmp.api.comparator.ordering.OrderingComparator;
+import io.github.jdcmp.api.getter.OrderingCriterion;
+import io.github.jdcmp.api.getter.member.FieldGetter;
+import io.github.jdcmp.api.getter.member.MethodGetter;
+import io.github.jdcmp.api.getter.object.ComparableGetter;
+import io.github.jdcmp.api.provider.ComparatorProvider;
+import org.junit.jupiter.api.Assertions;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+class MemberGetterTest {
+
+	private static final Lookup LOOKUP = M.LOOKUP;
+
+	static final List<M> VALUES = Arrays.asList(
+			new M(1, 2L, 0.5d, "a", BigDecimal.ONE),
+			new M(1, 2L, -0.0d, "a", BigDecimal.ONE),
+			new M(-1, 2L, 0.0d, null, null),
+			new M(Integer.MAX_VALUE, Long.MIN_VALUE, Double.NaN, "b", new BigDecimal("1.0")),
+			new M(0, 0L, 0.0d, "", BigDecimal.ZERO));
+
+	static final List<OrderingCriterion<M>> GETTERS = Arrays.asList(
+			FieldGetter.ofInt(M.class, "i"),
+			FieldGetter.ofLong(LOOKUP, M.class, "l"),
+			FieldGetter.ofDouble(LOOKUP, M.class, "d"),
+			FieldGetter.ofComparable(LOOKUP, M.class, "s", String.class),
+			MethodGetter.ofInt(LOOKUP, M.class, "getI"),
+			MethodGetter.ofLong(LOOKUP, M.class, "getL"),
+			MethodGetter.ofDouble(LOOKUP, M.class, "getD"),
+			MethodGetter.ofComparable(LOOKUP, M.class, "getS", String.class),
+			MethodGetter.ofComparable(LOOKUP, M.class, "getB", BigDecimal.class),
+			ComparableGetter.nullsFirst(MethodGetter.ofComparable(LOOKUP, M.class, "getB", BigDecimal.class)));
+
+	@ProviderTest
+	void equality_matchesDefaultMethods(ComparatorProvider provider) {
+		for (OrderingCriterion<M> getter : GETTERS) {
+			EqualityComparator<M> comparator = Comparators.equality()
+					.nonSerializable()
+					.requireAtLeastOneGetter(M.class)
+					.use(getter)
+					.hashParameters(HashParameters.of(0, 1))
+					.build(provider);
+
+			for (M a : VALUES) {
+				Assertions.assertEquals(getter.hash(a), comparator.hash(a));
+
+				for (M b : VALUES) {
+					Assertions.assertEquals(getter.areEqual(a, b), comparator.areEqual(a, b));
+				}
+			}
+		}
+	}
+
+	@ProviderTest
+	void ordering_matchesDefaultMethods(ComparatorProvider provider) {
+		for (OrderingCriterion<M> getter : GETTERS) {
+			OrderingComparator<M> comparator = Comparators.ordering()
+					.nonSerializable()
+					.requireAtLeastOneGetter(M.class)
+					.use(getter)
+					.hashParameters(HashParameters.of(0, 1))
+					.build(provider);
+
+			for (M a : VALUES) {
+				for (M b : VALUES) {
+					if (a == b) {
+						// identical objects are equal without evaluating the criteria
+						Assertions.assertEquals(0, comparator.compare(a, b));
+						continue;
+					}
+
+					int expected;
+					try {
+						expected = getter.compare(a, b);
+					} catch (NullPointerException e) {
+						Assertions.assertThrows(NullPointerException.class, () -> comparator.compare(a, b));
+						continue;
+					}
+
+					Assertions.assertEquals(expected, comparator.compare(a, b));
+				}
+			}
+		}
+	}
+
+	@ProviderTest
+	void multipleGetters(ComparatorProvider provider) {
+		OrderingComparator<M> comparator = Comparators.ordering()
+				.nonSerializable()
+				.requireAtLeastOneGetter(M.class)
+				.use(FieldGetter.ofInt(LOOKUP, M.class, "i"))
+				.use(MethodGetter.ofLong(LOOKUP, M.class, "getL"))
+				.use(FieldGetter.ofDouble(LOOKUP, M.class, "d"))
+				.build(provider);
+
+		Assertions.assertEquals(0, comparator.compare(VALUES.get(0), new M(1, 2L, 0.5d, "x", null)));
+		Assertions.assertTrue(comparator.compare(VALUES.get(1), VALUES.get(0)) < 0);
+		Assertions.assertTrue(comparator.compare(VALUES.get(2), VALUES.get(0)) < 0);
+		Assertions.assertTrue(comparator.areEqual(VALUES.get(0), new M(1, 2L, 0.5d, "x", null)));
+	}
+
+	public static final class M {
+
+		/**
+		 * Has access to the private members, as the test is compiled without nestmates.
+		 */
+		static final Lookup LOOKUP = MethodHandles.lookup();
+
+		public final int i;
+
+		final long l;
+
+		private final double d;
+
+		private final String s;
+
+		private final BigDecimal b;
+
+		M(int i, long l, double d, String s, BigDecimal b) {
+			this.i = i;
+			this.l = l;
+			this.d = d;
+			this.s = s;
+			this.b = b;
+		}
+
+		public int getI() {
+			return i;
+		}
+
+		long getL() {
+			return l;
+		}
+
+		private double getD() {
+			return d;
+		}
+
+		String getS() {
+			return s;
+		}
+
+		public BigDecimal getB() {
+			return b;
+		}
+
+	}
+
+}
@@ -0,0 +1,145 @@
+package io.github.jdcmp.test;
+
+import io.github.jdcmp.api.Comparators;
+import io.github.jdcmp.api.HashParameters;
+import io.github.jdcmp.api.comparator.equality.EqualityComparator;
+import io.github.jdcmp.api.comparator.ordering.OrderingComparator;
+import io.github.jdcmp.api.getter.EqualityCriterion;
+import io.github.jdcmp.api.getter.OrderingCriterion;
+import io.github.jdcmp.api.getter.object.ComparableGetter;
+import io.github.jdcmp.api.getter.object.GenericGetter;
+import io.github.jdcmp.api.getter.object.ObjectGetter;
+import io.github.jdcmp.api.getter.object.SerializableComparableGetter;
+import io.github.jdcmp.api.provider.ComparatorProvider;
+import org.junit.jupiter.api.Assertions;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+class ObjectGetterTest {
+
+	static final List<O> VALUES = Arrays.asList(
+			new O("a", new BigDecimal("1.0")),
+			new O("a", new BigDecimal("1.00")),
+			new O(null, null),
+			new O("b", BigDecimal.ZERO),
+			new O(null, BigDecimal.ONE),
+			new O("", null));
+
+	static final List<EqualityCriterion<O>> EQUALITY_GETTERS = Arrays.asList(
+			GenericGetter.of(O::getS),
+			ObjectGetter.of(O::getD),
+			ComparableGetter.nullsFirst(O::getD),
+			ComparableGetter.nullsLast(O::getS));
+
+	static final List<OrderingCriterion<O>> ORDERING_GETTERS = Arrays.asList(
+			ComparableGetter.nullsFirst(O::getS),
+			ComparableGetter.nullsLast(O::getS),
+			ComparableGetter.nullsFirst(O::getD),
+			SerializableComparableGetter.nullsLast(O::getD));
+
+	@ProviderTest
+	void equality_matchesDefaultMethods(ComparatorProvider provider) {
+		for (EqualityCriterion<O> getter : EQUALITY_GETTERS) {
+			EqualityComparator<O> comparator = Comparators.equality()
+					.nonSerializable()
+					.requireAtLeastOneGetter(O.class)
+					.use(getter)
+					.hashParameters(HashParameters.of(0, 1))
+					.build(provider);
+
+			for (O a : VALUES) {
+				Assertions.assertEquals(getter.hash(a), comparator.hash(a));
+
+				for (O b : VALUES) {
+					Assertions.assertEquals(getter.areEqual(a, b), comparator.areEqual(a, b));
+				}
+			}
+		}
+	}
+
+	@ProviderTest
+	void ordering_matchesDefaultMethods(ComparatorProvider provider) {
+		for (OrderingCriterion<O> getter : ORDERING_GETTERS) {
+			OrderingComparator<O> comparator = Comparators.ordering()
+					.nonSerializable()
+					.requireAtLeastOneGetter(O.class)
+					.use(getter)
+					.hashParameters(HashParameters.of(0, 1))
+					.build(provider);
+
+			for (O a : VALUES) {
+				Assertions.assertEquals(getter.hash(a), comparator.hash(a));
+
+				for (O b : VALUES) {
+					Assertions.assertEquals(getter.areEqual(a, b), comparator.areEqual(a, b));
+					Assertions.assertEquals(getter.compare(a, b), comparator.compare(a, b));
+				}
+			}
+		}
+	}
+
+	@ProviderTest
+	void ordering_comparable_nonNull(ComparatorProvider provider) {
+		OrderingComparator<O> comparator = Comparators.ordering()
+				.nonSerializable()
+				.requireAtLeastOneGetter(O.class)
+				.use(ComparableGetter.of(O::getD))
+				.build(provider);
+
+		O one = VALUES.get(0);
+		O oneScaled = VALUES.get(1);
+		O zero = VALUES.get(3);
+
+		Assertions.assertEquals(0, comparator.compare(one, oneScaled));
+		Assertions.assertFalse(comparator.areEqual(one, oneScaled));
+		Assertions.assertTrue(comparator.compare(zero, one) < 0);
+		Assertions.assertThrows(NullPointerException.class, () -> comparator.compare(VALUES.get(5), one));
+	}
+
+	@ProviderTest
+	void ordering_nullsFirst_nullsLast(ComparatorProvider provider) {
+		OrderingComparator<O> nullsFirst = Comparators.ordering()
+				.nonSerializable()
+				.requireAtLeastOneGetter(O.class)
+				.use(ComparableGetter.nullsFirst(O::getS))
+				.build(provider);
+		OrderingComparator<O> nullsLast = Comparators.ordering()
+				.nonSerializable()
+				.requireAtLeastOneGetter(O.class)
+				.use(ComparableGetter.nullsLast(O::getS))
+				.build(provider);
+
+		O a = VALUES.get(0);
+		O nul = VALUES.get(2);
+
+		Assertions.assertEquals(-1, nullsFirst.compare(nul, a));
+		Assertions.assertEquals(1, nullsFirst.compare(a, nul));
+		Assertions.assertEquals(1, nullsLast.compare(nul, a));
+		Assertions.assertEquals(-1, nullsLast.compare(a, nul));
+		Assertions.assertEquals(0, nullsLast.compare(nul, VALUES.get(4)));
+	}
+
+	static final class O {
+
+		final String s;
+
+		final BigDecimal d;
+
+		O(String s, BigDecimal d) {
+			this.s = s;
+			this.d = d;
+		}
+
+		String getS() {
+			return s;
+		}
+
+		BigDecimal getD() {
+			return d;
+		}
+
+	}
+
+}
@@ -0,0 +1,209 @@
+package io.github.jdcmp.test;
+
+import io.github.jdcmp.api.Comparators;
+import io.github.jdcmp.api.HashParameters;
+import io.github.jdcmp.api.comparator.equality.EqualityComparator;
+import io.github.jdcmp.api.comparator.ordering.OrderingComparator;
+import io.github.jdcmp.api.getter.OrderingCriterion;
+import io.github.jdcmp.api.getter.primitive.BooleanGetter;
+import io.github.jdcmp.api.getter.primitive.ByteGetter;
+import io.github.jdcmp.api.getter.primitive.CharGetter;
+import io.github.jdcmp.api.getter.primitive.DoubleGetter;
+import io.github.jdcmp.api.getter.primitive.FloatGetter;
+import io.github.jdcmp.api.getter.primitive.IntGetter;
+import io.github.jdcmp.api.getter.primitive.LongGetter;
+import io.github.jdcmp.api.getter.primitive.SerializableDoubleGetter;
+import io.github.jdcmp.api.getter.primitive.ShortGetter;
+import io.github.jdcmp.api.provider.ComparatorProvider;
+import org.junit.jupiter.api.Assertions;
+
+import java.util.Arrays;
+import java.util.List;
+
+class PrimitiveGetterTest {
+
+	static final List<P> VALUES = Arrays.asList(
+			new P(true, (byte) 1, 'a', 1.0, 1.0f, 1, 1L, (short) 1),
+			new P(false, Byte.MIN_VALUE, Character.MAX_VALUE, -0.0, -0.0f, Integer.MIN_VALUE, Long.MIN_VALUE, Short.MIN_VALUE),
+			new P(false, Byte.MAX_VALUE, Character.MIN_VALUE, 0.0, 0.0f, Integer.MAX_VALUE, Long.MAX_VALUE, Short.MAX_VALUE),
+			new P(true, (byte) 0, 'b', Double.NaN, Float.NaN, 0, 0L, (short) 0),
+			new P(true, (byte) 0, 'b', Double.NaN, Float.NaN, 0, 0L, (short) 0),
+			new P(true, (byte) -1, 'c', Double.NEGATIVE_INFINITY, Float.POSITIVE_INFINITY, -1, -1L, (short) -1)
+	);
+
+	static final List<OrderingCriterion<P>> GETTERS = Arrays.asList(
+			BooleanGetter.of(P::isZ),
+			ByteGetter.of(P::getB),
+			CharGetter.of(P::getC),
+			DoubleGetter.of(P::getD),
+			FloatGetter.of(P::getF),
+			IntGetter.of(P::getI),
+			LongGetter.of(P::getJ),
+			ShortGetter.of(P::getS));
+
+	@ProviderTest
+	void singleGetter_matchesDefaultMethods(ComparatorProvider provider) {
+		for (OrderingCriterion<P> getter : GETTERS) {
+			OrderingComparator<P> comparator = Comparators.ordering()
+					.nonSerializable()
+					.requireAtLeastOneGetter(P.class)
+					.use(getter)
+					.hashParameters(HashParameters.of(0, 1))
+					.build(provider);
+
+			for (P a : VALUES) {
+				Assertions.assertEquals(getter.hash(a), comparator.hash(a));
+
+				for (P b : VALUES) {
+					Assertions.assertEquals(getter.areEqual(a, b), comparator.areEqual(a, b));
+					Assertions.assertEquals(getter.compare(a, b), comparator.compare(a, b));
+				}
+			}
+		}
+	}
+
+	@ProviderTest
+	void allGetters_matchesDefaultMethods(ComparatorProvider provider) {
+		OrderingComparator<P> comparator = Comparators.ordering()
+				.nonSerializable()
+				.requireAtLeastOneGetter(P.class)
+				.use(GETTERS)
+				.hashParameters(HashParameters.of(17, 37))
+				.build(provider);
+
+		for (P a : VALUES) {
+			int hash = 17;
+			for (OrderingCriterion<P> getter : GETTERS) {
+				hash = hash * 37 + getter.hash(a);
+			}
+
+			Assertions.assertEquals(hash, comparator.hash(a));
+
+			for (P b : VALUES) {
+				boolean equal = GETTERS.stream().allMatch(getter -> getter.areEqual(a, b));
+				int compare = GETTERS.stream().mapToInt(getter -> getter.compare(a, b)).filter(r -> r != 0).findFirst().orElse(0);
+
+				Assertions.assertEquals(equal, comparator.areEqual(a, b));
+				Assertions.assertEquals(compare, comparator.compare(a, b));
+			}
+		}
+	}
+
+	@ProviderTest
+	void equality_serializableGetter(ComparatorProvider provider) {
+		EqualityComparator<P> comparator = Comparators.equality()
+				.serializable()
+				.requireAtLeastOneGetter(P.class)
+				.use(SerializableDoubleGetter.of(P::getD))
+				.build(provider);
+
+		Assertions.assertTrue(comparator.areEqual(VALUES.get(3), VALUES.get(4)));
+		Assertions.assertFalse(comparator.areEqual(VALUES.get(1), VALUES.get(2)));
+	}
+
+	@ProviderTest
+	void overriddenDefaultMethods_areRespected(ComparatorProvider provider) {
+		OrderingComparator<P> comparator = Comparators.ordering()
+				.nonSerializable()
+				.requireAtLeastOneGetter(P.class)
+				.use(new ReversedIntGetter())
+				.hashParameters(HashParameters.of(0, 1))
+				.build(provider);
+
+		P one = VALUES.get(0);
+		P zero = VALUES.get(3);
+
+		Assertions.assertEquals(42, comparator.hash(one));
+		Assertions.assertTrue(comparator.areEqual(one, zero));
+		Assertions.assertTrue(comparator.compare(one, zero) < 0);
+		Assertions.assertTrue(comparator.compare(zero, one) > 0);
+	}
+
+	static final class ReversedIntGetter implements IntGetter<P> {
+
+		@Override
+		public int applyAsInt(P value) {
+			return value.getI();
+		}
+
+		@Override
+		public int hash(P object) {
+			return 42;
+		}
+
+		@Override
+		public boolean areEqual(P self, P other) {
+			return true;
+		}
+
+		@Override
+		public int compare(P self, P other) {
+			return Integer.compare(applyAsInt(other), applyAsInt(self));
+		}
+
+	}
+
+	static final class P {
+
+		final boolean z;
+
+		final byte b;
+
+		final char c;
+
+		final double d;
+
+		final float f;
+
+		final int i;
+
+		final long j;
+
+		final short s;
+
+		P(boolean z, byte b, char c, double d, float f, int i, long j, short s) {
+			this.z = z;
+			this.b = b;
+			this.c = c;
+			this.d = d;
+			this.f = f;
+			this.i = i;
+			this.j = j;
+			this.s = s;
+		}
+
+		boolean isZ() {
+			return z;
+		}
+
+		byte getB() {
+			return b;
+		}
+
+		char getC() {
+			return c;
+		}
+
+		double getD() {
+			return d;
+		}
+
+		float getF() {
+			return f;
+		}
+
+		int getI() {
+			return i;
+		}
+
+		long getJ() {
+			return j;
+		}
+
+		short getS() {
+			return s;
+		}
+
+	}
+
+}
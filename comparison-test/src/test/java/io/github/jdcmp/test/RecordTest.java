@@ -0,0 +1,148 @@
+package io.github.jdcmp.test;
+
+import io.github.jdcmp.api.Comparators;
+import io.github.jdcmp.api.comparator.equality.EqualityComparator;
+import io.github.jdcmp.api.comparator.ordering.OrderingComparator;
+import io.github.jdcmp.api.provider.ComparatorProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class RecordTest {
+
+	private static final String POINT = "package io.github.jdcmp.test;"
+			+ " public record RecordPoint(int x, double y, String name, int[] values, String[] tags) {}";
+
+	private static final String TAGGED = "package io.github.jdcmp.test;"
+			+ " record RecordTagged(String name, java.util.List<String> tags, Object[][] nested) {}";
+
+	private static final Map<String, Class<Object>> CLASSES = new HashMap<>();
+
+	@TempDir
+	static Path directory;
+
+	@ProviderTest
+	@EnabledForJreRange(min = JRE.JAVA_16)
+	void equality_comparesComponentsByValue(ComparatorProvider provider) throws Exception {
+		Class<Object> point = load("RecordPoint");
+		EqualityComparator<Object> comparator = Comparators.forRecord(point).equality().build(provider);
+
+		Object a = newInstance(point, 1, 0.5d, "a", new int[] {1, 2}, new String[] {"x"});
+		Object b = newInstance(point, 1, 0.5d, "a", new int[] {1, 2}, new String[] {"x"});
+		Object c = newInstance(point, 1, 0.5d, "a", new int[] {1, 3}, new String[] {"x"});
+		Object d = newInstance(point, 1, 0.5d, null, new int[] {1, 2}, new String[] {"x"});
+
+		Assertions.assertTrue(comparator.areEqual(a, b));
+		Assertions.assertEquals(comparator.hash(a), comparator.hash(b));
+		Assertions.assertFalse(comparator.areEqual(a, c));
+		Assertions.assertFalse(comparator.areEqual(a, d));
+		Assertions.assertTrue(comparator.areEqual(d, newInstance(point, 1, 0.5d, null, new int[] {1, 2}, new String[] {"x"})));
+	}
+
+	@ProviderTest
+	@EnabledForJreRange(min = JRE.JAVA_16)
+	void equality_supportsUnorderableComponents(ComparatorProvider provider) throws Exception {
+		Class<Object> tagged = load("RecordTagged");
+		EqualityComparator<Object> comparator = Comparators.forRecord(MethodHandles.lookup(), tagged).equality().build(provider);
+
+		List<String> tags = Arrays.asList("x", "y");
+		Object a = newInstance(tagged, "a", tags, new Object[][] {{1}});
+		Object b = newInstance(tagged, "a", Arrays.asList("x", "y"), new Object[][] {{1}});
+		Object c = newInstance(tagged, "a", Collections.emptyList(), new Object[][] {{1}});
+
+		Assertions.assertTrue(comparator.areEqual(a, b));
+		Assertions.assertEquals(comparator.hash(a), comparator.hash(b));
+		Assertions.assertFalse(comparator.areEqual(a, c));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> Comparators.forRecord(MethodHandles.lookup(), tagged).ordering());
+	}
+
+	@ProviderTest
+	@EnabledForJreRange(min = JRE.JAVA_16)
+	void ordering_comparesComponentsInDeclarationOrder(ComparatorProvider provider) throws Exception {
+		Class<Object> point = load("RecordPoint");
+		OrderingComparator<Object> comparator = Comparators.forRecord(point).ordering().build(provider);
+
+		List<Object> sorted = Arrays.asList(
+				newInstance(point, 0, 9.0d, "z", new int[] {9}, new String[] {"z"}),
+				newInstance(point, 1, 0.5d, "a", new int[] {1}, new String[] {"x"}),
+				newInstance(point, 1, 0.5d, "a", new int[] {1, 2}, new String[] {"x"}),
+				newInstance(point, 1, 0.5d, "a", new int[] {2}, new String[0]),
+				newInstance(point, 1, 0.5d, "b", new int[0], new String[0]),
+				newInstance(point, 1, 1.5d, "a", new int[0], new String[0]));
+
+		for (int i = 0; i < sorted.size(); ++i) {
+			for (int j = 0; j < sorted.size(); ++j) {
+				Assertions.assertEquals(Integer.signum(Integer.compare(i, j)), Integer.signum(comparator.compare(sorted.get(i), sorted.get(j))));
+			}
+		}
+	}
+
+	@ProviderTest
+	@EnabledForJreRange(min = JRE.JAVA_16)
+	void ordering_ordersNullComponentsFirst(ComparatorProvider provider) throws Exception {
+		Class<Object> point = load("RecordPoint");
+		OrderingComparator<Object> comparator = Comparators.forRecord(point).ordering().build(provider);
+
+		Object unnamed = newInstance(point, 1, 0.5d, null, new int[0], new String[0]);
+		Object named = newInstance(point, 1, 0.5d, "a", new int[0], new String[0]);
+
+		Assertions.assertTrue(comparator.compare(unnamed, named) < 0);
+		Assertions.assertTrue(comparator.compare(named, unnamed) > 0);
+		Assertions.assertEquals(0, comparator.compare(unnamed, newInstance(point, 1, 0.5d, null, new int[0], new String[0])));
+	}
+
+	@Test
+	void forRecord_rejectsOtherClasses() {
+		Assertions.assertThrows(IllegalArgumentException.class, () -> Comparators.forRecord(String.class));
+	}
+
+	/**
+	 * Compiles the records and defines them in this package, so that every provider can access them.
+	 */
+	@SuppressWarnings("unchecked")
+	private static synchronized Class<Object> load(String simpleName) throws Exception {
+		if (CLASSES.isEmpty()) {
+			Path classes = Files.createDirectories(directory.resolve("classes"));
+			Path point = Files.write(directory.resolve("RecordPoint.java"), POINT.getBytes(StandardCharsets.UTF_8));
+			Path tagged = Files.write(directory.resolve("RecordTagged.java"), TAGGED.getBytes(StandardCharsets.UTF_8));
+			JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+			Assertions.assertEquals(0, compiler.run(null, null, null, "-d", classes.toString(), point.toString(), tagged.toString()));
+
+			// Lookup#defineClass exists since Java 9
+			Method defineClass = Lookup.class.getMethod("defineClass", byte[].class);
+			Path packageDirectory = classes.resolve(RecordTest.class.getPackage().getName().replace('.', '/'));
+
+			for (String name : Arrays.asList("RecordPoint", "RecordTagged")) {
+				byte[] bytes = Files.readAllBytes(packageDirectory.resolve(name + ".class"));
+				CLASSES.put(name, (Class<Object>) defineClass.invoke(MethodHandles.lookup(), (Object) bytes));
+			}
+		}
+
+		return CLASSES.get(simpleName);
+	}
+
+	private static Object newInstance(Class<?> recordClass, Object... arguments) throws Exception {
+		Constructor<?> constructor = recordClass.getDeclaredConstructors()[0];
+		constructor.setAccessible(true);
+
+		return constructor.newInstance(arguments);
+	}
+
+}
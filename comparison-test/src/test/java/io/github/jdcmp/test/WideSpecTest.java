@@ -0,0 +1,142 @@
+package io.github.jdcmp.test;
+
+import io.github.jdcmp.api.Comparators;
+import io.github.jdcmp.api.HashParameters;
+import io.github.jdcmp.api.comparator.equality.EqualityComparator;
+import io.github.jdcmp.api.comparator.ordering.OrderingComparator;
+import io.github.jdcmp.api.getter.EqualityCriterion;
+import io.github.jdcmp.api.getter.OrderingCriterion;
+import io.github.jdcmp.api.getter.object.ComparableGetter;
+import io.github.jdcmp.api.getter.primitive.IntGetter;
+import io.github.jdcmp.api.provider.ComparatorProvider;
+import org.junit.jupiter.api.Assertions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+class WideSpecTest {
+
+	static final int[] GETTER_COUNTS = {1, 8, 9, 16, 17, 32, 33, 64, 100, 128};
+
+	static final int WIDTH = 128;
+
+	static final List<W> VALUES = Arrays.asList(
+			W.filled(0),
+			W.filled(1),
+			W.filled(0).with(WIDTH - 1, 5),
+			W.filled(0).with(WIDTH - 1, -5),
+			W.filled(0).with(40, 1),
+			W.filled(0).with(8, -1),
+			W.filled(0).withName("b"),
+			W.filled(0).withName(null));
+
+	@ProviderTest
+	void equality_matchesGetters(ComparatorProvider provider) {
+		for (int getterCount : GETTER_COUNTS) {
+			List<OrderingCriterion<W>> getters = getters(getterCount);
+			EqualityComparator<W> comparator = Comparators.equality()
+					.nonSerializable()
+					.requireAtLeastOneGetter(W.class)
+					.use(getters)
+					.hashParameters(HashParameters.of(17, 37))
+					.build(provider);
+
+			assertEqualityMatches(getters, comparator);
+		}
+	}
+
+	@ProviderTest
+	void ordering_matchesGetters(ComparatorProvider provider) {
+		for (int getterCount : GETTER_COUNTS) {
+			List<OrderingCriterion<W>> getters = getters(getterCount);
+			OrderingComparator<W> comparator = Comparators.ordering()
+					.nonSerializable()
+					.requireAtLeastOneGetter(W.class)
+					.use(getters)
+					.hashParameters(HashParameters.of(17, 37))
+					.build(provider);
+
+			assertEqualityMatches(getters, comparator);
+
+			for (W a : VALUES) {
+				for (W b : VALUES) {
+					int expected = getters.stream().mapToInt(g -> g.compare(a, b)).filter(r -> r != 0).findFirst().orElse(0);
+
+					Assertions.assertEquals(expected, comparator.compare(a, b), "getterCount=" + getterCount);
+				}
+			}
+		}
+	}
+
+	private static void assertEqualityMatches(List<? extends EqualityCriterion<W>> getters, EqualityComparator<W> comparator) {
+		for (W a : VALUES) {
+			int hash = 17;
+			for (EqualityCriterion<W> getter : getters) {
+				hash = hash * 37 + getter.hash(a);
+			}
+
+			Assertions.assertEquals(hash, comparator.hash(a), "getterCount=" + getters.size());
+
+			for (W b : VALUES) {
+				boolean expected = getters.stream().allMatch(g -> g.areEqual(a, b));
+
+				Assertions.assertEquals(expected, comparator.areEqual(a, b), "getterCount=" + getters.size());
+			}
+		}
+	}
+
+	/**
+	 * Mixes primitive and object getters. The name is used by every eighth getter.
+	 */
+	private static List<OrderingCriterion<W>> getters(int count) {
+		List<OrderingCriterion<W>> getters = new ArrayList<>(count);
+
+		for (int i = 0; i < count; ++i) {
+			final int index = i;
+			if (i % 8 == 7) {
+				getters.add(ComparableGetter.nullsLast(W::getName));
+			} else {
+				getters.add(IntGetter.of(w -> w.values[index]));
+			}
+		}
+
+		return getters;
+	}
+
+	static final class W {
+
+		final int[] values;
+
+		final String name;
+
+		private W(int[] values, String name) {
+			this.values = values;
+			this.name = name;
+		}
+
+		static W filled(int value) {
+			int[] values = new int[WIDTH];
+			Arrays.fill(values, value);
+
+			return new W(values, "a");
+		}
+
+		W with(int index, int value) {
+			int[] copy = values.clone();
+			copy[index] = value;
+
+			return new W(copy, name);
+		}
+
+		W withName(String name) {
+			return new W(values, name);
+		}
+
+		String getName() {
+			return name;
+		}
+
+	}
+
+}